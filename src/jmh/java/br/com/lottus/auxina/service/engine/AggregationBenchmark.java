@@ -0,0 +1,61 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.TestResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo por resultado da agregação: ModuleResultAggregator (suítes funcionais, com retenção dos resultados individuais)
+ * e LoadTestAccumulator (cargas, apenas contadores e histogramas).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AggregationBenchmark {
+
+    private static final int SAMPLE_SIZE = 4096;
+
+    private TestResult[] results;
+    private ModuleResultAggregator suiteAggregator;
+    private LoadTestAccumulator loadAccumulator;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        results = BenchmarkFixtures.sampleResults(SAMPLE_SIZE);
+        // Limite e amostragem padrão da aplicação; atingido o limite, os resultados passam a ser só contados
+        suiteAggregator = new ModuleResultAggregatorFactory(10_000, 1.0).create("Benchmark", "benchmark-run");
+        loadAccumulator = new LoadTestAccumulator(List.of(
+                BenchmarkFixtures.buscarLivros(), BenchmarkFixtures.cadastrarLivro(null)), false);
+    }
+
+    @Benchmark
+    public void recordSuiteResult() {
+        suiteAggregator.record(nextResult());
+    }
+
+    @Benchmark
+    public void recordLoadResult() {
+        loadAccumulator.record(nextResult());
+    }
+
+    private TestResult nextResult() {
+        TestResult result = results[next];
+        next = (next + 1) & (SAMPLE_SIZE - 1);
+        return result;
+    }
+}
@@ -0,0 +1,118 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.ScenarioType;
+import br.com.lottus.auxina.dto.TestCaseConfigDTO;
+import br.com.lottus.auxina.dto.TestResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.javafaker.Faker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+
+/**
+ * Componentes do motor montados sem o contexto Spring, com as mesmas dependências da aplicação.
+ * Os casos imitam os das suítes: um POST com placeholders Faker e referência a variável, e um GET com query params.
+ */
+final class BenchmarkFixtures {
+
+    final Faker faker = new Faker();
+    final ObjectMapper objectMapper = new ObjectMapper();
+    final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    final TemplateCompiler templateCompiler = new TemplateCompiler(faker);
+    final ScenarioModifier scenarioModifier = new ScenarioModifier(faker);
+    final ResponseAssertionCompiler responseAssertionCompiler = new ResponseAssertionCompiler(objectMapper, "/code");
+    final TestResultFactory testResultFactory;
+    final TestExecutionService testExecutionService;
+
+    /** @param baseUrl alvo das requisições; null quando o benchmark não envia nada */
+    BenchmarkFixtures(String baseUrl) {
+        String target = baseUrl != null ? baseUrl : "http://localhost:0";
+        WebClient webClient = WebClient.builder()
+                .baseUrl(target)
+                .defaultHeader("Content-Type", "application/json")
+                .build();
+        // Sem track(), o sampler não coleta nada: nearest() percorre o buffer vazio, como num alvo sem actuator
+        TargetMetricsSampler targetMetricsSampler = new TargetMetricsSampler(webClient, Duration.ofMillis(250), 4096);
+        this.testResultFactory = new TestResultFactory(targetMetricsSampler, objectMapper);
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(2))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        VirtualThreadTestExecutor virtualThreadTestExecutor =
+                new VirtualThreadTestExecutor(httpClient, testResultFactory, target, "", Duration.ofSeconds(30));
+        this.testExecutionService = new TestExecutionService(scenarioModifier, meterRegistry, objectMapper, templateCompiler,
+                responseAssertionCompiler, List.of(new ReactiveTestExecutor(webClient, testResultFactory), virtualThreadTestExecutor),
+                virtualThreadTestExecutor);
+    }
+
+    static Map<String, Object> livroBodyTemplate() {
+        Map<String, Object> body = new HashMap<>();
+        body.put("nome", "Faker::book.title");
+        body.put("autor", "Faker::book.author");
+        body.put("quantidade", "Faker::number.numberBetween(1,50)");
+        body.put("categoriaId", "${categoria.id:1}");
+        body.put("descricao", "Uma sátira política.");
+        body.put("email", "Faker::internet.emailAddress");
+        return body;
+    }
+
+    static TestCaseConfigDTO cadastrarLivro(ScenarioType scenarioType) {
+        return TestCaseConfigDTO.builder()
+                .testName("Benchmark_Cadastrar_Livro")
+                .methodGroupKey("Benchmark_Cadastrar")
+                .httpMethod("POST")
+                .endpoint("/livros")
+                .requestBodyTemplate(livroBodyTemplate())
+                .scenarioType(scenarioType)
+                .expectedHtppStatus(201)
+                .writesResources(Set.of("livros"))
+                .build();
+    }
+
+    static TestCaseConfigDTO buscarLivros() {
+        Map<String, String> queryParams = new HashMap<>();
+        queryParams.put("pagina", "0");
+        queryParams.put("tamanho", "5");
+        queryParams.put("valor", "Revolução");
+        return TestCaseConfigDTO.builder()
+                .testName("Benchmark_Buscar_Livros")
+                .methodGroupKey("Benchmark_Buscar")
+                .httpMethod("GET")
+                .endpoint("/livros")
+                .queryParamsTemplate(queryParams)
+                .scenarioType(ScenarioType.HAPPY_PATH)
+                .expectedHtppStatus(200)
+                .readsResources(Set.of("livros"))
+                .build();
+    }
+
+    /** Resultados variados (latências e status) dos dois casos acima, para alimentar os agregadores. */
+    static TestResult[] sampleResults(int count) {
+        String[] testNames = {"Benchmark_Cadastrar_Livro", "Benchmark_Buscar_Livros"};
+        String[] groups = {"Benchmark_Cadastrar", "Benchmark_Buscar"};
+        TestResult[] results = new TestResult[count];
+        for (int i = 0; i < count; i++) {
+            long micros = 500 + (i * 7919L) % 50_000;
+            boolean success = i % 20 != 0;
+            results[i] = TestResult.builder()
+                    .testName(testNames[i % testNames.length])
+                    .methodGroupKey(groups[i % groups.length])
+                    .targetEndpoint("/livros")
+                    .success(success)
+                    .durationMillis(micros / 1000)
+                    .durationMicros(micros)
+                    .httpStatus(success ? 200 : 500)
+                    .build();
+        }
+        return results;
+    }
+}
@@ -0,0 +1,85 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.ExecutionEngine;
+import br.com.lottus.auxina.dto.ScenarioType;
+import br.com.lottus.auxina.dto.TestResult;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * executeTest completo contra um servidor stub no mesmo processo (Reactor Netty, resposta fixa e imediata):
+ * o tempo medido é quase todo do auxina e da pilha HTTP local, que é o teto de vazão de um único gerador.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ExecuteTestBenchmark {
+
+    private static final byte[] LIVRO_JSON = "{\"id\":1,\"nome\":\"A Revolução dos Bichos\",\"quantidade\":10}"
+            .getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PAGINA_JSON = "{\"content\":[],\"totalElements\":0,\"totalPages\":0}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Param({"REACTIVE", "VIRTUAL_THREADS"})
+    public ExecutionEngine engine;
+
+    private DisposableServer stubServer;
+    private BenchmarkFixtures fixtures;
+    private PreparedTestCase cadastrarLivro;
+    private PreparedTestCase buscarLivros;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stubServer = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes
+                        .post("/livros", (request, response) -> request.receive().then()
+                                .then(response.status(HttpResponseStatus.CREATED)
+                                        .header("Content-Type", "application/json")
+                                        .sendByteArray(Mono.just(LIVRO_JSON)).then()))
+                        .get("/livros", (request, response) -> response
+                                .header("Content-Type", "application/json")
+                                .sendByteArray(Mono.just(PAGINA_JSON))))
+                .bindNow();
+        fixtures = new BenchmarkFixtures("http://127.0.0.1:" + stubServer.port());
+        cadastrarLivro = fixtures.testExecutionService.prepare(BenchmarkFixtures.cadastrarLivro(ScenarioType.HAPPY_PATH), false);
+        buscarLivros = fixtures.testExecutionService.prepare(BenchmarkFixtures.buscarLivros(), false);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        stubServer.disposeNow();
+    }
+
+    @Benchmark
+    public TestResult post() {
+        return fixtures.testExecutionService.executeTest(cadastrarLivro, System.nanoTime(), engine).block();
+    }
+
+    @Benchmark
+    public TestResult get() {
+        return fixtures.testExecutionService.executeTest(buscarLivros, System.nanoTime(), engine).block();
+    }
+}
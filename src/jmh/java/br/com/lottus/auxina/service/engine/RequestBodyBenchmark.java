@@ -0,0 +1,52 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.ScenarioType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/** Preparo do corpo a cada requisição: modificações do cenário e serialização JSON. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RequestBodyBenchmark {
+
+    private BenchmarkFixtures fixtures;
+    private Map<String, Object> template;
+    private Map<String, Object> renderedBody;
+
+    @Setup
+    public void setUp() {
+        fixtures = new BenchmarkFixtures(null);
+        template = BenchmarkFixtures.livroBodyTemplate();
+        renderedBody = fixtures.templateCompiler.compile(template).render();
+    }
+
+    @Benchmark
+    public Map<String, Object> applyInvalidInputModifications() {
+        // Cópia: o cenário altera o mapa, como acontece com o corpo recém-renderizado
+        Map<String, Object> body = new HashMap<>(renderedBody);
+        fixtures.scenarioModifier.apply(body, ScenarioType.INVALID_INPUT_BAD_REQUEST, template);
+        return body;
+    }
+
+    @Benchmark
+    public byte[] serializeBody() throws JsonProcessingException {
+        return fixtures.objectMapper.writeValueAsBytes(renderedBody);
+    }
+}
@@ -0,0 +1,80 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.TestCaseConfigDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asserções sobre uma página de livros entregue em blocos de 8 KB, como chega do Reactor Netty:
+ * verificação em streaming contra a leitura da árvore completa.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ResponseAssertionBenchmark {
+
+    private static final int CHUNK_SIZE = 8 * 1024;
+    private static final String PATTERN = "size(/content) <= 200 && /number == 0";
+
+    @Param({"20", "200"})
+    private int pageSize;
+
+    private BenchmarkFixtures fixtures;
+    private ResponseAssertions assertions;
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws IOException {
+        fixtures = new BenchmarkFixtures(null);
+        TestCaseConfigDTO config = BenchmarkFixtures.buscarLivros();
+        config.setExpectedResponseBodyPattern(PATTERN);
+        assertions = fixtures.responseAssertionCompiler.compile(config);
+
+        ObjectNode page = fixtures.objectMapper.createObjectNode();
+        ArrayNode content = page.putArray("content");
+        for (int i = 0; i < pageSize; i++) {
+            content.addObject()
+                    .put("id", i)
+                    .put("nome", fixtures.faker.book().title())
+                    .put("autor", fixtures.faker.book().author())
+                    .put("quantidade", i % 50)
+                    .put("descricao", fixtures.faker.lorem().paragraph());
+        }
+        page.put("totalElements", pageSize).put("number", 0).put("size", pageSize);
+        body = fixtures.objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public String streaming() {
+        ResponseAssertions.Evaluation evaluation = assertions.start();
+        for (int offset = 0; offset < body.length; offset += CHUNK_SIZE) {
+            evaluation.feed(ByteBuffer.wrap(body, offset, Math.min(CHUNK_SIZE, body.length - offset)));
+        }
+        return evaluation.finish();
+    }
+
+    @Benchmark
+    public boolean fullTree() throws IOException {
+        JsonNode root = fixtures.objectMapper.readTree(body);
+        return root.at("/content").size() <= 200 && root.at("/number").asInt() == 0;
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.lottus.auxina.service.engine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Templates de requisição: compilação (regex, reflexão e conversão de argumentos dos placeholders Faker,
+ * feita uma vez por caso) e renderização (invocação dos geradores Faker e resolução de ${variavel}, a cada requisição).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TemplateBenchmark {
+
+    private BenchmarkFixtures fixtures;
+    private Map<String, Object> template;
+    private CompiledTemplate compiledTemplate;
+    private Map<String, String> variables;
+
+    @Setup
+    public void setUp() {
+        fixtures = new BenchmarkFixtures(null);
+        template = BenchmarkFixtures.livroBodyTemplate();
+        compiledTemplate = fixtures.templateCompiler.compile(template);
+        variables = Map.of("categoria.id", "42");
+    }
+
+    @Benchmark
+    public CompiledTemplate compile() {
+        return fixtures.templateCompiler.compile(template);
+    }
+
+    @Benchmark
+    public Map<String, Object> render() {
+        return compiledTemplate.render(variables);
+    }
+}
@@ -0,0 +1,45 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.ScenarioType;
+import br.com.lottus.auxina.dto.TestResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/** Montagem do TestResult após a resposta, incluindo o registro no timer do caso e a busca da amostra do alvo. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TestResultBenchmark {
+
+    private BenchmarkFixtures fixtures;
+    private TestRequest request;
+    private ResponseTiming timing;
+
+    @Setup
+    public void setUp() {
+        fixtures = new BenchmarkFixtures(null);
+        PreparedTestCase testCase = fixtures.testExecutionService.prepare(BenchmarkFixtures.cadastrarLivro(ScenarioType.HAPPY_PATH), false);
+        long sentNanos = System.nanoTime();
+        request = new TestRequest(testCase, "/livros", Map.of(), new byte[0], null, sentNanos, null);
+        timing = new ResponseTiming(sentNanos, sentNanos + 1_000_000L, sentNanos + 1_250_000L, 2_048, null);
+    }
+
+    @Benchmark
+    public TestResult fromResponse() {
+        return fixtures.testResultFactory.fromResponse(request, 201, timing, null, null);
+    }
+}
@@ -1,27 +1,96 @@
 package br.com.lottus.auxina.config;
 
+import br.com.lottus.auxina.service.engine.ConnectionPhases;
 import com.github.javafaker.Faker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.netty.channel.ChannelOption;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.util.StringUtils;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.function.ToDoubleFunction;
 
 @Configuration
 public class AppConfig {
 
+    private static final String POOL_NAME = "library-service";
+
     @Value("${library.service.base-url}")
     private String libraryBaseUrl;
 
     @Value("${library.service.auth.token}")
     private String libraryServiceAuthToken;
 
+    // Pool de conexões do cliente do serviço alvo
+    @Value("${library.service.pool.max-connections:500}")
+    private int maxConnections;
+
+    @Value("${library.service.pool.pending-acquire-max-count:1000}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${library.service.pool.pending-acquire-timeout:10s}")
+    private Duration pendingAcquireTimeout;
+
+    @Value("${library.service.pool.max-idle-time:30s}")
+    private Duration maxIdleTime;
+
+    @Value("${library.service.pool.max-life-time:5m}")
+    private Duration maxLifeTime;
+
+    @Value("${library.service.pool.evict-in-background:30s}")
+    private Duration evictInBackground;
+
+    // Timeouts e protocolo (HTTP11, H2C ou ambos)
+    @Value("${library.service.http.connect-timeout:2s}")
+    private Duration connectTimeout;
+
+    @Value("${library.service.http.response-timeout:30s}")
+    private Duration responseTimeout;
+
+    @Value("${library.service.http.protocols:HTTP11}")
+    private HttpProtocol[] protocols;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider libraryServiceConnectionProvider(MeterRegistry meterRegistry) {
+        return ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictInBackground)
+                .metrics(true, () -> new PoolGaugeRegistrar(meterRegistry))
+                .build();
+    }
+
     @Bean
-    public WebClient libraryServiceClient(WebClient.Builder builder){
+    public WebClient libraryServiceClient(WebClient.Builder builder, ConnectionProvider libraryServiceConnectionProvider){
+        HttpClient httpClient = HttpClient.create(libraryServiceConnectionProvider)
+                .protocol(protocols)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout)
+                .keepAlive(true)
+                // Fases de cada requisição (aquisição, conexão, envio, espera, leitura) entregues ao TestResult
+                .metrics(true, () -> ConnectionPhases.RECORDER);
+
         WebClient.Builder clientBuilder = builder
                 .baseUrl(libraryBaseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
 
 
@@ -34,8 +103,48 @@ public class AppConfig {
         return clientBuilder.build();
     }
 
+    /**
+     * Cliente bloqueante do motor VIRTUAL_THREADS: mesmos timeout de conexão e protocolo do WebClient,
+     * com o trabalho interno do cliente em virtual threads. Base URL e token são aplicados por requisição.
+     */
+    @Bean
+    public java.net.http.HttpClient libraryServiceHttpClient() {
+        boolean h2c = Arrays.asList(protocols).contains(HttpProtocol.H2C);
+        return java.net.http.HttpClient.newBuilder()
+                .version(h2c ? java.net.http.HttpClient.Version.HTTP_2 : java.net.http.HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
     @Bean
     public Faker faker(){
         return new Faker();
     }
+
+    /**
+     * Exporta a ocupação do pool (ativas, ociosas, pendentes) no MeterRegistry da aplicação,
+     * para que a saturação do pool apareça ao lado das latências dos testes.
+     */
+    private record PoolGaugeRegistrar(MeterRegistry meterRegistry) implements ConnectionProvider.MeterRegistrar {
+
+        @Override
+        public void registerMetrics(String poolName, String id, SocketAddress remoteAddress, ConnectionPoolMetrics metrics) {
+            Tags tags = Tags.of("pool", poolName, "id", id, "remoteAddress", String.valueOf(remoteAddress));
+            gauge("auxina.client.pool.active", "Conexões adquiridas (em uso)", tags, metrics, ConnectionPoolMetrics::acquiredSize);
+            gauge("auxina.client.pool.idle", "Conexões ociosas no pool", tags, metrics, ConnectionPoolMetrics::idleSize);
+            gauge("auxina.client.pool.pending", "Aquisições aguardando conexão", tags, metrics, ConnectionPoolMetrics::pendingAcquireSize);
+            gauge("auxina.client.pool.total", "Conexões abertas (ativas + ociosas)", tags, metrics, ConnectionPoolMetrics::allocatedSize);
+            gauge("auxina.client.pool.max", "Máximo de conexões do pool", tags, metrics, ConnectionPoolMetrics::maxAllocatedSize);
+        }
+
+        private void gauge(String name, String description, Tags tags, ConnectionPoolMetrics metrics,
+                           ToDoubleFunction<ConnectionPoolMetrics> value) {
+            Gauge.builder(name, metrics, value)
+                    .description(description)
+                    .tags(tags)
+                    .strongReference(true)
+                    .register(meterRegistry);
+        }
+    }
 }
@@ -0,0 +1,155 @@
+package br.com.lottus.auxina.controller;
+
+import br.com.lottus.auxina.dto.ModuleTestDTO;
+import br.com.lottus.auxina.dto.RegressionReportDTO;
+import br.com.lottus.auxina.dto.RunIndexEntryDTO;
+import br.com.lottus.auxina.dto.TestResult;
+import br.com.lottus.auxina.service.history.RegressionAnalyzer;
+import br.com.lottus.auxina.service.history.RunHistoryStore;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/runs")
+@Tag(
+        name        = "Histórico de Execuções",
+        description = "Consulta das execuções anteriores (suítes e cargas) gravadas em disco"
+)
+public class RunHistoryController {
+
+    private static final int MAX_PAGE_SIZE = 10_000;
+
+    private final RunHistoryStore runHistoryStore;
+    private final RegressionAnalyzer regressionAnalyzer;
+
+    public RunHistoryController(RunHistoryStore runHistoryStore, RegressionAnalyzer regressionAnalyzer) {
+        this.runHistoryStore = runHistoryStore;
+        this.regressionAnalyzer = regressionAnalyzer;
+    }
+
+    @Operation(
+            summary     = "Lista as execuções gravadas",
+            description = """
+                    Uma entrada por módulo executado, das mais recentes para as mais antigas.
+                    **from**/**to** filtram pelo início da execução (epoch em milissegundos).
+                    """,
+            responses   = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description  = "Entradas do índice do histórico",
+                            content      = @Content(array = @ArraySchema(schema = @Schema(implementation = RunIndexEntryDTO.class)))
+                    )
+            }
+    )
+    @GetMapping
+    public ResponseEntity<List<RunIndexEntryDTO>> listRuns(@RequestParam(required = false) String module,
+                                                           @RequestParam(required = false) Long from,
+                                                           @RequestParam(required = false) Long to,
+                                                           @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(runHistoryStore.list(module, from, to, validatePageSize(limit)));
+    }
+
+    @Operation(
+            summary     = "Módulos de uma execução",
+            description = "Entradas do índice para o **runId** informado (uma por módulo).",
+            responses   = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description  = "Módulos gravados da execução",
+                            content      = @Content(array = @ArraySchema(schema = @Schema(implementation = RunIndexEntryDTO.class)))
+                    ),
+                    @ApiResponse(responseCode = "404", description = "Execução não encontrada no histórico")
+            }
+    )
+    @GetMapping("/{runId}")
+    public ResponseEntity<List<RunIndexEntryDTO>> getRun(@PathVariable String runId) {
+        return ResponseEntity.ok(runHistoryStore.findRun(runId));
+    }
+
+    @Operation(
+            summary     = "Relatório gravado de um módulo",
+            description = "ModuleTestDTO da execução, sem os resultados individuais (ver **/results**).",
+            responses   = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description  = "Relatório do módulo",
+                            content      = @Content(schema = @Schema(implementation = ModuleTestDTO.class))
+                    ),
+                    @ApiResponse(responseCode = "404", description = "Execução ou módulo não encontrado no histórico")
+            }
+    )
+    @GetMapping("/{runId}/{module}")
+    public ResponseEntity<ModuleTestDTO> getModuleSummary(@PathVariable String runId, @PathVariable String module) {
+        return ResponseEntity.ok(runHistoryStore.loadSummary(runId, module));
+    }
+
+    @Operation(
+            summary     = "Resultados individuais gravados",
+            description = """
+                    Página dos TestResults do módulo, na ordem em que terminaram.
+                    Payloads e métricas do alvo por requisição não são gravados.
+                    """,
+            responses   = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description  = "Página de resultados",
+                            content      = @Content(array = @ArraySchema(schema = @Schema(implementation = TestResult.class)))
+                    ),
+                    @ApiResponse(responseCode = "404", description = "Execução ou módulo não encontrado no histórico")
+            }
+    )
+    @GetMapping("/{runId}/{module}/results")
+    public ResponseEntity<List<TestResult>> getModuleResults(@PathVariable String runId, @PathVariable String module,
+                                                             @RequestParam(defaultValue = "0") long offset,
+                                                             @RequestParam(defaultValue = "1000") int limit) {
+        if (offset < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "offset não pode ser negativo");
+        }
+        return ResponseEntity.ok(runHistoryStore.loadResults(runId, module, offset, validatePageSize(limit)));
+    }
+
+    @Operation(
+            summary     = "Compara um módulo gravado com um baseline",
+            description = """
+                    Detecção de regressão sob demanda: compara o módulo com o run **baselineRunId** ou com a mediana
+                    dos últimos **baselineWindow** runs do mesmo módulo e modo. p50 e memória usam Mann-Whitney,
+                    p95/p99 intervalo de confiança bootstrap e a taxa de erro um teste de duas proporções.
+                    """,
+            responses   = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description  = "Veredito e métricas que mudaram de forma significativa",
+                            content      = @Content(schema = @Schema(implementation = RegressionReportDTO.class))
+                    ),
+                    @ApiResponse(responseCode = "400", description = "Nenhum baseline informado"),
+                    @ApiResponse(responseCode = "404", description = "Execução ou módulo não encontrado no histórico")
+            }
+    )
+    @GetMapping("/{runId}/{module}/compare")
+    public ResponseEntity<RegressionReportDTO> compareModule(@PathVariable String runId, @PathVariable String module,
+                                                             @RequestParam(required = false) String baselineRunId,
+                                                             @RequestParam(required = false) Integer baselineWindow) {
+        return ResponseEntity.ok(regressionAnalyzer.compare(runId, module, baselineRunId, baselineWindow));
+    }
+
+    private static int validatePageSize(int limit) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit deve estar entre 1 e " + MAX_PAGE_SIZE);
+        }
+        return limit;
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.lottus.auxina.controller;
+
+import br.com.lottus.auxina.dto.StubBehaviorDTO;
+import br.com.lottus.auxina.stub.StubBehavior;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/stub")
+@ConditionalOnProperty(name = "auxina.stub.enabled", havingValue = "true")
+@Tag(
+        name        = "Stub do Serviço Alvo",
+        description = "Comportamento do stub embutido da API da biblioteca (auxina.stub.enabled=true ou perfil stub)"
+)
+public class StubController {
+
+    private final StubBehavior stubBehavior;
+
+    public StubController(StubBehavior stubBehavior) {
+        this.stubBehavior = stubBehavior;
+    }
+
+    @Operation(
+            summary     = "Consulta a latência e os erros injetados pelo stub",
+            responses   = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description  = "Comportamento vigente",
+                            content      = @Content(schema = @Schema(implementation = StubBehaviorDTO.class))
+                    )
+            }
+    )
+    @GetMapping("/behavior")
+    public ResponseEntity<StubBehaviorDTO> getBehavior() {
+        return ResponseEntity.ok(stubBehavior.get());
+    }
+
+    @Operation(
+            summary     = "Altera a latência e os erros injetados pelo stub",
+            description = """
+                      Vale para as próximas requisições, sem reiniciar o stub. **latencyDistribution**: NONE, FIXED (média),
+                      UNIFORM (mínimo a máximo), NORMAL e LOGNORMAL (média e desvio) ou EXPONENTIAL (média), sempre limitada
+                      a [latencyMinMillis, latencyMaxMillis]. **errorRate** (0 a 1) das requisições recebe **errorStatus**.
+                      """,
+            responses   = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description  = "Comportamento aplicado",
+                            content      = @Content(schema = @Schema(implementation = StubBehaviorDTO.class))
+                    ),
+                    @ApiResponse(responseCode = "400", description = "Configuração inválida")
+            }
+    )
+    @PutMapping("/behavior")
+    public ResponseEntity<StubBehaviorDTO> updateBehavior(@RequestBody StubBehaviorDTO behavior) {
+        return ResponseEntity.ok(stubBehavior.update(behavior));
+    }
+}
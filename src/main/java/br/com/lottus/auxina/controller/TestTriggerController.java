@@ -1,16 +1,29 @@
 package br.com.lottus.auxina.controller;
 
+import br.com.lottus.auxina.dto.ArrivalRateConfigDTO;
+import br.com.lottus.auxina.dto.DistributedLoadConfigDTO;
+import br.com.lottus.auxina.dto.EngineBenchmarkDTO;
+import br.com.lottus.auxina.dto.LoadTestConfigDTO;
 import br.com.lottus.auxina.dto.ModuleTestDTO;
+import br.com.lottus.auxina.dto.RunEventDTO;
+import br.com.lottus.auxina.dto.RunOptionsDTO;
+import br.com.lottus.auxina.dto.RunReportDTO;
 import br.com.lottus.auxina.dto.TestResult;
 import br.com.lottus.auxina.service.*;
+import br.com.lottus.auxina.service.engine.RunContext;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import reactor.core.publisher.Flux; // Para executar múltiplos testes
 import reactor.core.publisher.Mono;
@@ -32,15 +45,27 @@ public class TestTriggerController {
     private final AlunoTestService alunoTestService;
     private final EmprestimoTestService emprestimoTestService;
     private final TurmaTestService turmaTestService;
+    private final LoadTestService loadTestService;
+    private final RunAllService runAllService;
+    private final ModuleStreamService moduleStreamService;
+    private final EngineBenchmarkService engineBenchmarkService;
+    private final DistributedLoadService distributedLoadService;
 
     public TestTriggerController(LivroTestService livroTestService, CategoriaTestService categoriaTestService,
                                  AlunoTestService alunoTestService, EmprestimoTestService emprestimoTestService,
-                                 TurmaTestService turmaTestService) {
+                                 TurmaTestService turmaTestService, LoadTestService loadTestService,
+                                 RunAllService runAllService, ModuleStreamService moduleStreamService,
+                                 EngineBenchmarkService engineBenchmarkService, DistributedLoadService distributedLoadService) {
         this.livroTestService = livroTestService;
         this.categoriaTestService = categoriaTestService;
         this.alunoTestService = alunoTestService;
         this.emprestimoTestService = emprestimoTestService;
         this.turmaTestService = turmaTestService;
+        this.loadTestService = loadTestService;
+        this.runAllService = runAllService;
+        this.moduleStreamService = moduleStreamService;
+        this.engineBenchmarkService = engineBenchmarkService;
+        this.distributedLoadService = distributedLoadService;
     }
 
 
@@ -56,8 +81,8 @@ public class TestTriggerController {
             }
     )
     @PostMapping("/module/livros")
-    public Mono<ResponseEntity<ModuleTestDTO>> triggerAllLivroModuleTests() {
-        return livroTestService.runAllLivroTests()
+    public Mono<ResponseEntity<ModuleTestDTO>> triggerAllLivroModuleTests(@ParameterObject RunOptionsDTO options) {
+        return livroTestService.runAllLivroTests(RunContext.shared().configure(options))
                 .map(ResponseEntity::ok);
     }
 
@@ -75,10 +100,10 @@ public class TestTriggerController {
             }
     )
     @PostMapping("/module/categorias")
-    public Mono<ResponseEntity<ModuleTestDTO>> triggerAllCategoriaModuleTests() {
+    public Mono<ResponseEntity<ModuleTestDTO>> triggerAllCategoriaModuleTests(@ParameterObject RunOptionsDTO options) {
         // Implementar CategoriaTestService.runAllCategoriaTests()
         if (categoriaTestService != null && categoriaTestService.getClass().getDeclaredMethods().length > 1) { // Check to avoid NPE if not fully implemented
-            return categoriaTestService.runAllCategoriaTests()
+            return categoriaTestService.runAllCategoriaTests(RunContext.shared().configure(options))
                     .map(ResponseEntity::ok);
         }
         return Mono.just(ResponseEntity.ok(ModuleTestDTO.builder().moduleName("Categorias (Não Implementado Completamente)").build()));
@@ -98,10 +123,10 @@ public class TestTriggerController {
             }
     )
     @PostMapping("module/alunos")
-    public Mono<ResponseEntity<ModuleTestDTO>> triggerAllAlunosModuleTests(){
+    public Mono<ResponseEntity<ModuleTestDTO>> triggerAllAlunosModuleTests(@ParameterObject RunOptionsDTO options) {
 
         if(alunoTestService != null && alunoTestService.getClass().getDeclaredMethods().length > 1){
-            return alunoTestService.runAllAlunoTests()
+            return alunoTestService.runAllAlunoTests(RunContext.shared().configure(options))
                     .map(ResponseEntity::ok);
         }
 
@@ -122,10 +147,10 @@ public class TestTriggerController {
             }
     )
     @PostMapping("module/emprestimos")
-    public Mono<ResponseEntity<ModuleTestDTO>> triggerAllEmprestimosModuleTests(){
+    public Mono<ResponseEntity<ModuleTestDTO>> triggerAllEmprestimosModuleTests(@ParameterObject RunOptionsDTO options) {
 
         if(emprestimoTestService != null && emprestimoTestService.getClass().getDeclaredMethods().length > 1){
-            return emprestimoTestService.runAllEmprestimoTests()
+            return emprestimoTestService.runAllEmprestimoTests(RunContext.shared().configure(options))
                     .map(ResponseEntity::ok);
         }
 
@@ -145,12 +170,201 @@ public class TestTriggerController {
             }
     )
     @PostMapping("module/turmas")
-    public Mono<ResponseEntity<ModuleTestDTO>> triggerAllTurmasModuleTests() {
+    public Mono<ResponseEntity<ModuleTestDTO>> triggerAllTurmasModuleTests(@ParameterObject RunOptionsDTO options) {
         if (turmaTestService != null && turmaTestService.getClass().getDeclaredMethods().length > 1) {
-            return turmaTestService.runAllTurmaTests()
+            return turmaTestService.runAllTurmaTests(RunContext.shared().configure(options))
                     .map(ResponseEntity::ok);
         }
         return Mono.just(ResponseEntity.ok(ModuleTestDTO.builder().moduleName("Turmas (Não implementado Completamente)").build()));
     }
 
-}
\ No newline at end of file
+    @Operation(
+            summary     = "Executa as suítes de todos os módulos",
+            description = """
+                      Dispara Categoria → Turma → Aluno → Livro → Empréstimo numa única execução. Módulos sem dependência
+                      de dados entre si rodam em paralelo (Categoria ∥ Turma, Livro ∥ Aluno). Cada execução recebe um
+                      namespace próprio, aplicado aos nomes das entidades criadas, e envia o header X-Auxina-Run-Id ao alvo.
+                      Com **baselineRunId** (ou **baselineWindow**, mediana dos últimos N runs) cada módulo recebe um
+                      veredito de regressão e o relatório traz regressionVerdict. **engine** escolhe o motor das
+                      requisições: REACTIVE (padrão, WebClient) ou VIRTUAL_THREADS (cliente bloqueante em virtual threads).
+                      """,
+            responses   = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description  = "Relatório agregado com o resultado de cada módulo",
+                            content      = @Content(schema = @Schema(implementation = RunReportDTO.class))
+                    )
+            }
+    )
+    @PostMapping("/run-all")
+    public Mono<ResponseEntity<RunReportDTO>> triggerAllModulesTests(@RequestParam(name = "namespace", required = false) String namespace,
+                                                                     @ParameterObject RunOptionsDTO options) {
+        return runAllService.runAll(namespace, options)
+                .map(ResponseEntity::ok);
+    }
+
+    @Operation(
+            summary     = "Executa carga em modelo fechado sobre a suíte de um módulo",
+            description = """
+                      Executa N usuários virtuais concorrentes, cada um repetindo os casos somente-leitura (GET)
+                      da suíte do módulo (livros, alunos, emprestimos, turmas, categorias) até atingir
+                      a duração ou o número de iterações informados. Retorna vazão e percentis de latência por caso de teste,
+                      medida até o fim da leitura do corpo, além do tempo até o primeiro byte e dos bytes recebidos.
+                      Com ratePerUserPerSecond, cada usuário segue um ritmo fixo e correctedLatency é medida a partir do
+                      instante planejado de cada requisição (como no wrk2); sem ritmo, correctedLatency fica ausente e
+                      estimatedCorrectedLatency traz a correção de omissão coordenada do HdrHistogram, com a mediana de cada
+                      caso como intervalo esperado.
+                      """,
+            responses   = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description  = "Resultado agregado da carga",
+                            content      = @Content(schema = @Schema(implementation = ModuleTestDTO.class))
+                    ),
+                    @ApiResponse(responseCode = "400", description = "Configuração de carga inválida"),
+                    @ApiResponse(responseCode = "404", description = "Módulo desconhecido")
+            }
+    )
+    @PostMapping("/load/{module}")
+    public Mono<ResponseEntity<ModuleTestDTO>> triggerClosedModelLoadTest(@PathVariable("module") String module,
+                                                                        @RequestBody LoadTestConfigDTO loadConfig) {
+        return loadTestService.runClosedModel(module, loadConfig)
+                .map(ResponseEntity::ok);
+    }
+
+    @Operation(
+            summary     = "Executa carga em modelo aberto (taxa de chegada) sobre a suíte de um módulo",
+            description = """
+                      Dispara os casos somente-leitura da suíte numa taxa de chegada fixa ou em rampa linear
+                      (startRatePerSecond → endRatePerSecond durante durationSeconds), independente do tempo de resposta.
+                      latency é medida do envio efetivo e correctedLatency a partir do instante planejado de cada disparo,
+                      incluindo atrasos do próprio envio; disparos que excederiam
+                      maxInFlight são descartados e reportados em droppedRequests.
+                      """,
+            responses   = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description  = "Resultado agregado da carga",
+                            content      = @Content(schema = @Schema(implementation = ModuleTestDTO.class))
+                    ),
+                    @ApiResponse(responseCode = "400", description = "Configuração de carga inválida"),
+                    @ApiResponse(responseCode = "404", description = "Módulo desconhecido")
+            }
+    )
+    @PostMapping("/arrival-rate/{module}")
+    public Mono<ResponseEntity<ModuleTestDTO>> triggerOpenModelLoadTest(@PathVariable("module") String module,
+                                                                      @RequestBody ArrivalRateConfigDTO rateConfig) {
+        return loadTestService.runOpenModel(module, rateConfig)
+                .map(ResponseEntity::ok);
+    }
+
+    @Operation(
+            summary     = "Executa uma carga distribuída entre várias instâncias do auxina",
+            description = """
+                      Esta instância atua como coordenador: divide closedModel (usuários virtuais) ou openModel
+                      (taxas de chegada e maxInFlight) entre os workers informados, que começam juntos num instante
+                      combinado (auxina.distributed.start-delay à frente). Ao final, soma os histogramas e contadores
+                      de cada worker num único relatório; workers traz a parcela de cada um, com o atraso de início
+                      e a saúde do gerador. Cada worker grava sua parcela no próprio histórico; o relatório combinado
+                      não é gravado nem comparado com baseline.
+                      """,
+            responses   = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description  = "Resultado combinado da carga",
+                            content      = @Content(schema = @Schema(implementation = ModuleTestDTO.class))
+                    ),
+                    @ApiResponse(responseCode = "400", description = "Configuração de carga inválida"),
+                    @ApiResponse(responseCode = "404", description = "Módulo desconhecido"),
+                    @ApiResponse(responseCode = "502", description = "Algum worker falhou ou não respondeu")
+            }
+    )
+    @PostMapping("/distributed/{module}")
+    public Mono<ResponseEntity<ModuleTestDTO>> triggerDistributedLoadTest(@PathVariable("module") String module,
+                                                                        @RequestBody DistributedLoadConfigDTO config) {
+        return distributedLoadService.run(module, config)
+                .map(ResponseEntity::ok);
+    }
+
+    @Operation(
+            summary     = "Compara os motores de execução com a mesma carga",
+            description = """
+                      Executa a carga de /load/{module} uma vez com cada motor (REACTIVE e VIRTUAL_THREADS), em sequência.
+                      Para cada um retorna a vazão máxima sustentada com os virtualUsers informados, os percentis de latência
+                      e o custo no gerador por requisição (CPU do processo e bytes alocados). O campo engine do corpo é ignorado.
+                      """,
+            responses   = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description  = "Resultado de cada motor e as razões VIRTUAL_THREADS / REACTIVE",
+                            content      = @Content(schema = @Schema(implementation = EngineBenchmarkDTO.class))
+                    ),
+                    @ApiResponse(responseCode = "400", description = "Configuração de carga inválida"),
+                    @ApiResponse(responseCode = "404", description = "Módulo desconhecido")
+            }
+    )
+    @PostMapping("/engine-benchmark/{module}")
+    public Mono<ResponseEntity<EngineBenchmarkDTO>> triggerEngineBenchmark(@PathVariable("module") String module,
+                                                                         @RequestBody LoadTestConfigDTO loadConfig) {
+        return engineBenchmarkService.compare(module, loadConfig)
+                .map(ResponseEntity::ok);
+    }
+
+    @Operation(
+            summary     = "Executa a suíte de um módulo em streaming (SSE ou NDJSON)",
+            description = """
+                      Mesma suíte de /module/*, mas cada TestResult é enviado assim que o caso termina (type=RESULT),
+                      com agregados parciais periódicos (type=PROGRESS) e o ModuleTestDTO como último evento (type=SUMMARY).
+                      Use Accept: text/event-stream ou application/x-ndjson.
+                      """,
+            responses   = {
+                    @ApiResponse(responseCode = "200", description = "Stream de eventos da execução",
+                            content = @Content(schema = @Schema(implementation = RunEventDTO.class))),
+                    @ApiResponse(responseCode = "404", description = "Módulo desconhecido")
+            }
+    )
+    @PostMapping(value = "/module/{module}/stream", produces = {MediaType.TEXT_EVENT_STREAM_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<RunEventDTO> streamModuleTests(@PathVariable("module") String module,
+                                               @ParameterObject RunOptionsDTO options) {
+        return moduleStreamService.streamSuite(module, options);
+    }
+
+    @Operation(
+            summary     = "Executa carga em modelo fechado em streaming (SSE ou NDJSON)",
+            description = """
+                      Mesma carga de /load/{module}, emitindo agregados parciais (type=PROGRESS) durante a execução
+                      e o resultado agregado como último evento (type=SUMMARY). Resultados individuais não são enviados.
+                      """,
+            responses   = {
+                    @ApiResponse(responseCode = "200", description = "Stream de eventos da carga",
+                            content = @Content(schema = @Schema(implementation = RunEventDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Configuração de carga inválida"),
+                    @ApiResponse(responseCode = "404", description = "Módulo desconhecido")
+            }
+    )
+    @PostMapping(value = "/load/{module}/stream", produces = {MediaType.TEXT_EVENT_STREAM_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<RunEventDTO> streamClosedModelLoadTest(@PathVariable("module") String module,
+                                                       @RequestBody LoadTestConfigDTO loadConfig) {
+        return loadTestService.streamClosedModel(module, loadConfig);
+    }
+
+    @Operation(
+            summary     = "Executa carga em modelo aberto em streaming (SSE ou NDJSON)",
+            description = """
+                      Mesma carga de /arrival-rate/{module}, emitindo agregados parciais (type=PROGRESS) durante a execução
+                      e o resultado agregado como último evento (type=SUMMARY). Resultados individuais não são enviados.
+                      """,
+            responses   = {
+                    @ApiResponse(responseCode = "200", description = "Stream de eventos da carga",
+                            content = @Content(schema = @Schema(implementation = RunEventDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Configuração de carga inválida"),
+                    @ApiResponse(responseCode = "404", description = "Módulo desconhecido")
+            }
+    )
+    @PostMapping(value = "/arrival-rate/{module}/stream", produces = {MediaType.TEXT_EVENT_STREAM_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<RunEventDTO> streamOpenModelLoadTest(@PathVariable("module") String module,
+                                                     @RequestBody ArrivalRateConfigDTO rateConfig) {
+        return loadTestService.streamOpenModel(module, rateConfig);
+    }
+
+}
@@ -0,0 +1,56 @@
+package br.com.lottus.auxina.controller;
+
+import br.com.lottus.auxina.dto.WorkerLoadRequestDTO;
+import br.com.lottus.auxina.dto.WorkerLoadResultDTO;
+import br.com.lottus.auxina.service.LoadTestService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v1/worker")
+@Tag(
+        name        = "Worker de Carga Distribuída",
+        description = "Protocolo interno entre o coordenador de /trigger-tests/distributed e as demais instâncias do auxina"
+)
+public class WorkerController {
+
+    private final LoadTestService loadTestService;
+
+    public WorkerController(LoadTestService loadTestService) {
+        this.loadTestService = loadTestService;
+    }
+
+    @Operation(
+            summary     = "Executa a parcela deste worker numa carga distribuída",
+            description = """
+                      Chamado pelo coordenador. Prepara os casos, espera até startAtEpochMillis e executa closedModel
+                      ou openModel como uma carga local (gravada no histórico desta instância). Responde ao fim da carga
+                      com o relatório da parcela e os histogramas codificados de cada caso, que o coordenador soma.
+                      """,
+            responses   = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description  = "Relatório e histogramas da parcela",
+                            content      = @Content(schema = @Schema(implementation = WorkerLoadResultDTO.class))
+                    ),
+                    @ApiResponse(responseCode = "400", description = "Configuração de carga inválida"),
+                    @ApiResponse(responseCode = "404", description = "Módulo desconhecido")
+            }
+    )
+    @PostMapping("/load/{module}")
+    public Mono<ResponseEntity<WorkerLoadResultDTO>> runWorkerShare(@PathVariable("module") String module,
+                                                                   @RequestBody WorkerLoadRequestDTO request) {
+        return loadTestService.runWorkerShare(module, request)
+                .map(ResponseEntity::ok);
+    }
+}
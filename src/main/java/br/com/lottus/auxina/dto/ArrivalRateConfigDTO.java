@@ -0,0 +1,31 @@
+package br.com.lottus.auxina.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArrivalRateConfigDTO {
+    // Taxa de chegada inicial (requisições por segundo)
+    private double startRatePerSecond;
+    // Taxa final para rampa linear; se ausente, a taxa é constante
+    private Double endRatePerSecond;
+    private int durationSeconds;
+
+    // Limite de requisições em voo; disparos acima dele são descartados e contabilizados
+    private int maxInFlight;
+
+    // Motor de execução das requisições (padrão REACTIVE)
+    private ExecutionEngine engine;
+
+    // Aquecimento antes da medição (opcional)
+    private WarmupConfigDTO warmup;
+
+    // Detecção de regressão: compara com este run ou com a mediana dos últimos baselineWindow runs do módulo
+    private String baselineRunId;
+    private Integer baselineWindow;
+}
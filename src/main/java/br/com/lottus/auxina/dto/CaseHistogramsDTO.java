@@ -0,0 +1,24 @@
+package br.com.lottus.auxina.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Contadores e histogramas de um caso de teste numa carga distribuída, enviados pelo worker ao coordenador.
+ * Os histogramas vão codificados (HdrHistogram comprimido em Base64), o que permite somá-los sem perda.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CaseHistogramsDTO {
+    private String testName;
+    private long successfulRequests;
+    private long bytesReceived;
+    // Chaves: latency, correctedLatency, timeToFirstByte e as fases de conexão (poolAcquire, connect, ...)
+    private Map<String, String> histograms;
+}
@@ -0,0 +1,27 @@
+package br.com.lottus.auxina.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Fases de uma requisição no cliente HTTP (motor REACTIVE), em microssegundos.
+ * Somadas, aquisição + conexão + envio + espera formam o tempo até o primeiro byte.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ConnectionPhasesDTO {
+    // Espera por uma conexão livre no pool (fila do próprio auxina)
+    private long poolAcquireMicros;
+    // Abertura da conexão TCP; nulo quando a conexão do pool foi reaproveitada
+    private Long connectMicros;
+    private long requestWriteMicros;
+    // Do fim do envio ao início da resposta: tempo do servidor mais a rede
+    private Long serverWaitMicros;
+    private Long responseReadMicros;
+}
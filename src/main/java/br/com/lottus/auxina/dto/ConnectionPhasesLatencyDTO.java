@@ -0,0 +1,19 @@
+package br.com.lottus.auxina.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Percentis de cada fase de conexão de um caso; connect conta apenas as conexões novas. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConnectionPhasesLatencyDTO {
+    private LatencyPercentilesDTO poolAcquire;
+    private LatencyPercentilesDTO connect;
+    private LatencyPercentilesDTO requestWrite;
+    private LatencyPercentilesDTO serverWait;
+    private LatencyPercentilesDTO responseRead;
+}
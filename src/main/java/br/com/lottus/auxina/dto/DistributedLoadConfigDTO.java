@@ -0,0 +1,22 @@
+package br.com.lottus.auxina.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/** Carga distribuída: a configuração de um dos modelos, repartida entre as instâncias do auxina em workers. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DistributedLoadConfigDTO {
+    // URLs base dos workers (ex.: http://127.0.0.1:8082); o próprio coordenador só participa se estiver na lista
+    private List<String> workers;
+
+    // Exatamente um dos dois: usuários virtuais divididos entre os workers, ou taxas de chegada e maxInFlight divididos
+    private LoadTestConfigDTO closedModel;
+    private ArrivalRateConfigDTO openModel;
+}
@@ -0,0 +1,22 @@
+package br.com.lottus.auxina.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/** Comparação dos motores de execução sobre a mesma carga, executados em sequência na mesma máquina. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EngineBenchmarkDTO {
+    private String moduleName;
+    private int virtualUsers;
+    private List<EngineBenchmarkResultDTO> engines;
+    // VIRTUAL_THREADS em relação a REACTIVE (> 1 = maior)
+    private Double throughputRatio;
+    private Double cpuPerRequestRatio;
+}
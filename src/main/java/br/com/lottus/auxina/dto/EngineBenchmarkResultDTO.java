@@ -0,0 +1,27 @@
+package br.com.lottus.auxina.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Resultado de um motor no benchmark: vazão atingida e custo do lado do gerador por requisição. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EngineBenchmarkResultDTO {
+    private ExecutionEngine engine;
+    private String runId;
+    private long requests;
+    private long failedRequests;
+    private long elapsedMillis;
+    // Vazão máxima sustentada com a concorrência pedida (modelo fechado, sem pausa entre requisições)
+    private double throughputPerSecond;
+    private LatencyPercentilesDTO latency;
+    // Custo no processo do auxina (CPU de todas as threads e bytes alocados), dividido pelas requisições medidas
+    private double cpuMicrosPerRequest;
+    private Long allocatedBytesPerRequest;   // nulo quando a JVM não mede alocação por thread
+    // Threads de plataforma (carriers inclusive); virtual threads não entram na contagem da JVM
+    private int peakPlatformThreads;
+}
@@ -0,0 +1,6 @@
+package br.com.lottus.auxina.dto;
+
+public enum ExecutionEngine {
+    REACTIVE,           // WebClient (Reactor Netty), sem bloqueio
+    VIRTUAL_THREADS     // java.net.http.HttpClient bloqueante, uma virtual thread por usuário virtual/requisição
+}
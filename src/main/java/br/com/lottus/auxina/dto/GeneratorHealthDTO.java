@@ -0,0 +1,37 @@
+package br.com.lottus.auxina.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Saúde da própria JVM do auxina durante a execução. Com o gerador sobrecarregado (event loops atrasados,
+ * CPU ou GC no limite), as latências medidas incluem o atraso do gerador e não só o do serviço alvo.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GeneratorHealthDTO {
+    private boolean overloaded;
+    // EVENT_LOOP_LAG, CPU e/ou GC: limites ultrapassados em ao menos uma amostra
+    private List<String> overloadConditions;
+    private long samples;
+    private long overloadedSamples;
+    // Resultados cuja requisição esteve em voo durante uma amostra sobrecarregada (TestResult.generatorOverloaded)
+    private long overloadedResults;
+    private double overloadedResultsPercentage;
+
+    private Double maxEventLoopLagMillis;
+    private Double avgProcessCpuUsage;
+    private Double maxProcessCpuUsage;
+    private Double allocationRateMBPerSecond;
+    private Double gcPauseTotalMillis;
+    // Maior fração de um intervalo de amostragem gasta em pausas de GC
+    private Double maxGcPauseRatio;
+}
@@ -0,0 +1,10 @@
+package br.com.lottus.auxina.dto;
+
+public enum LatencyDistribution {
+    NONE,           // Resposta imediata
+    FIXED,          // Sempre latencyMeanMillis
+    UNIFORM,        // Entre latencyMinMillis e latencyMaxMillis
+    NORMAL,         // Média e desvio padrão, truncada em zero
+    LOGNORMAL,      // Média e desvio padrão da própria latência (cauda longa, como serviços reais)
+    EXPONENTIAL     // Média latencyMeanMillis
+}
@@ -0,0 +1,22 @@
+package br.com.lottus.auxina.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LatencyPercentilesDTO {
+    private long count;
+    // Valores em milissegundos com resolução de microssegundos
+    private double meanMillis;
+    private double p50Millis;
+    private double p90Millis;
+    private double p95Millis;
+    private double p99Millis;
+    private double p999Millis;
+    private double maxMillis;
+}
@@ -0,0 +1,33 @@
+package br.com.lottus.auxina.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadTestConfigDTO {
+    // Quantidade de usuários virtuais executando a suíte em paralelo
+    private int virtualUsers;
+
+    // Critérios de parada: o que for atingido primeiro encerra a carga
+    private Integer durationSeconds;
+    private Integer iterations;
+
+    // Ritmo de cada usuário virtual em requisições/s (opcional). Com ritmo, cada requisição tem um instante planejado
+    // e a latência corrigida é medida a partir dele, como no wrk2; sem ritmo, os usuários enviam sem pausa
+    private Double ratePerUserPerSecond;
+
+    // Motor de execução das requisições (padrão REACTIVE)
+    private ExecutionEngine engine;
+
+    // Aquecimento antes da medição (opcional)
+    private WarmupConfigDTO warmup;
+
+    // Detecção de regressão: compara com este run ou com a mediana dos últimos baselineWindow runs do módulo
+    private String baselineRunId;
+    private Integer baselineWindow;
+}
@@ -1,18 +1,28 @@
 package br.com.lottus.auxina.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class MethodTestDTO {
     private String methodName;
     private int totalTests;
     private int failedTests;
     private int successTests;
     private double avarageDurationMillisInGroup;
+    private LatencyPercentilesDTO latency;
+    // Preenchidas apenas em cargas (ver ModuleTestDTO). Nas suítes funcionais as requisições não têm instante
+    // planejado e a medida seria idêntica a latency; a estimativa pela mediana também não se aplica, pois cada caso
+    // roda poucas vezes e não em sequência contínua
+    private LatencyPercentilesDTO correctedLatency;
+    private LatencyPercentilesDTO estimatedCorrectedLatency;
 
     private Double avarageMemoryUsageMbInGroup;
 
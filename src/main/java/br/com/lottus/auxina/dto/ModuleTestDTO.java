@@ -1,19 +1,56 @@
 package br.com.lottus.auxina.dto;
 
-import jdk.jfr.DataAmount;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class ModuleTestDTO {
     private String moduleName;
+    private String runId;
     private int totalTests;
     private int sucessfulTests;
     private int failedTests;
     private double successPercentage;
+    private LatencyPercentilesDTO latency;
+    // Latência corrigida para omissão coordenada, medida do instante planejado; apenas em cargas com agenda
+    private LatencyPercentilesDTO correctedLatency;
+    // Estimativa da correção (mediana como intervalo esperado); apenas em cargas fechadas sem ritmo
+    private LatencyPercentilesDTO estimatedCorrectedLatency;
     private List<MethodTestDTO> methodTestsResults;
+    // Resultados individuais não guardados em individualTestResults (limite/amostragem do agregador)
+    private Long omittedTestResults;
+    // Presente quando houve fase de aquecimento (requisições excluídas das estatísticas acima)
+    private WarmupSummaryDTO warmup;
+    // Presente quando a execução foi comparada com um baseline do histórico
+    private RegressionReportDTO regression;
+    // Motor que executou as requisições (REACTIVE ou VIRTUAL_THREADS)
+    private ExecutionEngine engine;
+    // Saturação da JVM do auxina durante a execução; com overloaded=true as latências acima não são confiáveis
+    private GeneratorHealthDTO generatorHealth;
 
+    // Preenchidos apenas em execuções de carga
+    private String executionMode;
+    private Integer virtualUsers;
+    private Long elapsedMillis;
+    private Double throughputPerSecond;
+    private Long bytesReceived;
+    private List<TestCaseStatsDTO> testCaseResults;
+
+    // Preenchidos apenas no modelo aberto (taxa de chegada)
+    private Double targetStartRatePerSecond;
+    private Double targetEndRatePerSecond;
+    private Long scheduledRequests;
+    private Long droppedRequests;
+
+    // Preenchido apenas em cargas distribuídas: a parcela de cada worker, já somada nos campos acima
+    private List<WorkerShareDTO> workers;
 }
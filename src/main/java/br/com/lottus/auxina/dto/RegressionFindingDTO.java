@@ -0,0 +1,32 @@
+package br.com.lottus.auxina.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Comparação de uma métrica (p50, p95, p99, errorRate, memoryMB) de um caso de teste ou grupo com o baseline. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RegressionFindingDTO {
+    private String scope;                // METHOD_GROUP ou TEST_CASE
+    private String name;
+    private String metric;
+    private Double baselineValue;
+    private Double currentValue;
+    private Double changePercent;
+    // Mann-Whitney (p50, memória) e teste de duas proporções (erros)
+    @JsonProperty("pValue")
+    private Double pValue;
+    // Intervalo de confiança bootstrap da diferença (atual - baseline), para p95/p99
+    private Double ciLower;
+    private Double ciUpper;
+    private long baselineSamples;
+    private long currentSamples;
+    private RegressionVerdict verdict;
+}
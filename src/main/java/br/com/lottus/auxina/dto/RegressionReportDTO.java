@@ -0,0 +1,31 @@
+package br.com.lottus.auxina.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/** Veredito de regressão de um módulo em relação ao baseline escolhido. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RegressionReportDTO {
+    private RegressionVerdict verdict;
+    private String baselineMode;         // RUN ou ROLLING_MEDIAN
+    private List<String> baselineRunIds;
+    private double significanceLevel;
+    private double latencyThresholdPercent;
+    private double errorRateThresholdPoints;
+    private int comparedMetrics;
+    private int regressions;
+    private int improvements;
+    // Métricas sem amostras suficientes (ex.: casos executados uma única vez em cada run)
+    private int insufficientData;
+    // Apenas REGRESSION e IMPROVEMENT, para manter o relatório curto
+    private List<RegressionFindingDTO> findings;
+}
@@ -0,0 +1,10 @@
+package br.com.lottus.auxina.dto;
+
+public enum RegressionVerdict {
+    PASS,               // módulo: nenhuma métrica piorou de forma significativa
+    REGRESSION,
+    IMPROVEMENT,
+    UNCHANGED,
+    INSUFFICIENT_DATA,  // amostras insuficientes em um dos lados para o teste estatístico
+    NO_BASELINE         // nenhuma execução anterior do módulo no histórico
+}
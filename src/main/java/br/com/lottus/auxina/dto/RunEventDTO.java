@@ -0,0 +1,16 @@
+package br.com.lottus.auxina.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RunEventDTO {
+    private RunEventType type;
+    private String moduleName;
+    private TestResult result;
+    private RunProgressDTO progress;
+    private ModuleTestDTO summary;
+}
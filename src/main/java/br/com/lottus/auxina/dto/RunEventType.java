@@ -0,0 +1,7 @@
+package br.com.lottus.auxina.dto;
+
+public enum RunEventType {
+    RESULT,     // um TestResult individual
+    PROGRESS,   // agregado parcial, emitido periodicamente
+    SUMMARY     // relatório final (último evento do stream)
+}
@@ -0,0 +1,24 @@
+package br.com.lottus.auxina.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Entrada do índice do histórico: uma por módulo executado em cada run. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RunIndexEntryDTO {
+    private String runId;
+    private String moduleName;
+    private String executionMode;        // FUNCTIONAL, CLOSED_MODEL, OPEN_MODEL
+    private long startedAtEpochMillis;
+    private long finishedAtEpochMillis;
+    private int totalTests;
+    private double successPercentage;
+    private Double p99Millis;
+    private long storedResults;          // TestResults gravados no arquivo da execução
+    private String fileName;
+}
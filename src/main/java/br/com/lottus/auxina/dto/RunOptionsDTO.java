@@ -0,0 +1,20 @@
+package br.com.lottus.auxina.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Opções de uma execução de suítes, recebidas como parâmetros de consulta nos endpoints de disparo. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RunOptionsDTO {
+    // Detecção de regressão: compara com este run ou com a mediana dos últimos baselineWindow runs do módulo
+    private String baselineRunId;
+    private Integer baselineWindow;
+
+    // Motor de execução das requisições (padrão REACTIVE)
+    private ExecutionEngine engine;
+}
@@ -0,0 +1,16 @@
+package br.com.lottus.auxina.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class RunProgressDTO {
+    private long completedRequests;
+    private long successfulRequests;
+    private long failedRequests;
+    private long elapsedMillis;
+    private double throughputPerSecond;          // desde o início
+    private double intervalThroughputPerSecond;  // desde o evento de progresso anterior
+    private LatencyPercentilesDTO latency;       // acumulado desde o início
+}
@@ -0,0 +1,23 @@
+package br.com.lottus.auxina.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RunReportDTO {
+    private String runId;
+    private String namespace;
+    private long elapsedMillis;
+    private int totalTests;
+    private int sucessfulTests;
+    private int failedTests;
+    private double successPercentage;
+    // REGRESSION se algum módulo regrediu; ausente quando a execução não foi comparada com um baseline
+    private RegressionVerdict regressionVerdict;
+    private List<ModuleTestDTO> moduleResults;
+}
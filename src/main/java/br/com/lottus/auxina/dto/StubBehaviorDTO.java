@@ -0,0 +1,24 @@
+package br.com.lottus.auxina.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Comportamento injetado pelo stub do serviço alvo em todas as rotas da API (actuator e limpeza não são afetados). */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StubBehaviorDTO {
+    private LatencyDistribution latencyDistribution;
+    private double latencyMeanMillis;
+    private double latencyStddevMillis;
+    private double latencyMinMillis;
+    // Também é o teto das distribuições sem limite superior
+    private double latencyMaxMillis;
+
+    // Fração das requisições (0 a 1) respondidas com errorStatus
+    private double errorRate;
+    private int errorStatus;
+}
@@ -0,0 +1,27 @@
+package br.com.lottus.auxina.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Amostra das métricas do actuator do serviço alvo, coletada em segundo plano.
+ * Campos ficam nulos quando a métrica não está disponível no alvo.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TargetMetricsSnapshot {
+    private long timestampEpochMillis;
+    private Double memoryUsedMB;
+    private Double gcPauseTotalMillis;
+    private Double gcPauseMaxMillis;
+    private Double threadsLive;
+    private Double processCpuUsage;
+    private Double hikariActiveConnections;
+    private Double hikariPendingConnections;
+}
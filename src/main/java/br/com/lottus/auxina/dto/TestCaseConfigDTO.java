@@ -3,7 +3,9 @@ package br.com.lottus.auxina.dto;
 import lombok.Builder;
 import lombok.Data;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Data
 @Builder
@@ -22,7 +24,18 @@ public class TestCaseConfigDTO {
 
     private String methodGroupKey;
 
+    // Ordenação para execução em paralelo (TestCaseScheduler). Casos sem nenhuma das três declarações
+    // são tratados como barreira e executam em série; um conjunto vazio declara o caso como independente.
+    private List<String> dependsOn;          // testNames que precisam terminar antes
+    private Set<String> readsResources;      // ex.: "livros", "livro:1"
+    private Set<String> writesResources;
 
+    // Valores extraídos da resposta 2xx para a execução: nome da variável → JSON Pointer (ex.: "livro.revolucao.id" → "/id").
+    // Endpoints e templates referenciam com ${livro.revolucao.id} ou ${livro.revolucao.id:1} (valor padrão)
+    private Map<String, String> captures;
+
+    // Execução a que o caso pertence, enviado ao alvo no header X-Auxina-Run-Id
+    private String runId;
 
 }
 
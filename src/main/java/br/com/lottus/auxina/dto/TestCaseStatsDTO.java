@@ -0,0 +1,33 @@
+package br.com.lottus.auxina.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TestCaseStatsDTO {
+    private String testName;
+    private String methodGroupKey;
+    private String httpMethod;
+    private String endpoint;
+
+    private long totalRequests;
+    private long successfulRequests;
+    private long failedRequests;
+    private double throughputPerSecond;
+
+    private LatencyPercentilesDTO latency;
+    // A partir do instante planejado de cada requisição (corrigida para omissão coordenada); nula sem agenda
+    private LatencyPercentilesDTO correctedLatency;
+    // Sem agenda: correção estimada com a mediana do caso como intervalo esperado
+    private LatencyPercentilesDTO estimatedCorrectedLatency;
+    // Até o recebimento do status e cabeçalhos; latency inclui a leitura completa do corpo
+    private LatencyPercentilesDTO timeToFirstByte;
+    // Fases do tempo até o primeiro byte e da leitura; nulo no motor VIRTUAL_THREADS
+    private ConnectionPhasesLatencyDTO connectionPhases;
+    private long bytesReceived;
+}
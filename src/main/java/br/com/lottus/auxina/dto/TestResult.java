@@ -1,19 +1,41 @@
 package br.com.lottus.auxina.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class TestResult {
     private String testName;
+    // Instante de conclusão da requisição
+    private Long timestampEpochMillis;
     private String targetEndpoint;
     private boolean success;
     private long durationMillis;
+    private long durationMicros;
+    // Latência a partir do instante planejado (corrigida para omissão coordenada); só em requisições agendadas
+    private Long correctedDurationMicros;
+    // Até o recebimento do status e cabeçalhos; a duração acima inclui a leitura completa do corpo
+    private Long timeToFirstByteMicros;
+    private Long responseBytes;
+    // Detalhamento do tempo até o primeiro byte e da leitura (apenas motor REACTIVE)
+    private ConnectionPhasesDTO connectionPhases;
     private int httpStatus;
+    private Integer expectedHttpStatus;
+    // Mensagem do erro de comunicação (conexão recusada, timeout...); nulo quando houve resposta
+    private String errorMessage;
+    // Primeira asserção sobre o corpo (expectedResponseBodyPattern/expectedErrorCode) que falhou
+    private String assertionFailure;
+    // Verdadeiro quando a requisição esteve em voo com o próprio gerador sobrecarregado (latência suspeita)
+    private Boolean generatorOverloaded;
     private Double targetServiceMemoryUsedMB;
+    private TargetMetricsSnapshot targetMetrics;
     private String requestPayload;
 
     private String methodGroupKey;
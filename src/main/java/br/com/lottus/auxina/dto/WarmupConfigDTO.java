@@ -0,0 +1,21 @@
+package br.com.lottus.auxina.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Fase de aquecimento antes da medição. Critério, em ordem de precedência: estabilização automática da latência,
+ * duração fixa ou número de iterações (passagens pelos casos somente-leitura). Sem critério, não há aquecimento.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WarmupConfigDTO {
+    private Integer iterations;
+    private Integer durationSeconds;
+    // Aquece até as medianas das últimas janelas de latência variarem menos que a tolerância configurada
+    private Boolean untilStable;
+}
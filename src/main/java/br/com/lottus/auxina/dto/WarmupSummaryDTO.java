@@ -0,0 +1,23 @@
+package br.com.lottus.auxina.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Resultado da fase de aquecimento; essas requisições não entram nas estatísticas do relatório. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class WarmupSummaryDTO {
+    private String criterion;            // ITERATIONS, DURATION ou STABILITY
+    private long requests;
+    private long failedRequests;
+    private long elapsedMillis;
+    // Apenas no critério STABILITY: falso quando o limite de duração foi atingido antes da estabilização
+    private Boolean stabilized;
+    private LatencyPercentilesDTO latency;
+}
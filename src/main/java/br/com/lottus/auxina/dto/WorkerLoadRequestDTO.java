@@ -0,0 +1,20 @@
+package br.com.lottus.auxina.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Parcela de uma carga distribuída enviada pelo coordenador a um worker. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkerLoadRequestDTO {
+    // Instante (relógio de parede) em que todos os workers começam; quem recebe o pedido depois começa na hora
+    private long startAtEpochMillis;
+
+    // Exatamente um dos dois, já com a parcela deste worker
+    private LoadTestConfigDTO closedModel;
+    private ArrivalRateConfigDTO openModel;
+}
@@ -0,0 +1,19 @@
+package br.com.lottus.auxina.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/** Resposta do worker: o relatório da sua parcela e os histogramas que o coordenador soma. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkerLoadResultDTO {
+    private long startedAtEpochMillis;
+    private ModuleTestDTO report;
+    private List<CaseHistogramsDTO> cases;
+}
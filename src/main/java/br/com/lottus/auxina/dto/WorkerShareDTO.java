@@ -0,0 +1,29 @@
+package br.com.lottus.auxina.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Parcela de um worker no relatório de uma carga distribuída. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class WorkerShareDTO {
+    private String worker;
+    // Execução gravada no histórico do próprio worker
+    private String runId;
+    private Integer virtualUsers;
+    private Double startRatePerSecond;
+    private Double endRatePerSecond;
+    private int totalTests;
+    private int failedTests;
+    private Long elapsedMillis;
+    private Double throughputPerSecond;
+    // Atraso do início em relação ao instante combinado; valores altos indicam workers fora de sincronia
+    private long startSkewMillis;
+    private GeneratorHealthDTO generatorHealth;
+}
@@ -1,6 +1,9 @@
 package br.com.lottus.auxina.service;
 
 import br.com.lottus.auxina.dto.*;
+import br.com.lottus.auxina.service.engine.RunContext;
+import br.com.lottus.auxina.service.engine.TargetMetricsSampler;
+import br.com.lottus.auxina.service.engine.TestCaseScheduler;
 import br.com.lottus.auxina.service.engine.TestExecutionService;
 import com.github.javafaker.Faker;
 import lombok.extern.slf4j.Slf4j;
@@ -12,33 +15,40 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Slf4j
 @Service
-public class AlunoTestService {
+public class AlunoTestService implements ModuleTestSuite {
 
     private final TestExecutionService testExecutionService;
     private final Faker faker;
+    private final TargetMetricsSampler targetMetricsSampler;
+    private final TestCaseScheduler testCaseScheduler;
+    private final SuiteRunner suiteRunner;
 
     // --- IDs DE RECURSOS ---
+    // IDs são capturados das respostas do setup (${variavel}); o valor após ":" é o ID assumido quando o módulo roda isolado
     // Turmas
-    private static final String TURMA_ID_1 = "1";
-    private static final String TURMA_ID_2 = "2";
-    private static final String TURMA_ID_INEXISTENTE = "99999";
+    private static final String TURMA_ID_1 = "${turma.1anoA.id:1}";
+    private static final String TURMA_ID_2 = "${turma.2anoB.id:2}";
+    private static final String TURMA_ID_INEXISTENTE = ID_INEXISTENTE;
 
     // Alunos (IDs de Matrícula)
     // Usados em EmprestimoTestService (NÃO DEVEM SER REMOVIDOS COM SUCESSO)
-    private static final String ALUNO_ID_1_CARLOS = "1";
-    private static final String ALUNO_ID_2_FERNANDA = "2";
-    private static final String ALUNO_ID_3_RICARDO = "3";
-    private static final String ALUNO_ID_4_MARIANA = "4";
-    private static final String ALUNO_ID_5_HIST_VARIOS = "5";
+    private static final String ALUNO_ID_1_CARLOS = "${aluno.carlos.matricula:1}";
+    private static final String ALUNO_ID_2_FERNANDA = "${aluno.fernanda.matricula:2}";
+    private static final String ALUNO_ID_3_RICARDO = "${aluno.ricardo.matricula:3}";
+    private static final String ALUNO_ID_4_MARIANA = "${aluno.mariana.matricula:4}";
+    private static final String ALUNO_ID_5_HIST_VARIOS = "${aluno.histVarios.matricula:5}";
 
     // Alunos para testes específicos deste módulo
-    private static final String ALUNO_ID_6_PARA_EDITAR = "6"; // Um aluno para editar sem impacto
-    private static final String ALUNO_ID_7_PARA_REMOVER = "7"; // Aluno limpo, para ser removido com sucesso
-    private static final String ALUNO_ID_INEXISTENTE = "99999";
+    private static final String ALUNO_ID_6_PARA_EDITAR = "${aluno.paraEditar.matricula:6}"; // Um aluno para editar sem impacto
+    private static final String ALUNO_ID_7_PARA_REMOVER = "${aluno.paraRemover.matricula:7}"; // Aluno limpo, para ser removido com sucesso
+    private static final String ALUNO_ID_INEXISTENTE = ID_INEXISTENTE;
+
+    // Recurso compartilhado usado pelo TestCaseScheduler para ordenar leituras e escritas
+    private static final String RECURSO_ALUNOS = "alunos";
 
     // --- GRUPOS DE TESTE POR MÉTODO ---
     private static final String GROUP_0_SETUP = "0. Setup";
@@ -48,13 +58,17 @@ public class AlunoTestService {
     private static final String GROUP_4_PERFIL = "4. Construir Perfil Aluno";
     private static final String GROUP_5_REMOVER = "5. Remover Aluno";
 
-    public AlunoTestService(TestExecutionService testExecutionService, Faker faker) {
+    public AlunoTestService(TestExecutionService testExecutionService, Faker faker, TargetMetricsSampler targetMetricsSampler, TestCaseScheduler testCaseScheduler,
+                            SuiteRunner suiteRunner) {
         this.testExecutionService = testExecutionService;
         this.faker = faker;
+        this.targetMetricsSampler = targetMetricsSampler;
+        this.testCaseScheduler = testCaseScheduler;
+        this.suiteRunner = suiteRunner;
     }
 
-    private Mono<TestResult> executeAndLog(TestCaseConfigDTO config) {
-        return testExecutionService.executeTest(config)
+    private Mono<TestResult> executeAndLog(TestCaseConfigDTO config, RunContext runContext) {
+        return testExecutionService.executeTest(config, runContext)
                 .doOnSubscribe(subscription -> log.info("➡️  INICIANDO TESTE DE ALUNO: {}", config.getTestName()));
     }
 
@@ -72,25 +86,25 @@ public class AlunoTestService {
     // =================================================================================
 
     private TestCaseConfigDTO getConfigSetup_Carlos() {
-        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_CarlosAndrade").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/alunos/cadastrar").requestBodyTemplate(getAlunoBody("Carlos Andrade", TURMA_ID_1, 0, 0)).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).build();
+        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_CarlosAndrade").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/alunos/cadastrar").requestBodyTemplate(getAlunoBody("Carlos Andrade", TURMA_ID_1, 0, 0)).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).writesResources(Set.of(RECURSO_ALUNOS)).captures(Map.of("aluno.carlos.matricula", "/matricula")).build();
     }
     private TestCaseConfigDTO getConfigSetup_Fernanda() {
-        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_FernandaLima").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/alunos/cadastrar").requestBodyTemplate(getAlunoBody("Fernanda Lima", TURMA_ID_1, 0, 0)).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).build();
+        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_FernandaLima").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/alunos/cadastrar").requestBodyTemplate(getAlunoBody("Fernanda Lima", TURMA_ID_1, 0, 0)).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).writesResources(Set.of(RECURSO_ALUNOS)).captures(Map.of("aluno.fernanda.matricula", "/matricula")).build();
     }
     private TestCaseConfigDTO getConfigSetup_Ricardo() {
-        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_RicardoPereira").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/alunos/cadastrar").requestBodyTemplate(getAlunoBody("Ricardo Pereira", TURMA_ID_1, 0, 0)).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).build();
+        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_RicardoPereira").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/alunos/cadastrar").requestBodyTemplate(getAlunoBody("Ricardo Pereira", TURMA_ID_1, 0, 0)).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).writesResources(Set.of(RECURSO_ALUNOS)).captures(Map.of("aluno.ricardo.matricula", "/matricula")).build();
     }
     private TestCaseConfigDTO getConfigSetup_Mariana() {
-        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_MarianaCosta").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/alunos/cadastrar").requestBodyTemplate(getAlunoBody("Mariana Costa", TURMA_ID_1, 0, 0)).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).build();
+        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_MarianaCosta").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/alunos/cadastrar").requestBodyTemplate(getAlunoBody("Mariana Costa", TURMA_ID_1, 0, 0)).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).writesResources(Set.of(RECURSO_ALUNOS)).captures(Map.of("aluno.mariana.matricula", "/matricula")).build();
     }
     private TestCaseConfigDTO getConfigSetup_AlunoHistVarios() {
-        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_AlunoHistVarios").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/alunos/cadastrar").requestBodyTemplate(getAlunoBody("Aluno Hist Varios", TURMA_ID_2, 10, 4)).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).build();
+        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_AlunoHistVarios").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/alunos/cadastrar").requestBodyTemplate(getAlunoBody("Aluno Hist Varios", TURMA_ID_2, 10, 4)).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).writesResources(Set.of(RECURSO_ALUNOS)).captures(Map.of("aluno.histVarios.matricula", "/matricula")).build();
     }
     private TestCaseConfigDTO getConfigSetup_AlunoParaEditar() {
-        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_AlunoParaEditar").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/alunos/cadastrar").requestBodyTemplate(getAlunoBody("Aluno Original Para Editar", TURMA_ID_2, 0, 0)).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).build();
+        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_AlunoParaEditar").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/alunos/cadastrar").requestBodyTemplate(getAlunoBody("Aluno Original Para Editar", TURMA_ID_2, 0, 0)).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).writesResources(Set.of(RECURSO_ALUNOS)).captures(Map.of("aluno.paraEditar.matricula", "/matricula")).build();
     }
     private TestCaseConfigDTO getConfigSetup_AlunoParaRemover() {
-        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_AlunoParaRemover").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/alunos/cadastrar").requestBodyTemplate(getAlunoBody("Aluno Descartável", TURMA_ID_2, 0, 0)).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).build();
+        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_AlunoParaRemover").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/alunos/cadastrar").requestBodyTemplate(getAlunoBody("Aluno Descartável", TURMA_ID_2, 0, 0)).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).writesResources(Set.of(RECURSO_ALUNOS)).captures(Map.of("aluno.paraRemover.matricula", "/matricula")).build();
     }
 
     // =================================================================================
@@ -98,13 +112,13 @@ public class AlunoTestService {
     // =================================================================================
 
     private TestCaseConfigDTO getConfigCadastrar_C1_Sucesso() {
-        return TestCaseConfigDTO.builder().testName("Cadastrar_C1_Sucesso").methodGroupKey(GROUP_1_CADASTRAR).httpMethod("POST").endpoint("/alunos/cadastrar").requestBodyTemplate(getAlunoBody("Aluno Novo Sucesso", TURMA_ID_1, 0, 0)).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).build();
+        return TestCaseConfigDTO.builder().testName("Cadastrar_C1_Sucesso").methodGroupKey(GROUP_1_CADASTRAR).httpMethod("POST").endpoint("/alunos/cadastrar").requestBodyTemplate(getAlunoBody("Aluno Novo Sucesso", TURMA_ID_1, 0, 0)).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).writesResources(Set.of(RECURSO_ALUNOS)).build();
     }
     private TestCaseConfigDTO getConfigCadastrar_C2_Erro_TurmaInexistente() {
-        return TestCaseConfigDTO.builder().testName("Cadastrar_C2_Erro_TurmaInexistente").methodGroupKey(GROUP_1_CADASTRAR).httpMethod("POST").endpoint("/alunos/cadastrar").requestBodyTemplate(getAlunoBody("Aluno Turma Fantasma", TURMA_ID_INEXISTENTE, 0, 0)).scenarioType(ScenarioType.INVALID_INPUT_BAD_REQUEST).expectedHtppStatus(400).build();
+        return TestCaseConfigDTO.builder().testName("Cadastrar_C2_Erro_TurmaInexistente").methodGroupKey(GROUP_1_CADASTRAR).httpMethod("POST").endpoint("/alunos/cadastrar").requestBodyTemplate(getAlunoBody("Aluno Turma Fantasma", TURMA_ID_INEXISTENTE, 0, 0)).scenarioType(ScenarioType.INVALID_INPUT_BAD_REQUEST).expectedHtppStatus(400).readsResources(Set.of()).build();
     }
     private TestCaseConfigDTO getConfigCadastrar_C3_Erro_NomeEmBranco() {
-        return TestCaseConfigDTO.builder().testName("Cadastrar_C3_Erro_NomeEmBranco").methodGroupKey(GROUP_1_CADASTRAR).httpMethod("POST").endpoint("/alunos/cadastrar").requestBodyTemplate(getAlunoBody("", TURMA_ID_1, 0, 0)).scenarioType(ScenarioType.INVALID_INPUT_BAD_REQUEST).expectedHtppStatus(400).build();
+        return TestCaseConfigDTO.builder().testName("Cadastrar_C3_Erro_NomeEmBranco").methodGroupKey(GROUP_1_CADASTRAR).httpMethod("POST").endpoint("/alunos/cadastrar").requestBodyTemplate(getAlunoBody("", TURMA_ID_1, 0, 0)).scenarioType(ScenarioType.INVALID_INPUT_BAD_REQUEST).expectedHtppStatus(400).readsResources(Set.of()).build();
     }
 
     // =================================================================================
@@ -113,14 +127,14 @@ public class AlunoTestService {
 
     private TestCaseConfigDTO getConfigEditar_C1_Sucesso() {
         Map<String, Object> body = getAlunoBody("Aluno Editado Com Sucesso", TURMA_ID_1, 5, 10);
-        return TestCaseConfigDTO.builder().testName("Editar_C1_Sucesso_TodosOsDados").methodGroupKey(GROUP_2_EDITAR).httpMethod("PUT").endpoint("/alunos/editar/" + ALUNO_ID_6_PARA_EDITAR).requestBodyTemplate(body).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).build();
+        return TestCaseConfigDTO.builder().testName("Editar_C1_Sucesso_TodosOsDados").methodGroupKey(GROUP_2_EDITAR).httpMethod("PUT").endpoint("/alunos/editar/" + ALUNO_ID_6_PARA_EDITAR).requestBodyTemplate(body).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).writesResources(Set.of(RECURSO_ALUNOS)).build();
     }
     private TestCaseConfigDTO getConfigEditar_C2_Erro_NaoExiste() {
-        return TestCaseConfigDTO.builder().testName("Editar_C2_Erro_NaoExiste").methodGroupKey(GROUP_2_EDITAR).httpMethod("PUT").endpoint("/alunos/editar/" + ALUNO_ID_INEXISTENTE).requestBodyTemplate(getAlunoBody("Aluno Fantasma", TURMA_ID_1, 0, 0)).scenarioType(ScenarioType.RESOURCE_NOT_FOUND).expectedHtppStatus(404).build();
+        return TestCaseConfigDTO.builder().testName("Editar_C2_Erro_NaoExiste").methodGroupKey(GROUP_2_EDITAR).httpMethod("PUT").endpoint("/alunos/editar/" + ALUNO_ID_INEXISTENTE).requestBodyTemplate(getAlunoBody("Aluno Fantasma", TURMA_ID_1, 0, 0)).scenarioType(ScenarioType.RESOURCE_NOT_FOUND).expectedHtppStatus(404).readsResources(Set.of()).build();
     }
     private TestCaseConfigDTO getConfigEditar_C3_Erro_TurmaInexistente() {
         Map<String, Object> body = getAlunoBody("Fernanda Lima Editada", TURMA_ID_INEXISTENTE, 0, 0);
-        return TestCaseConfigDTO.builder().testName("Editar_C3_Erro_TurmaInexistente").methodGroupKey(GROUP_2_EDITAR).httpMethod("PUT").endpoint("/alunos/editar/" + ALUNO_ID_2_FERNANDA).requestBodyTemplate(body).scenarioType(ScenarioType.INVALID_INPUT_BAD_REQUEST).expectedHtppStatus(404).build();
+        return TestCaseConfigDTO.builder().testName("Editar_C3_Erro_TurmaInexistente").methodGroupKey(GROUP_2_EDITAR).httpMethod("PUT").endpoint("/alunos/editar/" + ALUNO_ID_2_FERNANDA).requestBodyTemplate(body).scenarioType(ScenarioType.INVALID_INPUT_BAD_REQUEST).expectedHtppStatus(404).readsResources(Set.of(RECURSO_ALUNOS)).build();
     }
 
     // =================================================================================
@@ -128,13 +142,13 @@ public class AlunoTestService {
     // =================================================================================
 
     private TestCaseConfigDTO getConfigListar_C1_AlunosDaTurma() {
-        return TestCaseConfigDTO.builder().testName("Listar_C1_AlunosDaTurma1").methodGroupKey(GROUP_3_BUSCAR_LISTAR).httpMethod("GET").endpoint("/alunos/turma/" + TURMA_ID_1).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).build();
+        return TestCaseConfigDTO.builder().testName("Listar_C1_AlunosDaTurma1").methodGroupKey(GROUP_3_BUSCAR_LISTAR).httpMethod("GET").endpoint("/alunos/turma/" + TURMA_ID_1).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).readsResources(Set.of(RECURSO_ALUNOS)).build();
     }
     private TestCaseConfigDTO getConfigBuscar_C2_PorMatricula() {
-        return TestCaseConfigDTO.builder().testName("Buscar_C2_PorMatricula_Carlos").methodGroupKey(GROUP_3_BUSCAR_LISTAR).httpMethod("GET").endpoint("/alunos/" + ALUNO_ID_1_CARLOS).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).build();
+        return TestCaseConfigDTO.builder().testName("Buscar_C2_PorMatricula_Carlos").methodGroupKey(GROUP_3_BUSCAR_LISTAR).httpMethod("GET").endpoint("/alunos/" + ALUNO_ID_1_CARLOS).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).readsResources(Set.of(RECURSO_ALUNOS)).build();
     }
     private TestCaseConfigDTO getConfigBuscar_C3_PorParteDoNome() {
-        return TestCaseConfigDTO.builder().testName("Buscar_C3_PorParteDoNome_Car").methodGroupKey(GROUP_3_BUSCAR_LISTAR).httpMethod("GET").endpoint("/alunos/nome/Car").scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).build();
+        return TestCaseConfigDTO.builder().testName("Buscar_C3_PorParteDoNome_Car").methodGroupKey(GROUP_3_BUSCAR_LISTAR).httpMethod("GET").endpoint("/alunos/nome/Car").scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).readsResources(Set.of(RECURSO_ALUNOS)).build();
     }
 
     // =================================================================================
@@ -142,13 +156,13 @@ public class AlunoTestService {
     // =================================================================================
 
     private TestCaseConfigDTO getConfigPerfil_C1_SemEmprestimos() {
-        return TestCaseConfigDTO.builder().testName("Perfil_C1_Ricardo_SemEmprestimos").methodGroupKey(GROUP_4_PERFIL).httpMethod("GET").endpoint("/alunos/perfil/" + ALUNO_ID_3_RICARDO).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).build();
+        return TestCaseConfigDTO.builder().testName("Perfil_C1_Ricardo_SemEmprestimos").methodGroupKey(GROUP_4_PERFIL).httpMethod("GET").endpoint("/alunos/perfil/" + ALUNO_ID_3_RICARDO).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).readsResources(Set.of(RECURSO_ALUNOS)).build();
     }
     private TestCaseConfigDTO getConfigPerfil_C2_ComEmprestimoAtivo() {
-        return TestCaseConfigDTO.builder().testName("Perfil_C2_Carlos_ComEmprestimoAtivo").methodGroupKey(GROUP_4_PERFIL).httpMethod("GET").endpoint("/alunos/perfil/" + ALUNO_ID_1_CARLOS).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).build();
+        return TestCaseConfigDTO.builder().testName("Perfil_C2_Carlos_ComEmprestimoAtivo").methodGroupKey(GROUP_4_PERFIL).httpMethod("GET").endpoint("/alunos/perfil/" + ALUNO_ID_1_CARLOS).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).readsResources(Set.of(RECURSO_ALUNOS)).build();
     }
     private TestCaseConfigDTO getConfigPerfil_C4_Erro_AlunoInexistente() {
-        return TestCaseConfigDTO.builder().testName("Perfil_C4_Erro_AlunoInexistente").methodGroupKey(GROUP_4_PERFIL).httpMethod("GET").endpoint("/alunos/perfil/" + ALUNO_ID_INEXISTENTE).scenarioType(ScenarioType.RESOURCE_NOT_FOUND).expectedHtppStatus(404).build();
+        return TestCaseConfigDTO.builder().testName("Perfil_C4_Erro_AlunoInexistente").methodGroupKey(GROUP_4_PERFIL).httpMethod("GET").endpoint("/alunos/perfil/" + ALUNO_ID_INEXISTENTE).scenarioType(ScenarioType.RESOURCE_NOT_FOUND).expectedHtppStatus(404).readsResources(Set.of()).build();
     }
 
     // =================================================================================
@@ -156,23 +170,39 @@ public class AlunoTestService {
     // =================================================================================
 
     private TestCaseConfigDTO getConfigRemover_C1_Sucesso() {
-        return TestCaseConfigDTO.builder().testName("Remover_C1_Sucesso_SemDependencias").methodGroupKey(GROUP_5_REMOVER).httpMethod("DELETE").endpoint("/alunos/remover/" + ALUNO_ID_7_PARA_REMOVER).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).build();
+        return TestCaseConfigDTO.builder().testName("Remover_C1_Sucesso_SemDependencias").methodGroupKey(GROUP_5_REMOVER).httpMethod("DELETE").endpoint("/alunos/remover/" + ALUNO_ID_7_PARA_REMOVER).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).writesResources(Set.of(RECURSO_ALUNOS)).build();
     }
     private TestCaseConfigDTO getConfigRemover_C2_Erro_NaoExiste() {
-        return TestCaseConfigDTO.builder().testName("Remover_C2_Erro_NaoExiste").methodGroupKey(GROUP_5_REMOVER).httpMethod("DELETE").endpoint("/alunos/remover/" + ALUNO_ID_INEXISTENTE).scenarioType(ScenarioType.RESOURCE_NOT_FOUND).expectedHtppStatus(404).build();
+        return TestCaseConfigDTO.builder().testName("Remover_C2_Erro_NaoExiste").methodGroupKey(GROUP_5_REMOVER).httpMethod("DELETE").endpoint("/alunos/remover/" + ALUNO_ID_INEXISTENTE).scenarioType(ScenarioType.RESOURCE_NOT_FOUND).expectedHtppStatus(404).readsResources(Set.of()).build();
     }
     private TestCaseConfigDTO getConfigRemover_C3_Erro_ComEmprestimosAtivos() {
         // Tenta remover Carlos (ID 1), que tem empréstimos. A remoção DEVE falhar.
-        return TestCaseConfigDTO.builder().testName("Remover_C3_ComEmprestimosAtivos").methodGroupKey(GROUP_5_REMOVER).httpMethod("DELETE").endpoint("/alunos/remover/" + ALUNO_ID_1_CARLOS).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).build();
+        return TestCaseConfigDTO.builder().testName("Remover_C3_ComEmprestimosAtivos").methodGroupKey(GROUP_5_REMOVER).httpMethod("DELETE").endpoint("/alunos/remover/" + ALUNO_ID_1_CARLOS).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).writesResources(Set.of(RECURSO_ALUNOS)).build();
     }
     private TestCaseConfigDTO getConfigRemover_C4_Erro_JaRemovido() {
         // Tenta remover o mesmo aluno do C1 novamente.
-        return TestCaseConfigDTO.builder().testName("Remover_C4_Erro_JaRemovido").methodGroupKey(GROUP_5_REMOVER).httpMethod("DELETE").endpoint("/alunos/remover/" + ALUNO_ID_7_PARA_REMOVER).scenarioType(ScenarioType.RESOURCE_NOT_FOUND).expectedHtppStatus(404).build();
+        return TestCaseConfigDTO.builder().testName("Remover_C4_Erro_JaRemovido").methodGroupKey(GROUP_5_REMOVER).httpMethod("DELETE").endpoint("/alunos/remover/" + ALUNO_ID_7_PARA_REMOVER).scenarioType(ScenarioType.RESOURCE_NOT_FOUND).expectedHtppStatus(404).readsResources(Set.of(RECURSO_ALUNOS)).build();
     }
 
     // --- MÉTODO PRINCIPAL DE EXECUÇÃO ---
 
-    public Mono<ModuleTestDTO> runAllAlunoTests() {
+    @Override
+    public String getModuleKey() {
+        return "alunos";
+    }
+
+    @Override
+    public String getModuleName() {
+        return "Alunos";
+    }
+
+    @Override
+    public Set<String> namespacedFields() {
+        return Set.of("nome");
+    }
+
+    @Override
+    public List<TestCaseConfigDTO> buildTestConfigs() {
         List<TestCaseConfigDTO> testConfigsInOrder = new ArrayList<>();
 
         // FASE 0: SETUP
@@ -210,46 +240,23 @@ public class AlunoTestService {
         testConfigsInOrder.add(getConfigRemover_C4_Erro_JaRemovido());
         testConfigsInOrder.add(getConfigRemover_C2_Erro_NaoExiste());
 
-        return Flux.fromIterable(testConfigsInOrder)
-                .concatMap(this::executeAndLog)
-                .collectList()
-                .map(allIndividualResults -> {
-                    Map<String, List<TestResult>> groupedByMethod = allIndividualResults.stream()
-                            .filter(tr -> tr.getMethodGroupKey() != null)
-                            .collect(Collectors.groupingBy(TestResult::getMethodGroupKey));
-
-                    List<MethodTestDTO> methodSummaries = new ArrayList<>();
-                    for (Map.Entry<String, List<TestResult>> entry : groupedByMethod.entrySet()) {
-                        String methodGroupKey = entry.getKey();
-                        List<TestResult> testsInGroup = entry.getValue();
-                        int totalInGroup = testsInGroup.size();
-                        long successfulInGroup = testsInGroup.stream().filter(TestResult::isSuccess).count();
-                        double avgDuration = testsInGroup.stream().mapToLong(TestResult::getDurationMillis).average().orElse(0.0);
-                        Double avgMemory = testsInGroup.stream().filter(tr -> tr.getTargetServiceMemoryUsedMB() != null).mapToDouble(TestResult::getTargetServiceMemoryUsedMB).average().orElse(0.0);
-
-                        methodSummaries.add(MethodTestDTO.builder()
-                                .methodName(methodGroupKey)
-                                .totalTests(totalInGroup)
-                                .successTests((int) successfulInGroup)
-                                .failedTests(totalInGroup - (int) successfulInGroup)
-                                .avarageDurationMillisInGroup(avgDuration)
-                                .avarageMemoryUsageMbInGroup(avgMemory)
-                                .individualTestResults(testsInGroup)
-                                .build());
-                    }
-
-                    int totalModuleTests = allIndividualResults.size();
-                    long successfulModuleTests = allIndividualResults.stream().filter(TestResult::isSuccess).count();
-                    double moduleSuccessPercentage = (totalModuleTests > 0) ? ((double) successfulModuleTests / totalModuleTests) * 100.0 : 0.0;
-
-                    return ModuleTestDTO.builder()
-                            .moduleName("Alunos")
-                            .totalTests(totalModuleTests)
-                            .sucessfulTests((int) successfulModuleTests)
-                            .failedTests(totalModuleTests - (int) successfulModuleTests)
-                            .successPercentage(moduleSuccessPercentage)
-                            .methodTestsResults(methodSummaries)
-                            .build();
-                });
-    }
-}
\ No newline at end of file
+        testConfigsInOrder.forEach(config -> config.setTargetService(getModuleName()));
+        return testConfigsInOrder;
+    }
+
+    public Mono<ModuleTestDTO> runAllAlunoTests() {
+        return runAllAlunoTests(RunContext.shared());
+    }
+
+    public Mono<ModuleTestDTO> runAllAlunoTests(RunContext runContext) {
+        return suiteRunner.run(this, runContext);
+    }
+
+    @Override
+    public Flux<TestResult> executeTests(RunContext runContext) {
+        List<TestCaseConfigDTO> testConfigsInOrder = buildTestConfigs(runContext);
+
+        return testCaseScheduler.schedule(testConfigsInOrder, config -> executeAndLog(config, runContext))
+                .transform(targetMetricsSampler::track);
+    }
+}
@@ -1,6 +1,9 @@
 package br.com.lottus.auxina.service;
 
 import br.com.lottus.auxina.dto.*;
+import br.com.lottus.auxina.service.engine.RunContext;
+import br.com.lottus.auxina.service.engine.TargetMetricsSampler;
+import br.com.lottus.auxina.service.engine.TestCaseScheduler;
 import br.com.lottus.auxina.service.engine.TestExecutionService;
 import com.github.javafaker.Faker;
 import lombok.extern.slf4j.Slf4j;
@@ -12,25 +15,32 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Slf4j
 @Service
-public class CategoriaTestService {
+public class CategoriaTestService implements ModuleTestSuite {
 
     private final TestExecutionService testExecutionService;
     private final Faker faker;
+    private final TargetMetricsSampler targetMetricsSampler;
+    private final TestCaseScheduler testCaseScheduler;
+    private final SuiteRunner suiteRunner;
 
     // --- IDs de Recursos ---
+    // IDs são capturados das respostas do setup (${variavel}); o valor após ":" é o ID assumido quando o módulo roda isolado
     // Categorias que podem ter livros associados por outros módulos
-    private static final String CATEGORIA_ID_1_AVENTURA = "1";
-    private static final String CATEGORIA_ID_2_CIENCIA = "2";
+    private static final String CATEGORIA_ID_1_AVENTURA = "${categoria.aventura.id:1}";
+    private static final String CATEGORIA_ID_2_CIENCIA = "${categoria.ciencia.id:2}";
 
     // Categoria para testes de edição e remoção bem-sucedida (sem dependências)
-    private static final String CATEGORIA_ID_3_PARA_EDITAR_E_REMOVER = "3";
+    private static final String CATEGORIA_ID_3_PARA_EDITAR_E_REMOVER = "${categoria.historia.id:3}";
 
     // IDs para cenários de erro
-    private static final String CATEGORIA_ID_INEXISTENTE = "999";
+    private static final String CATEGORIA_ID_INEXISTENTE = ID_INEXISTENTE;
+
+    // Recurso compartilhado usado pelo TestCaseScheduler para ordenar leituras e escritas
+    private static final String RECURSO_CATEGORIAS = "categorias";
 
     // --- GRUPOS DE TESTE POR MÉTODO ---
     private static final String GROUP_0_SETUP = "0. Setup";
@@ -39,13 +49,17 @@ public class CategoriaTestService {
     private static final String GROUP_3_EDITAR = "3. Editar Categoria";
     private static final String GROUP_4_REMOVER = "4. Remover Categoria";
 
-    public CategoriaTestService(TestExecutionService testExecutionService, Faker faker) {
+    public CategoriaTestService(TestExecutionService testExecutionService, Faker faker, TargetMetricsSampler targetMetricsSampler, TestCaseScheduler testCaseScheduler,
+                                SuiteRunner suiteRunner) {
         this.testExecutionService = testExecutionService;
         this.faker = faker;
+        this.targetMetricsSampler = targetMetricsSampler;
+        this.testCaseScheduler = testCaseScheduler;
+        this.suiteRunner = suiteRunner;
     }
 
-    private Mono<TestResult> executeAndLog(TestCaseConfigDTO config) {
-        return testExecutionService.executeTest(config)
+    private Mono<TestResult> executeAndLog(TestCaseConfigDTO config, RunContext runContext) {
+        return testExecutionService.executeTest(config, runContext)
                 .doOnSubscribe(subscription -> log.info("➡️  INICIANDO TESTE DE CATEGORIA: {}", config.getTestName()));
     }
 
@@ -62,66 +76,82 @@ public class CategoriaTestService {
     // 0. SETUP
     // =================================================================================
     private TestCaseConfigDTO getConfigSetup_Aventura() {
-        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_Aventura").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/categorias").requestBodyTemplate(getCategoriaBody("Aventura", "#FFA500")).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).build();
+        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_Aventura").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/categorias").requestBodyTemplate(getCategoriaBody("Aventura", "#FFA500")).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).writesResources(Set.of(RECURSO_CATEGORIAS)).captures(Map.of("categoria.aventura.id", "/id")).build();
     }
     private TestCaseConfigDTO getConfigSetup_Ciencia() {
-        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_Ciencia").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/categorias").requestBodyTemplate(getCategoriaBody("Ciência", "#0000FF")).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).build();
+        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_Ciencia").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/categorias").requestBodyTemplate(getCategoriaBody("Ciência", "#0000FF")).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).writesResources(Set.of(RECURSO_CATEGORIAS)).captures(Map.of("categoria.ciencia.id", "/id")).build();
     }
     private TestCaseConfigDTO getConfigSetup_ParaEditarERemover() {
-        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_ParaEditarERemover").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/categorias").requestBodyTemplate(getCategoriaBody("História", "#FFD700")).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).build();
+        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_ParaEditarERemover").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/categorias").requestBodyTemplate(getCategoriaBody("História", "#FFD700")).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).writesResources(Set.of(RECURSO_CATEGORIAS)).captures(Map.of("categoria.historia.id", "/id")).build();
     }
 
     // =================================================================================
     // 1. ADICIONAR CATEGORIA
     // =================================================================================
     private TestCaseConfigDTO getConfigAdicionar_C1_Sucesso() {
-        return TestCaseConfigDTO.builder().testName("Adicionar_C1_Sucesso_Fantasia").methodGroupKey(GROUP_1_ADICIONAR).httpMethod("POST").endpoint("/categorias").requestBodyTemplate(getCategoriaBody("Fantasia", "#8A2BE2")).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).build();
+        return TestCaseConfigDTO.builder().testName("Adicionar_C1_Sucesso_Fantasia").methodGroupKey(GROUP_1_ADICIONAR).httpMethod("POST").endpoint("/categorias").requestBodyTemplate(getCategoriaBody("Fantasia", "#8A2BE2")).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).writesResources(Set.of(RECURSO_CATEGORIAS)).build();
     }
     private TestCaseConfigDTO getConfigAdicionar_C2_Erro_NomeJaExistente() {
-        return TestCaseConfigDTO.builder().testName("Adicionar_C2_Erro_NomeJaExistente").methodGroupKey(GROUP_1_ADICIONAR).httpMethod("POST").endpoint("/categorias").requestBodyTemplate(getCategoriaBody("Aventura", null)).scenarioType(ScenarioType.INVALID_INPUT_BAD_REQUEST).expectedHtppStatus(400).build();
+        return TestCaseConfigDTO.builder().testName("Adicionar_C2_Erro_NomeJaExistente").methodGroupKey(GROUP_1_ADICIONAR).httpMethod("POST").endpoint("/categorias").requestBodyTemplate(getCategoriaBody("Aventura", null)).scenarioType(ScenarioType.INVALID_INPUT_BAD_REQUEST).expectedHtppStatus(400).readsResources(Set.of(RECURSO_CATEGORIAS)).build();
     }
     private TestCaseConfigDTO getConfigAdicionar_C3_Erro_NomeEmBranco() {
-        return TestCaseConfigDTO.builder().testName("Adicionar_C3_Erro_NomeEmBranco").methodGroupKey(GROUP_1_ADICIONAR).httpMethod("POST").endpoint("/categorias").requestBodyTemplate(getCategoriaBody("", null)).scenarioType(ScenarioType.INVALID_INPUT_BAD_REQUEST).expectedHtppStatus(400).build();
+        return TestCaseConfigDTO.builder().testName("Adicionar_C3_Erro_NomeEmBranco").methodGroupKey(GROUP_1_ADICIONAR).httpMethod("POST").endpoint("/categorias").requestBodyTemplate(getCategoriaBody("", null)).scenarioType(ScenarioType.INVALID_INPUT_BAD_REQUEST).expectedHtppStatus(400).readsResources(Set.of()).build();
     }
 
     // =================================================================================
     // 2. LISTAR CATEGORIAS
     // =================================================================================
     private TestCaseConfigDTO getConfigListar_AposSetup() {
-        return TestCaseConfigDTO.builder().testName("Listar_AposSetup").methodGroupKey(GROUP_2_LISTAR).httpMethod("GET").endpoint("/categorias").scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).build();
+        return TestCaseConfigDTO.builder().testName("Listar_AposSetup").methodGroupKey(GROUP_2_LISTAR).httpMethod("GET").endpoint("/categorias").scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).readsResources(Set.of(RECURSO_CATEGORIAS)).build();
     }
     private TestCaseConfigDTO getConfigListar_AposRemocao() {
-        return TestCaseConfigDTO.builder().testName("Listar_AposRemocao").methodGroupKey(GROUP_2_LISTAR).httpMethod("GET").endpoint("/categorias").scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).build();
+        return TestCaseConfigDTO.builder().testName("Listar_AposRemocao").methodGroupKey(GROUP_2_LISTAR).httpMethod("GET").endpoint("/categorias").scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).readsResources(Set.of(RECURSO_CATEGORIAS)).build();
     }
 
     // =================================================================================
     // 3. EDITAR CATEGORIA
     // =================================================================================
     private TestCaseConfigDTO getConfigEditar_C1_Sucesso() {
-        return TestCaseConfigDTO.builder().testName("Editar_C1_Sucesso_MudarNomeECor").methodGroupKey(GROUP_3_EDITAR).httpMethod("PUT").endpoint("/categorias/" + CATEGORIA_ID_3_PARA_EDITAR_E_REMOVER).requestBodyTemplate(getCategoriaBody("Biografia", "#008000")).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).build();
+        return TestCaseConfigDTO.builder().testName("Editar_C1_Sucesso_MudarNomeECor").methodGroupKey(GROUP_3_EDITAR).httpMethod("PUT").endpoint("/categorias/" + CATEGORIA_ID_3_PARA_EDITAR_E_REMOVER).requestBodyTemplate(getCategoriaBody("Biografia", "#008000")).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).writesResources(Set.of(RECURSO_CATEGORIAS)).build();
     }
     private TestCaseConfigDTO getConfigEditar_C2_Erro_NaoExiste() {
-        return TestCaseConfigDTO.builder().testName("Editar_C2_Erro_NaoExiste").methodGroupKey(GROUP_3_EDITAR).httpMethod("PUT").endpoint("/categorias/" + CATEGORIA_ID_INEXISTENTE).requestBodyTemplate(getCategoriaBody("Qualquer Nome", null)).scenarioType(ScenarioType.RESOURCE_NOT_FOUND).expectedHtppStatus(404).build();
+        return TestCaseConfigDTO.builder().testName("Editar_C2_Erro_NaoExiste").methodGroupKey(GROUP_3_EDITAR).httpMethod("PUT").endpoint("/categorias/" + CATEGORIA_ID_INEXISTENTE).requestBodyTemplate(getCategoriaBody("Qualquer Nome", null)).scenarioType(ScenarioType.RESOURCE_NOT_FOUND).expectedHtppStatus(404).readsResources(Set.of()).build();
     }
     private TestCaseConfigDTO getConfigEditar_C3_Erro_NomeJaExistente() {
-        return TestCaseConfigDTO.builder().testName("Editar_C3_Erro_NomeJaExistente").methodGroupKey(GROUP_3_EDITAR).httpMethod("PUT").endpoint("/categorias/" + CATEGORIA_ID_3_PARA_EDITAR_E_REMOVER).requestBodyTemplate(getCategoriaBody("Aventura", null)).scenarioType(ScenarioType.INVALID_INPUT_BAD_REQUEST).expectedHtppStatus(500).build();
+        return TestCaseConfigDTO.builder().testName("Editar_C3_Erro_NomeJaExistente").methodGroupKey(GROUP_3_EDITAR).httpMethod("PUT").endpoint("/categorias/" + CATEGORIA_ID_3_PARA_EDITAR_E_REMOVER).requestBodyTemplate(getCategoriaBody("Aventura", null)).scenarioType(ScenarioType.INVALID_INPUT_BAD_REQUEST).expectedHtppStatus(500).readsResources(Set.of(RECURSO_CATEGORIAS)).build();
     }
 
     // =================================================================================
     // 4. REMOVER CATEGORIA
     // =================================================================================
     private TestCaseConfigDTO getConfigRemover_C1_Sucesso_SemLivros() {
-        return TestCaseConfigDTO.builder().testName("Remover_C1_Sucesso_CategoriaLimpa").methodGroupKey(GROUP_4_REMOVER).httpMethod("DELETE").endpoint("/categorias/" + CATEGORIA_ID_3_PARA_EDITAR_E_REMOVER).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(204).build();
+        return TestCaseConfigDTO.builder().testName("Remover_C1_Sucesso_CategoriaLimpa").methodGroupKey(GROUP_4_REMOVER).httpMethod("DELETE").endpoint("/categorias/" + CATEGORIA_ID_3_PARA_EDITAR_E_REMOVER).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(204).writesResources(Set.of(RECURSO_CATEGORIAS)).build();
     }
     private TestCaseConfigDTO getConfigRemover_C3_Erro_NaoExiste() {
-        return TestCaseConfigDTO.builder().testName("Remover_C3_Erro_NaoExiste").methodGroupKey(GROUP_4_REMOVER).httpMethod("DELETE").endpoint("/categorias/" + CATEGORIA_ID_INEXISTENTE).scenarioType(ScenarioType.RESOURCE_NOT_FOUND).expectedHtppStatus(404).build();
+        return TestCaseConfigDTO.builder().testName("Remover_C3_Erro_NaoExiste").methodGroupKey(GROUP_4_REMOVER).httpMethod("DELETE").endpoint("/categorias/" + CATEGORIA_ID_INEXISTENTE).scenarioType(ScenarioType.RESOURCE_NOT_FOUND).expectedHtppStatus(404).readsResources(Set.of()).build();
     }
     private TestCaseConfigDTO getConfigRemover_C4_Erro_JaRemovida() {
-        return TestCaseConfigDTO.builder().testName("Remover_C4_Erro_JaRemovida").methodGroupKey(GROUP_4_REMOVER).httpMethod("DELETE").endpoint("/categorias/" + CATEGORIA_ID_3_PARA_EDITAR_E_REMOVER).scenarioType(ScenarioType.RESOURCE_NOT_FOUND).expectedHtppStatus(404).build();
+        return TestCaseConfigDTO.builder().testName("Remover_C4_Erro_JaRemovida").methodGroupKey(GROUP_4_REMOVER).httpMethod("DELETE").endpoint("/categorias/" + CATEGORIA_ID_3_PARA_EDITAR_E_REMOVER).scenarioType(ScenarioType.RESOURCE_NOT_FOUND).expectedHtppStatus(404).readsResources(Set.of(RECURSO_CATEGORIAS)).build();
     }
 
 
-    public Mono<ModuleTestDTO> runAllCategoriaTests() {
+    @Override
+    public String getModuleKey() {
+        return "categorias";
+    }
+
+    @Override
+    public String getModuleName() {
+        return "Categorias";
+    }
+
+    @Override
+    public Set<String> namespacedFields() {
+        return Set.of("nome");
+    }
+
+    @Override
+    public List<TestCaseConfigDTO> buildTestConfigs() {
         List<TestCaseConfigDTO> testConfigsInOrder = new ArrayList<>();
 
         // FASE 0: SETUP
@@ -150,46 +180,23 @@ public class CategoriaTestService {
         // FASE 5: VERIFICAÇÃO FINAL
         testConfigsInOrder.add(getConfigListar_AposRemocao());
 
-        return Flux.fromIterable(testConfigsInOrder)
-                .concatMap(this::executeAndLog)
-                .collectList()
-                .map(allIndividualResults -> {
-                    Map<String, List<TestResult>> groupedByMethod = allIndividualResults.stream()
-                            .filter(tr -> tr.getMethodGroupKey() != null)
-                            .collect(Collectors.groupingBy(TestResult::getMethodGroupKey));
-
-                    List<MethodTestDTO> methodSummaries = new ArrayList<>();
-                    for (Map.Entry<String, List<TestResult>> entry : groupedByMethod.entrySet()) {
-                        String methodGroupKey = entry.getKey();
-                        List<TestResult> testsInGroup = entry.getValue();
-                        int totalInGroup = testsInGroup.size();
-                        long successfulInGroup = testsInGroup.stream().filter(TestResult::isSuccess).count();
-                        double avgDuration = testsInGroup.stream().mapToLong(TestResult::getDurationMillis).average().orElse(0.0);
-                        Double avgMemory = testsInGroup.stream().filter(tr -> tr.getTargetServiceMemoryUsedMB() != null).mapToDouble(TestResult::getTargetServiceMemoryUsedMB).average().orElse(0.0);
-
-                        methodSummaries.add(MethodTestDTO.builder()
-                                .methodName(methodGroupKey)
-                                .totalTests(totalInGroup)
-                                .successTests((int) successfulInGroup)
-                                .failedTests(totalInGroup - (int) successfulInGroup)
-                                .avarageDurationMillisInGroup(avgDuration)
-                                .avarageMemoryUsageMbInGroup(avgMemory)
-                                .individualTestResults(testsInGroup)
-                                .build());
-                    }
-
-                    int totalModuleTests = allIndividualResults.size();
-                    long successfulModuleTests = allIndividualResults.stream().filter(TestResult::isSuccess).count();
-                    double moduleSuccessPercentage = (totalModuleTests > 0) ? ((double) successfulModuleTests / totalModuleTests) * 100.0 : 0.0;
-
-                    return ModuleTestDTO.builder()
-                            .moduleName("Categorias")
-                            .totalTests(totalModuleTests)
-                            .sucessfulTests((int) successfulModuleTests)
-                            .failedTests(totalModuleTests - (int) successfulModuleTests)
-                            .successPercentage(moduleSuccessPercentage)
-                            .methodTestsResults(methodSummaries)
-                            .build();
-                });
-    }
-}
\ No newline at end of file
+        testConfigsInOrder.forEach(config -> config.setTargetService(getModuleName()));
+        return testConfigsInOrder;
+    }
+
+    public Mono<ModuleTestDTO> runAllCategoriaTests() {
+        return runAllCategoriaTests(RunContext.shared());
+    }
+
+    public Mono<ModuleTestDTO> runAllCategoriaTests(RunContext runContext) {
+        return suiteRunner.run(this, runContext);
+    }
+
+    @Override
+    public Flux<TestResult> executeTests(RunContext runContext) {
+        List<TestCaseConfigDTO> testConfigsInOrder = buildTestConfigs(runContext);
+
+        return testCaseScheduler.schedule(testConfigsInOrder, config -> executeAndLog(config, runContext))
+                .transform(targetMetricsSampler::track);
+    }
+}
@@ -0,0 +1,264 @@
+package br.com.lottus.auxina.service;
+
+import br.com.lottus.auxina.dto.ArrivalRateConfigDTO;
+import br.com.lottus.auxina.dto.DistributedLoadConfigDTO;
+import br.com.lottus.auxina.dto.GeneratorHealthDTO;
+import br.com.lottus.auxina.dto.LoadTestConfigDTO;
+import br.com.lottus.auxina.dto.ModuleTestDTO;
+import br.com.lottus.auxina.dto.TestCaseConfigDTO;
+import br.com.lottus.auxina.dto.WorkerLoadRequestDTO;
+import br.com.lottus.auxina.dto.WorkerLoadResultDTO;
+import br.com.lottus.auxina.dto.WorkerShareDTO;
+import br.com.lottus.auxina.service.engine.LoadTestAccumulator;
+import br.com.lottus.auxina.service.engine.RunContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Coordenador de cargas distribuídas: divide uma carga entre instâncias do auxina atuando como workers
+ * (POST /api/v1/worker/load/{module}), combina com todas um instante de início comum e soma os histogramas
+ * e contadores devolvidos num único ModuleTestDTO. Cada worker executa sua parcela pelo LoadTestService local
+ * e a grava no próprio histórico; o relatório combinado não é gravado nem comparado com baseline.
+ */
+@Slf4j
+@Service
+public class DistributedLoadService {
+
+    private static final String WORKER_LOAD_PATH = "/api/v1/worker/load/{module}";
+
+    private final LoadTestService loadTestService;
+    private final WebClient workerClient;
+    private final Duration startDelay;
+
+    public DistributedLoadService(LoadTestService loadTestService, WebClient.Builder webClientBuilder,
+                                  @Value("${auxina.distributed.start-delay:2s}") Duration startDelay,
+                                  @Value("${auxina.distributed.max-response-size:16MB}") DataSize maxResponseSize) {
+        this.loadTestService = loadTestService;
+        // Sem timeout de resposta: o worker só responde ao fim da sua parcela
+        this.workerClient = webClientBuilder
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize((int) maxResponseSize.toBytes()))
+                .build();
+        this.startDelay = startDelay;
+    }
+
+    public Mono<ModuleTestDTO> run(String moduleKey, DistributedLoadConfigDTO config) {
+        List<String> workers = workersOf(config);
+        ModuleTestSuite suite = loadTestService.resolveSuite(moduleKey);
+        List<TestCaseConfigDTO> readOnlyCases = loadTestService.readOnlyCases(suite);
+        List<WorkerLoadRequestDTO> shares = config.getClosedModel() != null
+                ? splitClosedModel(config.getClosedModel(), workers.size())
+                : splitOpenModel(config.getOpenModel(), workers.size());
+
+        return Mono.defer(() -> {
+            String runId = RunContext.shared().getRunId();
+            // Folga para o pedido chegar a todos os workers antes do início
+            long startAtEpochMillis = System.currentTimeMillis() + startDelay.toMillis();
+            log.info("🌐 INICIANDO CARGA DISTRIBUÍDA em {}: {} workers {}, início em {} ms",
+                    suite.getModuleName(), workers.size(), workers, startDelay.toMillis());
+
+            return Flux.range(0, workers.size())
+                    .flatMapSequential(index -> dispatch(workers.get(index), moduleKey, shares.get(index), startAtEpochMillis),
+                            workers.size())
+                    .collectList()
+                    .map(results -> merge(runId, suite, readOnlyCases, config, workers, shares, startAtEpochMillis, results));
+        });
+    }
+
+    private Mono<WorkerLoadResultDTO> dispatch(String worker, String moduleKey, WorkerLoadRequestDTO share, long startAtEpochMillis) {
+        WorkerLoadRequestDTO request = WorkerLoadRequestDTO.builder()
+                .startAtEpochMillis(startAtEpochMillis)
+                .closedModel(share.getClosedModel())
+                .openModel(share.getOpenModel())
+                .build();
+        return workerClient.post()
+                .uri(worker + WORKER_LOAD_PATH, moduleKey)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(WorkerLoadResultDTO.class)
+                .onErrorMap(e -> !(e instanceof ResponseStatusException),
+                        e -> new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Worker " + worker + " falhou: " + e.getMessage(), e));
+    }
+
+    private ModuleTestDTO merge(String runId, ModuleTestSuite suite, List<TestCaseConfigDTO> readOnlyCases,
+                                DistributedLoadConfigDTO config, List<String> workers, List<WorkerLoadRequestDTO> shares,
+                                long startAtEpochMillis, List<WorkerLoadResultDTO> results) {
+        LoadTestConfigDTO closedModel = config.getClosedModel();
+        ArrivalRateConfigDTO openModel = config.getOpenModel();
+        boolean scheduled = closedModel == null || closedModel.getRatePerUserPerSecond() != null;
+
+        LoadTestAccumulator accumulator = new LoadTestAccumulator(readOnlyCases, scheduled);
+        List<ModuleTestDTO> reports = new ArrayList<>();
+        List<WorkerShareDTO> workerShares = new ArrayList<>();
+        long elapsedMillis = 0;
+        for (int index = 0; index < results.size(); index++) {
+            WorkerLoadResultDTO result = results.get(index);
+            ModuleTestDTO report = result.getReport();
+            WorkerLoadRequestDTO share = shares.get(index);
+            accumulator.merge(result.getCases());
+            reports.add(report);
+            // Os workers começam juntos: a duração da carga é a do mais demorado
+            elapsedMillis = Math.max(elapsedMillis, report.getElapsedMillis() != null ? report.getElapsedMillis() : 0);
+            workerShares.add(WorkerShareDTO.builder()
+                    .worker(workers.get(index))
+                    .runId(report.getRunId())
+                    .virtualUsers(share.getClosedModel() != null ? share.getClosedModel().getVirtualUsers() : null)
+                    .startRatePerSecond(share.getOpenModel() != null ? share.getOpenModel().getStartRatePerSecond() : null)
+                    .endRatePerSecond(share.getOpenModel() != null ? share.getOpenModel().getEndRatePerSecond() : null)
+                    .totalTests(report.getTotalTests())
+                    .failedTests(report.getFailedTests())
+                    .elapsedMillis(report.getElapsedMillis())
+                    .throughputPerSecond(report.getThroughputPerSecond())
+                    .startSkewMillis(result.getStartedAtEpochMillis() - startAtEpochMillis)
+                    .generatorHealth(report.getGeneratorHealth())
+                    .build());
+        }
+
+        ModuleTestDTO merged = accumulator.toModuleTestDTO(suite.getModuleName(),
+                closedModel != null ? LoadTestService.MODE_CLOSED_MODEL : LoadTestService.MODE_OPEN_MODEL,
+                closedModel != null ? closedModel.getVirtualUsers() : null,
+                TimeUnit.MILLISECONDS.toNanos(elapsedMillis));
+        merged.setRunId(runId);
+        merged.setEngine(reports.isEmpty() ? null : reports.get(0).getEngine());
+        merged.setGeneratorHealth(mergeGeneratorHealth(reports, merged.getTotalTests()));
+        merged.setWorkers(workerShares);
+        if (openModel != null) {
+            merged.setTargetStartRatePerSecond(openModel.getStartRatePerSecond());
+            merged.setTargetEndRatePerSecond(openModel.getEndRatePerSecond() != null
+                    ? openModel.getEndRatePerSecond() : openModel.getStartRatePerSecond());
+            merged.setScheduledRequests(sum(reports, ModuleTestDTO::getScheduledRequests));
+            merged.setDroppedRequests(sum(reports, ModuleTestDTO::getDroppedRequests));
+        }
+        log.info("🌐 Carga distribuída em {} concluída: {} requisições de {} workers, {} req/s",
+                suite.getModuleName(), merged.getTotalTests(), workers.size(),
+                String.format("%.1f", merged.getThroughputPerSecond()));
+        return merged;
+    }
+
+    // Usuários virtuais repartidos (os primeiros workers recebem o resto); duração, iterações e ritmo por usuário valem para todos
+    private List<WorkerLoadRequestDTO> splitClosedModel(LoadTestConfigDTO loadConfig, int workers) {
+        loadTestService.validate(loadConfig);
+        if (loadConfig.getVirtualUsers() < workers) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "virtualUsers deve ser ao menos o número de workers");
+        }
+        List<WorkerLoadRequestDTO> shares = new ArrayList<>();
+        for (int worker = 0; worker < workers; worker++) {
+            int virtualUsers = loadConfig.getVirtualUsers() / workers + (worker < loadConfig.getVirtualUsers() % workers ? 1 : 0);
+            shares.add(WorkerLoadRequestDTO.builder()
+                    .closedModel(LoadTestConfigDTO.builder()
+                            .virtualUsers(virtualUsers)
+                            .durationSeconds(loadConfig.getDurationSeconds())
+                            .iterations(loadConfig.getIterations())
+                            .ratePerUserPerSecond(loadConfig.getRatePerUserPerSecond())
+                            .engine(loadConfig.getEngine())
+                            .warmup(loadConfig.getWarmup())
+                            .build())
+                    .build());
+        }
+        return shares;
+    }
+
+    // Taxas e limite em voo divididos igualmente; a soma das parcelas reproduz a taxa de chegada pedida
+    private List<WorkerLoadRequestDTO> splitOpenModel(ArrivalRateConfigDTO rateConfig, int workers) {
+        loadTestService.validate(rateConfig);
+        ArrivalRateConfigDTO share = ArrivalRateConfigDTO.builder()
+                .startRatePerSecond(rateConfig.getStartRatePerSecond() / workers)
+                .endRatePerSecond(rateConfig.getEndRatePerSecond() != null ? rateConfig.getEndRatePerSecond() / workers : null)
+                .durationSeconds(rateConfig.getDurationSeconds())
+                .maxInFlight(Math.max(1, (rateConfig.getMaxInFlight() + workers - 1) / workers))
+                .engine(rateConfig.getEngine())
+                .warmup(rateConfig.getWarmup())
+                .build();
+        List<WorkerLoadRequestDTO> shares = new ArrayList<>();
+        for (int worker = 0; worker < workers; worker++) {
+            shares.add(WorkerLoadRequestDTO.builder().openModel(share).build());
+        }
+        return shares;
+    }
+
+    private static List<String> workersOf(DistributedLoadConfigDTO config) {
+        if ((config.getClosedModel() == null) == (config.getOpenModel() == null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Informe exatamente um entre closedModel e openModel");
+        }
+        List<String> workers = config.getWorkers() == null ? List.of() : config.getWorkers().stream()
+                .filter(StringUtils::hasText)
+                .map(worker -> worker.trim().replaceAll("/+$", ""))
+                .toList();
+        if (workers.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Informe ao menos um worker");
+        }
+        return workers;
+    }
+
+    // Sobrecarga em qualquer worker compromete as latências somadas; médias de CPU ponderadas pelas amostras
+    private static GeneratorHealthDTO mergeGeneratorHealth(List<ModuleTestDTO> reports, long totalTests) {
+        List<GeneratorHealthDTO> healths = reports.stream()
+                .map(ModuleTestDTO::getGeneratorHealth)
+                .filter(Objects::nonNull)
+                .toList();
+        if (healths.isEmpty()) {
+            return null;
+        }
+        Set<String> conditions = new LinkedHashSet<>();
+        long samples = 0;
+        long overloadedSamples = 0;
+        long overloadedResults = 0;
+        double cpuSum = 0;
+        long cpuSamples = 0;
+        for (GeneratorHealthDTO health : healths) {
+            if (health.getOverloadConditions() != null) {
+                conditions.addAll(health.getOverloadConditions());
+            }
+            samples += health.getSamples();
+            overloadedSamples += health.getOverloadedSamples();
+            overloadedResults += health.getOverloadedResults();
+            if (health.getAvgProcessCpuUsage() != null) {
+                cpuSum += health.getAvgProcessCpuUsage() * health.getSamples();
+                cpuSamples += health.getSamples();
+            }
+        }
+        return GeneratorHealthDTO.builder()
+                .overloaded(healths.stream().anyMatch(GeneratorHealthDTO::isOverloaded))
+                .overloadConditions(List.copyOf(conditions))
+                .samples(samples)
+                .overloadedSamples(overloadedSamples)
+                .overloadedResults(overloadedResults)
+                .overloadedResultsPercentage(totalTests > 0 ? (overloadedResults * 100.0) / totalTests : 0.0)
+                .maxEventLoopLagMillis(max(healths, GeneratorHealthDTO::getMaxEventLoopLagMillis))
+                .avgProcessCpuUsage(cpuSamples > 0 ? cpuSum / cpuSamples : null)
+                .maxProcessCpuUsage(max(healths, GeneratorHealthDTO::getMaxProcessCpuUsage))
+                .allocationRateMBPerSecond(total(healths, GeneratorHealthDTO::getAllocationRateMBPerSecond))
+                .gcPauseTotalMillis(total(healths, GeneratorHealthDTO::getGcPauseTotalMillis))
+                .maxGcPauseRatio(max(healths, GeneratorHealthDTO::getMaxGcPauseRatio))
+                .build();
+    }
+
+    private static Double max(List<GeneratorHealthDTO> healths, Function<GeneratorHealthDTO, Double> metric) {
+        return healths.stream().map(metric).filter(Objects::nonNull).max(Double::compare).orElse(null);
+    }
+
+    private static Double total(List<GeneratorHealthDTO> healths, Function<GeneratorHealthDTO, Double> metric) {
+        List<Double> values = healths.stream().map(metric).filter(Objects::nonNull).toList();
+        return values.isEmpty() ? null : values.stream().mapToDouble(Double::doubleValue).sum();
+    }
+
+    private static Long sum(List<ModuleTestDTO> reports, Function<ModuleTestDTO, Long> counter) {
+        return reports.stream().map(counter).filter(Objects::nonNull).mapToLong(Long::longValue).sum();
+    }
+}
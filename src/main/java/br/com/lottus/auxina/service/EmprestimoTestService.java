@@ -1,6 +1,9 @@
 package br.com.lottus.auxina.service;
 
 import br.com.lottus.auxina.dto.*;
+import br.com.lottus.auxina.service.engine.RunContext;
+import br.com.lottus.auxina.service.engine.TargetMetricsSampler;
+import br.com.lottus.auxina.service.engine.TestCaseScheduler;
 import br.com.lottus.auxina.service.engine.TestExecutionService;
 import com.github.javafaker.Faker;
 import lombok.extern.slf4j.Slf4j;
@@ -13,37 +16,44 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Slf4j
 @Service
-public class EmprestimoTestService {
+public class EmprestimoTestService implements ModuleTestSuite {
 
     private final TestExecutionService testExecutionService;
     private final Faker faker;
+    private final TargetMetricsSampler targetMetricsSampler;
+    private final TestCaseScheduler testCaseScheduler;
+    private final SuiteRunner suiteRunner;
 
     // IDs de Alunos e Livros (consistentes com o setup geral)
-    private static final String ALUNO_ID_1_CARLOS = "1";
-    private static final String ALUNO_ID_2_FERNANDA = "2";
-    private static final String ALUNO_ID_3_RICARDO = "3";
-    private static final String ALUNO_ID_4_MARIANA = "4";
-    private static final String ALUNO_ID_5_META_LIVROS = "5";
-    private static final String ALUNO_ID_INEXISTENTE = "99999";
-
-    private static final String LIVRO_ID_1_REVOLUCAO = "1";
-    private static final String LIVRO_ID_2_DOM_CASMURRO = "2";
-    private static final String LIVRO_ID_3_SENHOR_ANEIS = "3";
-    private static final String LIVRO_ID_4_1984_INDISPONIVEL = "4";
-    private static final String LIVRO_ID_6_HOBBIT_ULTIMA_COPIA = "6";
-    private static final String LIVRO_ID_INEXISTENTE = "9998";
-
-    // IDs de Empréstimos ASSUMIDOS pela ordem de criação no SETUP
-    private static final String EMPRESTIMO_ID_1_FERNANDA = "1"; // C1_Sucesso
-    private static final String EMPRESTIMO_ID_2_MARIANA_HOBBIT = "2"; // C5_UltimaCopia
-    private static final String EMPRESTIMO_ID_3_CARLOS_ATRASADO = "3"; // Novo Setup
-    private static final String EMPRESTIMO_ID_4_RICARDO_RENOVAR = "4"; // Novo Setup
-    private static final String EMPRESTIMO_ID_5_ALUNO_META = "5"; // Novo Setup
-    private static final String EMPRESTIMO_ID_INEXISTENTE = "999";
+    // IDs são capturados das respostas do setup (${variavel}); o valor após ":" é o ID assumido quando o módulo roda isolado
+    private static final String ALUNO_ID_1_CARLOS = "${aluno.carlos.matricula:1}";
+    private static final String ALUNO_ID_2_FERNANDA = "${aluno.fernanda.matricula:2}";
+    private static final String ALUNO_ID_3_RICARDO = "${aluno.ricardo.matricula:3}";
+    private static final String ALUNO_ID_4_MARIANA = "${aluno.mariana.matricula:4}";
+    private static final String ALUNO_ID_5_META_LIVROS = "${aluno.histVarios.matricula:5}";
+    private static final String ALUNO_ID_6_SEM_EMPRESTIMO = "${aluno.paraEditar.matricula:6}";
+    private static final String ALUNO_ID_INEXISTENTE = ID_INEXISTENTE;
+
+    private static final String LIVRO_ID_1_REVOLUCAO = "${livro.revolucao.id:1}";
+    private static final String LIVRO_ID_2_DOM_CASMURRO = "${livro.domCasmurro.id:2}";
+    private static final String LIVRO_ID_3_SENHOR_ANEIS = "${livro.senhorDosAneis.id:3}";
+    private static final String LIVRO_ID_6_HOBBIT_ULTIMA_COPIA = "${livro.hobbit.id:6}";
+    private static final String LIVRO_ID_INEXISTENTE = ID_INEXISTENTE;
+
+    // IDs de Empréstimos capturados no SETUP (padrão: ordem de criação)
+    private static final String EMPRESTIMO_ID_1_FERNANDA = "${emprestimo.fernanda.id:1}"; // C1_Sucesso
+    private static final String EMPRESTIMO_ID_2_MARIANA_HOBBIT = "${emprestimo.marianaHobbit.id:2}"; // C5_UltimaCopia
+    private static final String EMPRESTIMO_ID_3_CARLOS_ATRASADO = "${emprestimo.carlosAtrasado.id:3}"; // Novo Setup
+    private static final String EMPRESTIMO_ID_4_RICARDO_RENOVAR = "${emprestimo.ricardo.id:4}"; // Novo Setup
+    private static final String EMPRESTIMO_ID_5_ALUNO_META = "${emprestimo.alunoMeta.id:5}"; // Novo Setup
+    private static final String EMPRESTIMO_ID_INEXISTENTE = ID_INEXISTENTE;
+
+    // Recurso compartilhado usado pelo TestCaseScheduler para ordenar leituras e escritas
+    private static final String RECURSO_EMPRESTIMOS = "emprestimos";
 
     // Grupos de Teste
     private static final String GROUP_SETUP = "0. Setup Empréstimos";
@@ -54,13 +64,17 @@ public class EmprestimoTestService {
     private static final String GROUP_HISTORICO = "5. BuscarHistorico";
 
 
-    public EmprestimoTestService(TestExecutionService testExecutionService, Faker faker) {
+    public EmprestimoTestService(TestExecutionService testExecutionService, Faker faker, TargetMetricsSampler targetMetricsSampler, TestCaseScheduler testCaseScheduler,
+                                 SuiteRunner suiteRunner) {
         this.testExecutionService = testExecutionService;
         this.faker = faker;
+        this.targetMetricsSampler = targetMetricsSampler;
+        this.testCaseScheduler = testCaseScheduler;
+        this.suiteRunner = suiteRunner;
     }
 
-    private Mono<TestResult> executeAndLog(TestCaseConfigDTO config) {
-        return testExecutionService.executeTest(config)
+    private Mono<TestResult> executeAndLog(TestCaseConfigDTO config, RunContext runContext) {
+        return testExecutionService.executeTest(config, runContext)
                 .doOnSubscribe(subscription -> log.info("➡️  INICIANDO TESTE DE EMPRÉSTIMO: {}", config.getTestName()));
     }
 
@@ -78,28 +92,28 @@ public class EmprestimoTestService {
     private TestCaseConfigDTO getConfigSetup_Emprestimo1_Fernanda() {
         return TestCaseConfigDTO.builder().testName("Setup_Emprestimo1_Fernanda_Revolucao").methodGroupKey(GROUP_SETUP)
                 .httpMethod("POST").endpoint("/emprestimos").requestBodyTemplate(createBody(ALUNO_ID_2_FERNANDA, LIVRO_ID_1_REVOLUCAO, LocalDate.now().toString()))
-                .scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).build();
+                .scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).writesResources(Set.of(RECURSO_EMPRESTIMOS)).captures(Map.of("emprestimo.fernanda.id", "/id")).build();
     }
     private TestCaseConfigDTO getConfigSetup_Emprestimo2_Mariana() {
         return TestCaseConfigDTO.builder().testName("Setup_Emprestimo2_Mariana_Hobbit").methodGroupKey(GROUP_SETUP)
-                .httpMethod("POST").endpoint("/emprestimos").requestBodyTemplate(createBody("9", "5", LocalDate.now().toString()))
-                .scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).build();
+                .httpMethod("POST").endpoint("/emprestimos").requestBodyTemplate(createBody(ALUNO_ID_4_MARIANA, LIVRO_ID_6_HOBBIT_ULTIMA_COPIA, LocalDate.now().toString()))
+                .scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).writesResources(Set.of(RECURSO_EMPRESTIMOS)).captures(Map.of("emprestimo.marianaHobbit.id", "/id")).build();
     }
     private TestCaseConfigDTO getConfigSetup_Emprestimo3_Atrasado() {
         // Cria um empréstimo com data de 30 dias atrás para garantir que esteja atrasado
         return TestCaseConfigDTO.builder().testName("Setup_Emprestimo3_Carlos_Atrasado").methodGroupKey(GROUP_SETUP)
-                .httpMethod("POST").endpoint("/emprestimos").requestBodyTemplate(createBody("8", LIVRO_ID_2_DOM_CASMURRO, LocalDate.now().minusDays(30).toString()))
-                .scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).build();
+                .httpMethod("POST").endpoint("/emprestimos").requestBodyTemplate(createBody(ALUNO_ID_1_CARLOS, LIVRO_ID_2_DOM_CASMURRO, LocalDate.now().minusDays(30).toString()))
+                .scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).writesResources(Set.of(RECURSO_EMPRESTIMOS)).captures(Map.of("emprestimo.carlosAtrasado.id", "/id")).build();
     }
     private TestCaseConfigDTO getConfigSetup_Emprestimo4_ParaRenovar() {
         return TestCaseConfigDTO.builder().testName("Setup_Emprestimo4_Ricardo_SenhorAneis").methodGroupKey(GROUP_SETUP)
                 .httpMethod("POST").endpoint("/emprestimos").requestBodyTemplate(createBody(ALUNO_ID_3_RICARDO, LIVRO_ID_3_SENHOR_ANEIS, LocalDate.now().toString()))
-                .scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).build();
+                .scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).writesResources(Set.of(RECURSO_EMPRESTIMOS)).captures(Map.of("emprestimo.ricardo.id", "/id")).build();
     }
     private TestCaseConfigDTO getConfigSetup_Emprestimo5_AlunoMeta() {
         return TestCaseConfigDTO.builder().testName("Setup_Emprestimo5_AlunoMeta").methodGroupKey(GROUP_SETUP)
-                .httpMethod("POST").endpoint("/emprestimos").requestBodyTemplate(createBody(ALUNO_ID_5_META_LIVROS, "1", LocalDate.now().toString()))
-                .scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).build();
+                .httpMethod("POST").endpoint("/emprestimos").requestBodyTemplate(createBody(ALUNO_ID_5_META_LIVROS, LIVRO_ID_1_REVOLUCAO, LocalDate.now().toString()))
+                .scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).writesResources(Set.of(RECURSO_EMPRESTIMOS)).captures(Map.of("emprestimo.alunoMeta.id", "/id")).build();
     }
 
 
@@ -110,17 +124,19 @@ public class EmprestimoTestService {
         // Fernanda (ID 2) já pegou um livro no setup, esta tentativa deve falhar.
         return TestCaseConfigDTO.builder().testName("FazerEmprestimo_C2_Erro_AlunoJaTem").methodGroupKey(GROUP_FAZER_EMPRESTIMO)
                 .httpMethod("POST").endpoint("/emprestimos").requestBodyTemplate(createBody(ALUNO_ID_2_FERNANDA, LIVRO_ID_3_SENHOR_ANEIS, LocalDate.now().toString()))
-                .scenarioType(ScenarioType.INVALID_INPUT_BAD_REQUEST).expectedHtppStatus(409).build();
+                .scenarioType(ScenarioType.INVALID_INPUT_BAD_REQUEST).expectedHtppStatus(409).readsResources(Set.of(RECURSO_EMPRESTIMOS)).build();
     }
     private TestCaseConfigDTO getConfigFazer_C3_LivroIndisponivel() {
+        // A única cópia do Hobbit está com a Mariana desde o setup; lê emprestimos para rodar antes da devolução (Finalizar_C4).
+        // Aluno e livro existem: é conflito de regra de negócio, como no C2
         return TestCaseConfigDTO.builder().testName("FazerEmprestimo_C3_Erro_LivroIndisponivel").methodGroupKey(GROUP_FAZER_EMPRESTIMO)
-                .httpMethod("POST").endpoint("/emprestimos").requestBodyTemplate(createBody("10", LIVRO_ID_4_1984_INDISPONIVEL, LocalDate.now().toString())) // Aluno 10 não tem empréstimo
-                .scenarioType(ScenarioType.INVALID_INPUT_BAD_REQUEST).expectedHtppStatus(404).build();
+                .httpMethod("POST").endpoint("/emprestimos").requestBodyTemplate(createBody(ALUNO_ID_6_SEM_EMPRESTIMO, LIVRO_ID_6_HOBBIT_ULTIMA_COPIA, LocalDate.now().toString()))
+                .scenarioType(ScenarioType.INVALID_INPUT_BAD_REQUEST).expectedHtppStatus(409).readsResources(Set.of(RECURSO_EMPRESTIMOS)).build();
     }
     private TestCaseConfigDTO getConfigFazer_C4_AlunoInexistente() {
         return TestCaseConfigDTO.builder().testName("FazerEmprestimo_C4_Erro_AlunoInexistente").methodGroupKey(GROUP_FAZER_EMPRESTIMO)
                 .httpMethod("POST").endpoint("/emprestimos").requestBodyTemplate(createBody(ALUNO_ID_INEXISTENTE, LIVRO_ID_3_SENHOR_ANEIS, LocalDate.now().toString()))
-                .scenarioType(ScenarioType.RESOURCE_NOT_FOUND).expectedHtppStatus(404).build();
+                .scenarioType(ScenarioType.RESOURCE_NOT_FOUND).expectedHtppStatus(404).readsResources(Set.of()).build();
     }
 
     // =================================================================================
@@ -130,18 +146,18 @@ public class EmprestimoTestService {
         // Renova o empréstimo da Fernanda, que foi o primeiro a ser criado (ID 1)
         return TestCaseConfigDTO.builder().testName("RenovarEmprestimo_C1_Sucesso").methodGroupKey(GROUP_RENOVAR_EMPRESTIMO)
                 .httpMethod("POST").endpoint("/emprestimos/" + EMPRESTIMO_ID_1_FERNANDA + "/renovar")
-                .scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).build();
+                .scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).writesResources(Set.of(RECURSO_EMPRESTIMOS)).build();
     }
     private TestCaseConfigDTO getConfigRenovar_C2_Atrasado() {
         // Renova o empréstimo do Carlos, criado para estar atrasado (ID 3)
         return TestCaseConfigDTO.builder().testName("RenovarEmprestimo_C2_Atrasado").methodGroupKey(GROUP_RENOVAR_EMPRESTIMO)
                 .httpMethod("POST").endpoint("/emprestimos/" + EMPRESTIMO_ID_3_CARLOS_ATRASADO + "/renovar")
-                .scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).build();
+                .scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).writesResources(Set.of(RECURSO_EMPRESTIMOS)).build();
     }
     private TestCaseConfigDTO getConfigRenovar_C3_Inexistente() {
         return TestCaseConfigDTO.builder().testName("RenovarEmprestimo_C3_Erro_Inexistente").methodGroupKey(GROUP_RENOVAR_EMPRESTIMO)
                 .httpMethod("POST").endpoint("/emprestimos/" + EMPRESTIMO_ID_INEXISTENTE + "/renovar")
-                .scenarioType(ScenarioType.RESOURCE_NOT_FOUND).expectedHtppStatus(404).build();
+                .scenarioType(ScenarioType.RESOURCE_NOT_FOUND).expectedHtppStatus(404).readsResources(Set.of()).build();
     }
 
 
@@ -152,13 +168,13 @@ public class EmprestimoTestService {
         Map<String, String> qp = new HashMap<>(); qp.put("pagina", "0"); qp.put("tamanho", "10");
         return TestCaseConfigDTO.builder().testName("ListarEmprestimos_C1_SemFiltros").methodGroupKey(GROUP_LISTAR_EMPRESTIMOS)
                 .httpMethod("GET").endpoint("/emprestimos").queryParamsTemplate(qp)
-                .scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).build();
+                .scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).readsResources(Set.of(RECURSO_EMPRESTIMOS)).build();
     }
     private TestCaseConfigDTO getConfigListar_C3_ApenasAtrasados() {
         Map<String, String> qp = new HashMap<>(); qp.put("pagina", "0"); qp.put("tamanho", "10"); qp.put("atrasados", "true");
         return TestCaseConfigDTO.builder().testName("ListarEmprestimos_C3_ApenasAtrasados").methodGroupKey(GROUP_LISTAR_EMPRESTIMOS)
                 .httpMethod("GET").endpoint("/emprestimos").queryParamsTemplate(qp)
-                .scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).build();
+                .scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).readsResources(Set.of(RECURSO_EMPRESTIMOS)).build();
     }
 
     // =================================================================================
@@ -168,30 +184,30 @@ public class EmprestimoTestService {
         // Finaliza o empréstimo da Fernanda (ID 1), que já foi renovado.
         return TestCaseConfigDTO.builder().testName("FinalizarEmprestimo_C1_AtivoSucesso").methodGroupKey(GROUP_FINALIZAR_EMPRESTIMO)
                 .httpMethod("POST").endpoint("/emprestimos/" + EMPRESTIMO_ID_1_FERNANDA + "/finalizar")
-                .scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).build();
+                .scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).writesResources(Set.of(RECURSO_EMPRESTIMOS)).build();
     }
     private TestCaseConfigDTO getConfigFinalizar_C2_Atrasado() {
         // Finaliza o empréstimo do Carlos (ID 3), que estava atrasado.
         return TestCaseConfigDTO.builder().testName("FinalizarEmprestimo_C2_Atrasado").methodGroupKey(GROUP_FINALIZAR_EMPRESTIMO)
                 .httpMethod("POST").endpoint("/emprestimos/" + EMPRESTIMO_ID_3_CARLOS_ATRASADO + "/finalizar")
-                .scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).build();
+                .scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).writesResources(Set.of(RECURSO_EMPRESTIMOS)).build();
     }
     private TestCaseConfigDTO getConfigFinalizar_C4_DevolucaoUltimaCopia() {
         // Finaliza o empréstimo da Mariana (ID 2), que era a última cópia do Hobbit.
         return TestCaseConfigDTO.builder().testName("FinalizarEmprestimo_C4_DevolucaoUltimaCopia").methodGroupKey(GROUP_FINALIZAR_EMPRESTIMO)
                 .httpMethod("POST").endpoint("/emprestimos/" + EMPRESTIMO_ID_2_MARIANA_HOBBIT + "/finalizar")
-                .scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).build();
+                .scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).writesResources(Set.of(RECURSO_EMPRESTIMOS)).build();
     }
     private TestCaseConfigDTO getConfigFinalizar_C5_AlunoAtingeMetaBonus() {
-        // Finaliza o empréstimo do aluno que vai atingir a meta (ID 5).
+        // Finaliza o empréstimo do aluno que vai atingir a meta (criado no Setup_Emprestimo5_AlunoMeta).
         return TestCaseConfigDTO.builder().testName("FinalizarEmprestimo_C5_AlunoAtingeMetaBonus").methodGroupKey(GROUP_FINALIZAR_EMPRESTIMO)
-                .httpMethod("POST").endpoint("/emprestimos/" + "3" + "/finalizar")
-                .scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).build();
+                .httpMethod("POST").endpoint("/emprestimos/" + EMPRESTIMO_ID_5_ALUNO_META + "/finalizar")
+                .scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).writesResources(Set.of(RECURSO_EMPRESTIMOS)).build();
     }
     private TestCaseConfigDTO getConfigFinalizar_C3_Inexistente() {
         return TestCaseConfigDTO.builder().testName("FinalizarEmprestimo_C3_Erro_Inexistente").methodGroupKey(GROUP_FINALIZAR_EMPRESTIMO)
                 .httpMethod("POST").endpoint("/emprestimos/" + EMPRESTIMO_ID_INEXISTENTE + "/finalizar")
-                .scenarioType(ScenarioType.RESOURCE_NOT_FOUND).expectedHtppStatus(404).build();
+                .scenarioType(ScenarioType.RESOURCE_NOT_FOUND).expectedHtppStatus(404).readsResources(Set.of()).build();
     }
 
     // =================================================================================
@@ -201,16 +217,27 @@ public class EmprestimoTestService {
         // Verifica o histórico da Fernanda (ID 2), que finalizou o empréstimo ID 1.
         return TestCaseConfigDTO.builder().testName("HistoricoAluno_C1_ComFinalizados").methodGroupKey(GROUP_HISTORICO)
                 .httpMethod("GET").endpoint("/emprestimos/historico/aluno/" + ALUNO_ID_2_FERNANDA)
-                .scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).build();
+                .scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).readsResources(Set.of(RECURSO_EMPRESTIMOS)).build();
     }
     private TestCaseConfigDTO getConfigHistLivro_C4_LimitadoASete() {
         return TestCaseConfigDTO.builder().testName("HistoricoLivro_C4_LimitadoASete").methodGroupKey(GROUP_HISTORICO)
                 .httpMethod("GET").endpoint("/emprestimos/historico/livro/" + LIVRO_ID_3_SENHOR_ANEIS)
-                .scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).build();
+                .scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).readsResources(Set.of(RECURSO_EMPRESTIMOS)).build();
     }
 
     // ... ORQUESTRAÇÃO ...
-    public Mono<ModuleTestDTO> runAllEmprestimoTests() {
+    @Override
+    public String getModuleKey() {
+        return "emprestimos";
+    }
+
+    @Override
+    public String getModuleName() {
+        return "Emprestimos";
+    }
+
+    @Override
+    public List<TestCaseConfigDTO> buildTestConfigs() {
         List<TestCaseConfigDTO> testConfigsInOrder = new ArrayList<>();
 
         // FASE 0: Criar o estado inicial da base com todos os empréstimos necessários.
@@ -245,47 +272,23 @@ public class EmprestimoTestService {
         testConfigsInOrder.add(getConfigHistAluno_C1_ComFinalizados());
         testConfigsInOrder.add(getConfigHistLivro_C4_LimitadoASete());
 
-        return Flux.fromIterable(testConfigsInOrder)
-                .concatMap(this::executeAndLog)
-                .collectList()
-                .map(allIndividualResults -> {
-                    // ... (lógica de agregação de resultados, sem alterações)
-                    Map<String, List<TestResult>> groupedByMethod = allIndividualResults.stream()
-                            .filter(tr -> tr.getMethodGroupKey() != null)
-                            .collect(Collectors.groupingBy(TestResult::getMethodGroupKey));
-
-                    List<MethodTestDTO> methodSummaries = new ArrayList<>();
-                    for (Map.Entry<String, List<TestResult>> entry : groupedByMethod.entrySet()) {
-                        String methodGroupKey = entry.getKey();
-                        List<TestResult> testsInGroup = entry.getValue();
-                        int totalInGroup = testsInGroup.size();
-                        long successfulInGroup = testsInGroup.stream().filter(TestResult::isSuccess).count();
-                        double avgDuration = testsInGroup.stream().mapToLong(TestResult::getDurationMillis).average().orElse(0.0);
-                        Double avgMemory = testsInGroup.stream().filter(tr -> tr.getTargetServiceMemoryUsedMB() != null).mapToDouble(TestResult::getTargetServiceMemoryUsedMB).average().orElse(0.0);
-
-                        methodSummaries.add(MethodTestDTO.builder()
-                                .methodName(methodGroupKey)
-                                .totalTests(totalInGroup)
-                                .successTests((int) successfulInGroup)
-                                .failedTests(totalInGroup - (int) successfulInGroup)
-                                .avarageDurationMillisInGroup(avgDuration)
-                                .avarageMemoryUsageMbInGroup(avgMemory)
-                                .individualTestResults(testsInGroup)
-                                .build());
-                    }
-
-                    int totalModuleTests = allIndividualResults.size();
-                    long successfulModuleTests = allIndividualResults.stream().filter(TestResult::isSuccess).count();
-                    double moduleSuccessPercentage = (totalModuleTests > 0) ? ((double) successfulModuleTests / totalModuleTests) * 100.0 : 0.0;
-
-                    return ModuleTestDTO.builder()
-                            .moduleName("Emprestimos")
-                            .totalTests(totalModuleTests)
-                            .sucessfulTests((int) successfulModuleTests)
-                            .failedTests(totalModuleTests - (int) successfulModuleTests)
-                            .successPercentage(moduleSuccessPercentage)
-                            .methodTestsResults(methodSummaries)
-                            .build();
-                });
+        testConfigsInOrder.forEach(config -> config.setTargetService(getModuleName()));
+        return testConfigsInOrder;
+    }
+
+    public Mono<ModuleTestDTO> runAllEmprestimoTests() {
+        return runAllEmprestimoTests(RunContext.shared());
+    }
+
+    public Mono<ModuleTestDTO> runAllEmprestimoTests(RunContext runContext) {
+        return suiteRunner.run(this, runContext);
+    }
+
+    @Override
+    public Flux<TestResult> executeTests(RunContext runContext) {
+        List<TestCaseConfigDTO> testConfigsInOrder = buildTestConfigs(runContext);
+
+        return testCaseScheduler.schedule(testConfigsInOrder, config -> executeAndLog(config, runContext))
+                .transform(targetMetricsSampler::track);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,118 @@
+package br.com.lottus.auxina.service;
+
+import br.com.lottus.auxina.dto.EngineBenchmarkDTO;
+import br.com.lottus.auxina.dto.EngineBenchmarkResultDTO;
+import br.com.lottus.auxina.dto.ExecutionEngine;
+import br.com.lottus.auxina.dto.LoadTestConfigDTO;
+import br.com.lottus.auxina.dto.ModuleTestDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Compara os motores de execução com a mesma carga em modelo fechado, um após o outro e na mesma máquina.
+ * Sem pausa entre requisições, a vazão obtida é a máxima que cada motor sustenta com a concorrência pedida;
+ * o custo do gerador é medido pela CPU do processo e pelos bytes alocados durante cada execução.
+ */
+@Slf4j
+@Service
+public class EngineBenchmarkService {
+
+    private final LoadTestService loadTestService;
+    private final com.sun.management.OperatingSystemMXBean operatingSystem =
+            (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public EngineBenchmarkService(LoadTestService loadTestService) {
+        this.loadTestService = loadTestService;
+    }
+
+    public Mono<EngineBenchmarkDTO> compare(String moduleKey, LoadTestConfigDTO loadConfig) {
+        // Validação na chamada; as cargas só começam na inscrição, em sequência para não disputarem CPU
+        List<Mono<EngineBenchmarkResultDTO>> runs = Arrays.stream(ExecutionEngine.values())
+                .map(engine -> measure(engine, loadTestService.runClosedModel(moduleKey, withEngine(loadConfig, engine))))
+                .toList();
+
+        return Flux.concat(runs)
+                .collectList()
+                .map(results -> EngineBenchmarkDTO.builder()
+                        .moduleName(moduleKey)
+                        .virtualUsers(loadConfig.getVirtualUsers())
+                        .engines(results)
+                        .throughputRatio(ratio(results, EngineBenchmarkResultDTO::getThroughputPerSecond))
+                        .cpuPerRequestRatio(ratio(results, EngineBenchmarkResultDTO::getCpuMicrosPerRequest))
+                        .build());
+    }
+
+    private Mono<EngineBenchmarkResultDTO> measure(ExecutionEngine engine, Mono<ModuleTestDTO> run) {
+        return Mono.defer(() -> {
+            log.info("⚖️  Benchmark de motores: executando {}", engine);
+            threads.resetPeakThreadCount();
+            long cpuBefore = operatingSystem.getProcessCpuTime();
+            long allocatedBefore = allocatedBytes();
+
+            return run.map(report -> {
+                long cpuNanos = operatingSystem.getProcessCpuTime() - cpuBefore;
+                long allocatedAfter = allocatedBytes();
+                // CPU e alocação cobrem também o aquecimento, então dividem por todas as requisições enviadas
+                long sentRequests = Math.max(1, report.getTotalTests()
+                        + (report.getWarmup() != null ? report.getWarmup().getRequests() : 0));
+
+                return EngineBenchmarkResultDTO.builder()
+                        .engine(engine)
+                        .runId(report.getRunId())
+                        .requests(report.getTotalTests())
+                        .failedRequests(report.getFailedTests())
+                        .elapsedMillis(report.getElapsedMillis() != null ? report.getElapsedMillis() : 0)
+                        .throughputPerSecond(report.getThroughputPerSecond() != null ? report.getThroughputPerSecond() : 0)
+                        .latency(report.getLatency())
+                        .cpuMicrosPerRequest(TimeUnit.NANOSECONDS.toMicros(cpuNanos) / (double) sentRequests)
+                        .allocatedBytesPerRequest(allocatedBefore < 0 || allocatedAfter < 0
+                                ? null : (allocatedAfter - allocatedBefore) / sentRequests)
+                        .peakPlatformThreads(threads.getPeakThreadCount())
+                        .build();
+            });
+        });
+    }
+
+    // Soma das threads de plataforma vivas (virtual threads alocam pelo carrier); -1 quando indisponível
+    private long allocatedBytes() {
+        if (!threads.isThreadAllocatedMemorySupported() || !threads.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+        return threads.getTotalThreadAllocatedBytes();
+    }
+
+    private static Double ratio(List<EngineBenchmarkResultDTO> results,
+                                ToDoubleFunction<EngineBenchmarkResultDTO> metric) {
+        Double reactive = null;
+        Double virtualThreads = null;
+        for (EngineBenchmarkResultDTO result : results) {
+            if (result.getEngine() == ExecutionEngine.REACTIVE) {
+                reactive = metric.applyAsDouble(result);
+            } else if (result.getEngine() == ExecutionEngine.VIRTUAL_THREADS) {
+                virtualThreads = metric.applyAsDouble(result);
+            }
+        }
+        return reactive == null || virtualThreads == null || reactive == 0 ? null : virtualThreads / reactive;
+    }
+
+    private static LoadTestConfigDTO withEngine(LoadTestConfigDTO loadConfig, ExecutionEngine engine) {
+        return LoadTestConfigDTO.builder()
+                .virtualUsers(loadConfig.getVirtualUsers())
+                .durationSeconds(loadConfig.getDurationSeconds())
+                .iterations(loadConfig.getIterations())
+                .ratePerUserPerSecond(loadConfig.getRatePerUserPerSecond())
+                .warmup(loadConfig.getWarmup())
+                .engine(engine)
+                .build();
+    }
+}
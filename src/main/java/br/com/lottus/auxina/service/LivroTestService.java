@@ -1,6 +1,9 @@
 package br.com.lottus.auxina.service;
 
 import br.com.lottus.auxina.dto.*;
+import br.com.lottus.auxina.service.engine.RunContext;
+import br.com.lottus.auxina.service.engine.TargetMetricsSampler;
+import br.com.lottus.auxina.service.engine.TestCaseScheduler;
 import br.com.lottus.auxina.service.engine.TestExecutionService;
 import com.github.javafaker.Faker;
 import lombok.extern.slf4j.Slf4j;
@@ -12,30 +15,36 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Slf4j
 @Service
-public class LivroTestService {
+public class LivroTestService implements ModuleTestSuite {
 
     private final TestExecutionService testExecutionService;
     private final Faker faker;
+    private final TargetMetricsSampler targetMetricsSampler;
+    private final TestCaseScheduler testCaseScheduler;
+    private final SuiteRunner suiteRunner;
 
     // --- IDs de Recursos ---
-    private static final String CATEGORIA_ID_1 = "1";
-    private static final String CATEGORIA_ID_2 = "2";
-    private static final String CATEGORIA_ID_3 = "3";
-    private static final String CATEGORIA_ID_INEXISTENTE = "999";
+    // IDs são capturados das respostas do setup (${variavel}); o valor após ":" é o ID assumido quando o módulo roda isolado
+    private static final String CATEGORIA_ID_1 = "${categoria.aventura.id:1}";
+    private static final String CATEGORIA_ID_2 = "${categoria.ciencia.id:2}";
+    private static final String CATEGORIA_ID_3 = "${categoria.historia.id:3}";
+    private static final String CATEGORIA_ID_INEXISTENTE = ID_INEXISTENTE;
 
     // IDs de Livros (alguns são usados em EmpréstimoTestService)
-    private static final String LIVRO_ID_1_REVOLUCAO = "1"; // Tem empréstimo ativo, não pode ser removido
-    private static final String LIVRO_ID_2_DOM_CASMURRO = "2";
-    private static final String LIVRO_ID_3_SENHOR_ANEIS = "3";
-    private static final String LIVRO_ID_4_1984 = "4";
-    private static final String LIVRO_ID_5_PEQUENO_PRINCIPE = "5";
-    private static final String LIVRO_ID_6_O_HOBBIT = "6";
-    private static final String LIVRO_ID_7_PARA_REMOVER = "7"; // Livro dedicado para remoção
-    private static final String LIVRO_ID_INEXISTENTE = "999";
+    private static final String LIVRO_ID_1_REVOLUCAO = "${livro.revolucao.id:1}"; // Tem empréstimo ativo, não pode ser removido
+    private static final String LIVRO_ID_2_DOM_CASMURRO = "${livro.domCasmurro.id:2}";
+    private static final String LIVRO_ID_3_SENHOR_ANEIS = "${livro.senhorDosAneis.id:3}";
+    private static final String LIVRO_ID_5_PEQUENO_PRINCIPE = "${livro.pequenoPrincipe.id:5}";
+    private static final String LIVRO_ID_6_O_HOBBIT = "${livro.hobbit.id:6}";
+    private static final String LIVRO_ID_7_PARA_REMOVER = "${livro.paraRemover.id:7}"; // Livro dedicado para remoção
+    private static final String LIVRO_ID_INEXISTENTE = ID_INEXISTENTE;
+
+    // Recurso compartilhado usado pelo TestCaseScheduler para ordenar leituras e escritas
+    private static final String RECURSO_LIVROS = "livros";
 
     // --- GRUPOS DE TESTE POR MÉTODO ---
     private static final String GROUP_0_SETUP = "0. Setup";
@@ -44,13 +53,17 @@ public class LivroTestService {
     private static final String GROUP_3_EDITAR = "3. Editar Livro";
     private static final String GROUP_4_REMOVER = "4. Remover Livro";
 
-    public LivroTestService(TestExecutionService testExecutionService, Faker faker) {
+    public LivroTestService(TestExecutionService testExecutionService, Faker faker, TargetMetricsSampler targetMetricsSampler, TestCaseScheduler testCaseScheduler,
+                            SuiteRunner suiteRunner) {
         this.testExecutionService = testExecutionService;
         this.faker = faker;
+        this.targetMetricsSampler = targetMetricsSampler;
+        this.testCaseScheduler = testCaseScheduler;
+        this.suiteRunner = suiteRunner;
     }
 
-    private Mono<TestResult> executeAndLog(TestCaseConfigDTO config) {
-        return testExecutionService.executeTest(config)
+    private Mono<TestResult> executeAndLog(TestCaseConfigDTO config, RunContext runContext) {
+        return testExecutionService.executeTest(config, runContext)
                 .doOnSubscribe(subscription -> log.info("➡️  INICIANDO TESTE DE LIVRO: {}", config.getTestName()));
     }
 
@@ -68,35 +81,35 @@ public class LivroTestService {
     // 0. SETUP - CADASTRO DOS LIVROS BASE
     // =================================================================================
     private TestCaseConfigDTO getConfigSetup_RevolucaoBichos() {
-        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_RevolucaoBichos").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/livros").requestBodyTemplate(getLivroBody("A Revolução dos Bichos", "George Orwell", 10, CATEGORIA_ID_1, "Uma sátira política.")).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).build();
+        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_RevolucaoBichos").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/livros").requestBodyTemplate(getLivroBody("A Revolução dos Bichos", "George Orwell", 10, CATEGORIA_ID_1, "Uma sátira política.")).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).writesResources(Set.of(RECURSO_LIVROS)).captures(Map.of("livro.revolucao.id", "/id")).build();
     }
     private TestCaseConfigDTO getConfigSetup_DomCasmurro() {
-        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_DomCasmurro").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/livros").requestBodyTemplate(getLivroBody("Dom Casmurro", "Machado de Assis", 7, CATEGORIA_ID_1, "Clássico brasileiro.")).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).build();
+        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_DomCasmurro").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/livros").requestBodyTemplate(getLivroBody("Dom Casmurro", "Machado de Assis", 7, CATEGORIA_ID_1, "Clássico brasileiro.")).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).writesResources(Set.of(RECURSO_LIVROS)).captures(Map.of("livro.domCasmurro.id", "/id")).build();
     }
     private TestCaseConfigDTO getConfigSetup_SenhorDosAneis() {
-        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_SenhorDosAneis").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/livros").requestBodyTemplate(getLivroBody("O Senhor dos Anéis", "J.R.R. Tolkien", 10, CATEGORIA_ID_2, "Trilogia épica.")).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).build();
+        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_SenhorDosAneis").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/livros").requestBodyTemplate(getLivroBody("O Senhor dos Anéis", "J.R.R. Tolkien", 10, CATEGORIA_ID_2, "Trilogia épica.")).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).writesResources(Set.of(RECURSO_LIVROS)).captures(Map.of("livro.senhorDosAneis.id", "/id")).build();
     }
     private TestCaseConfigDTO getConfigSetup_1984() {
-        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_1984_QtdZero").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/livros").requestBodyTemplate(getLivroBody("1984", "George Orwell", 0, CATEGORIA_ID_2, "Distopia clássica.")).scenarioType(ScenarioType.INVALID_INPUT_BAD_REQUEST).expectedHtppStatus(400).build();
+        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_1984_QtdZero").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/livros").requestBodyTemplate(getLivroBody("1984", "George Orwell", 0, CATEGORIA_ID_2, "Distopia clássica.")).scenarioType(ScenarioType.INVALID_INPUT_BAD_REQUEST).expectedHtppStatus(400).writesResources(Set.of(RECURSO_LIVROS)).build();
     }
     private TestCaseConfigDTO getConfigSetup_PequenoPrincipe() {
-        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_PequenoPrincipe").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/livros").requestBodyTemplate(getLivroBody("O Pequeno Príncipe", "Antoine de Saint-Exupéry", 3, CATEGORIA_ID_2, "Encantador.")).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).build();
+        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_PequenoPrincipe").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/livros").requestBodyTemplate(getLivroBody("O Pequeno Príncipe", "Antoine de Saint-Exupéry", 3, CATEGORIA_ID_2, "Encantador.")).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).writesResources(Set.of(RECURSO_LIVROS)).captures(Map.of("livro.pequenoPrincipe.id", "/id")).build();
     }
     private TestCaseConfigDTO getConfigSetup_OHobbit() {
-        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_OHobbit_QtdUm").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/livros").requestBodyTemplate(getLivroBody("O Hobbit", "J.R.R. Tolkien", 1, CATEGORIA_ID_2, "Aventura na Terra Média.")).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).build();
+        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_OHobbit_QtdUm").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/livros").requestBodyTemplate(getLivroBody("O Hobbit", "J.R.R. Tolkien", 1, CATEGORIA_ID_2, "Aventura na Terra Média.")).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).writesResources(Set.of(RECURSO_LIVROS)).captures(Map.of("livro.hobbit.id", "/id")).build();
     }
     private TestCaseConfigDTO getConfigSetup_LivroParaRemover() {
-        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_LivroParaRemover").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/livros").requestBodyTemplate(getLivroBody("A Droga da Obediência", "Pedro Bandeira", 1, CATEGORIA_ID_1, "Série Os Karas.")).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).build();
+        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_LivroParaRemover").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/livros").requestBodyTemplate(getLivroBody("A Droga da Obediência", "Pedro Bandeira", 1, CATEGORIA_ID_1, "Série Os Karas.")).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).writesResources(Set.of(RECURSO_LIVROS)).captures(Map.of("livro.paraRemover.id", "/id")).build();
     }
 
     // =================================================================================
     // 1. CADASTRAR LIVRO (Cenários de Erro)
     // =================================================================================
     private TestCaseConfigDTO getConfigCadastrar_C1_Erro_CategoriaInexistente() {
-        return TestCaseConfigDTO.builder().testName("Cadastrar_C1_Erro_CategoriaInexistente").methodGroupKey(GROUP_1_CADASTRAR).httpMethod("POST").endpoint("/livros").requestBodyTemplate(getLivroBody("Livro com Categoria Ruim", "Autor Desconhecido", 5, CATEGORIA_ID_INEXISTENTE, "Descrição")).scenarioType(ScenarioType.INVALID_INPUT_BAD_REQUEST).expectedHtppStatus(400).build();
+        return TestCaseConfigDTO.builder().testName("Cadastrar_C1_Erro_CategoriaInexistente").methodGroupKey(GROUP_1_CADASTRAR).httpMethod("POST").endpoint("/livros").requestBodyTemplate(getLivroBody("Livro com Categoria Ruim", "Autor Desconhecido", 5, CATEGORIA_ID_INEXISTENTE, "Descrição")).scenarioType(ScenarioType.INVALID_INPUT_BAD_REQUEST).expectedHtppStatus(400).readsResources(Set.of()).build();
     }
     private TestCaseConfigDTO getConfigCadastrar_C2_Erro_NomeEmBranco() {
-        return TestCaseConfigDTO.builder().testName("Cadastrar_C2_Erro_NomeEmBranco").methodGroupKey(GROUP_1_CADASTRAR).httpMethod("POST").endpoint("/livros").requestBodyTemplate(getLivroBody("", "Autor Válido", 5, CATEGORIA_ID_2, "Descrição")).scenarioType(ScenarioType.INVALID_INPUT_BAD_REQUEST).expectedHtppStatus(400).build();
+        return TestCaseConfigDTO.builder().testName("Cadastrar_C2_Erro_NomeEmBranco").methodGroupKey(GROUP_1_CADASTRAR).httpMethod("POST").endpoint("/livros").requestBodyTemplate(getLivroBody("", "Autor Válido", 5, CATEGORIA_ID_2, "Descrição")).scenarioType(ScenarioType.INVALID_INPUT_BAD_REQUEST).expectedHtppStatus(400).readsResources(Set.of()).build();
     }
 
     // =================================================================================
@@ -116,7 +129,8 @@ public class LivroTestService {
                 .queryParamsTemplate(queryParams) // Parâmetros separados
                 .scenarioType(ScenarioType.HAPPY_PATH)
                 .expectedHtppStatus(200)
-                .build();
+                .expectedResponseBodyPattern("size(/content) <= 5 && /number == 0") // Respeita a paginação pedida
+                .readsResources(Set.of(RECURSO_LIVROS)).build();
     }
 
     private TestCaseConfigDTO getConfigBuscar_C2_PorTermoNome() {
@@ -131,7 +145,7 @@ public class LivroTestService {
                 .queryParamsTemplate(queryParams) // Parâmetros separados
                 .scenarioType(ScenarioType.HAPPY_PATH)
                 .expectedHtppStatus(200)
-                .build();
+                .readsResources(Set.of(RECURSO_LIVROS)).build();
     }
 
     private TestCaseConfigDTO getConfigBuscar_C3_PorCategoria() {
@@ -146,37 +160,53 @@ public class LivroTestService {
                 .queryParamsTemplate(queryParams) // Parâmetros separados
                 .scenarioType(ScenarioType.HAPPY_PATH)
                 .expectedHtppStatus(200)
-                .build();
+                .readsResources(Set.of(RECURSO_LIVROS)).build();
     }
 
     // =================================================================================
     // 3. EDITAR LIVRO
     // =================================================================================
     private TestCaseConfigDTO getConfigEditar_C1_Sucesso() {
-        return TestCaseConfigDTO.builder().testName("Editar_C1_Sucesso_TodosCampos").methodGroupKey(GROUP_3_EDITAR).httpMethod("PUT").endpoint("/livros/" + LIVRO_ID_3_SENHOR_ANEIS).requestBodyTemplate(getLivroBody("O Senhor dos Anéis (Ed. Revisada)", "J.R.R. Tolkien", 12, CATEGORIA_ID_2, "Nova descrição épica.")).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).build();
+        return TestCaseConfigDTO.builder().testName("Editar_C1_Sucesso_TodosCampos").methodGroupKey(GROUP_3_EDITAR).httpMethod("PUT").endpoint("/livros/" + LIVRO_ID_3_SENHOR_ANEIS).requestBodyTemplate(getLivroBody("O Senhor dos Anéis (Ed. Revisada)", "J.R.R. Tolkien", 12, CATEGORIA_ID_2, "Nova descrição épica.")).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).writesResources(Set.of(RECURSO_LIVROS)).build();
     }
     private TestCaseConfigDTO getConfigEditar_C2_Erro_NaoExiste() {
-        return TestCaseConfigDTO.builder().testName("Editar_C2_Erro_NaoExiste").methodGroupKey(GROUP_3_EDITAR).httpMethod("PUT").endpoint("/livros/" + LIVRO_ID_INEXISTENTE).requestBodyTemplate(getLivroBody("Nome Qualquer", "Autor Qualquer", 5, CATEGORIA_ID_1, "Desc")).scenarioType(ScenarioType.RESOURCE_NOT_FOUND).expectedHtppStatus(404).build();
+        return TestCaseConfigDTO.builder().testName("Editar_C2_Erro_NaoExiste").methodGroupKey(GROUP_3_EDITAR).httpMethod("PUT").endpoint("/livros/" + LIVRO_ID_INEXISTENTE).requestBodyTemplate(getLivroBody("Nome Qualquer", "Autor Qualquer", 5, CATEGORIA_ID_1, "Desc")).scenarioType(ScenarioType.RESOURCE_NOT_FOUND).expectedHtppStatus(404).readsResources(Set.of()).build();
     }
     private TestCaseConfigDTO getConfigEditar_C3_Erro_CategoriaInexistente() {
-        return TestCaseConfigDTO.builder().testName("Editar_C3_Erro_CategoriaInexistente").methodGroupKey(GROUP_3_EDITAR).httpMethod("PUT").endpoint("/livros/" + LIVRO_ID_2_DOM_CASMURRO).requestBodyTemplate(getLivroBody("Dom Casmurro", "Machado de Assis", 7, CATEGORIA_ID_INEXISTENTE, "Clássico.")).scenarioType(ScenarioType.INVALID_INPUT_BAD_REQUEST).expectedHtppStatus(400).build();
+        return TestCaseConfigDTO.builder().testName("Editar_C3_Erro_CategoriaInexistente").methodGroupKey(GROUP_3_EDITAR).httpMethod("PUT").endpoint("/livros/" + LIVRO_ID_2_DOM_CASMURRO).requestBodyTemplate(getLivroBody("Dom Casmurro", "Machado de Assis", 7, CATEGORIA_ID_INEXISTENTE, "Clássico.")).scenarioType(ScenarioType.INVALID_INPUT_BAD_REQUEST).expectedHtppStatus(400).readsResources(Set.of(RECURSO_LIVROS)).build();
     }
 
     // =================================================================================
     // 4. REMOVER LIVRO
     // =================================================================================
     private TestCaseConfigDTO getConfigRemover_C1_Sucesso_SemEmprestimo() {
-        return TestCaseConfigDTO.builder().testName("Remover_C1_Sucesso_SemEmprestimo").methodGroupKey(GROUP_4_REMOVER).httpMethod("DELETE").endpoint("/livros/" + LIVRO_ID_6_O_HOBBIT).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(204).build();
+        return TestCaseConfigDTO.builder().testName("Remover_C1_Sucesso_SemEmprestimo").methodGroupKey(GROUP_4_REMOVER).httpMethod("DELETE").endpoint("/livros/" + LIVRO_ID_6_O_HOBBIT).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(204).writesResources(Set.of(RECURSO_LIVROS)).build();
     }
 
     private TestCaseConfigDTO getConfigRemover_C3_Erro_NaoExiste() {
-        return TestCaseConfigDTO.builder().testName("Remover_C3_Erro_NaoExiste").methodGroupKey(GROUP_4_REMOVER).httpMethod("DELETE").endpoint("/livros/" + LIVRO_ID_INEXISTENTE).scenarioType(ScenarioType.RESOURCE_NOT_FOUND).expectedHtppStatus(404).build();
+        return TestCaseConfigDTO.builder().testName("Remover_C3_Erro_NaoExiste").methodGroupKey(GROUP_4_REMOVER).httpMethod("DELETE").endpoint("/livros/" + LIVRO_ID_INEXISTENTE).scenarioType(ScenarioType.RESOURCE_NOT_FOUND).expectedHtppStatus(404).readsResources(Set.of()).build();
     }
     private TestCaseConfigDTO getConfigRemover_C4_Erro_JaRemovido() {
-        return TestCaseConfigDTO.builder().testName("Remover_C4_Erro_JaRemovido").methodGroupKey(GROUP_4_REMOVER).httpMethod("DELETE").endpoint("/livros/" + LIVRO_ID_7_PARA_REMOVER).scenarioType(ScenarioType.RESOURCE_NOT_FOUND).expectedHtppStatus(404).build();
+        return TestCaseConfigDTO.builder().testName("Remover_C4_Erro_JaRemovido").methodGroupKey(GROUP_4_REMOVER).httpMethod("DELETE").endpoint("/livros/" + LIVRO_ID_7_PARA_REMOVER).scenarioType(ScenarioType.RESOURCE_NOT_FOUND).expectedHtppStatus(404).readsResources(Set.of(RECURSO_LIVROS)).build();
     }
 
-    public Mono<ModuleTestDTO> runAllLivroTests() {
+    @Override
+    public String getModuleKey() {
+        return "livros";
+    }
+
+    @Override
+    public String getModuleName() {
+        return "Livros";
+    }
+
+    @Override
+    public Set<String> namespacedFields() {
+        return Set.of("nome");
+    }
+
+    @Override
+    public List<TestCaseConfigDTO> buildTestConfigs() {
         List<TestCaseConfigDTO> testConfigsInOrder = new ArrayList<>();
 
         // FASE 0: SETUP
@@ -207,46 +237,23 @@ public class LivroTestService {
         testConfigsInOrder.add(getConfigRemover_C4_Erro_JaRemovido());
         testConfigsInOrder.add(getConfigRemover_C3_Erro_NaoExiste());
 
-        return Flux.fromIterable(testConfigsInOrder)
-                .concatMap(this::executeAndLog)
-                .collectList()
-                .map(allIndividualResults -> {
-                    Map<String, List<TestResult>> groupedByMethod = allIndividualResults.stream()
-                            .filter(tr -> tr.getMethodGroupKey() != null)
-                            .collect(Collectors.groupingBy(TestResult::getMethodGroupKey));
-
-                    List<MethodTestDTO> methodSummaries = new ArrayList<>();
-                    for (Map.Entry<String, List<TestResult>> entry : groupedByMethod.entrySet()) {
-                        String methodGroupKey = entry.getKey();
-                        List<TestResult> testsInGroup = entry.getValue();
-                        int totalInGroup = testsInGroup.size();
-                        long successfulInGroup = testsInGroup.stream().filter(TestResult::isSuccess).count();
-                        double avgDuration = testsInGroup.stream().mapToLong(TestResult::getDurationMillis).average().orElse(0.0);
-                        Double avgMemory = testsInGroup.stream().filter(tr -> tr.getTargetServiceMemoryUsedMB() != null).mapToDouble(TestResult::getTargetServiceMemoryUsedMB).average().orElse(0.0);
-
-                        methodSummaries.add(MethodTestDTO.builder()
-                                .methodName(methodGroupKey)
-                                .totalTests(totalInGroup)
-                                .successTests((int) successfulInGroup)
-                                .failedTests(totalInGroup - (int) successfulInGroup)
-                                .avarageDurationMillisInGroup(avgDuration)
-                                .avarageMemoryUsageMbInGroup(avgMemory)
-                                .individualTestResults(testsInGroup)
-                                .build());
-                    }
-
-                    int totalModuleTests = allIndividualResults.size();
-                    long successfulModuleTests = allIndividualResults.stream().filter(TestResult::isSuccess).count();
-                    double moduleSuccessPercentage = (totalModuleTests > 0) ? ((double) successfulModuleTests / totalModuleTests) * 100.0 : 0.0;
-
-                    return ModuleTestDTO.builder()
-                            .moduleName("Livros")
-                            .totalTests(totalModuleTests)
-                            .sucessfulTests((int) successfulModuleTests)
-                            .failedTests(totalModuleTests - (int) successfulModuleTests)
-                            .successPercentage(moduleSuccessPercentage)
-                            .methodTestsResults(methodSummaries)
-                            .build();
-                });
-    }
-}
\ No newline at end of file
+        testConfigsInOrder.forEach(config -> config.setTargetService(getModuleName()));
+        return testConfigsInOrder;
+    }
+
+    public Mono<ModuleTestDTO> runAllLivroTests() {
+        return runAllLivroTests(RunContext.shared());
+    }
+
+    public Mono<ModuleTestDTO> runAllLivroTests(RunContext runContext) {
+        return suiteRunner.run(this, runContext);
+    }
+
+    @Override
+    public Flux<TestResult> executeTests(RunContext runContext) {
+        List<TestCaseConfigDTO> testConfigsInOrder = buildTestConfigs(runContext);
+
+        return testCaseScheduler.schedule(testConfigsInOrder, config -> executeAndLog(config, runContext))
+                .transform(targetMetricsSampler::track);
+    }
+}
@@ -0,0 +1,430 @@
+package br.com.lottus.auxina.service;
+
+import br.com.lottus.auxina.dto.ArrivalRateConfigDTO;
+import br.com.lottus.auxina.dto.ExecutionEngine;
+import br.com.lottus.auxina.dto.GeneratorHealthDTO;
+import br.com.lottus.auxina.dto.LoadTestConfigDTO;
+import br.com.lottus.auxina.dto.ModuleTestDTO;
+import br.com.lottus.auxina.dto.RunEventDTO;
+import br.com.lottus.auxina.dto.TestCaseConfigDTO;
+import br.com.lottus.auxina.dto.TestResult;
+import br.com.lottus.auxina.dto.WorkerLoadRequestDTO;
+import br.com.lottus.auxina.dto.WorkerLoadResultDTO;
+import br.com.lottus.auxina.service.engine.ArrivalRateScheduler;
+import br.com.lottus.auxina.service.engine.GeneratorHealthMonitor;
+import br.com.lottus.auxina.service.engine.LoadTestAccumulator;
+import br.com.lottus.auxina.service.engine.PreparedTestCase;
+import br.com.lottus.auxina.service.engine.ResultStreamer;
+import br.com.lottus.auxina.service.engine.RunContext;
+import br.com.lottus.auxina.service.engine.TargetMetricsSampler;
+import br.com.lottus.auxina.service.engine.TestExecutionService;
+import br.com.lottus.auxina.service.engine.TestRequest;
+import br.com.lottus.auxina.service.engine.WarmupPhase;
+import br.com.lottus.auxina.service.engine.WarmupPhaseFactory;
+import br.com.lottus.auxina.service.history.RegressionAnalyzer;
+import br.com.lottus.auxina.service.history.RunHistoryStore;
+import br.com.lottus.auxina.service.history.RunRecorder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Executa as suítes dos módulos como geradoras de carga, reutilizando os mesmos TestCaseConfigDTO.
+ * Apenas os casos somente-leitura (GET) participam, para que a carga possa ser repetida sem alterar a base.
+ */
+@Slf4j
+@Service
+public class LoadTestService {
+
+    static final String MODE_CLOSED_MODEL = "CLOSED_MODEL";
+    static final String MODE_OPEN_MODEL = "OPEN_MODEL";
+
+    private final TestExecutionService testExecutionService;
+    private final TargetMetricsSampler targetMetricsSampler;
+    private final GeneratorHealthMonitor generatorHealthMonitor;
+    private final ResultStreamer resultStreamer;
+    private final RunHistoryStore runHistoryStore;
+    private final RegressionAnalyzer regressionAnalyzer;
+    private final WarmupPhaseFactory warmupPhaseFactory;
+    private final Map<String, ModuleTestSuite> suitesByKey;
+
+    public LoadTestService(TestExecutionService testExecutionService, TargetMetricsSampler targetMetricsSampler,
+                           GeneratorHealthMonitor generatorHealthMonitor, ResultStreamer resultStreamer, RunHistoryStore runHistoryStore,
+                           RegressionAnalyzer regressionAnalyzer, WarmupPhaseFactory warmupPhaseFactory, List<ModuleTestSuite> suites) {
+        this.testExecutionService = testExecutionService;
+        this.targetMetricsSampler = targetMetricsSampler;
+        this.generatorHealthMonitor = generatorHealthMonitor;
+        this.resultStreamer = resultStreamer;
+        this.runHistoryStore = runHistoryStore;
+        this.regressionAnalyzer = regressionAnalyzer;
+        this.warmupPhaseFactory = warmupPhaseFactory;
+        this.suitesByKey = suites.stream().collect(Collectors.toMap(ModuleTestSuite::getModuleKey, Function.identity()));
+    }
+
+    /**
+     * Modelo fechado: N usuários virtuais, cada um repetindo os casos somente-leitura da suíte
+     * em sequência até atingir a duração ou o número de iterações configurados.
+     */
+    public Mono<ModuleTestDTO> runClosedModel(String moduleKey, LoadTestConfigDTO loadConfig) {
+        Supplier<LoadRun> closedModel = closedModel(moduleKey, loadConfig);
+        return Mono.defer(() -> {
+            LoadRun run = closedModel.get();
+            return run.results().then(run.report());
+        });
+    }
+
+    /** Igual a {@link #runClosedModel}, emitindo agregados parciais durante a carga e o relatório como último evento. */
+    public Flux<RunEventDTO> streamClosedModel(String moduleKey, LoadTestConfigDTO loadConfig) {
+        Supplier<LoadRun> closedModel = closedModel(moduleKey, loadConfig);
+        return Flux.defer(() -> {
+            LoadRun run = closedModel.get();
+            return resultStreamer.stream(run.moduleName(), run.results(), false, run.report());
+        });
+    }
+
+    /**
+     * Modelo aberto: dispara os casos somente-leitura numa taxa de chegada fixa ou em rampa,
+     * reportando a latência do envio efetivo e a corrigida a partir do instante planejado de cada disparo.
+     */
+    public Mono<ModuleTestDTO> runOpenModel(String moduleKey, ArrivalRateConfigDTO rateConfig) {
+        Supplier<LoadRun> openModel = openModel(moduleKey, rateConfig);
+        return Mono.defer(() -> {
+            LoadRun run = openModel.get();
+            return run.results().then(run.report());
+        });
+    }
+
+    /** Igual a {@link #runOpenModel}, emitindo agregados parciais durante a carga e o relatório como último evento. */
+    public Flux<RunEventDTO> streamOpenModel(String moduleKey, ArrivalRateConfigDTO rateConfig) {
+        Supplier<LoadRun> openModel = openModel(moduleKey, rateConfig);
+        return Flux.defer(() -> {
+            LoadRun run = openModel.get();
+            return resultStreamer.stream(run.moduleName(), run.results(), false, run.report());
+        });
+    }
+
+    /**
+     * Parcela de uma carga distribuída (ver DistributedLoadService): espera o instante combinado com os demais
+     * workers, executa o modelo pedido como uma carga local e devolve o relatório junto dos histogramas exportados.
+     */
+    public Mono<WorkerLoadResultDTO> runWorkerShare(String moduleKey, WorkerLoadRequestDTO request) {
+        if ((request.getClosedModel() == null) == (request.getOpenModel() == null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Informe exatamente um entre closedModel e openModel");
+        }
+        Supplier<LoadRun> share = request.getClosedModel() != null
+                ? closedModel(moduleKey, request.getClosedModel())
+                : openModel(moduleKey, request.getOpenModel());
+        long waitMillis = Math.max(0, request.getStartAtEpochMillis() - System.currentTimeMillis());
+        return Mono.delay(Duration.ofMillis(waitMillis))
+                .then(Mono.defer(() -> {
+                    long startedAtEpochMillis = System.currentTimeMillis();
+                    LoadRun run = share.get();
+                    return run.results().then(run.report())
+                            .map(report -> WorkerLoadResultDTO.builder()
+                                    .startedAtEpochMillis(startedAtEpochMillis)
+                                    .report(report)
+                                    .cases(run.accumulator().export())
+                                    .build());
+                }));
+    }
+
+    /** Resultados de uma execução de carga (já contabilizados e gravados) e o relatório, montado após o término. */
+    private record LoadRun(String moduleName, Flux<TestResult> results, Mono<ModuleTestDTO> report,
+                           LoadTestAccumulator accumulator) {
+    }
+
+    // Grava os resultados no histórico e, após o relatório, compara com o baseline pedido
+    private LoadRun recorded(String moduleName, String executionMode, LoadTestAccumulator accumulator, Flux<TestResult> results,
+                             String baselineRunId, Integer baselineWindow, Supplier<ModuleTestDTO> report) {
+        String runId = RunContext.shared().getRunId();
+        RunRecorder recorder = runHistoryStore.open(runId, moduleName, executionMode);
+        return new LoadRun(moduleName, results.doOnNext(recorder::record), Mono.fromSupplier(report)
+                .doOnNext(dto -> dto.setRunId(runId))
+                .flatMap(dto -> recorder.complete(dto)
+                        .then(regressionAnalyzer.analyze(runId, moduleName, baselineRunId, baselineWindow))
+                        .doOnNext(dto::setRegression)
+                        .thenReturn(dto)), accumulator);
+    }
+
+    // Validação e preparo acontecem na chamada; cada get() cria uma execução nova
+    private Supplier<LoadRun> closedModel(String moduleKey, LoadTestConfigDTO loadConfig) {
+        validate(loadConfig);
+        ModuleTestSuite suite = resolveSuite(moduleKey);
+        List<TestCaseConfigDTO> readOnlyCases = readOnlyCases(suite);
+        List<PreparedTestCase> preparedCases = prepareForLoad(readOnlyCases);
+        int virtualUsers = loadConfig.getVirtualUsers();
+        ExecutionEngine engine = engineOf(loadConfig.getEngine());
+        long intervalNanos = loadConfig.getRatePerUserPerSecond() != null
+                ? Math.round(1_000_000_000.0 / loadConfig.getRatePerUserPerSecond()) : 0L;
+
+        return () -> {
+            LoadTestAccumulator accumulator = new LoadTestAccumulator(readOnlyCases, intervalNanos > 0);
+            WarmupPhase warmup = warmupPhaseFactory.create(loadConfig.getWarmup(), readOnlyCases.size() * virtualUsers);
+            GeneratorHealthMonitor.Run health = generatorHealthMonitor.startRun();
+            AtomicLong startNanos = new AtomicLong();
+
+            Flux<TestResult> measured = runVirtualUsers(preparedCases, virtualUsers, loadConfig.getIterations(), engine, intervalNanos);
+            if (loadConfig.getDurationSeconds() != null) {
+                measured = measured.take(Duration.ofSeconds(loadConfig.getDurationSeconds()));
+            }
+            measured = measured.transform(health::track).doOnSubscribe(subscription -> {
+                startNanos.set(System.nanoTime());
+                log.info("🚀 INICIANDO CARGA (modelo fechado) em {}: {} usuários virtuais, duração={}s, iterações={}, ritmo={} req/s por usuário, motor={}",
+                        suite.getModuleName(), virtualUsers, loadConfig.getDurationSeconds(), loadConfig.getIterations(),
+                        loadConfig.getRatePerUserPerSecond(), engine);
+            });
+
+            Flux<TestResult> results = withWarmup(warmup, suite,
+                    () -> runVirtualUsers(prepareForWarmup(readOnlyCases), virtualUsers, null, engine, intervalNanos), measured);
+
+            return recorded(suite.getModuleName(), MODE_CLOSED_MODEL, accumulator,
+                    results.transform(targetMetricsSampler::track).doOnNext(health::mark).doOnNext(accumulator::record),
+                    loadConfig.getBaselineRunId(), loadConfig.getBaselineWindow(), () -> {
+                        ModuleTestDTO report = accumulator.toModuleTestDTO(
+                                suite.getModuleName(), MODE_CLOSED_MODEL, virtualUsers, System.nanoTime() - startNanos.get());
+                        report.setWarmup(warmup != null ? warmup.toSummary() : null);
+                        report.setEngine(engine);
+                        report.setGeneratorHealth(generatorHealth(suite, health));
+                        return report;
+                    });
+        };
+    }
+
+    private Supplier<LoadRun> openModel(String moduleKey, ArrivalRateConfigDTO rateConfig) {
+        validate(rateConfig);
+        ModuleTestSuite suite = resolveSuite(moduleKey);
+        List<TestCaseConfigDTO> readOnlyCases = readOnlyCases(suite);
+        List<PreparedTestCase> preparedCases = prepareForLoad(readOnlyCases);
+        double endRate = rateConfig.getEndRatePerSecond() != null ? rateConfig.getEndRatePerSecond() : rateConfig.getStartRatePerSecond();
+        ExecutionEngine engine = engineOf(rateConfig.getEngine());
+        ArrivalRateScheduler.TestDispatcher dispatcher =
+                (testCase, intendedStartNanos) -> testExecutionService.executeTest(testCase, intendedStartNanos, engine);
+
+        return () -> {
+            LoadTestAccumulator accumulator = new LoadTestAccumulator(readOnlyCases, true);
+            ArrivalRateScheduler scheduler = new ArrivalRateScheduler(
+                    rateConfig.getStartRatePerSecond(), endRate, rateConfig.getDurationSeconds(), rateConfig.getMaxInFlight());
+            WarmupPhase warmup = warmupPhaseFactory.create(rateConfig.getWarmup(), readOnlyCases.size());
+            GeneratorHealthMonitor.Run health = generatorHealthMonitor.startRun();
+            AtomicLong startNanos = new AtomicLong();
+
+            Flux<TestResult> measured = scheduler.run(preparedCases, dispatcher)
+                    .transform(health::track)
+                    .doOnSubscribe(subscription -> {
+                        startNanos.set(System.nanoTime());
+                        log.info("🚀 INICIANDO CARGA (modelo aberto) em {}: {}→{} req/s por {}s, máximo em voo={}, motor={}",
+                                suite.getModuleName(), rateConfig.getStartRatePerSecond(), endRate, rateConfig.getDurationSeconds(),
+                                rateConfig.getMaxInFlight(), engine);
+                    });
+
+            // Aquecimento em taxa constante (a inicial, ou a final em rampas que partem de zero);
+            // o fim vem do critério do aquecimento
+            double warmupRate = rateConfig.getStartRatePerSecond() > 0 ? rateConfig.getStartRatePerSecond() : endRate;
+            Flux<TestResult> results = withWarmup(warmup, suite, () -> new ArrivalRateScheduler(
+                    warmupRate, warmupRate, Integer.MAX_VALUE, rateConfig.getMaxInFlight())
+                    .run(prepareForWarmup(readOnlyCases), dispatcher), measured);
+
+            return recorded(suite.getModuleName(), MODE_OPEN_MODEL, accumulator,
+                    results.transform(targetMetricsSampler::track).doOnNext(health::mark).doOnNext(accumulator::record),
+                    rateConfig.getBaselineRunId(), rateConfig.getBaselineWindow(), () -> {
+                ModuleTestDTO report = accumulator.toModuleTestDTO(
+                        suite.getModuleName(), MODE_OPEN_MODEL, null, System.nanoTime() - startNanos.get());
+                report.setWarmup(warmup != null ? warmup.toSummary() : null);
+                report.setEngine(engine);
+                report.setGeneratorHealth(generatorHealth(suite, health));
+                report.setTargetStartRatePerSecond(rateConfig.getStartRatePerSecond());
+                report.setTargetEndRatePerSecond(endRate);
+                report.setScheduledRequests(scheduler.getScheduledRequests());
+                report.setDroppedRequests(scheduler.getDroppedRequests());
+                if (scheduler.getDroppedRequests() > 0) {
+                    log.warn("⚠️  {} requisições descartadas por atingir o limite de {} em voo",
+                            scheduler.getDroppedRequests(), rateConfig.getMaxInFlight());
+                }
+                return report;
+            });
+        };
+    }
+
+    /**
+     * Usuários virtuais do modelo fechado. No motor REACTIVE cada usuário é uma cadeia reativa; em VIRTUAL_THREADS
+     * cada usuário é uma virtual thread executando os casos em sequência com chamadas bloqueantes.
+     * Com {@code intervalNanos} positivo a n-ésima requisição de cada usuário é planejada para início + n × intervalo:
+     * o usuário espera se estiver adiantado e, se atrasado por respostas lentas, envia logo, com o atraso na latência corrigida.
+     */
+    private Flux<TestResult> runVirtualUsers(List<PreparedTestCase> cases, int virtualUsers, Integer iterations,
+                                             ExecutionEngine engine, long intervalNanos) {
+        if (engine == ExecutionEngine.VIRTUAL_THREADS) {
+            return Flux.create(sink -> {
+                AtomicInteger running = new AtomicInteger(virtualUsers);
+                ExecutorService threads = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("auxina-vu-", 0).factory());
+                // Cancelamento (ex.: cliente desconectou do stream): interrompe requisições em voo e esperas do ritmo
+                sink.onDispose(threads::shutdownNow);
+                for (int virtualUser = 0; virtualUser < virtualUsers; virtualUser++) {
+                    threads.execute(() -> {
+                        try {
+                            runBlockingVirtualUser(cases, iterations, intervalNanos, sink);
+                        } finally {
+                            if (running.decrementAndGet() == 0) {
+                                sink.complete();
+                            }
+                        }
+                    });
+                }
+            });
+        }
+        return Flux.range(0, virtualUsers).flatMap(virtualUser -> runVirtualUser(cases, iterations, intervalNanos), virtualUsers);
+    }
+
+    private Flux<TestResult> runVirtualUser(List<PreparedTestCase> cases, Integer iterations, long intervalNanos) {
+        if (intervalNanos <= 0) {
+            Flux<TestResult> iteration = Flux.fromIterable(cases).concatMap(testExecutionService::executeTest);
+            return iterations != null ? iteration.repeat(iterations - 1L) : iteration.repeat();
+        }
+        return Flux.defer(() -> {
+            long startNanos = System.nanoTime();
+            Flux<Long> sequence = Flux.generate(() -> 0L, (index, sink) -> {
+                sink.next(index);
+                return index + 1;
+            });
+            if (iterations != null) {
+                sequence = sequence.take((long) iterations * cases.size());
+            }
+            return sequence.concatMap(index -> paced(cases.get((int) (index % cases.size())), startNanos + index * intervalNanos));
+        });
+    }
+
+    private Mono<TestResult> paced(PreparedTestCase testCase, long intendedStartNanos) {
+        Mono<TestResult> execution = testExecutionService.executeTest(testCase, intendedStartNanos);
+        long waitNanos = intendedStartNanos - System.nanoTime();
+        return waitNanos > 0 ? Mono.delay(Duration.ofNanos(waitNanos)).then(execution) : execution;
+    }
+
+    // Encerrado pelo cancelamento (duração ou fim do aquecimento): a requisição em voo termina e não é emitida
+    private void runBlockingVirtualUser(List<PreparedTestCase> cases, Integer iterations, long intervalNanos,
+                                        FluxSink<TestResult> sink) {
+        long startNanos = System.nanoTime();
+        long index = 0;
+        for (long iteration = 0; iterations == null || iteration < iterations; iteration++) {
+            for (PreparedTestCase testCase : cases) {
+                if (sink.isCancelled() || Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                long intendedStartNanos = TestRequest.UNSCHEDULED;
+                if (intervalNanos > 0) {
+                    intendedStartNanos = startNanos + index++ * intervalNanos;
+                    if (!sleepUntil(intendedStartNanos)) {
+                        return;
+                    }
+                }
+                sink.next(testExecutionService.executeBlocking(testCase, intendedStartNanos));
+            }
+        }
+    }
+
+    private static boolean sleepUntil(long nanos) {
+        long waitNanos = nanos - System.nanoTime();
+        if (waitNanos > 0) {
+            try {
+                Thread.sleep(Duration.ofNanos(waitNanos));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static GeneratorHealthDTO generatorHealth(ModuleTestSuite suite, GeneratorHealthMonitor.Run health) {
+        GeneratorHealthDTO summary = health.toSummary();
+        if (summary.isOverloaded()) {
+            log.warn("⚠️  Carga em {} executada com o gerador sobrecarregado ({}): {} resultados ({}%) com latência suspeita",
+                    suite.getModuleName(), summary.getOverloadConditions(), summary.getOverloadedResults(),
+                    String.format("%.1f", summary.getOverloadedResultsPercentage()));
+        }
+        return summary;
+    }
+
+    private static ExecutionEngine engineOf(ExecutionEngine requested) {
+        return requested != null ? requested : ExecutionEngine.REACTIVE;
+    }
+
+    // Tráfego de aquecimento descartado antes da medição; os resultados ficam apenas no resumo do aquecimento
+    private Flux<TestResult> withWarmup(WarmupPhase warmup, ModuleTestSuite suite, Supplier<Flux<TestResult>> warmupTraffic,
+                                        Flux<TestResult> measured) {
+        if (warmup == null) {
+            return measured;
+        }
+        return warmup.run(Flux.defer(warmupTraffic))
+                .doOnSubscribe(subscription -> log.info("🔥 AQUECENDO {} antes da carga", suite.getModuleName()))
+                .doOnSuccess(done -> log.info("🔥 Aquecimento de {} concluído: {}", suite.getModuleName(), warmup.toSummary()))
+                .thenMany(measured);
+    }
+
+    private List<PreparedTestCase> prepareForWarmup(List<TestCaseConfigDTO> cases) {
+        return cases.stream().map(testExecutionService::prepareWarmup).toList();
+    }
+
+    private List<PreparedTestCase> prepareForLoad(List<TestCaseConfigDTO> cases) {
+        return cases.stream().map(config -> testExecutionService.prepare(config, false)).toList();
+    }
+
+    ModuleTestSuite resolveSuite(String moduleKey) {
+        ModuleTestSuite suite = suitesByKey.get(moduleKey);
+        if (suite == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Módulo desconhecido: " + moduleKey);
+        }
+        return suite;
+    }
+
+    List<TestCaseConfigDTO> readOnlyCases(ModuleTestSuite suite) {
+        List<TestCaseConfigDTO> readOnlyCases = suite.readOnlyTestConfigs();
+        if (readOnlyCases.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "O módulo " + suite.getModuleName() + " não possui casos somente-leitura");
+        }
+        return readOnlyCases;
+    }
+
+    void validate(ArrivalRateConfigDTO rateConfig) {
+        double endRate = rateConfig.getEndRatePerSecond() != null ? rateConfig.getEndRatePerSecond() : rateConfig.getStartRatePerSecond();
+        if (rateConfig.getStartRatePerSecond() < 0 || endRate < 0 || (rateConfig.getStartRatePerSecond() == 0 && endRate == 0)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "As taxas de chegada devem ser positivas");
+        }
+        if (rateConfig.getDurationSeconds() < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "durationSeconds deve ser maior que zero");
+        }
+        if (rateConfig.getMaxInFlight() < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "maxInFlight deve ser maior que zero");
+        }
+    }
+
+    void validate(LoadTestConfigDTO loadConfig) {
+        if (loadConfig.getVirtualUsers() < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "virtualUsers deve ser maior que zero");
+        }
+        if (loadConfig.getDurationSeconds() == null && loadConfig.getIterations() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Informe durationSeconds ou iterations");
+        }
+        if ((loadConfig.getDurationSeconds() != null && loadConfig.getDurationSeconds() < 1)
+                || (loadConfig.getIterations() != null && loadConfig.getIterations() < 1)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "durationSeconds e iterations devem ser maiores que zero");
+        }
+        if (loadConfig.getRatePerUserPerSecond() != null && loadConfig.getRatePerUserPerSecond() <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ratePerUserPerSecond deve ser maior que zero");
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.lottus.auxina.service;
+
+import br.com.lottus.auxina.dto.RunEventDTO;
+import br.com.lottus.auxina.dto.RunOptionsDTO;
+import br.com.lottus.auxina.service.engine.RunContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Variante em streaming das suítes funcionais: emite cada TestResult assim que o caso termina,
+ * agregados parciais periódicos e o ModuleTestDTO final como último evento.
+ */
+@Service
+public class ModuleStreamService {
+
+    private final Map<String, ModuleTestSuite> suitesByKey;
+    private final SuiteRunner suiteRunner;
+
+    public ModuleStreamService(List<ModuleTestSuite> suites, SuiteRunner suiteRunner) {
+        this.suitesByKey = suites.stream().collect(Collectors.toMap(ModuleTestSuite::getModuleKey, Function.identity()));
+        this.suiteRunner = suiteRunner;
+    }
+
+    public Flux<RunEventDTO> streamSuite(String moduleKey, RunOptionsDTO options) {
+        ModuleTestSuite suite = suitesByKey.get(moduleKey);
+        if (suite == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Módulo desconhecido: " + moduleKey);
+        }
+        return Flux.defer(() -> suiteRunner.stream(suite, RunContext.shared().configure(options)));
+    }
+}
@@ -0,0 +1,52 @@
+package br.com.lottus.auxina.service;
+
+import br.com.lottus.auxina.dto.TestCaseConfigDTO;
+import br.com.lottus.auxina.dto.TestResult;
+import br.com.lottus.auxina.service.engine.RunContext;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Contrato comum das suítes de teste de cada módulo (Livro, Aluno, Empréstimo, Turma, Categoria).
+ * Permite que outros modos de execução (ex.: carga) reutilizem os mesmos casos de teste.
+ */
+public interface ModuleTestSuite {
+
+    /**
+     * ID dos cenários "não encontrado". Sem limpeza entre execuções os IDs auto-incrementados continuam crescendo,
+     * e um valor pequeno (ex.: 999) acabaria apontando para uma entidade real; o maior int nunca é alcançado
+     * e ainda é aceito por alvos que tipam o ID como int ou long.
+     */
+    String ID_INEXISTENTE = String.valueOf(Integer.MAX_VALUE);
+
+    /** Chave usada nos endpoints, igual ao sufixo de /module/* (ex.: "livros"). */
+    String getModuleKey();
+
+    /** Nome exibido no ModuleTestDTO. */
+    String getModuleName();
+
+    /** Monta a lista de casos de teste da suíte, na ordem de execução. */
+    List<TestCaseConfigDTO> buildTestConfigs();
+
+    /** Casos somente-leitura (GET): podem ser repetidos sem alterar a base (carga, aquecimento). */
+    default List<TestCaseConfigDTO> readOnlyTestConfigs() {
+        return buildTestConfigs().stream()
+                .filter(config -> "GET".equalsIgnoreCase(config.getHttpMethod()))
+                .toList();
+    }
+
+    /** Campos do corpo que identificam a entidade de forma única e recebem o namespace da execução. */
+    default Set<String> namespacedFields() {
+        return Set.of();
+    }
+
+    /** Casos da suíte para uma execução específica (runId e namespace aplicados). */
+    default List<TestCaseConfigDTO> buildTestConfigs(RunContext runContext) {
+        return runContext.apply(buildTestConfigs(), namespacedFields());
+    }
+
+    /** Executa a suíte emitindo cada TestResult assim que o caso termina. */
+    Flux<TestResult> executeTests(RunContext runContext);
+}
@@ -0,0 +1,89 @@
+package br.com.lottus.auxina.service;
+
+import br.com.lottus.auxina.dto.ModuleTestDTO;
+import br.com.lottus.auxina.dto.RegressionVerdict;
+import br.com.lottus.auxina.dto.RunOptionsDTO;
+import br.com.lottus.auxina.dto.RunReportDTO;
+import br.com.lottus.auxina.service.engine.RunContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Executa as suítes de todos os módulos numa única execução, respeitando as dependências de dados entre eles:
+ * Categoria e Turma não dependem de ninguém; Livro precisa das categorias, Aluno das turmas,
+ * e Empréstimo de alunos e livros. Módulos sem dependência entre si rodam em paralelo.
+ */
+@Slf4j
+@Service
+public class RunAllService {
+
+    private final CategoriaTestService categoriaTestService;
+    private final TurmaTestService turmaTestService;
+    private final AlunoTestService alunoTestService;
+    private final LivroTestService livroTestService;
+    private final EmprestimoTestService emprestimoTestService;
+
+    public RunAllService(CategoriaTestService categoriaTestService, TurmaTestService turmaTestService,
+                         AlunoTestService alunoTestService, LivroTestService livroTestService,
+                         EmprestimoTestService emprestimoTestService) {
+        this.categoriaTestService = categoriaTestService;
+        this.turmaTestService = turmaTestService;
+        this.alunoTestService = alunoTestService;
+        this.livroTestService = livroTestService;
+        this.emprestimoTestService = emprestimoTestService;
+    }
+
+    /** Executa todas as suítes no motor escolhido; com baseline informado, cada módulo é comparado com ele ao final. */
+    public Mono<RunReportDTO> runAll(String namespace, RunOptionsDTO options) {
+        return Mono.defer(() -> {
+            RunContext runContext = RunContext.isolated(namespace).configure(options);
+            long startNanos = System.nanoTime();
+            log.info("Iniciando execução completa {} (namespace {})", runContext.getRunId(), runContext.getNamespace());
+
+            // cache(): cada suíte roda uma única vez, mesmo sendo dependência de mais de um módulo
+            Mono<ModuleTestDTO> categorias = categoriaTestService.runAllCategoriaTests(runContext).cache();
+            Mono<ModuleTestDTO> turmas = turmaTestService.runAllTurmaTests(runContext).cache();
+            Mono<ModuleTestDTO> alunos = turmas.then(alunoTestService.runAllAlunoTests(runContext)).cache();
+            Mono<ModuleTestDTO> livros = categorias.then(livroTestService.runAllLivroTests(runContext)).cache();
+            Mono<ModuleTestDTO> emprestimos = Mono.when(alunos, livros)
+                    .then(emprestimoTestService.runAllEmprestimoTests(runContext));
+
+            return Mono.zip(categorias, turmas, alunos, livros, emprestimos)
+                    .map(results -> buildReport(runContext,
+                            List.of(results.getT1(), results.getT2(), results.getT3(), results.getT4(), results.getT5()),
+                            System.nanoTime() - startNanos));
+        });
+    }
+
+    private RunReportDTO buildReport(RunContext runContext, List<ModuleTestDTO> moduleResults, long elapsedNanos) {
+        int total = moduleResults.stream().mapToInt(ModuleTestDTO::getTotalTests).sum();
+        int successful = moduleResults.stream().mapToInt(ModuleTestDTO::getSucessfulTests).sum();
+        double successPercentage = (total > 0) ? ((double) successful / total) * 100.0 : 0.0;
+
+        return RunReportDTO.builder()
+                .runId(runContext.getRunId())
+                .namespace(runContext.getNamespace())
+                .elapsedMillis(elapsedNanos / 1_000_000)
+                .totalTests(total)
+                .sucessfulTests(successful)
+                .failedTests(total - successful)
+                .successPercentage(successPercentage)
+                .regressionVerdict(regressionVerdict(moduleResults))
+                .moduleResults(moduleResults)
+                .build();
+    }
+
+    private static RegressionVerdict regressionVerdict(List<ModuleTestDTO> moduleResults) {
+        List<RegressionVerdict> verdicts = moduleResults.stream()
+                .filter(module -> module.getRegression() != null)
+                .map(module -> module.getRegression().getVerdict())
+                .toList();
+        if (verdicts.isEmpty()) {
+            return null;
+        }
+        return verdicts.contains(RegressionVerdict.REGRESSION) ? RegressionVerdict.REGRESSION : RegressionVerdict.PASS;
+    }
+}
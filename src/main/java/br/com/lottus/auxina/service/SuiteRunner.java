@@ -0,0 +1,112 @@
+package br.com.lottus.auxina.service;
+
+import br.com.lottus.auxina.dto.ModuleTestDTO;
+import br.com.lottus.auxina.dto.RunEventDTO;
+import br.com.lottus.auxina.dto.TestCaseConfigDTO;
+import br.com.lottus.auxina.dto.TestResult;
+import br.com.lottus.auxina.service.engine.GeneratorHealthMonitor;
+import br.com.lottus.auxina.service.engine.ModuleResultAggregator;
+import br.com.lottus.auxina.service.engine.ModuleResultAggregatorFactory;
+import br.com.lottus.auxina.service.engine.PreparedTestCase;
+import br.com.lottus.auxina.service.engine.ResultStreamer;
+import br.com.lottus.auxina.service.engine.RunContext;
+import br.com.lottus.auxina.service.engine.TestExecutionService;
+import br.com.lottus.auxina.service.engine.WarmupPhase;
+import br.com.lottus.auxina.service.engine.WarmupPhaseFactory;
+import br.com.lottus.auxina.service.history.RegressionAnalyzer;
+import br.com.lottus.auxina.service.history.RunHistoryStore;
+import br.com.lottus.auxina.service.history.RunRecorder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Executa uma suíte funcional agregando os resultados num único passe e gravando-os no histórico;
+ * ao final, compara o módulo com o baseline pedido no RunContext (quando houver). Com auxina.warmup.suite.*,
+ * os casos somente-leitura são repetidos antes da suíte e ficam fora das estatísticas.
+ * Usado tanto pelos endpoints que devolvem o relatório completo quanto pelas variantes em streaming.
+ */
+@Slf4j
+@Component
+public class SuiteRunner {
+
+    private static final String MODE_FUNCTIONAL = "FUNCTIONAL";
+
+    private final ModuleResultAggregatorFactory moduleResultAggregatorFactory;
+    private final RunHistoryStore runHistoryStore;
+    private final RegressionAnalyzer regressionAnalyzer;
+    private final ResultStreamer resultStreamer;
+    private final WarmupPhaseFactory warmupPhaseFactory;
+    private final TestExecutionService testExecutionService;
+    private final GeneratorHealthMonitor generatorHealthMonitor;
+
+    public SuiteRunner(ModuleResultAggregatorFactory moduleResultAggregatorFactory, RunHistoryStore runHistoryStore,
+                       RegressionAnalyzer regressionAnalyzer, ResultStreamer resultStreamer,
+                       WarmupPhaseFactory warmupPhaseFactory, TestExecutionService testExecutionService,
+                       GeneratorHealthMonitor generatorHealthMonitor) {
+        this.moduleResultAggregatorFactory = moduleResultAggregatorFactory;
+        this.runHistoryStore = runHistoryStore;
+        this.regressionAnalyzer = regressionAnalyzer;
+        this.resultStreamer = resultStreamer;
+        this.warmupPhaseFactory = warmupPhaseFactory;
+        this.testExecutionService = testExecutionService;
+        this.generatorHealthMonitor = generatorHealthMonitor;
+    }
+
+    public Mono<ModuleTestDTO> run(ModuleTestSuite suite, RunContext runContext) {
+        return Mono.defer(() -> {
+            SuiteExecution execution = start(suite, runContext);
+            return execution.results().then(execution.report());
+        });
+    }
+
+    public Flux<RunEventDTO> stream(ModuleTestSuite suite, RunContext runContext) {
+        return Flux.defer(() -> {
+            SuiteExecution execution = start(suite, runContext);
+            return resultStreamer.stream(suite.getModuleName(), execution.results(), true, execution.report());
+        });
+    }
+
+    private SuiteExecution start(ModuleTestSuite suite, RunContext runContext) {
+        ModuleResultAggregator aggregator = moduleResultAggregatorFactory.create(suite.getModuleName(), runContext.getRunId());
+        RunRecorder recorder = runHistoryStore.open(runContext.getRunId(), suite.getModuleName(), MODE_FUNCTIONAL);
+        List<TestCaseConfigDTO> warmupCases = suite.readOnlyTestConfigs();
+        WarmupPhase warmup = warmupCases.isEmpty() ? null : warmupPhaseFactory.forSuite(warmupCases.size());
+        GeneratorHealthMonitor.Run health = generatorHealthMonitor.startRun();
+
+        // Saúde do gerador apenas durante a suíte, fora do aquecimento
+        Flux<TestResult> results = suite.executeTests(runContext).transform(health::track);
+        if (warmup != null) {
+            // Apenas os GETs da suíte, em sequência; antes do setup as referências a IDs usam o valor padrão
+            List<PreparedTestCase> prepared = warmupCases.stream().map(testExecutionService::prepareWarmup).toList();
+            results = warmup.run(Flux.fromIterable(prepared)
+                            .concatMap(testCase -> testExecutionService.executeTest(testCase, System.nanoTime(), runContext.getEngine()))
+                            .repeat())
+                    .doOnSuccess(done -> log.info("🔥 Aquecimento de {} concluído: {}", suite.getModuleName(), warmup.toSummary()))
+                    .thenMany(results);
+        }
+        results = results
+                .doOnNext(health::mark)
+                .doOnNext(aggregator::record)
+                .doOnNext(recorder::record);
+        Mono<ModuleTestDTO> report = Mono.fromSupplier(aggregator::toModuleTestDTO)
+                .doOnNext(dto -> {
+                    dto.setWarmup(warmup != null ? warmup.toSummary() : null);
+                    dto.setEngine(runContext.getEngine());
+                    dto.setGeneratorHealth(health.toSummary());
+                })
+                .flatMap(dto -> recorder.complete(dto)
+                        .then(regressionAnalyzer.analyze(runContext.getRunId(), suite.getModuleName(),
+                                runContext.getBaselineRunId(), runContext.getBaselineWindow()))
+                        .doOnNext(dto::setRegression)
+                        .thenReturn(dto));
+        return new SuiteExecution(results, report);
+    }
+
+    /** Resultados da suíte (já agregados e gravados) e o relatório, montado após o término. */
+    private record SuiteExecution(Flux<TestResult> results, Mono<ModuleTestDTO> report) {
+    }
+}
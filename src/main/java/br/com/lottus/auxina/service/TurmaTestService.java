@@ -5,6 +5,9 @@ import br.com.lottus.auxina.dto.ModuleTestDTO;
 import br.com.lottus.auxina.dto.ScenarioType;
 import br.com.lottus.auxina.dto.TestCaseConfigDTO;
 import br.com.lottus.auxina.dto.TestResult;
+import br.com.lottus.auxina.service.engine.RunContext;
+import br.com.lottus.auxina.service.engine.TargetMetricsSampler;
+import br.com.lottus.auxina.service.engine.TestCaseScheduler;
 import br.com.lottus.auxina.service.engine.TestExecutionService;
 import com.github.javafaker.Faker;
 import lombok.extern.slf4j.Slf4j;
@@ -16,22 +19,29 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Slf4j
 @Service
-public class TurmaTestService {
+public class TurmaTestService implements ModuleTestSuite {
 
     private final TestExecutionService testExecutionService;
     private final Faker faker;
+    private final TargetMetricsSampler targetMetricsSampler;
+    private final TestCaseScheduler testCaseScheduler;
+    private final SuiteRunner suiteRunner;
 
     // IDs de Recursos
-    private static final String TURMA_ID_1_COM_ALUNOS = "1";
-    private static final String TURMA_ID_2_COM_ALUNOS = "2";
-    private static final String TURMA_ID_3_PARA_REMOVER = "3";
-    private static final String TURMA_ID_INEXISTENTE = "99999";
+    // IDs são capturados das respostas do setup (${variavel}); o valor após ":" é o ID assumido quando o módulo roda isolado
+    private static final String TURMA_ID_1_COM_ALUNOS = "${turma.1anoA.id:1}";
+    private static final String TURMA_ID_2_COM_ALUNOS = "${turma.2anoB.id:2}";
+    private static final String TURMA_ID_3_PARA_REMOVER = "${turma.paraRemover.id:3}";
+    private static final String TURMA_ID_INEXISTENTE = ID_INEXISTENTE;
     private static final String TURMA_ID_FORMATO_INVALIDO = "abc";
 
+    // Recurso compartilhado usado pelo TestCaseScheduler para ordenar leituras e escritas
+    private static final String RECURSO_TURMAS = "turmas";
+
     // Grupos de Teste
     private static final String GROUP_0_SETUP = "0. Setup";
     private static final String GROUP_1_CADASTRAR = "1. Cadastrar Turma";
@@ -39,13 +49,17 @@ public class TurmaTestService {
     private static final String GROUP_3_EDITAR = "3. Editar Turma";
     private static final String GROUP_4_REMOVER = "4. Remover Turma";
 
-    public TurmaTestService(TestExecutionService testExecutionService, Faker faker) {
+    public TurmaTestService(TestExecutionService testExecutionService, Faker faker, TargetMetricsSampler targetMetricsSampler, TestCaseScheduler testCaseScheduler,
+                            SuiteRunner suiteRunner) {
         this.testExecutionService = testExecutionService;
         this.faker = faker;
+        this.targetMetricsSampler = targetMetricsSampler;
+        this.testCaseScheduler = testCaseScheduler;
+        this.suiteRunner = suiteRunner;
     }
 
-    private Mono<TestResult> executeAndLog(TestCaseConfigDTO config) {
-        return testExecutionService.executeTest(config)
+    private Mono<TestResult> executeAndLog(TestCaseConfigDTO config, RunContext runContext) {
+        return testExecutionService.executeTest(config, runContext)
                 .doOnSubscribe(subscription -> log.info("➡️  INICIANDO TESTE DE TURMA: {}", config.getTestName()));
     }
 
@@ -60,13 +74,13 @@ public class TurmaTestService {
     // =================================================================================
 
     private TestCaseConfigDTO getConfigSetup_Turma1() {
-        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_1AnoA").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/turmas").requestBodyTemplate(getTurmaBody("1 Ano A - Matutino")).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).build();
+        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_1AnoA").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/turmas").requestBodyTemplate(getTurmaBody("1 Ano A - Matutino")).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).writesResources(Set.of(RECURSO_TURMAS)).captures(Map.of("turma.1anoA.id", "/id")).build();
     }
     private TestCaseConfigDTO getConfigSetup_Turma2() {
-        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_2AnoB").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/turmas").requestBodyTemplate(getTurmaBody("2 Ano B - Vespertino")).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).build();
+        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_2AnoB").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/turmas").requestBodyTemplate(getTurmaBody("2 Ano B - Vespertino")).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).writesResources(Set.of(RECURSO_TURMAS)).captures(Map.of("turma.2anoB.id", "/id")).build();
     }
     private TestCaseConfigDTO getConfigSetup_TurmaParaRemover() {
-        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_TurmaParaRemover").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/turmas").requestBodyTemplate(getTurmaBody("Turma Removível")).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).build();
+        return TestCaseConfigDTO.builder().testName("Setup_Cadastrar_TurmaParaRemover").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/turmas").requestBodyTemplate(getTurmaBody("Turma Removível")).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).writesResources(Set.of(RECURSO_TURMAS)).captures(Map.of("turma.paraRemover.id", "/id")).build();
     }
 
     /**
@@ -80,7 +94,7 @@ public class TurmaTestService {
         alunoBody.put("qtdBonus", 0);
         alunoBody.put("qtdLivrosLidos", 0);
 
-        return TestCaseConfigDTO.builder().testName("Setup_CriarAlunoNaTurma1_ParaTesteDeRemocao").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/alunos/cadastrar").requestBodyTemplate(alunoBody).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).build();
+        return TestCaseConfigDTO.builder().testName("Setup_CriarAlunoNaTurma1_ParaTesteDeRemocao").methodGroupKey(GROUP_0_SETUP).httpMethod("POST").endpoint("/alunos/cadastrar").requestBodyTemplate(alunoBody).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).writesResources(Set.of(RECURSO_TURMAS)).build();
     }
 
     // =================================================================================
@@ -88,13 +102,13 @@ public class TurmaTestService {
     // =================================================================================
 
     private TestCaseConfigDTO getConfigCadastrar_C1_Sucesso() {
-        return TestCaseConfigDTO.builder().testName("Cadastrar_C1_Sucesso").methodGroupKey(GROUP_1_CADASTRAR).httpMethod("POST").endpoint("/turmas").requestBodyTemplate(getTurmaBody("3 Ano C - Noturno")).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).build();
+        return TestCaseConfigDTO.builder().testName("Cadastrar_C1_Sucesso").methodGroupKey(GROUP_1_CADASTRAR).httpMethod("POST").endpoint("/turmas").requestBodyTemplate(getTurmaBody("3 Ano C - Noturno")).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(201).writesResources(Set.of(RECURSO_TURMAS)).build();
     }
     private TestCaseConfigDTO getConfigCadastrar_C2_Erro_SerieEmBranco() {
-        return TestCaseConfigDTO.builder().testName("Cadastrar_C2_Erro_SerieEmBranco").methodGroupKey(GROUP_1_CADASTRAR).httpMethod("POST").endpoint("/turmas").requestBodyTemplate(getTurmaBody("")).scenarioType(ScenarioType.INVALID_INPUT_BAD_REQUEST).expectedHtppStatus(400).build();
+        return TestCaseConfigDTO.builder().testName("Cadastrar_C2_Erro_SerieEmBranco").methodGroupKey(GROUP_1_CADASTRAR).httpMethod("POST").endpoint("/turmas").requestBodyTemplate(getTurmaBody("")).scenarioType(ScenarioType.INVALID_INPUT_BAD_REQUEST).expectedHtppStatus(400).readsResources(Set.of()).build();
     }
     private TestCaseConfigDTO getConfigCadastrar_C3_Erro_SerieJaExiste() {
-        return TestCaseConfigDTO.builder().testName("Cadastrar_C3_Erro_SerieJaExiste").methodGroupKey(GROUP_1_CADASTRAR).httpMethod("POST").endpoint("/turmas").requestBodyTemplate(getTurmaBody("1 Ano A - Matutino")).scenarioType(ScenarioType.INVALID_INPUT_BAD_REQUEST).expectedHtppStatus(409).build();
+        return TestCaseConfigDTO.builder().testName("Cadastrar_C3_Erro_SerieJaExiste").methodGroupKey(GROUP_1_CADASTRAR).httpMethod("POST").endpoint("/turmas").requestBodyTemplate(getTurmaBody("1 Ano A - Matutino")).scenarioType(ScenarioType.INVALID_INPUT_BAD_REQUEST).expectedHtppStatus(409).readsResources(Set.of(RECURSO_TURMAS)).build();
     }
 
     // =================================================================================
@@ -102,10 +116,10 @@ public class TurmaTestService {
     // =================================================================================
 
     private TestCaseConfigDTO getConfigListar_C1_AposSetup() {
-        return TestCaseConfigDTO.builder().testName("Listar_C1_AposSetup").methodGroupKey(GROUP_2_LISTAR).httpMethod("GET").endpoint("/turmas").scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).build();
+        return TestCaseConfigDTO.builder().testName("Listar_C1_AposSetup").methodGroupKey(GROUP_2_LISTAR).httpMethod("GET").endpoint("/turmas").scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).readsResources(Set.of(RECURSO_TURMAS)).build();
     }
     private TestCaseConfigDTO getConfigListar_C2_AposRemocao() {
-        return TestCaseConfigDTO.builder().testName("Listar_C2_AposRemocao").methodGroupKey(GROUP_2_LISTAR).httpMethod("GET").endpoint("/turmas").scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).build();
+        return TestCaseConfigDTO.builder().testName("Listar_C2_AposRemocao").methodGroupKey(GROUP_2_LISTAR).httpMethod("GET").endpoint("/turmas").scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).readsResources(Set.of(RECURSO_TURMAS)).build();
     }
 
     // =================================================================================
@@ -113,13 +127,13 @@ public class TurmaTestService {
     // =================================================================================
 
     private TestCaseConfigDTO getConfigEditar_C1_Sucesso() {
-        return TestCaseConfigDTO.builder().testName("Editar_C1_Sucesso").methodGroupKey(GROUP_3_EDITAR).httpMethod("PUT").endpoint("/turmas/" + TURMA_ID_2_COM_ALUNOS).requestBodyTemplate(getTurmaBody("2 Ano B - Integral")).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).build();
+        return TestCaseConfigDTO.builder().testName("Editar_C1_Sucesso").methodGroupKey(GROUP_3_EDITAR).httpMethod("PUT").endpoint("/turmas/" + TURMA_ID_2_COM_ALUNOS).requestBodyTemplate(getTurmaBody("2 Ano B - Integral")).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(200).writesResources(Set.of(RECURSO_TURMAS)).build();
     }
     private TestCaseConfigDTO getConfigEditar_C2_Erro_IdNaoExiste() {
-        return TestCaseConfigDTO.builder().testName("Editar_C2_Erro_IdNaoExiste").methodGroupKey(GROUP_3_EDITAR).httpMethod("PUT").endpoint("/turmas/" + TURMA_ID_INEXISTENTE).requestBodyTemplate(getTurmaBody("Turma Fantasma")).scenarioType(ScenarioType.RESOURCE_NOT_FOUND).expectedHtppStatus(404).build();
+        return TestCaseConfigDTO.builder().testName("Editar_C2_Erro_IdNaoExiste").methodGroupKey(GROUP_3_EDITAR).httpMethod("PUT").endpoint("/turmas/" + TURMA_ID_INEXISTENTE).requestBodyTemplate(getTurmaBody("Turma Fantasma")).scenarioType(ScenarioType.RESOURCE_NOT_FOUND).expectedHtppStatus(404).readsResources(Set.of()).build();
     }
     private TestCaseConfigDTO getConfigEditar_C3_Erro_SerieJaExiste() {
-        return TestCaseConfigDTO.builder().testName("Editar_C3_Erro_SerieJaExiste").methodGroupKey(GROUP_3_EDITAR).httpMethod("PUT").endpoint("/turmas/" + TURMA_ID_2_COM_ALUNOS).requestBodyTemplate(getTurmaBody("1 Ano A - Matutino")).scenarioType(ScenarioType.INVALID_INPUT_BAD_REQUEST).expectedHtppStatus(409).build();
+        return TestCaseConfigDTO.builder().testName("Editar_C3_Erro_SerieJaExiste").methodGroupKey(GROUP_3_EDITAR).httpMethod("PUT").endpoint("/turmas/" + TURMA_ID_2_COM_ALUNOS).requestBodyTemplate(getTurmaBody("1 Ano A - Matutino")).scenarioType(ScenarioType.INVALID_INPUT_BAD_REQUEST).expectedHtppStatus(409).readsResources(Set.of(RECURSO_TURMAS)).build();
     }
 
     // =================================================================================
@@ -127,19 +141,35 @@ public class TurmaTestService {
     // =================================================================================
 
     private TestCaseConfigDTO getConfigRemover_C1_Sucesso_SemAlunos() {
-        return TestCaseConfigDTO.builder().testName("Remover_C1_Sucesso_SemAlunos").methodGroupKey(GROUP_4_REMOVER).httpMethod("DELETE").endpoint("/turmas/" + TURMA_ID_3_PARA_REMOVER).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(204).build();
+        return TestCaseConfigDTO.builder().testName("Remover_C1_Sucesso_SemAlunos").methodGroupKey(GROUP_4_REMOVER).httpMethod("DELETE").endpoint("/turmas/" + TURMA_ID_3_PARA_REMOVER).scenarioType(ScenarioType.HAPPY_PATH).expectedHtppStatus(204).writesResources(Set.of(RECURSO_TURMAS)).build();
     }
     private TestCaseConfigDTO getConfigRemover_C2_Erro_ComAlunos() {
-        return TestCaseConfigDTO.builder().testName("Remover_C2_Erro_ComAlunos").methodGroupKey(GROUP_4_REMOVER).httpMethod("DELETE").endpoint("/turmas/" + TURMA_ID_1_COM_ALUNOS).scenarioType(ScenarioType.INVALID_INPUT_BAD_REQUEST).expectedHtppStatus(500).build();
+        return TestCaseConfigDTO.builder().testName("Remover_C2_Erro_ComAlunos").methodGroupKey(GROUP_4_REMOVER).httpMethod("DELETE").endpoint("/turmas/" + TURMA_ID_1_COM_ALUNOS).scenarioType(ScenarioType.INVALID_INPUT_BAD_REQUEST).expectedHtppStatus(500).readsResources(Set.of(RECURSO_TURMAS)).build();
     }
     private TestCaseConfigDTO getConfigRemover_C3_Erro_IdNaoExiste() {
-        return TestCaseConfigDTO.builder().testName("Remover_C3_Erro_IdNaoExiste").methodGroupKey(GROUP_4_REMOVER).httpMethod("DELETE").endpoint("/turmas/" + TURMA_ID_INEXISTENTE).scenarioType(ScenarioType.RESOURCE_NOT_FOUND).expectedHtppStatus(404).build();
+        return TestCaseConfigDTO.builder().testName("Remover_C3_Erro_IdNaoExiste").methodGroupKey(GROUP_4_REMOVER).httpMethod("DELETE").endpoint("/turmas/" + TURMA_ID_INEXISTENTE).scenarioType(ScenarioType.RESOURCE_NOT_FOUND).expectedHtppStatus(404).readsResources(Set.of()).build();
     }
     private TestCaseConfigDTO getConfigRemover_C4_Erro_JaRemovida() {
-        return TestCaseConfigDTO.builder().testName("Remover_C4_Erro_JaRemovida").methodGroupKey(GROUP_4_REMOVER).httpMethod("DELETE").endpoint("/turmas/" + TURMA_ID_3_PARA_REMOVER).scenarioType(ScenarioType.RESOURCE_NOT_FOUND).expectedHtppStatus(404).build();
+        return TestCaseConfigDTO.builder().testName("Remover_C4_Erro_JaRemovida").methodGroupKey(GROUP_4_REMOVER).httpMethod("DELETE").endpoint("/turmas/" + TURMA_ID_3_PARA_REMOVER).scenarioType(ScenarioType.RESOURCE_NOT_FOUND).expectedHtppStatus(404).readsResources(Set.of(RECURSO_TURMAS)).build();
     }
 
-    public Mono<ModuleTestDTO> runAllTurmaTests() {
+    @Override
+    public String getModuleKey() {
+        return "turmas";
+    }
+
+    @Override
+    public String getModuleName() {
+        return "Turmas";
+    }
+
+    @Override
+    public Set<String> namespacedFields() {
+        return Set.of("serie", "nome");
+    }
+
+    @Override
+    public List<TestCaseConfigDTO> buildTestConfigs() {
         List<TestCaseConfigDTO> testConfigsInOrder = new ArrayList<>();
 
         // FASE 0: SETUP INICIAL
@@ -168,46 +198,23 @@ public class TurmaTestService {
         // FASE 4: VERIFICAÇÃO FINAL
         testConfigsInOrder.add(getConfigListar_C2_AposRemocao());
 
-        return Flux.fromIterable(testConfigsInOrder)
-                .concatMap(this::executeAndLog)
-                .collectList()
-                .map(allIndividualResults -> {
-                    Map<String, List<TestResult>> groupedByMethod = allIndividualResults.stream()
-                            .filter(tr -> tr.getMethodGroupKey() != null)
-                            .collect(Collectors.groupingBy(TestResult::getMethodGroupKey));
-
-                    List<MethodTestDTO> methodSummaries = new ArrayList<>();
-                    for (Map.Entry<String, List<TestResult>> entry : groupedByMethod.entrySet()) {
-                        String methodGroupKey = entry.getKey();
-                        List<TestResult> testsInGroup = entry.getValue();
-                        int totalInGroup = testsInGroup.size();
-                        long successfulInGroup = testsInGroup.stream().filter(TestResult::isSuccess).count();
-                        double avgDuration = testsInGroup.stream().mapToLong(TestResult::getDurationMillis).average().orElse(0.0);
-                        Double avgMemory = testsInGroup.stream().filter(tr -> tr.getTargetServiceMemoryUsedMB() != null).mapToDouble(TestResult::getTargetServiceMemoryUsedMB).average().orElse(0.0);
-
-                        methodSummaries.add(MethodTestDTO.builder()
-                                .methodName(methodGroupKey)
-                                .totalTests(totalInGroup)
-                                .successTests((int) successfulInGroup)
-                                .failedTests(totalInGroup - (int) successfulInGroup)
-                                .avarageDurationMillisInGroup(avgDuration)
-                                .avarageMemoryUsageMbInGroup(avgMemory)
-                                .individualTestResults(testsInGroup)
-                                .build());
-                    }
-
-                    int totalModuleTests = allIndividualResults.size();
-                    long successfulModuleTests = allIndividualResults.stream().filter(TestResult::isSuccess).count();
-                    double moduleSuccessPercentage = (totalModuleTests > 0) ? ((double) successfulModuleTests / totalModuleTests) * 100.0 : 0.0;
-
-                    return ModuleTestDTO.builder()
-                            .moduleName("Turmas")
-                            .totalTests(totalModuleTests)
-                            .sucessfulTests((int) successfulModuleTests)
-                            .failedTests(totalModuleTests - (int) successfulModuleTests)
-                            .successPercentage(moduleSuccessPercentage)
-                            .methodTestsResults(methodSummaries)
-                            .build();
-                });
-    }
-}
\ No newline at end of file
+        testConfigsInOrder.forEach(config -> config.setTargetService(getModuleName()));
+        return testConfigsInOrder;
+    }
+
+    public Mono<ModuleTestDTO> runAllTurmaTests() {
+        return runAllTurmaTests(RunContext.shared());
+    }
+
+    public Mono<ModuleTestDTO> runAllTurmaTests(RunContext runContext) {
+        return suiteRunner.run(this, runContext);
+    }
+
+    @Override
+    public Flux<TestResult> executeTests(RunContext runContext) {
+        List<TestCaseConfigDTO> testConfigsInOrder = buildTestConfigs(runContext);
+
+        return testCaseScheduler.schedule(testConfigsInOrder, config -> executeAndLog(config, runContext))
+                .transform(targetMetricsSampler::track);
+    }
+}
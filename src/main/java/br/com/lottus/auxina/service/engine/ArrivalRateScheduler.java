@@ -0,0 +1,105 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.TestResult;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Agendador de modelo aberto: dispara execuções numa taxa de chegada fixa ou em rampa linear,
+ * independente do tempo de resposta do alvo. Cada disparo tem um instante planejado e a latência
+ * corrigida é medida a partir dele, evitando a omissão coordenada do modelo fechado.
+ */
+public final class ArrivalRateScheduler {
+
+    private static final Duration TICK = Duration.ofMillis(1);
+
+    private final double startRate;
+    private final double rateSlope;
+    private final long durationNanos;
+    private final long totalRequests;
+    private final int maxInFlight;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong droppedRequests = new AtomicLong();
+    // Escrito pelo tick do intervalo e lido por quem monta o relatório
+    private final AtomicLong scheduledRequests = new AtomicLong();
+
+    public ArrivalRateScheduler(double startRatePerSecond, double endRatePerSecond, int durationSeconds, int maxInFlight) {
+        this.startRate = startRatePerSecond;
+        this.rateSlope = (endRatePerSecond - startRatePerSecond) / durationSeconds;
+        this.durationNanos = Duration.ofSeconds(durationSeconds).toNanos();
+        this.totalRequests = (long) Math.floor(expectedArrivals(durationSeconds));
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Dispara os casos em rodízio. O dispatcher recebe o caso e o instante planejado (System.nanoTime()).
+     */
+    public Flux<TestResult> run(List<PreparedTestCase> cases, TestDispatcher dispatcher) {
+        return Flux.defer(() -> {
+            long startNanos = System.nanoTime();
+            return Flux.interval(TICK)
+                    .map(tick -> dueIntendedStarts(startNanos))
+                    .takeUntil(due -> scheduledRequests.get() >= totalRequests || System.nanoTime() - startNanos >= durationNanos)
+                    .concatMapIterable(due -> due)
+                    .flatMap(slot -> dispatch(cases.get((int) (slot[0] % cases.size())), slot[1], dispatcher), Integer.MAX_VALUE);
+        });
+    }
+
+    public long getScheduledRequests() {
+        return scheduledRequests.get();
+    }
+
+    public long getDroppedRequests() {
+        return droppedRequests.get();
+    }
+
+    // Chamado apenas pelo tick do intervalo, que é serial
+    private List<long[]> dueIntendedStarts(long startNanos) {
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        long due = Math.min(totalRequests, (long) Math.floor(expectedArrivals(elapsedSeconds)));
+        long next = scheduledRequests.get();
+        List<long[]> slots = new ArrayList<>((int) Math.max(0, due - next));
+        while (next < due) {
+            long intendedStart = startNanos + (long) (intendedOffsetSeconds(next) * 1_000_000_000L);
+            slots.add(new long[]{next, intendedStart});
+            next++;
+        }
+        scheduledRequests.set(next);
+        return slots;
+    }
+
+    private Mono<TestResult> dispatch(PreparedTestCase testCase, long intendedStartNanos, TestDispatcher dispatcher) {
+        if (inFlight.incrementAndGet() > maxInFlight) {
+            inFlight.decrementAndGet();
+            droppedRequests.incrementAndGet();
+            return Mono.empty();
+        }
+        return dispatcher.execute(testCase, intendedStartNanos)
+                .doFinally(signal -> inFlight.decrementAndGet());
+    }
+
+    // N(t) = r0·t + k·t²/2, com k = (r1 - r0) / T
+    double expectedArrivals(double elapsedSeconds) {
+        return startRate * elapsedSeconds + rateSlope * elapsedSeconds * elapsedSeconds / 2.0;
+    }
+
+    // Inverso de N(t): instante (em segundos) em que a i-ésima chegada deveria ocorrer
+    double intendedOffsetSeconds(long arrivalIndex) {
+        if (rateSlope == 0.0) {
+            return arrivalIndex / startRate;
+        }
+        return (-startRate + Math.sqrt(startRate * startRate + 2.0 * rateSlope * arrivalIndex)) / rateSlope;
+    }
+
+    @FunctionalInterface
+    public interface TestDispatcher {
+        Mono<TestResult> execute(PreparedTestCase testCase, long intendedStartNanos);
+    }
+}
@@ -0,0 +1,105 @@
+package br.com.lottus.auxina.service.engine;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plano imutável de um requestBodyTemplate/queryParamsTemplate, gerado por {@link TemplateCompiler}.
+ * Renderizar é apenas percorrer a árvore: literais são compartilhados e placeholders Faker
+ * já apontam para MethodHandles com argumentos resolvidos. Referências {@code ${variavel}} são
+ * resolvidas a cada renderização com as variáveis capturadas na execução.
+ */
+public final class CompiledTemplate {
+
+    private final String[] keys;
+    private final Node[] nodes;
+
+    CompiledTemplate(String[] keys, Node[] nodes) {
+        this.keys = keys;
+        this.nodes = nodes;
+    }
+
+    public Map<String, Object> render() {
+        return render(Map.of());
+    }
+
+    /** Gera um novo mapa mutável a cada chamada, já que os cenários de erro alteram campos de primeiro nível. */
+    public Map<String, Object> render(Map<String, String> variables) {
+        Map<String, Object> result = new HashMap<>((int) (keys.length / 0.75f) + 1);
+        for (int i = 0; i < keys.length; i++) {
+            result.put(keys[i], nodes[i].render(variables));
+        }
+        return result;
+    }
+
+    /** Indica se algum nó gera valores diferentes a cada renderização. */
+    boolean isDynamic() {
+        for (Node node : nodes) {
+            if (node.isDynamic()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    interface Node {
+        Object render(Map<String, String> variables);
+
+        /** Indica se o nó gera valores diferentes a cada renderização. */
+        boolean isDynamic();
+    }
+
+    record LiteralNode(Object value) implements Node {
+        @Override
+        public Object render(Map<String, String> variables) {
+            return value;
+        }
+
+        @Override
+        public boolean isDynamic() {
+            return false;
+        }
+    }
+
+    record MapNode(CompiledTemplate template) implements Node {
+        @Override
+        public Object render(Map<String, String> variables) {
+            return template.render(variables);
+        }
+
+        @Override
+        public boolean isDynamic() {
+            return true;
+        }
+    }
+
+    record ListNode(Node[] items) implements Node {
+        @Override
+        public Object render(Map<String, String> variables) {
+            List<Object> result = new ArrayList<>(items.length);
+            for (Node item : items) {
+                result.add(item.render(variables));
+            }
+            return result;
+        }
+
+        @Override
+        public boolean isDynamic() {
+            return true;
+        }
+    }
+
+    record VariableNode(InterpolatedString text) implements Node {
+        @Override
+        public Object render(Map<String, String> variables) {
+            return text.render(variables);
+        }
+
+        @Override
+        public boolean isDynamic() {
+            return true;
+        }
+    }
+}
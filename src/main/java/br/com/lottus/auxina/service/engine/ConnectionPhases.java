@@ -0,0 +1,123 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.ConnectionPhasesDTO;
+import reactor.netty.http.client.ContextAwareHttpClientMetricsRecorder;
+import reactor.util.context.ContextView;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tempos das fases de uma requisição do motor REACTIVE, preenchidos pelo Reactor Netty.
+ * O motor coloca uma instância no Context da requisição ({@link #CONTEXT_KEY}) e o {@link #RECORDER},
+ * registrado no HttpClient do serviço alvo, a encontra pelo Context de cada métrica recebida.
+ * <p>
+ * O Reactor Netty informa durações ao fim de cada fase; o instante de início é reconstruído subtraindo a duração.
+ */
+public final class ConnectionPhases {
+
+    public static final Object CONTEXT_KEY = ConnectionPhases.class;
+
+    /** Recorder do HttpClient do serviço alvo: só repassa os tempos para a requisição em andamento. */
+    public static final ContextAwareHttpClientMetricsRecorder RECORDER = new Recorder();
+
+    private volatile long connectNanos = -1;
+    private volatile long requestWriteNanos = -1;
+    private volatile long requestWrittenAtNanos;
+    private volatile long responseReadNanos = -1;
+    private volatile long responseReadAtNanos;
+
+    /** @return as fases medidas a partir do envio {@code sentNanos}, ou null se o Reactor Netty não informou nada */
+    ConnectionPhasesDTO toDTO(long sentNanos) {
+        if (requestWriteNanos < 0) {
+            return null;
+        }
+        long requestWriteStartNanos = requestWrittenAtNanos - requestWriteNanos;
+        long connect = Math.max(connectNanos, 0);
+        long poolAcquireNanos = Math.max(requestWriteStartNanos - sentNanos - connect, 0);
+        ConnectionPhasesDTO.ConnectionPhasesDTOBuilder phases = ConnectionPhasesDTO.builder()
+                .poolAcquireMicros(TimeUnit.NANOSECONDS.toMicros(poolAcquireNanos))
+                .connectMicros(connectNanos >= 0 ? TimeUnit.NANOSECONDS.toMicros(connectNanos) : null)
+                .requestWriteMicros(TimeUnit.NANOSECONDS.toMicros(requestWriteNanos));
+        if (responseReadNanos >= 0) {
+            long responseStartNanos = responseReadAtNanos - responseReadNanos;
+            phases.serverWaitMicros(TimeUnit.NANOSECONDS.toMicros(Math.max(responseStartNanos - requestWrittenAtNanos, 0)))
+                    .responseReadMicros(TimeUnit.NANOSECONDS.toMicros(responseReadNanos));
+        }
+        return phases.build();
+    }
+
+    private static ConnectionPhases of(ContextView context) {
+        return context.getOrDefault(CONTEXT_KEY, null);
+    }
+
+    private static final class Recorder extends ContextAwareHttpClientMetricsRecorder {
+
+        @Override
+        public void recordConnectTime(ContextView context, SocketAddress remoteAddress, Duration time, String status) {
+            ConnectionPhases phases = of(context);
+            if (phases != null) {
+                phases.connectNanos = time.toNanos();
+            }
+        }
+
+        @Override
+        public void recordDataSentTime(ContextView context, SocketAddress remoteAddress, String uri, String method, Duration time) {
+            ConnectionPhases phases = of(context);
+            if (phases != null) {
+                phases.requestWrittenAtNanos = System.nanoTime();
+                phases.requestWriteNanos = time.toNanos();
+            }
+        }
+
+        @Override
+        public void recordDataReceivedTime(ContextView context, SocketAddress remoteAddress, String uri, String method,
+                                           String status, Duration time) {
+            ConnectionPhases phases = of(context);
+            if (phases != null) {
+                phases.responseReadAtNanos = System.nanoTime();
+                phases.responseReadNanos = time.toNanos();
+            }
+        }
+
+        // Demais métricas do Reactor Netty não são usadas: timers e contadores próprios já cobrem a requisição inteira
+
+        @Override
+        public void recordResponseTime(ContextView context, SocketAddress remoteAddress, String uri, String method,
+                                       String status, Duration time) {
+        }
+
+        @Override
+        public void recordTlsHandshakeTime(ContextView context, SocketAddress remoteAddress, Duration time, String status) {
+        }
+
+        @Override
+        public void recordDataReceived(ContextView context, SocketAddress remoteAddress, String uri, long bytes) {
+        }
+
+        @Override
+        public void recordDataSent(ContextView context, SocketAddress remoteAddress, String uri, long bytes) {
+        }
+
+        @Override
+        public void recordDataReceived(ContextView context, SocketAddress remoteAddress, long bytes) {
+        }
+
+        @Override
+        public void recordDataSent(ContextView context, SocketAddress remoteAddress, long bytes) {
+        }
+
+        @Override
+        public void incrementErrorsCount(ContextView context, SocketAddress remoteAddress, String uri) {
+        }
+
+        @Override
+        public void incrementErrorsCount(ContextView context, SocketAddress remoteAddress) {
+        }
+
+        @Override
+        public void recordResolveAddressTime(SocketAddress remoteAddress, Duration time, String status) {
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.GeneratorHealthDTO;
+import br.com.lottus.auxina.dto.TestResult;
+import com.sun.management.OperatingSystemMXBean;
+import com.sun.management.ThreadMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.netty.http.HttpResources;
+import reactor.netty.resources.LoopResources;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Monitora a saturação do próprio gerador enquanto houver execuções acompanhadas por {@link Run#track(Flux)}:
+ * atraso de agendamento nos event loops do Reactor Netty, CPU do processo, taxa de alocação e pausas de GC.
+ * A cada intervalo uma sonda é enfileirada em cada event loop; o tempo até ela rodar é o atraso que uma resposta
+ * sofreria ali antes de ter o término registrado. A última amostra é exportada nos gauges auxina.generator.*
+ * e cada execução recebe o resumo das amostras do seu período.
+ */
+@Component
+public class GeneratorHealthMonitor implements MeterBinder {
+
+    public static final String EVENT_LOOP_LAG_GAUGE = "auxina.generator.eventloop.lag";
+    public static final String CPU_GAUGE = "auxina.generator.cpu.usage";
+    public static final String ALLOCATION_RATE_GAUGE = "auxina.generator.allocation.rate";
+    public static final String GC_PAUSE_RATIO_GAUGE = "auxina.generator.gc.pause.ratio";
+    public static final String OVERLOADED_GAUGE = "auxina.generator.overloaded";
+
+    enum Condition { EVENT_LOOP_LAG, CPU, GC }
+
+    private static final Logger logger = LoggerFactory.getLogger(GeneratorHealthMonitor.class);
+    private static final long NONE = Long.MIN_VALUE;
+    private static final double BYTES_PER_MB = 1024.0 * 1024.0;
+
+    private final Supplier<EventLoopGroup> eventLoops;
+    private final Duration interval;
+    private final long lagThresholdNanos;
+    private final double cpuThreshold;
+    private final double gcPauseRatioThreshold;
+
+    private final OperatingSystemMXBean os = (OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+    private final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    // Coletores concorrentes (G1 Concurrent GC, ZGC/Shenandoah Cycles) não param a aplicação
+    private final List<GarbageCollectorMXBean> pauseCollectors = ManagementFactory.getGarbageCollectorMXBeans().stream()
+            .filter(collector -> !collector.getName().contains("Concurrent") && !collector.getName().contains("Cycles"))
+            .toList();
+
+    private final List<Run> activeRuns = new CopyOnWriteArrayList<>();
+    private final AtomicLong completedProbeLag = new AtomicLong();
+    private List<LoopProbe> probes = List.of();
+    private Disposable polling;
+
+    // Contadores da amostra anterior
+    private long lastSampleNanos;
+    private long lastAllocatedBytes;
+    private long lastGcMillis;
+
+    private volatile Sample latest = Sample.IDLE;
+    // Fim da última amostra sobrecarregada; requisições em voo nesse instante são marcadas
+    private volatile long lastOverloadedNanos = NONE;
+
+    @Autowired
+    public GeneratorHealthMonitor(@Value("${auxina.generator-monitor.interval:250ms}") Duration interval,
+                                  @Value("${auxina.generator-monitor.event-loop-lag-threshold:50ms}") Duration lagThreshold,
+                                  @Value("${auxina.generator-monitor.cpu-threshold:0.9}") double cpuThreshold,
+                                  @Value("${auxina.generator-monitor.gc-pause-ratio-threshold:0.1}") double gcPauseRatioThreshold) {
+        // Mesmos event loops usados pelo WebClient (e pelo stub embutido), criados sob demanda pelo Reactor Netty
+        this(() -> HttpResources.get().onClient(LoopResources.DEFAULT_NATIVE),
+                interval, lagThreshold, cpuThreshold, gcPauseRatioThreshold);
+    }
+
+    GeneratorHealthMonitor(Supplier<EventLoopGroup> eventLoops, Duration interval,
+                           Duration lagThreshold, double cpuThreshold, double gcPauseRatioThreshold) {
+        this.eventLoops = eventLoops;
+        this.interval = interval;
+        this.lagThresholdNanos = lagThreshold.toNanos();
+        this.cpuThreshold = cpuThreshold;
+        this.gcPauseRatioThreshold = gcPauseRatioThreshold;
+    }
+
+    /** Registra os gauges auxina.generator.*; chamado pelo Spring Boot para cada MeterBinder do contexto. */
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder(EVENT_LOOP_LAG_GAUGE, this, monitor -> monitor.latest.lagNanos() / 1e9)
+                .description("Maior atraso de agendamento entre os event loops do gerador na última amostra")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder(CPU_GAUGE, this, monitor -> monitor.latest.cpu())
+                .description("Uso de CPU do processo do gerador (0 a 1, todos os núcleos)")
+                .register(meterRegistry);
+        Gauge.builder(ALLOCATION_RATE_GAUGE, this, monitor -> monitor.latest.allocationBytesPerSecond())
+                .description("Taxa de alocação de memória do gerador")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder(GC_PAUSE_RATIO_GAUGE, this, monitor -> monitor.latest.gcPauseRatio())
+                .description("Fração do último intervalo gasta em pausas de GC no gerador")
+                .register(meterRegistry);
+        Gauge.builder(OVERLOADED_GAUGE, this, monitor -> monitor.latest.conditions().isEmpty() ? 0 : 1)
+                .description("1 quando a última amostra ultrapassou algum limite de saturação do gerador")
+                .register(meterRegistry);
+    }
+
+    /** Acompanhamento de uma execução; cada relatório cria o seu. */
+    public Run startRun() {
+        return new Run();
+    }
+
+    private synchronized void acquire(Run run) {
+        activeRuns.add(run);
+        if (polling == null) {
+            List<LoopProbe> loopProbes = new ArrayList<>();
+            for (EventExecutor loop : eventLoops.get()) {
+                loopProbes.add(new LoopProbe(loop));
+            }
+            probes = loopProbes;
+            lastSampleNanos = System.nanoTime();
+            lastAllocatedBytes = allocatedBytes();
+            lastGcMillis = gcMillis();
+            completedProbeLag.set(0);
+            logger.info("Iniciando monitoramento do gerador a cada {} ({} event loops)", interval, probes.size());
+            polling = Flux.interval(interval, interval)
+                    .onBackpressureDrop()
+                    .subscribe(tick -> sample());
+        }
+    }
+
+    private synchronized void release(Run run) {
+        activeRuns.remove(run);
+        if (activeRuns.isEmpty() && polling != null) {
+            polling.dispose();
+            polling = null;
+            latest = Sample.IDLE;
+            logger.info("Monitoramento do gerador encerrado");
+        }
+    }
+
+    private synchronized void sample() {
+        if (polling == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        long elapsedNanos = now - lastSampleNanos;
+        long lagNanos = completedProbeLag.getAndSet(0);
+        for (LoopProbe probe : probes) {
+            lagNanos = Math.max(lagNanos, probe.pendingLagOrSubmit(now));
+        }
+
+        double cpu = os.getProcessCpuLoad();
+        long allocated = allocatedBytes();
+        long allocatedDelta = allocated >= 0 && lastAllocatedBytes >= 0 ? allocated - lastAllocatedBytes : -1;
+        long gcMillis = gcMillis();
+        long gcPauseNanos = TimeUnit.MILLISECONDS.toNanos(gcMillis - lastGcMillis);
+        double seconds = elapsedNanos / 1e9;
+
+        Sample sample = new Sample(elapsedNanos, lagNanos,
+                cpu >= 0 ? cpu : Double.NaN,
+                allocatedDelta,
+                allocatedDelta >= 0 ? allocatedDelta / seconds : Double.NaN,
+                gcPauseNanos,
+                Math.min(1.0, (double) gcPauseNanos / elapsedNanos),
+                EnumSet.noneOf(Condition.class));
+        if (sample.lagNanos() > lagThresholdNanos) sample.conditions().add(Condition.EVENT_LOOP_LAG);
+        if (sample.cpu() >= cpuThreshold) sample.conditions().add(Condition.CPU);
+        if (sample.gcPauseRatio() >= gcPauseRatioThreshold) sample.conditions().add(Condition.GC);
+
+        if (!sample.conditions().isEmpty()) {
+            lastOverloadedNanos = now;
+            if (latest.conditions().isEmpty()) {
+                logger.warn("⚠️  Gerador sobrecarregado ({}): atraso do event loop {} ms, CPU {}, GC {}% do intervalo; "
+                                + "latências medidas a partir daqui incluem o atraso do próprio auxina",
+                        sample.conditions(), String.format("%.1f", lagNanos / 1e6), String.format("%.2f", sample.cpu()),
+                        String.format("%.1f", sample.gcPauseRatio() * 100));
+            }
+        } else if (!latest.conditions().isEmpty()) {
+            logger.info("Gerador voltou abaixo dos limites de saturação");
+        }
+        latest = sample;
+        lastSampleNanos = now;
+        lastAllocatedBytes = allocated;
+        lastGcMillis = gcMillis;
+        activeRuns.forEach(run -> run.add(sample));
+    }
+
+    private long allocatedBytes() {
+        if (!threads.isThreadAllocatedMemorySupported() || !threads.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+        return threads.getTotalThreadAllocatedBytes();
+    }
+
+    private long gcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : pauseCollectors) {
+            total += Math.max(0, collector.getCollectionTime());
+        }
+        return total;
+    }
+
+    private record Sample(long elapsedNanos, long lagNanos, double cpu, long allocatedBytes, double allocationBytesPerSecond,
+                          long gcPauseNanos, double gcPauseRatio, Set<Condition> conditions) {
+        static final Sample IDLE = new Sample(0, 0, 0.0, 0, 0.0, 0, 0.0, Set.of());
+    }
+
+    /** Sonda de um event loop: no máximo uma na fila, para que um loop travado não acumule tarefas. */
+    private final class LoopProbe implements Runnable {
+        private final EventExecutor loop;
+        private volatile long submittedNanos = NONE;
+
+        private LoopProbe(EventExecutor loop) {
+            this.loop = loop;
+        }
+
+        // Atraso da sonda que ainda não rodou; sem sonda pendente, enfileira uma nova
+        private long pendingLagOrSubmit(long now) {
+            long submitted = submittedNanos;
+            if (submitted != NONE) {
+                return now - submitted;
+            }
+            submittedNanos = now;
+            try {
+                loop.execute(this);
+            } catch (RejectedExecutionException e) {
+                // Event loop encerrado junto com a aplicação
+                submittedNanos = NONE;
+            }
+            return 0;
+        }
+
+        @Override
+        public void run() {
+            completedProbeLag.accumulateAndGet(System.nanoTime() - submittedNanos, Math::max);
+            submittedNanos = NONE;
+        }
+    }
+
+    /**
+     * Saúde do gerador durante uma execução: resume as amostras do período em que o fluxo esteve inscrito
+     * e marca os resultados cuja requisição estava em voo numa amostra sobrecarregada.
+     */
+    public final class Run {
+
+        private final LongAdder results = new LongAdder();
+        private final LongAdder overloadedResults = new LongAdder();
+        private final Set<Condition> conditions = EnumSet.noneOf(Condition.class);
+        private long samples;
+        private long overloadedSamples;
+        private long elapsedNanos;
+        private long maxLagNanos;
+        private double cpuSum;
+        private long cpuSamples;
+        private double maxCpu = Double.NaN;
+        private long allocatedBytes;
+        private long allocationElapsedNanos;
+        private long gcPauseNanos;
+        private double maxGcPauseRatio;
+
+        private Run() {
+        }
+
+        /** Mantém o monitoramento ativo enquanto o fluxo da execução estiver inscrito. */
+        public <T> Flux<T> track(Flux<T> run) {
+            return Flux.using(() -> {
+                acquire(this);
+                return Boolean.TRUE;
+            }, active -> run, active -> release(this));
+        }
+
+        /** Chamado ao término de cada requisição: o início é estimado a partir da duração medida. */
+        public void mark(TestResult result) {
+            results.increment();
+            long startedNanos = System.nanoTime() - TimeUnit.MICROSECONDS.toNanos(result.getDurationMicros());
+            long overloadedAt = lastOverloadedNanos;
+            if (overloadedAt != NONE && overloadedAt - startedNanos >= 0) {
+                result.setGeneratorOverloaded(true);
+                overloadedResults.increment();
+            }
+        }
+
+        private synchronized void add(Sample sample) {
+            samples++;
+            elapsedNanos += sample.elapsedNanos();
+            maxLagNanos = Math.max(maxLagNanos, sample.lagNanos());
+            if (!Double.isNaN(sample.cpu())) {
+                cpuSum += sample.cpu();
+                cpuSamples++;
+                maxCpu = Double.isNaN(maxCpu) ? sample.cpu() : Math.max(maxCpu, sample.cpu());
+            }
+            if (sample.allocatedBytes() >= 0) {
+                allocatedBytes += sample.allocatedBytes();
+                allocationElapsedNanos += sample.elapsedNanos();
+            }
+            gcPauseNanos += sample.gcPauseNanos();
+            maxGcPauseRatio = Math.max(maxGcPauseRatio, sample.gcPauseRatio());
+            if (!sample.conditions().isEmpty()) {
+                overloadedSamples++;
+                conditions.addAll(sample.conditions());
+            }
+        }
+
+        public synchronized GeneratorHealthDTO toSummary() {
+            long total = results.sum();
+            long overloaded = overloadedResults.sum();
+            boolean sampled = samples > 0;
+            return GeneratorHealthDTO.builder()
+                    .overloaded(!conditions.isEmpty() || overloaded > 0)
+                    .overloadConditions(conditions.stream().map(Enum::name).toList())
+                    .samples(samples)
+                    .overloadedSamples(overloadedSamples)
+                    .overloadedResults(overloaded)
+                    .overloadedResultsPercentage(total > 0 ? (overloaded * 100.0) / total : 0.0)
+                    .maxEventLoopLagMillis(sampled ? maxLagNanos / 1e6 : null)
+                    .avgProcessCpuUsage(cpuSamples > 0 ? cpuSum / cpuSamples : null)
+                    .maxProcessCpuUsage(cpuSamples > 0 ? maxCpu : null)
+                    .allocationRateMBPerSecond(allocationElapsedNanos > 0
+                            ? allocatedBytes / BYTES_PER_MB / (allocationElapsedNanos / 1e9) : null)
+                    .gcPauseTotalMillis(sampled ? gcPauseNanos / 1e6 : null)
+                    .maxGcPauseRatio(sampled ? maxGcPauseRatio : null)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package br.com.lottus.auxina.service.engine;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Texto com referências a variáveis da execução no formato {@code ${nome}} ou {@code ${nome:padrão}}.
+ * O valor padrão é usado quando a variável não foi capturada (ex.: suíte executada isoladamente).
+ */
+final class InterpolatedString {
+
+    static final Pattern VARIABLE_PATTERN = Pattern.compile("\\$\\{([\\w.\\-]+)(?::([^}]*))?}");
+
+    // literals[i] precede names[i]; o último literal fecha o texto
+    private final String[] literals;
+    private final String[] names;
+    private final String[] defaults;
+
+    private InterpolatedString(String[] literals, String[] names, String[] defaults) {
+        this.literals = literals;
+        this.names = names;
+        this.defaults = defaults;
+    }
+
+    /** Retorna null quando o texto não referencia nenhuma variável. */
+    static InterpolatedString compile(String text) {
+        if (text == null || !text.contains("${")) {
+            return null;
+        }
+        Matcher matcher = VARIABLE_PATTERN.matcher(text);
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<String> defaults = new ArrayList<>();
+        int last = 0;
+        while (matcher.find()) {
+            literals.add(text.substring(last, matcher.start()));
+            names.add(matcher.group(1));
+            defaults.add(matcher.group(2));
+            last = matcher.end();
+        }
+        if (names.isEmpty()) {
+            return null;
+        }
+        literals.add(text.substring(last));
+        return new InterpolatedString(literals.toArray(String[]::new), names.toArray(String[]::new), defaults.toArray(String[]::new));
+    }
+
+    /** Variáveis sem valor e sem padrão viram texto vazio, para que o caso falhe no alvo e não na montagem da URI. */
+    String render(Map<String, String> variables) {
+        StringBuilder result = new StringBuilder(literals[0]);
+        for (int i = 0; i < names.length; i++) {
+            String value = variables.get(names[i]);
+            if (value == null) {
+                value = defaults[i] != null ? defaults[i] : "";
+            }
+            result.append(value).append(literals[i + 1]);
+        }
+        return result.toString();
+    }
+
+    /** Nomes das variáveis referenciadas em qualquer texto, mapa ou lista (usado para ordenar os casos). */
+    static Set<String> references(Object value) {
+        Set<String> names = new LinkedHashSet<>();
+        collectReferences(value, names);
+        return names;
+    }
+
+    private static void collectReferences(Object value, Set<String> names) {
+        if (value instanceof String text) {
+            Matcher matcher = VARIABLE_PATTERN.matcher(text);
+            while (matcher.find()) {
+                names.add(matcher.group(1));
+            }
+        } else if (value instanceof Map<?, ?> map) {
+            map.values().forEach(item -> collectReferences(item, names));
+        } else if (value instanceof List<?> list) {
+            list.forEach(item -> collectReferences(item, names));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.LatencyPercentilesDTO;
+import org.HdrHistogram.AtomicHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DataFormatException;
+
+/**
+ * Histograma de latências em microssegundos (HdrHistogram), seguro para gravação concorrente
+ * sem locks e sem alocação por registro. Pode ser combinado entre casos, grupos e módulos,
+ * e também entre instâncias do auxina pela forma codificada ({@link #encode()}).
+ */
+public class LatencyHistogram {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+    // 2 dígitos significativos: erro máximo de 1% por valor, com ~25 KB por histograma
+    private static final int SIGNIFICANT_DIGITS = 2;
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final AtomicHistogram histogram;
+
+    public LatencyHistogram() {
+        this(new AtomicHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+    }
+
+    private LatencyHistogram(AtomicHistogram histogram) {
+        this.histogram = histogram;
+    }
+
+    public void recordMicros(long micros) {
+        histogram.recordValue(Math.max(0, Math.min(micros, HIGHEST_TRACKABLE_MICROS)));
+    }
+
+    /**
+     * Cópia corrigida para omissão coordenada (mesmo algoritmo do recordValueWithExpectedInterval): cada valor maior
+     * que o intervalo esperado entre amostras gera também os valores que as requisições represadas teriam medido.
+     */
+    public LatencyHistogram correctedFor(long expectedIntervalMicros) {
+        if (expectedIntervalMicros <= 0) {
+            LatencyHistogram copy = new LatencyHistogram();
+            copy.add(this);
+            return copy;
+        }
+        return new LatencyHistogram(histogram.copyCorrectedForCoordinatedOmission(expectedIntervalMicros));
+    }
+
+    public void add(LatencyHistogram other) {
+        histogram.add(other.histogram);
+    }
+
+    /** HdrHistogram comprimido em Base64: sem perda de precisão, para transportar o histograma entre instâncias. */
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+    }
+
+    /** Soma um histograma recebido na forma de {@link #encode()}. */
+    public void addEncoded(String encoded) {
+        try {
+            histogram.add(Histogram.decodeFromCompressedByteBuffer(
+                    ByteBuffer.wrap(Base64.getDecoder().decode(encoded)), HIGHEST_TRACKABLE_MICROS));
+        } catch (DataFormatException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Histograma codificado inválido", e);
+        }
+    }
+
+    public long getTotalCount() {
+        return histogram.getTotalCount();
+    }
+
+    public double getMeanMillis() {
+        return histogram.getTotalCount() > 0 ? histogram.getMean() / MICROS_PER_MILLI : 0.0;
+    }
+
+    public LatencyPercentilesDTO toDTO() {
+        if (histogram.getTotalCount() == 0) {
+            return LatencyPercentilesDTO.builder().build();
+        }
+        return LatencyPercentilesDTO.builder()
+                .count(histogram.getTotalCount())
+                .meanMillis(getMeanMillis())
+                .p50Millis(percentileMillis(50.0))
+                .p90Millis(percentileMillis(90.0))
+                .p95Millis(percentileMillis(95.0))
+                .p99Millis(percentileMillis(99.0))
+                .p999Millis(percentileMillis(99.9))
+                .maxMillis(histogram.getMaxValue() / MICROS_PER_MILLI)
+                .build();
+    }
+
+    public double percentileMillis(double percentile) {
+        return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+}
@@ -0,0 +1,279 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.CaseHistogramsDTO;
+import br.com.lottus.auxina.dto.ConnectionPhasesDTO;
+import br.com.lottus.auxina.dto.ConnectionPhasesLatencyDTO;
+import br.com.lottus.auxina.dto.MethodTestDTO;
+import br.com.lottus.auxina.dto.ModuleTestDTO;
+import br.com.lottus.auxina.dto.TestCaseConfigDTO;
+import br.com.lottus.auxina.dto.TestCaseStatsDTO;
+import br.com.lottus.auxina.dto.TestResult;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Acumula os resultados de uma execução de carga por caso de teste, sem guardar os TestResult individuais.
+ * Os registros chegam concorrentemente de vários usuários virtuais.
+ * <p>
+ * A latência corrigida para omissão coordenada (correctedLatency) vem do instante planejado de cada requisição e só
+ * existe quando a carga tem agenda (modelo aberto, ou fechado com ritmo). Sem agenda, uma estimativa é calculada ao final
+ * como no recordValueWithExpectedInterval do HdrHistogram, usando a mediana do caso como intervalo esperado entre
+ * requisições, e vai em estimatedCorrectedLatency para não ser confundida com a medida.
+ * <p>
+ * Em cargas distribuídas, cada worker exporta seus contadores e histogramas ({@link #export()}) e o coordenador
+ * os soma num acumulador vazio ({@link #merge(List)}) antes de montar o relatório.
+ */
+public class LoadTestAccumulator {
+
+    private final Map<String, CaseStats> statsByTestName = new ConcurrentHashMap<>();
+    private final List<TestCaseConfigDTO> testCases;
+    private final boolean scheduled;
+
+    public LoadTestAccumulator(List<TestCaseConfigDTO> testCases, boolean scheduled) {
+        this.testCases = testCases;
+        this.scheduled = scheduled;
+        for (TestCaseConfigDTO config : testCases) {
+            statsByTestName.put(config.getTestName(), new CaseStats(config));
+        }
+    }
+
+    public void record(TestResult result) {
+        CaseStats stats = statsByTestName.get(result.getTestName());
+        if (stats != null) {
+            stats.record(result);
+        }
+    }
+
+    /** Contadores e histogramas gravados de cada caso, na forma transportável entre instâncias. */
+    public List<CaseHistogramsDTO> export() {
+        return testCases.stream()
+                .map(config -> statsByTestName.get(config.getTestName()).export())
+                .toList();
+    }
+
+    /** Soma o que outra instância exportou; casos desconhecidos são ignorados, como em {@link #record}. */
+    public void merge(List<CaseHistogramsDTO> cases) {
+        for (CaseHistogramsDTO exported : cases) {
+            CaseStats stats = statsByTestName.get(exported.getTestName());
+            if (stats != null) {
+                stats.merge(exported);
+            }
+        }
+    }
+
+    public ModuleTestDTO toModuleTestDTO(String moduleName, String executionMode, Integer virtualUsers, long elapsedNanos) {
+        double elapsedSeconds = Math.max(elapsedNanos, 1) / 1_000_000_000.0;
+
+        List<TestCaseStatsDTO> caseResults = new ArrayList<>();
+        Map<String, List<CaseStats>> casesByGroup = new LinkedHashMap<>();
+        for (TestCaseConfigDTO config : testCases) {
+            CaseStats stats = statsByTestName.get(config.getTestName());
+            stats.corrected = scheduled ? stats.recordedCorrected : stats.estimatedCorrected();
+            caseResults.add(stats.toDTO(elapsedSeconds, scheduled));
+            casesByGroup.computeIfAbsent(config.getMethodGroupKey(), key -> new ArrayList<>()).add(stats);
+        }
+
+        List<MethodTestDTO> methodSummaries = new ArrayList<>();
+        LatencyHistogram moduleHistogram = new LatencyHistogram();
+        LatencyHistogram moduleCorrected = new LatencyHistogram();
+        long successfulRequests = 0;
+        long bytesReceived = 0;
+        for (Map.Entry<String, List<CaseStats>> entry : casesByGroup.entrySet()) {
+            LatencyHistogram groupHistogram = new LatencyHistogram();
+            LatencyHistogram groupCorrected = new LatencyHistogram();
+            long successfulInGroup = 0;
+            for (CaseStats stats : entry.getValue()) {
+                groupHistogram.add(stats.histogram);
+                groupCorrected.add(stats.corrected);
+                successfulInGroup += stats.successful.sum();
+                bytesReceived += stats.bytesReceived.sum();
+            }
+            moduleHistogram.add(groupHistogram);
+            moduleCorrected.add(groupCorrected);
+            successfulRequests += successfulInGroup;
+            long totalInGroup = groupHistogram.getTotalCount();
+
+            methodSummaries.add(MethodTestDTO.builder()
+                    .methodName(entry.getKey())
+                    .totalTests((int) totalInGroup)
+                    .successTests((int) successfulInGroup)
+                    .failedTests((int) (totalInGroup - successfulInGroup))
+                    .avarageDurationMillisInGroup(groupHistogram.getMeanMillis())
+                    .latency(groupHistogram.toDTO())
+                    .correctedLatency(scheduled ? groupCorrected.toDTO() : null)
+                    .estimatedCorrectedLatency(scheduled ? null : groupCorrected.toDTO())
+                    .build());
+        }
+
+        long totalRequests = moduleHistogram.getTotalCount();
+
+        return ModuleTestDTO.builder()
+                .moduleName(moduleName)
+                .totalTests((int) totalRequests)
+                .sucessfulTests((int) successfulRequests)
+                .failedTests((int) (totalRequests - successfulRequests))
+                .successPercentage(totalRequests > 0 ? ((double) successfulRequests / totalRequests) * 100.0 : 0.0)
+                .latency(moduleHistogram.toDTO())
+                .correctedLatency(scheduled ? moduleCorrected.toDTO() : null)
+                .estimatedCorrectedLatency(scheduled ? null : moduleCorrected.toDTO())
+                .methodTestsResults(methodSummaries)
+                .executionMode(executionMode)
+                .virtualUsers(virtualUsers)
+                .elapsedMillis(elapsedNanos / 1_000_000)
+                .throughputPerSecond(totalRequests / elapsedSeconds)
+                .bytesReceived(bytesReceived)
+                .testCaseResults(caseResults)
+                .build();
+    }
+
+    private static final String LATENCY = "latency";
+    private static final String CORRECTED_LATENCY = "correctedLatency";
+    private static final String TIME_TO_FIRST_BYTE = "timeToFirstByte";
+
+    private static void mergeEncoded(LatencyHistogram target, String encoded) {
+        if (encoded != null) {
+            target.addEncoded(encoded);
+        }
+    }
+
+    private static final class CaseStats {
+        private final TestCaseConfigDTO config;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final LatencyHistogram recordedCorrected = new LatencyHistogram();
+        // Definida ao montar o relatório: a gravada ou a estimada
+        private LatencyHistogram corrected;
+        private final LatencyHistogram timeToFirstByte = new LatencyHistogram();
+        private final PhaseHistograms phases = new PhaseHistograms();
+        private final LongAdder successful = new LongAdder();
+        private final LongAdder bytesReceived = new LongAdder();
+
+        private CaseStats(TestCaseConfigDTO config) {
+            this.config = config;
+        }
+
+        private void record(TestResult result) {
+            histogram.recordMicros(result.getDurationMicros());
+            recordedCorrected.recordMicros(result.getCorrectedDurationMicros() != null
+                    ? result.getCorrectedDurationMicros() : result.getDurationMicros());
+            if (result.getTimeToFirstByteMicros() != null) {
+                timeToFirstByte.recordMicros(result.getTimeToFirstByteMicros());
+            }
+            if (result.getConnectionPhases() != null) {
+                phases.record(result.getConnectionPhases());
+            }
+            if (result.getResponseBytes() != null) {
+                bytesReceived.add(result.getResponseBytes());
+            }
+            if (result.isSuccess()) {
+                successful.increment();
+            }
+        }
+
+        private CaseHistogramsDTO export() {
+            Map<String, String> histograms = new HashMap<>();
+            histograms.put(LATENCY, histogram.encode());
+            histograms.put(CORRECTED_LATENCY, recordedCorrected.encode());
+            histograms.put(TIME_TO_FIRST_BYTE, timeToFirstByte.encode());
+            phases.export(histograms);
+            return CaseHistogramsDTO.builder()
+                    .testName(config.getTestName())
+                    .successfulRequests(successful.sum())
+                    .bytesReceived(bytesReceived.sum())
+                    .histograms(histograms)
+                    .build();
+        }
+
+        private void merge(CaseHistogramsDTO exported) {
+            Map<String, String> histograms = exported.getHistograms() != null ? exported.getHistograms() : Map.of();
+            mergeEncoded(histogram, histograms.get(LATENCY));
+            mergeEncoded(recordedCorrected, histograms.get(CORRECTED_LATENCY));
+            mergeEncoded(timeToFirstByte, histograms.get(TIME_TO_FIRST_BYTE));
+            phases.merge(histograms);
+            successful.add(exported.getSuccessfulRequests());
+            bytesReceived.add(exported.getBytesReceived());
+        }
+
+        // Sem instante planejado, o intervalo esperado entre requisições do caso é estimado pela sua mediana
+        private LatencyHistogram estimatedCorrected() {
+            return histogram.correctedFor(Math.round(histogram.percentileMillis(50.0) * 1000));
+        }
+
+        private TestCaseStatsDTO toDTO(double elapsedSeconds, boolean scheduled) {
+            long total = histogram.getTotalCount();
+            long successfulRequests = successful.sum();
+            return TestCaseStatsDTO.builder()
+                    .testName(config.getTestName())
+                    .methodGroupKey(config.getMethodGroupKey())
+                    .httpMethod(config.getHttpMethod())
+                    .endpoint(config.getEndpoint())
+                    .totalRequests(total)
+                    .successfulRequests(successfulRequests)
+                    .failedRequests(total - successfulRequests)
+                    .throughputPerSecond(total / elapsedSeconds)
+                    .latency(histogram.toDTO())
+                    .correctedLatency(scheduled ? corrected.toDTO() : null)
+                    .estimatedCorrectedLatency(scheduled ? null : corrected.toDTO())
+                    .timeToFirstByte(timeToFirstByte.toDTO())
+                    .connectionPhases(phases.isEmpty() ? null : phases.toDTO())
+                    .bytesReceived(bytesReceived.sum())
+                    .build();
+        }
+    }
+
+    /** Histogramas das fases de conexão (motor REACTIVE); connect recebe apenas as conexões novas. */
+    private static final class PhaseHistograms {
+        private final LatencyHistogram poolAcquire = new LatencyHistogram();
+        private final LatencyHistogram connect = new LatencyHistogram();
+        private final LatencyHistogram requestWrite = new LatencyHistogram();
+        private final LatencyHistogram serverWait = new LatencyHistogram();
+        private final LatencyHistogram responseRead = new LatencyHistogram();
+
+        private void record(ConnectionPhasesDTO phases) {
+            poolAcquire.recordMicros(phases.getPoolAcquireMicros());
+            if (phases.getConnectMicros() != null) {
+                connect.recordMicros(phases.getConnectMicros());
+            }
+            requestWrite.recordMicros(phases.getRequestWriteMicros());
+            if (phases.getServerWaitMicros() != null) {
+                serverWait.recordMicros(phases.getServerWaitMicros());
+                responseRead.recordMicros(phases.getResponseReadMicros());
+            }
+        }
+
+        private void export(Map<String, String> histograms) {
+            histograms.put("poolAcquire", poolAcquire.encode());
+            histograms.put("connect", connect.encode());
+            histograms.put("requestWrite", requestWrite.encode());
+            histograms.put("serverWait", serverWait.encode());
+            histograms.put("responseRead", responseRead.encode());
+        }
+
+        private void merge(Map<String, String> histograms) {
+            mergeEncoded(poolAcquire, histograms.get("poolAcquire"));
+            mergeEncoded(connect, histograms.get("connect"));
+            mergeEncoded(requestWrite, histograms.get("requestWrite"));
+            mergeEncoded(serverWait, histograms.get("serverWait"));
+            mergeEncoded(responseRead, histograms.get("responseRead"));
+        }
+
+        private boolean isEmpty() {
+            return poolAcquire.getTotalCount() == 0;
+        }
+
+        private ConnectionPhasesLatencyDTO toDTO() {
+            return ConnectionPhasesLatencyDTO.builder()
+                    .poolAcquire(poolAcquire.toDTO())
+                    .connect(connect.toDTO())
+                    .requestWrite(requestWrite.toDTO())
+                    .serverWait(serverWait.toDTO())
+                    .responseRead(responseRead.toDTO())
+                    .build();
+        }
+    }
+}
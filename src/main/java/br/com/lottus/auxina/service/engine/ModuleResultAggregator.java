@@ -0,0 +1,133 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.MethodTestDTO;
+import br.com.lottus.auxina.dto.ModuleTestDTO;
+import br.com.lottus.auxina.dto.TestResult;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Agrega os TestResult de uma suíte à medida que chegam, em memória proporcional ao número de grupos.
+ * Falhas são sempre guardadas individualmente, pois são elas que explicam o relatório. Sucessos são amostrados com
+ * {@code successSampleRate} e guardados apenas enquanto o total guardado (falhas incluídas) estiver abaixo de
+ * {@code maxRetainedResults}.
+ */
+public class ModuleResultAggregator {
+
+    private final String moduleName;
+    private final String runId;
+    private final int maxRetainedResults;
+    private final double successSampleRate;
+
+    // Ordenado pela chave do grupo ("0. Setup", "1. Cadastrar"...), na mesma ordem das fases da suíte
+    private final Map<String, GroupStats> groups = new ConcurrentSkipListMap<>();
+    private final LatencyHistogram moduleHistogram = new LatencyHistogram();
+    private final LongAdder total = new LongAdder();
+    private final LongAdder successful = new LongAdder();
+    private final AtomicInteger retained = new AtomicInteger();
+    private final LongAdder omitted = new LongAdder();
+
+    ModuleResultAggregator(String moduleName, String runId, int maxRetainedResults, double successSampleRate) {
+        this.moduleName = moduleName;
+        this.runId = runId;
+        this.maxRetainedResults = maxRetainedResults;
+        this.successSampleRate = successSampleRate;
+    }
+
+    public void record(TestResult result) {
+        total.increment();
+        if (result.isSuccess()) {
+            successful.increment();
+        }
+        moduleHistogram.recordMicros(result.getDurationMicros());
+        if (result.getMethodGroupKey() == null) {
+            return;
+        }
+        GroupStats group = groups.computeIfAbsent(result.getMethodGroupKey(), key -> new GroupStats());
+        group.record(result);
+        if (shouldRetain(result)) {
+            group.retained.add(result);
+        } else {
+            omitted.increment();
+        }
+    }
+
+    private boolean shouldRetain(TestResult result) {
+        if (!result.isSuccess()) {
+            retained.incrementAndGet();
+            return true;
+        }
+        boolean sampled = successSampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < successSampleRate;
+        if (!sampled) {
+            return false;
+        }
+        // Reserva a vaga antes de adicionar, para o limite valer com registros concorrentes
+        return retained.getAndUpdate(count -> count < maxRetainedResults ? count + 1 : count) < maxRetainedResults;
+    }
+
+    public ModuleTestDTO toModuleTestDTO() {
+        List<MethodTestDTO> methodSummaries = new ArrayList<>(groups.size());
+        groups.forEach((methodGroupKey, group) -> methodSummaries.add(group.toDTO(methodGroupKey)));
+
+        int totalModuleTests = (int) total.sum();
+        int successfulModuleTests = (int) successful.sum();
+        double moduleSuccessPercentage = (totalModuleTests > 0) ? ((double) successfulModuleTests / totalModuleTests) * 100.0 : 0.0;
+        long omittedResults = omitted.sum();
+
+        return ModuleTestDTO.builder()
+                .moduleName(moduleName)
+                .runId(runId)
+                .totalTests(totalModuleTests)
+                .sucessfulTests(successfulModuleTests)
+                .failedTests(totalModuleTests - successfulModuleTests)
+                .successPercentage(moduleSuccessPercentage)
+                .latency(moduleHistogram.toDTO())
+                .methodTestsResults(methodSummaries)
+                .omittedTestResults(omittedResults > 0 ? omittedResults : null)
+                .build();
+    }
+
+    private static final class GroupStats {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final LongAdder successful = new LongAdder();
+        private final DoubleAdder memorySum = new DoubleAdder();
+        private final LongAdder memorySamples = new LongAdder();
+        private final List<TestResult> retained = Collections.synchronizedList(new ArrayList<>());
+
+        private void record(TestResult result) {
+            histogram.recordMicros(result.getDurationMicros());
+            if (result.isSuccess()) {
+                successful.increment();
+            }
+            if (result.getTargetServiceMemoryUsedMB() != null) {
+                memorySum.add(result.getTargetServiceMemoryUsedMB());
+                memorySamples.increment();
+            }
+        }
+
+        private MethodTestDTO toDTO(String methodGroupKey) {
+            int totalInGroup = (int) histogram.getTotalCount();
+            int successfulInGroup = (int) successful.sum();
+            long samples = memorySamples.sum();
+            return MethodTestDTO.builder()
+                    .methodName(methodGroupKey)
+                    .totalTests(totalInGroup)
+                    .successTests(successfulInGroup)
+                    .failedTests(totalInGroup - successfulInGroup)
+                    .avarageDurationMillisInGroup(histogram.getMeanMillis())
+                    .latency(histogram.toDTO())
+                    // Sem correctedLatency: requisições das suítes não têm instante planejado (ver MethodTestDTO)
+                    .avarageMemoryUsageMbInGroup(samples > 0 ? memorySum.sum() / samples : 0.0)
+                    .individualTestResults(new ArrayList<>(retained))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.lottus.auxina.service.engine;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/** Cria agregadores de suíte com os limites de retenção configurados. */
+@Component
+public class ModuleResultAggregatorFactory {
+
+    private final int maxRetainedResults;
+    private final double successSampleRate;
+
+    public ModuleResultAggregatorFactory(@Value("${auxina.aggregator.max-retained-results:10000}") int maxRetainedResults,
+                                         @Value("${auxina.aggregator.success-sample-rate:1.0}") double successSampleRate) {
+        this.maxRetainedResults = maxRetainedResults;
+        this.successSampleRate = successSampleRate;
+    }
+
+    public ModuleResultAggregator create(String moduleName, String runId) {
+        return new ModuleResultAggregator(moduleName, runId, maxRetainedResults, successSampleRate);
+    }
+}
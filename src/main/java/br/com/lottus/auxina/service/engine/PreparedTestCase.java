@@ -0,0 +1,43 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.TestCaseConfigDTO;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * Caso de teste pronto para execução repetida: tudo que depende apenas do TestCaseConfigDTO
+ * é resolvido uma vez em {@link TestExecutionService#prepare(TestCaseConfigDTO)} e reaproveitado a cada requisição.
+ */
+@Getter
+public class PreparedTestCase {
+
+    private final TestCaseConfigDTO config;
+    private final RequestMeters meters;
+    // Nulos quando o caso não define o template correspondente
+    private final CompiledTemplate requestBodyTemplate;
+    private final CompiledTemplate queryParamsTemplate;
+    // Nulo quando o caso não declara asserções sobre o corpo da resposta
+    private final ResponseAssertions assertions;
+    // Nulo quando o endpoint não referencia variáveis da execução
+    @Getter(AccessLevel.NONE)
+    private final InterpolatedString endpointTemplate;
+    private final boolean captureRequestPayload;
+
+    PreparedTestCase(TestCaseConfigDTO config, RequestMeters meters,
+                     CompiledTemplate requestBodyTemplate, CompiledTemplate queryParamsTemplate,
+                     ResponseAssertions assertions, boolean captureRequestPayload) {
+        this.config = config;
+        this.meters = meters;
+        this.requestBodyTemplate = requestBodyTemplate;
+        this.queryParamsTemplate = queryParamsTemplate;
+        this.assertions = assertions;
+        this.endpointTemplate = InterpolatedString.compile(config.getEndpoint());
+        this.captureRequestPayload = captureRequestPayload;
+    }
+
+    public String resolveEndpoint(Map<String, String> variables) {
+        return endpointTemplate == null ? config.getEndpoint() : endpointTemplate.render(variables);
+    }
+}
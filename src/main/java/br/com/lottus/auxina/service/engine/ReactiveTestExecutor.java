@@ -0,0 +1,121 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.ExecutionEngine;
+import br.com.lottus.auxina.dto.TestResult;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.nio.ByteBuffer;
+
+/** Motor padrão: WebClient sobre Reactor Netty, sem bloquear threads por requisição. */
+@Component
+public class ReactiveTestExecutor implements TestExecutor {
+
+    private final WebClient libraryServiceClient;
+    private final TestResultFactory testResultFactory;
+
+    public ReactiveTestExecutor(WebClient libraryServiceClient, TestResultFactory testResultFactory) {
+        this.libraryServiceClient = libraryServiceClient;
+        this.testResultFactory = testResultFactory;
+    }
+
+    @Override
+    public ExecutionEngine engine() {
+        return ExecutionEngine.REACTIVE;
+    }
+
+    @Override
+    public Mono<TestResult> execute(TestRequest request) {
+        String endpoint = request.endpoint();
+        byte[] requestBody = request.body();
+
+        WebClient.RequestBodySpec requestBodySpec;
+        WebClient.RequestHeadersSpec<?> requestHeadersSpec;
+
+        switch (request.httpMethod()) {
+            case "POST":
+                requestBodySpec = libraryServiceClient.post().uri(endpoint);
+                requestHeadersSpec = (requestBody != null) ? requestBodySpec.bodyValue(requestBody) : requestBodySpec;
+                break;
+            case "PUT":
+                requestBodySpec = libraryServiceClient.put().uri(endpoint);
+                requestHeadersSpec = (requestBody != null) ? requestBodySpec.bodyValue(requestBody) : requestBodySpec;
+                break;
+            case "DELETE":
+                requestHeadersSpec = libraryServiceClient.delete().uri(endpoint);
+                break;
+            case "GET":
+            default:
+                requestHeadersSpec = libraryServiceClient.get()
+                        .uri(uriBuilder -> {
+                            uriBuilder.path(endpoint);
+                            request.queryParams().forEach(uriBuilder::queryParam);
+                            return uriBuilder.build();
+                        });
+                break;
+        }
+
+        if (request.runId() != null) {
+            requestHeadersSpec = requestHeadersSpec.header(TestExecutionService.RUN_ID_HEADER, request.runId());
+        }
+
+        // Instante do envio tomado na assinatura, depois de qualquer espera pelo instante planejado
+        WebClient.RequestHeadersSpec<?> spec = requestHeadersSpec;
+        return Mono.defer(() -> {
+            long sentNanos = System.nanoTime();
+            ConnectionPhases phases = new ConnectionPhases();
+            return spec
+                    .exchangeToMono(clientResponse -> {
+                        long firstByteNanos = System.nanoTime();
+                        int httpStatus = clientResponse.statusCode().value();
+
+                        ResponseAssertions.Evaluation assertions = testResultFactory.startAssertions(request, httpStatus);
+
+                        if (testResultFactory.needsResponseBody(request, httpStatus)) {
+                            return clientResponse.bodyToMono(byte[].class)
+                                    .defaultIfEmpty(new byte[0])
+                                    .map(responseBody -> {
+                                        if (assertions != null) {
+                                            assertions.feed(ByteBuffer.wrap(responseBody));
+                                        }
+                                        return testResultFactory.fromResponse(request, httpStatus,
+                                                new ResponseTiming(sentNanos, firstByteNanos, System.nanoTime(), responseBody.length, phases),
+                                                assertions, responseBody);
+                                    });
+                        }
+
+                        // Corpo consumido em streaming: cada buffer é contado, passado às asserções e liberado
+                        // assim que chega, sem agregar a resposta em memória
+                        return clientResponse.bodyToFlux(DataBuffer.class)
+                                .reduce(0L, (bytesReceived, buffer) -> {
+                                    try {
+                                        long total = bytesReceived + buffer.readableByteCount();
+                                        if (assertions != null) {
+                                            feed(assertions, buffer);
+                                        }
+                                        return total;
+                                    } finally {
+                                        DataBufferUtils.release(buffer);
+                                    }
+                                })
+                                .map(bytesReceived -> testResultFactory.fromResponse(request, httpStatus,
+                                        new ResponseTiming(sentNanos, firstByteNanos, System.nanoTime(), bytesReceived, phases),
+                                        assertions, null));
+                    })
+                    .onErrorResume(ex -> Mono.just(testResultFactory.fromCommunicationError(request, ex, sentNanos)))
+                    .contextWrite(Context.of(ConnectionPhases.CONTEXT_KEY, phases));
+        });
+    }
+
+    private static void feed(ResponseAssertions.Evaluation assertions, DataBuffer buffer) {
+        try (DataBuffer.ByteBufferIterator chunks = buffer.readableByteBuffers()) {
+            while (chunks.hasNext()) {
+                assertions.feed(chunks.next());
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.TestCaseConfigDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Timers de um caso de teste, resolvidos uma única vez no registry.
+ * Os nomes são fixos e o caso é identificado por tags, mantendo a cardinalidade limitada às suítes existentes.
+ */
+public class RequestMeters {
+
+    public static final String REQUEST_TIMER = "auxina.request";
+    public static final String OVERALL_TIMER = "auxina.request.overall";
+    public static final String CORRECTED_TIMER = "auxina.request.corrected";
+
+    // Tag "phase": requisições de aquecimento ficam em séries próprias, fora dos painéis da medição
+    public static final String PHASE_MEASURE = "measure";
+    public static final String PHASE_WARMUP = "warmup";
+
+    private static final String UNKNOWN_TAG_VALUE = "none";
+
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Timer errorTimer;
+    private final Timer overallTimer;
+    private final Timer correctedTimer;
+
+    RequestMeters(MeterRegistry meterRegistry, TestCaseConfigDTO config, String phase) {
+        Tags tags = Tags.of(
+                "module", tagValue(config.getTargetService()),
+                "methodGroupKey", tagValue(config.getMethodGroupKey()),
+                "testName", tagValue(config.getTestName()),
+                "httpMethod", tagValue(config.getHttpMethod()).toUpperCase(),
+                "phase", phase);
+
+        this.successTimer = requestTimer(meterRegistry, tags, "success");
+        this.failureTimer = requestTimer(meterRegistry, tags, "failure");
+        this.errorTimer = requestTimer(meterRegistry, tags, "error");
+        this.overallTimer = Timer.builder(OVERALL_TIMER)
+                .description("Tempo total da execução do caso de teste, incluindo coletas auxiliares")
+                .tags(tags)
+                .register(meterRegistry);
+        this.correctedTimer = Timer.builder(CORRECTED_TIMER)
+                .description("Latência das requisições medida a partir do instante planejado (corrigida para omissão coordenada)")
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    /** Timer da requisição conforme o resultado: status esperado, status inesperado ou erro de comunicação. */
+    public Timer outcome(boolean success, boolean communicationError) {
+        if (communicationError) {
+            return errorTimer;
+        }
+        return success ? successTimer : failureTimer;
+    }
+
+    public Timer overall() {
+        return overallTimer;
+    }
+
+    /** Igual ao timer da requisição quando não há instante planejado (suítes e modelo fechado sem ritmo). */
+    public Timer corrected() {
+        return correctedTimer;
+    }
+
+    private static Timer requestTimer(MeterRegistry meterRegistry, Tags tags, String outcome) {
+        return Timer.builder(REQUEST_TIMER)
+                .description("Latência das requisições ao serviço alvo por caso de teste")
+                .tags(tags)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static String tagValue(String value) {
+        return value != null ? value : UNKNOWN_TAG_VALUE;
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.TestCaseConfigDTO;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compila {@code expectedResponseBodyPattern} e {@code expectedErrorCode} de um caso em {@link ResponseAssertions}.
+ * O padrão é uma lista de asserções separadas por "&&", com JSON Pointer:
+ * <ul>
+ *     <li>{@code /titulo == "Revolução dos Bichos"} e {@code /status != "ATRASADO"}: valor JSON simples</li>
+ *     <li>{@code /id exists}: presença do campo</li>
+ *     <li>{@code size(/content) <= 5}: quantidade de itens de uma lista (ou campos de um objeto); {@code size()} é a raiz</li>
+ * </ul>
+ * O código de erro esperado equivale a uma asserção de igualdade sobre {@code auxina.assertions.error-code-pointer}.
+ */
+@Component
+public class ResponseAssertionCompiler {
+
+    private static final Pattern SIZE_CLAUSE = Pattern.compile("^size\\(\\s*(\\S*)\\s*\\)\\s*(==|!=|<=|>=|<|>)\\s*(\\d+)$");
+    private static final Pattern EXISTS_CLAUSE = Pattern.compile("^(/\\S*)\\s+exists$");
+    private static final Pattern VALUE_CLAUSE = Pattern.compile("^(/\\S*)\\s*(==|!=)\\s*(.+)$");
+
+    private final ObjectMapper objectMapper;
+    private final ResponseAssertions.Segment[] errorCodePath;
+    private final String errorCodePointer;
+
+    public ResponseAssertionCompiler(ObjectMapper objectMapper,
+                                     @Value("${auxina.assertions.error-code-pointer:/code}") String errorCodePointer) {
+        this.objectMapper = objectMapper;
+        this.errorCodePointer = errorCodePointer;
+        this.errorCodePath = path(errorCodePointer);
+    }
+
+    /**
+     * @return as asserções do caso, ou null quando ele não declara nenhuma
+     * @throws IllegalArgumentException se o padrão for inválido
+     */
+    public ResponseAssertions compile(TestCaseConfigDTO config) {
+        List<ResponseAssertions.Clause> clauses = new ArrayList<>();
+        if (StringUtils.hasText(config.getExpectedResponseBodyPattern())) {
+            for (String clause : config.getExpectedResponseBodyPattern().split("&&")) {
+                clauses.add(compileClause(config.getTestName(), clause.trim()));
+            }
+        }
+        if (StringUtils.hasText(config.getExpectedErrorCode())) {
+            clauses.add(new ResponseAssertions.Clause("código de erro " + errorCodePointer + " == \"" + config.getExpectedErrorCode() + "\"",
+                    errorCodePath, ResponseAssertions.Operator.EQUALS, TextNode.valueOf(config.getExpectedErrorCode()), 0));
+        }
+        if (clauses.isEmpty()) {
+            return null;
+        }
+        if (clauses.size() > ResponseAssertions.MAX_CLAUSES) {
+            throw new IllegalArgumentException("Teste " + config.getTestName() + ": no máximo "
+                    + ResponseAssertions.MAX_CLAUSES + " asserções por caso");
+        }
+        return new ResponseAssertions(objectMapper.getFactory(), clauses);
+    }
+
+    private ResponseAssertions.Clause compileClause(String testName, String clause) {
+        Matcher size = SIZE_CLAUSE.matcher(clause);
+        if (size.matches()) {
+            ResponseAssertions.Operator operator = switch (size.group(2)) {
+                case "==" -> ResponseAssertions.Operator.SIZE_EQ;
+                case "!=" -> ResponseAssertions.Operator.SIZE_NE;
+                case "<" -> ResponseAssertions.Operator.SIZE_LT;
+                case "<=" -> ResponseAssertions.Operator.SIZE_LE;
+                case ">" -> ResponseAssertions.Operator.SIZE_GT;
+                default -> ResponseAssertions.Operator.SIZE_GE;
+            };
+            return new ResponseAssertions.Clause(clause, path(size.group(1)), operator, null, Long.parseLong(size.group(3)));
+        }
+        Matcher exists = EXISTS_CLAUSE.matcher(clause);
+        if (exists.matches()) {
+            return new ResponseAssertions.Clause(clause, path(exists.group(1)), ResponseAssertions.Operator.EXISTS, null, 0);
+        }
+        Matcher value = VALUE_CLAUSE.matcher(clause);
+        if (value.matches()) {
+            try {
+                return new ResponseAssertions.Clause(clause, path(value.group(1)),
+                        value.group(2).equals("==") ? ResponseAssertions.Operator.EQUALS : ResponseAssertions.Operator.NOT_EQUALS,
+                        objectMapper.readTree(value.group(3)), 0);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Teste " + testName + ": valor esperado não é JSON em '" + clause + "'", e);
+            }
+        }
+        throw new IllegalArgumentException("Teste " + testName + ": asserção de resposta inválida '" + clause + "'");
+    }
+
+    private static ResponseAssertions.Segment[] path(String pointer) {
+        List<ResponseAssertions.Segment> segments = new ArrayList<>();
+        for (JsonPointer current = JsonPointer.compile(pointer); !current.matches(); current = current.tail()) {
+            segments.add(new ResponseAssertions.Segment(current.getMatchingProperty(), current.getMatchingIndex()));
+        }
+        return segments.toArray(ResponseAssertions.Segment[]::new);
+    }
+}
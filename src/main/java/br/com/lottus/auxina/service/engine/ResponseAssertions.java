@@ -0,0 +1,249 @@
+package br.com.lottus.auxina.service.engine;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Asserções sobre o corpo da resposta, compiladas uma vez por caso por {@link ResponseAssertionCompiler}.
+ * Cada resposta é verificada por uma {@link Evaluation}, alimentada com os blocos do corpo à medida que chegam
+ * (parser JSON não bloqueante): não há árvore nem cópia do corpo, e a leitura para assim que todas as asserções
+ * estão decididas.
+ */
+public final class ResponseAssertions {
+
+    enum Operator { EXISTS, EQUALS, NOT_EQUALS, SIZE_EQ, SIZE_NE, SIZE_LT, SIZE_LE, SIZE_GT, SIZE_GE }
+
+    /** Um segmento do JSON Pointer: nome de campo, que também vale como índice quando numérico. */
+    record Segment(String name, int index) {
+    }
+
+    record Clause(String source, Segment[] path, Operator operator, JsonNode expected, long expectedSize) {
+
+        boolean acceptsSize(long size) {
+            return switch (operator) {
+                case SIZE_EQ -> size == expectedSize;
+                case SIZE_NE -> size != expectedSize;
+                case SIZE_LT -> size < expectedSize;
+                case SIZE_LE -> size <= expectedSize;
+                case SIZE_GT -> size > expectedSize;
+                case SIZE_GE -> size >= expectedSize;
+                default -> false;
+            };
+        }
+    }
+
+    // Asserções de tamanho abertas em cada contêiner são guardadas num bitmask
+    static final int MAX_CLAUSES = Long.SIZE;
+
+    private final JsonFactory jsonFactory;
+    private final Clause[] clauses;
+
+    ResponseAssertions(JsonFactory jsonFactory, List<Clause> clauses) {
+        this.jsonFactory = jsonFactory;
+        this.clauses = clauses.toArray(Clause[]::new);
+    }
+
+    public Evaluation start() {
+        try {
+            return new Evaluation(jsonFactory.createNonBlockingByteBufferParser());
+        } catch (IOException e) {
+            throw new IllegalStateException("Não foi possível criar o parser JSON não bloqueante", e);
+        }
+    }
+
+    /** Verificação de uma resposta. Não é thread-safe: os blocos chegam em sequência, de um único corpo. */
+    public final class Evaluation {
+
+        private final JsonParser parser;
+        private final ByteBufferFeeder feeder;
+        private final boolean[] decided = new boolean[clauses.length];
+        private int undecided = clauses.length;
+        private String failure;
+
+        // Pilha dos contêineres abertos: tipo, filhos já vistos, campo atual e asserções de tamanho sobre ele
+        private int depth;
+        private boolean[] inArray = new boolean[8];
+        private long[] childCount = new long[8];
+        private String[] fieldName = new String[8];
+        private long[] sizeClauses = new long[8];
+
+        private Evaluation(JsonParser parser) {
+            this.parser = parser;
+            this.feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        /** Processa um bloco do corpo; o buffer é inteiramente consumido antes do retorno. */
+        public void feed(ByteBuffer chunk) {
+            if (isDone()) {
+                return;
+            }
+            try {
+                feeder.feedInput(chunk);
+                drain();
+            } catch (IOException e) {
+                failInvalidJson(e);
+            }
+        }
+
+        /** Encerra a leitura e retorna a primeira asserção que falhou, ou null se todas passaram. */
+        public String finish() {
+            if (!isDone()) {
+                try {
+                    feeder.endOfInput();
+                    drain();
+                } catch (IOException e) {
+                    failInvalidJson(e);
+                }
+            }
+            for (int i = 0; failure == null && i < clauses.length; i++) {
+                // Ausente: "!=" é satisfeita, as demais falham
+                if (!decided[i] && clauses[i].operator() != Operator.NOT_EQUALS) {
+                    failure = clauses[i].source() + ": ausente na resposta";
+                }
+            }
+            try {
+                parser.close();
+            } catch (IOException ignored) {
+                // Parser em memória, nada a liberar
+            }
+            return failure;
+        }
+
+        private boolean isDone() {
+            return failure != null || undecided == 0;
+        }
+
+        private void drain() throws IOException {
+            JsonToken token;
+            while (!isDone() && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                switch (token) {
+                    case FIELD_NAME -> fieldName[depth - 1] = parser.currentName();
+                    case END_OBJECT, END_ARRAY -> closeContainer();
+                    default -> onValue(token);
+                }
+            }
+        }
+
+        private void onValue(JsonToken token) throws IOException {
+            if (depth > 0) {
+                childCount[depth - 1]++;
+            }
+            boolean container = token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY;
+            long matchedSizeClauses = 0;
+            for (int i = 0; i < clauses.length; i++) {
+                Clause clause = clauses[i];
+                if (decided[i] || !matchesCurrentPath(clause.path())) {
+                    continue;
+                }
+                switch (clause.operator()) {
+                    case EXISTS -> decide(i);
+                    case EQUALS, NOT_EQUALS -> {
+                        boolean equal = !container && scalarEquals(token, clause.expected());
+                        if (equal != (clause.operator() == Operator.EQUALS)) {
+                            fail(clause.source() + ": obtido " + (container ? "um objeto ou lista" : describe(token)));
+                            return;
+                        }
+                        decide(i);
+                    }
+                    default -> {
+                        if (!container) {
+                            fail(clause.source() + ": não é uma lista nem um objeto");
+                            return;
+                        }
+                        matchedSizeClauses |= 1L << i;
+                    }
+                }
+            }
+            if (container) {
+                push(token == JsonToken.START_ARRAY, matchedSizeClauses);
+            }
+        }
+
+        private void closeContainer() {
+            depth--;
+            long matched = sizeClauses[depth];
+            for (int i = 0; matched != 0 && i < clauses.length; i++) {
+                if ((matched & (1L << i)) == 0) {
+                    continue;
+                }
+                if (!clauses[i].acceptsSize(childCount[depth])) {
+                    fail(clauses[i].source() + ": tamanho obtido " + childCount[depth]);
+                    return;
+                }
+                decide(i);
+            }
+        }
+
+        private boolean matchesCurrentPath(Segment[] path) {
+            if (path.length != depth) {
+                return false;
+            }
+            for (int level = 0; level < depth; level++) {
+                Segment segment = path[level];
+                boolean matches = inArray[level]
+                        ? segment.index() == childCount[level] - 1
+                        : segment.name().equals(fieldName[level]);
+                if (!matches) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean scalarEquals(JsonToken token, JsonNode expected) throws IOException {
+            return switch (token) {
+                case VALUE_STRING -> expected.isTextual() && expected.textValue().equals(parser.getText());
+                case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT ->
+                        expected.isNumber() && expected.decimalValue().compareTo(parser.getDecimalValue()) == 0;
+                case VALUE_TRUE -> expected.isBoolean() && expected.booleanValue();
+                case VALUE_FALSE -> expected.isBoolean() && !expected.booleanValue();
+                case VALUE_NULL -> expected.isNull();
+                default -> false;
+            };
+        }
+
+        private String describe(JsonToken token) throws IOException {
+            return token == JsonToken.VALUE_STRING ? "\"" + parser.getText() + "\"" : parser.getText();
+        }
+
+        private void push(boolean array, long matchedSizeClauses) {
+            if (depth == inArray.length) {
+                int capacity = depth * 2;
+                inArray = Arrays.copyOf(inArray, capacity);
+                childCount = Arrays.copyOf(childCount, capacity);
+                fieldName = Arrays.copyOf(fieldName, capacity);
+                sizeClauses = Arrays.copyOf(sizeClauses, capacity);
+            }
+            inArray[depth] = array;
+            childCount[depth] = 0;
+            fieldName[depth] = null;
+            sizeClauses[depth] = matchedSizeClauses;
+            depth++;
+        }
+
+        private void decide(int clause) {
+            decided[clause] = true;
+            undecided--;
+        }
+
+        private void failInvalidJson(IOException e) {
+            String reason = e instanceof JsonProcessingException processing ? processing.getOriginalMessage() : e.getMessage();
+            fail("corpo da resposta não é JSON válido (" + reason + ")");
+        }
+
+        private void fail(String message) {
+            if (failure == null) {
+                failure = message;
+            }
+        }
+    }
+}
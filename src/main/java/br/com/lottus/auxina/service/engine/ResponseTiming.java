@@ -0,0 +1,22 @@
+package br.com.lottus.auxina.service.engine;
+
+/**
+ * Instantes de uma resposta recebida (base System.nanoTime()) e o tamanho do corpo, medidos pelo motor.
+ *
+ * @param sentNanos      envio da requisição
+ * @param firstByteNanos recebimento do status e dos cabeçalhos
+ * @param completedNanos fim da leitura do corpo
+ * @param bytesReceived  bytes do corpo da resposta
+ * @param phases         fases informadas pelo cliente HTTP, ou null quando o motor não as mede
+ */
+public record ResponseTiming(long sentNanos, long firstByteNanos, long completedNanos, long bytesReceived,
+                             ConnectionPhases phases) {
+
+    public long durationNanos() {
+        return completedNanos - sentNanos;
+    }
+
+    public long timeToFirstByteNanos() {
+        return firstByteNanos - sentNanos;
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.ModuleTestDTO;
+import br.com.lottus.auxina.dto.RunEventDTO;
+import br.com.lottus.auxina.dto.RunEventType;
+import br.com.lottus.auxina.dto.TestResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Converte o Flux de TestResult de uma execução em eventos para SSE/NDJSON: cada resultado (opcional),
+ * agregados parciais a cada {@code auxina.stream.progress-interval} e o relatório final como último evento.
+ */
+@Component
+public class ResultStreamer {
+
+    private final Duration progressInterval;
+
+    public ResultStreamer(@Value("${auxina.stream.progress-interval:1s}") Duration progressInterval) {
+        this.progressInterval = progressInterval;
+    }
+
+    /**
+     * @param emitResults falso em execuções de carga, onde um evento por requisição não faz sentido
+     * @param summary     assinado após o término de {@code results} para montar o relatório final
+     */
+    public Flux<RunEventDTO> stream(String moduleName, Flux<TestResult> results, boolean emitResults, Mono<ModuleTestDTO> summary) {
+        return Flux.defer(() -> {
+            RunProgressTracker progress = new RunProgressTracker();
+
+            Flux<RunEventDTO> liveEvents = results
+                    .doOnNext(progress::record)
+                    .publish(shared -> {
+                        Flux<RunEventDTO> resultEvents = emitResults
+                                ? shared.map(result -> RunEventDTO.builder().type(RunEventType.RESULT).moduleName(moduleName).result(result).build())
+                                : shared.thenMany(Flux.empty());
+                        // Cliente lento perde eventos de progresso, nunca resultados
+                        Flux<RunEventDTO> progressEvents = Flux.interval(progressInterval)
+                                .onBackpressureDrop()
+                                .map(tick -> RunEventDTO.builder().type(RunEventType.PROGRESS).moduleName(moduleName).progress(progress.snapshot()).build())
+                                .takeUntilOther(shared.then());
+                        return Flux.merge(resultEvents, progressEvents);
+                    });
+
+            return liveEvents.concatWith(summary.map(report -> RunEventDTO.builder()
+                    .type(RunEventType.SUMMARY)
+                    .moduleName(moduleName)
+                    .progress(progress.snapshot())
+                    .summary(report)
+                    .build()));
+        });
+    }
+}
@@ -0,0 +1,99 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.ExecutionEngine;
+import br.com.lottus.auxina.dto.RunOptionsDTO;
+import br.com.lottus.auxina.dto.TestCaseConfigDTO;
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Identifica uma execução de suítes. Com namespace, os campos de texto únicos das entidades criadas
+ * (nome, série...) recebem um sufixo da execução, evitando colisões entre execuções simultâneas no mesmo alvo.
+ * Também guarda as variáveis capturadas das respostas (ex.: "livro.revolucao.id"), visíveis para todos os módulos da execução.
+ */
+@Getter
+public final class RunContext {
+
+    private final String runId;
+    private final String namespace;
+    private final Map<String, String> variables = new ConcurrentHashMap<>();
+
+    // Referência para a detecção de regressão: um run específico ou a mediana dos últimos N (nulos = padrão configurado)
+    private String baselineRunId;
+    private Integer baselineWindow;
+    private ExecutionEngine engine = ExecutionEngine.REACTIVE;
+
+    private RunContext(String runId, String namespace) {
+        this.runId = runId;
+        this.namespace = namespace;
+    }
+
+    /** Execução isolada: namespace próprio (gerado a partir do runId quando não informado). */
+    public static RunContext isolated(String namespace) {
+        String runId = UUID.randomUUID().toString();
+        String effectiveNamespace = (namespace == null || namespace.isBlank()) ? runId.substring(0, 8) : namespace.trim();
+        return new RunContext(runId, effectiveNamespace);
+    }
+
+    /** Execução sem namespace, com os mesmos dados fixos de sempre (endpoints /module/*). */
+    public static RunContext shared() {
+        return new RunContext(UUID.randomUUID().toString(), null);
+    }
+
+    /** Define contra o que os módulos desta execução serão comparados ao final. */
+    public RunContext compareWith(String baselineRunId, Integer baselineWindow) {
+        this.baselineRunId = baselineRunId;
+        this.baselineWindow = baselineWindow;
+        return this;
+    }
+
+    /** Aplica as opções recebidas no disparo (baseline e motor de execução); nulo mantém os padrões. */
+    public RunContext configure(RunOptionsDTO options) {
+        if (options == null) {
+            return this;
+        }
+        if (options.getEngine() != null) {
+            this.engine = options.getEngine();
+        }
+        return compareWith(options.getBaselineRunId(), options.getBaselineWindow());
+    }
+
+    public void capture(String name, String value) {
+        variables.put(name, value);
+    }
+
+    public boolean hasNamespace() {
+        return namespace != null;
+    }
+
+    /** Valores em branco ficam como estão, para não alterar os cenários de validação. */
+    public String namespaced(String value) {
+        if (!hasNamespace() || value == null || value.isBlank()) {
+            return value;
+        }
+        return value + " [" + namespace + "]";
+    }
+
+    /** Marca os casos com o runId e aplica o namespace aos campos indicados do corpo. */
+    public List<TestCaseConfigDTO> apply(List<TestCaseConfigDTO> configs, Set<String> namespacedFields) {
+        for (TestCaseConfigDTO config : configs) {
+            config.setRunId(runId);
+            if (hasNamespace() && config.getRequestBodyTemplate() != null && !namespacedFields.isEmpty()) {
+                Map<String, Object> body = new HashMap<>(config.getRequestBodyTemplate());
+                for (String field : namespacedFields) {
+                    if (body.get(field) instanceof String value) {
+                        body.put(field, namespaced(value));
+                    }
+                }
+                config.setRequestBodyTemplate(body);
+            }
+        }
+        return configs;
+    }
+}
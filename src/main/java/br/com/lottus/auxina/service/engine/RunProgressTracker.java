@@ -0,0 +1,49 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.RunProgressDTO;
+import br.com.lottus.auxina.dto.TestResult;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores e histograma de uma execução em andamento, atualizados a cada TestResult
+ * e lidos periodicamente para os eventos de progresso.
+ */
+class RunProgressTracker {
+
+    private final long startNanos = System.nanoTime();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder successful = new LongAdder();
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private long lastSnapshotNanos = startNanos;
+    private long lastSnapshotCompleted;
+
+    void record(TestResult result) {
+        histogram.recordMicros(result.getDurationMicros());
+        if (result.isSuccess()) {
+            successful.increment();
+        }
+        completed.increment();
+    }
+
+    synchronized RunProgressDTO snapshot() {
+        long now = System.nanoTime();
+        long completedNow = completed.sum();
+        long successfulNow = successful.sum();
+        double elapsedSeconds = Math.max(now - startNanos, 1) / 1_000_000_000.0;
+        double intervalSeconds = Math.max(now - lastSnapshotNanos, 1) / 1_000_000_000.0;
+        double intervalThroughput = (completedNow - lastSnapshotCompleted) / intervalSeconds;
+        lastSnapshotNanos = now;
+        lastSnapshotCompleted = completedNow;
+
+        return RunProgressDTO.builder()
+                .completedRequests(completedNow)
+                .successfulRequests(successfulNow)
+                .failedRequests(completedNow - successfulNow)
+                .elapsedMillis((now - startNanos) / 1_000_000)
+                .throughputPerSecond(completedNow / elapsedSeconds)
+                .intervalThroughputPerSecond(intervalThroughput)
+                .latency(histogram.toDTO())
+                .build();
+    }
+}
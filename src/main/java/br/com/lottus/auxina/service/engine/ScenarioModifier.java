@@ -0,0 +1,56 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.ScenarioType;
+import com.github.javafaker.Faker;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/** Modificações específicas de cada {@link ScenarioType}, aplicadas ao corpo e aos parâmetros já renderizados. */
+@Component
+public class ScenarioModifier {
+
+    private final Faker faker;
+
+    public ScenarioModifier(Faker faker) {
+        this.faker = faker;
+    }
+
+    /**
+     * Altera os dados gerados conforme o cenário (entrada inválida, recurso inexistente), apenas nos campos
+     * presentes no template original.
+     */
+    public void apply(Map<String, Object> data, ScenarioType scenarioType, Map<String, ?> originalTemplate) {
+        if (scenarioType == null || originalTemplate == null || data == null) return;
+
+        switch (scenarioType) {
+            case INVALID_INPUT_BAD_REQUEST:
+            case INVALID_INPUT_UNPROCESSABLE_ENTITY:
+                if (originalTemplate.containsKey("email") && data.containsKey("email")) {
+                    data.put("email", faker.lorem().word() + "@invalid");
+                }
+                if (originalTemplate.containsKey("age") && data.containsKey("age")) {
+                    data.put("age", -5);
+                }
+                if (originalTemplate.containsKey("nome") && data.containsKey("nome")) {
+                    data.put("nome", "");
+                }
+                if (originalTemplate.containsKey("quantidade") && data.containsKey("quantidade")) {
+                    data.put("quantidade", -1);
+                }
+                if (originalTemplate.containsKey("requiredField") && data.containsKey("requiredField")) {
+                    data.put("requiredField", null);
+                }
+                break;
+            case HAPPY_PATH:
+                break;
+            case RESOURCE_NOT_FOUND:
+                if (data.containsKey("id") && originalTemplate.containsKey("id")) {
+                    data.put("id", faker.number().randomNumber(10, true) + 999900000L);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+}
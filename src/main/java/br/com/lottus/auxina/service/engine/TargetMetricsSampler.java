@@ -0,0 +1,146 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.ActuatorMetricsResponse;
+import br.com.lottus.auxina.dto.TargetMetricsSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Coleta periódica das métricas do actuator do serviço alvo, fora do caminho das requisições de teste.
+ * As amostras ficam num buffer circular e cada TestResult recebe a amostra mais recente no momento em que termina.
+ * A coleta só fica ativa enquanto houver ao menos uma execução acompanhada por {@link #track(Flux)}.
+ */
+@Component
+public class TargetMetricsSampler {
+
+    private static final Logger logger = LoggerFactory.getLogger(TargetMetricsSampler.class);
+    private static final double BYTES_PER_MB = 1024.0 * 1024.0;
+
+    private final WebClient libraryServiceClient;
+    private final Duration interval;
+    private final AtomicReferenceArray<TargetMetricsSnapshot> buffer;
+    private final AtomicLong writeIndex = new AtomicLong();
+    private final long maxAgeMillis;
+
+    private int activeRuns;
+    private Disposable polling;
+
+    public TargetMetricsSampler(WebClient libraryServiceClient,
+                                @Value("${auxina.target-sampler.interval:250ms}") Duration interval,
+                                @Value("${auxina.target-sampler.buffer-size:4096}") int bufferSize) {
+        this.libraryServiceClient = libraryServiceClient;
+        this.interval = interval;
+        this.maxAgeMillis = interval.multipliedBy(2).toMillis();
+        this.buffer = new AtomicReferenceArray<>(bufferSize);
+    }
+
+    /** Mantém a coleta ativa enquanto o fluxo da execução estiver inscrito. */
+    public <T> Flux<T> track(Flux<T> run) {
+        return Flux.using(() -> {
+            acquire();
+            return Boolean.TRUE;
+        }, active -> run, active -> release());
+    }
+
+    /** Amostra mais recente, ou null se nenhuma coleta recente foi concluída. */
+    public TargetMetricsSnapshot latest() {
+        return nearest(System.currentTimeMillis());
+    }
+
+    /**
+     * Amostra com timestamp mais próximo do instante informado, dentre as que ainda estão no buffer.
+     * Retorna null se a mais próxima estiver a mais de dois intervalos de distância: o buffer sobrevive entre
+     * execuções e uma amostra de uma coleta anterior não descreve o alvo agora.
+     */
+    public TargetMetricsSnapshot nearest(long epochMillis) {
+        long newest = writeIndex.get();
+        long oldest = Math.max(0, newest - buffer.length());
+        TargetMetricsSnapshot best = null;
+        for (long index = newest - 1; index >= oldest; index--) {
+            TargetMetricsSnapshot candidate = buffer.get((int) (index % buffer.length()));
+            if (candidate == null) continue; // posição reservada por store() e ainda não escrita
+            if (best == null || Math.abs(candidate.getTimestampEpochMillis() - epochMillis) < Math.abs(best.getTimestampEpochMillis() - epochMillis)) {
+                best = candidate;
+            }
+            if (candidate.getTimestampEpochMillis() < epochMillis) break;
+        }
+        return best != null && Math.abs(best.getTimestampEpochMillis() - epochMillis) <= maxAgeMillis ? best : null;
+    }
+
+    private synchronized void acquire() {
+        if (activeRuns++ == 0) {
+            logger.info("Iniciando coleta de métricas do serviço alvo a cada {}", interval);
+            polling = Flux.interval(Duration.ZERO, interval)
+                    .onBackpressureDrop()
+                    .concatMap(tick -> sample(), 1)
+                    .subscribe(this::store);
+        }
+    }
+
+    private synchronized void release() {
+        if (--activeRuns == 0 && polling != null) {
+            polling.dispose();
+            polling = null;
+            logger.info("Coleta de métricas do serviço alvo encerrada");
+        }
+    }
+
+    private void store(TargetMetricsSnapshot snapshot) {
+        long index = writeIndex.getAndIncrement();
+        buffer.set((int) (index % buffer.length()), snapshot);
+    }
+
+    private Mono<TargetMetricsSnapshot> sample() {
+        long timestamp = System.currentTimeMillis();
+        return Mono.zip(
+                        fetch("jvm.memory.used", "VALUE"),
+                        fetch("jvm.gc.pause", "TOTAL_TIME"),
+                        fetch("jvm.gc.pause", "MAX"),
+                        fetch("jvm.threads.live", "VALUE"),
+                        fetch("process.cpu.usage", "VALUE"),
+                        fetch("hikaricp.connections.active", "VALUE"),
+                        fetch("hikaricp.connections.pending", "VALUE"))
+                .map(values -> TargetMetricsSnapshot.builder()
+                        .timestampEpochMillis(timestamp)
+                        .memoryUsedMB(scaled(values.getT1(), 1.0 / BYTES_PER_MB))
+                        .gcPauseTotalMillis(scaled(values.getT2(), 1000.0))
+                        .gcPauseMaxMillis(scaled(values.getT3(), 1000.0))
+                        .threadsLive(scaled(values.getT4(), 1.0))
+                        .processCpuUsage(scaled(values.getT5(), 1.0))
+                        .hikariActiveConnections(scaled(values.getT6(), 1.0))
+                        .hikariPendingConnections(scaled(values.getT7(), 1.0))
+                        .build());
+    }
+
+    // NaN indica métrica indisponível, já que Mono.zip não aceita vazios
+    private Mono<Double> fetch(String metricName, String statistic) {
+        return libraryServiceClient.get()
+                .uri("/actuator/metrics/{metric}", metricName)
+                .retrieve()
+                .bodyToMono(ActuatorMetricsResponse.class)
+                .map(response -> {
+                    if (response.getMeasurements() == null) return Double.NaN;
+                    return response.getMeasurements().stream()
+                            .filter(measurement -> statistic.equals(measurement.getStatistic()))
+                            .mapToDouble(ActuatorMetricsResponse.Measurement::getValue)
+                            .findFirst()
+                            .orElse(Double.NaN);
+                })
+                .timeout(interval.multipliedBy(4))
+                .onErrorReturn(Double.NaN);
+    }
+
+    private static Double scaled(double value, double factor) {
+        return Double.isNaN(value) ? null : value * factor;
+    }
+}
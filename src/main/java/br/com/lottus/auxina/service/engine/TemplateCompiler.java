@@ -0,0 +1,149 @@
+package br.com.lottus.auxina.service.engine;
+
+import com.github.javafaker.Faker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compila templates de requisição em {@link CompiledTemplate}. Toda a busca por reflexão, regex
+ * e conversão de argumentos dos placeholders "Faker::categoria.metodo(args)" e das referências "${variavel}"
+ * acontece aqui, uma vez por caso de teste.
+ */
+@Component
+public class TemplateCompiler {
+
+    private static final Logger logger = LoggerFactory.getLogger(TemplateCompiler.class);
+    private static final Pattern FAKER_PLACEHOLDER_PATTERN = Pattern.compile("^Faker::(\\w+)\\.(\\w+)(?:\\(([^)]*)\\))?$");
+    private static final MethodType GENERIC_SUPPLIER = MethodType.methodType(Object.class);
+
+    private final Faker faker;
+
+    public TemplateCompiler(Faker faker) {
+        this.faker = faker;
+    }
+
+    public CompiledTemplate compile(Map<String, ?> template) {
+        if (template == null) {
+            return null;
+        }
+        String[] keys = new String[template.size()];
+        CompiledTemplate.Node[] nodes = new CompiledTemplate.Node[template.size()];
+        int index = 0;
+        for (Map.Entry<String, ?> entry : template.entrySet()) {
+            keys[index] = entry.getKey();
+            nodes[index] = compileValue(entry.getValue());
+            index++;
+        }
+        return new CompiledTemplate(keys, nodes);
+    }
+
+    private CompiledTemplate.Node compileValue(Object value) {
+        if (value instanceof String text) {
+            Matcher matcher = FAKER_PLACEHOLDER_PATTERN.matcher(text);
+            if (matcher.matches()) {
+                return compileFakerPlaceholder(text, matcher.group(1), matcher.group(2), matcher.group(3));
+            }
+            InterpolatedString interpolated = InterpolatedString.compile(text);
+            return interpolated != null ? new CompiledTemplate.VariableNode(interpolated) : new CompiledTemplate.LiteralNode(text);
+        }
+        if (value instanceof Map<?, ?> nested) {
+            @SuppressWarnings("unchecked")
+            CompiledTemplate nestedTemplate = compile((Map<String, ?>) nested);
+            // Os cenários de erro só alteram o primeiro nível: mapas aninhados só com literais podem ser compartilhados
+            return nestedTemplate.isDynamic()
+                    ? new CompiledTemplate.MapNode(nestedTemplate)
+                    : new CompiledTemplate.LiteralNode(Collections.unmodifiableMap(nestedTemplate.render()));
+        }
+        if (value instanceof List<?> list) {
+            CompiledTemplate.Node[] items = list.stream().map(this::compileValue).toArray(CompiledTemplate.Node[]::new);
+            boolean dynamic = Arrays.stream(items).anyMatch(CompiledTemplate.Node::isDynamic);
+            // Listas só com literais podem ser compartilhadas entre renderizações
+            return dynamic
+                    ? new CompiledTemplate.ListNode(items)
+                    : new CompiledTemplate.LiteralNode(Arrays.stream(items).map(item -> item.render(Map.of())).toList());
+        }
+        return new CompiledTemplate.LiteralNode(value);
+    }
+
+    private CompiledTemplate.Node compileFakerPlaceholder(String placeholder, String categoryName, String methodName, String argsString) {
+        try {
+            return new FakerNode(placeholder, resolveFakerMethod(categoryName, methodName, argsString));
+        } catch (Throwable e) {
+            logger.warn("Placeholder Faker '{}' não pôde ser resolvido ({}). Usando placeholder como valor literal.", placeholder, e.getMessage());
+            return new CompiledTemplate.LiteralNode(placeholder);
+        }
+    }
+
+    private MethodHandle resolveFakerMethod(String categoryName, String methodName, String argsString) throws Throwable {
+        Object categoryInstance = Faker.class.getMethod(categoryName.toLowerCase()).invoke(faker);
+
+        String[] argValuesStr = StringUtils.hasText(argsString)
+                ? Arrays.stream(argsString.split(",")).map(String::trim).toArray(String[]::new)
+                : new String[0];
+
+        Method targetMethod = null;
+        for (Method m : categoryInstance.getClass().getMethods()) {
+            if (m.getName().equals(methodName) && m.getParameterCount() == argValuesStr.length) {
+                targetMethod = m;
+                break;
+            }
+        }
+        if (targetMethod == null) {
+            throw new NoSuchMethodException("Método " + methodName + " com " + argValuesStr.length + " argumentos não encontrado em " + categoryInstance.getClass().getName());
+        }
+
+        MethodHandle handle = MethodHandles.publicLookup().unreflect(targetMethod).bindTo(categoryInstance);
+        if (argValuesStr.length > 0) {
+            handle = MethodHandles.insertArguments(handle, 0, parseArguments(argValuesStr, targetMethod.getParameterTypes()));
+        }
+        return handle.asType(GENERIC_SUPPLIER);
+    }
+
+    private static Object[] parseArguments(String[] argValuesStr, Class<?>[] paramTypes) {
+        Object[] mappedArgumentValues = new Object[argValuesStr.length];
+        for (int i = 0; i < argValuesStr.length; i++) {
+            if (paramTypes[i] == int.class || paramTypes[i] == Integer.class) {
+                mappedArgumentValues[i] = Integer.parseInt(argValuesStr[i]);
+            } else if (paramTypes[i] == long.class || paramTypes[i] == Long.class) {
+                mappedArgumentValues[i] = Long.parseLong(argValuesStr[i]);
+            } else if (paramTypes[i] == double.class || paramTypes[i] == Double.class) {
+                mappedArgumentValues[i] = Double.parseDouble(argValuesStr[i]);
+            } else if (paramTypes[i] == boolean.class || paramTypes[i] == Boolean.class) {
+                mappedArgumentValues[i] = Boolean.parseBoolean(argValuesStr[i]);
+            } else {
+                mappedArgumentValues[i] = argValuesStr[i];
+            }
+        }
+        return mappedArgumentValues;
+    }
+
+    /** Placeholder Faker já resolvido; em caso de falha na geração, mantém o placeholder literal. */
+    private record FakerNode(String placeholder, MethodHandle generator) implements CompiledTemplate.Node {
+        @Override
+        public Object render(Map<String, String> variables) {
+            try {
+                return (Object) generator.invokeExact();
+            } catch (Throwable e) {
+                return placeholder;
+            }
+        }
+
+        @Override
+        public boolean isDynamic() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.TestCaseConfigDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Executa os casos de uma suíte como um grafo de dependências (DAG), em paralelo até o limite configurado.
+ * As arestas vêm de {@code dependsOn} e dos recursos lidos/escritos, interpretados na ordem da lista:
+ * <ul>
+ *     <li>leitura de um recurso espera o último caso que o escreveu;</li>
+ *     <li>escrita espera o último escritor e todas as leituras feitas depois dele;</li>
+ *     <li>casos sem nenhuma declaração são barreiras: esperam tudo que veio antes e bloqueiam tudo que vem depois.</li>
+ * </ul>
+ * Casos que referenciam uma variável ({@code ${nome}}) também esperam o caso que a captura.
+ * Assim uma suíte sem anotações continua rodando em série, exatamente como com concatMap.
+ */
+@Component
+public class TestCaseScheduler {
+
+    private static final String BARRIER_RESOURCE = "*";
+
+    private final int maxConcurrency;
+
+    public TestCaseScheduler(@Value("${auxina.scheduler.max-concurrency:4}") int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /** Os resultados são emitidos na ordem em que os casos terminam. */
+    public <T> Flux<T> schedule(List<TestCaseConfigDTO> cases, Function<TestCaseConfigDTO, Mono<T>> executor) {
+        if (cases.isEmpty()) {
+            return Flux.empty();
+        }
+        return Flux.defer(() -> {
+            Execution execution = new Execution(buildSuccessors(cases));
+            return execution.ready.asFlux()
+                    .flatMap(index -> executor.apply(cases.get(index))
+                            .doFinally(signal -> execution.complete(index)), maxConcurrency);
+        });
+    }
+
+    /** Lista de sucessores de cada caso (índices na lista original). */
+    static List<Set<Integer>> buildSuccessors(List<TestCaseConfigDTO> cases) {
+        List<Set<Integer>> successors = new ArrayList<>(cases.size());
+        Map<String, Integer> indexByName = new HashMap<>();
+        Map<String, Integer> lastWriter = new HashMap<>();
+        Map<String, List<Integer>> readersSinceWrite = new HashMap<>();
+        Map<String, Integer> capturedBy = new HashMap<>();
+
+        for (int index = 0; index < cases.size(); index++) {
+            TestCaseConfigDTO config = cases.get(index);
+            successors.add(new LinkedHashSet<>());
+            indexByName.put(config.getTestName(), index);
+
+            boolean barrier = config.getDependsOn() == null && config.getReadsResources() == null && config.getWritesResources() == null;
+            Set<String> reads = new LinkedHashSet<>();
+            Set<String> writes = new LinkedHashSet<>();
+            if (barrier) {
+                writes.add(BARRIER_RESOURCE);
+            } else {
+                reads.add(BARRIER_RESOURCE);
+                if (config.getReadsResources() != null) reads.addAll(config.getReadsResources());
+                if (config.getWritesResources() != null) writes.addAll(config.getWritesResources());
+                reads.removeAll(writes);
+            }
+
+            Set<Integer> predecessors = new LinkedHashSet<>();
+            if (config.getDependsOn() != null) {
+                for (String dependency : config.getDependsOn()) {
+                    Integer dependencyIndex = indexByName.get(dependency);
+                    if (dependencyIndex == null) {
+                        throw new IllegalArgumentException("Caso " + config.getTestName() + " depende de " + dependency
+                                + ", que não existe ou aparece depois na suíte");
+                    }
+                    predecessors.add(dependencyIndex);
+                }
+            }
+            for (String variable : referencedVariables(config)) {
+                Integer capturer = capturedBy.get(variable);
+                if (capturer != null) predecessors.add(capturer);
+            }
+            for (String resource : reads) {
+                Integer writer = lastWriter.get(resource);
+                if (writer != null) predecessors.add(writer);
+                readersSinceWrite.computeIfAbsent(resource, key -> new ArrayList<>()).add(index);
+            }
+            for (String resource : writes) {
+                Integer writer = lastWriter.get(resource);
+                if (writer != null) predecessors.add(writer);
+                List<Integer> readers = readersSinceWrite.remove(resource);
+                if (readers != null) predecessors.addAll(readers);
+                lastWriter.put(resource, index);
+            }
+
+            for (Integer predecessor : predecessors) {
+                successors.get(predecessor).add(index);
+            }
+            if (config.getCaptures() != null) {
+                for (String variable : config.getCaptures().keySet()) {
+                    capturedBy.put(variable, index);
+                }
+            }
+        }
+        return successors;
+    }
+
+    private static Set<String> referencedVariables(TestCaseConfigDTO config) {
+        Set<String> variables = InterpolatedString.references(config.getEndpoint());
+        variables.addAll(InterpolatedString.references(config.getRequestBodyTemplate()));
+        variables.addAll(InterpolatedString.references(config.getQueryParamsTemplate()));
+        return variables;
+    }
+
+    /** Estado de uma execução: contagem de dependências pendentes e fila de casos liberados. */
+    private static final class Execution {
+        private final List<Set<Integer>> successors;
+        private final int[] pendingPredecessors;
+        private final Sinks.Many<Integer> ready = Sinks.many().unicast().onBackpressureBuffer();
+        private int completed;
+
+        private Execution(List<Set<Integer>> successors) {
+            this.successors = successors;
+            this.pendingPredecessors = new int[successors.size()];
+            for (Set<Integer> next : successors) {
+                for (Integer successor : next) {
+                    pendingPredecessors[successor]++;
+                }
+            }
+            for (int index = 0; index < pendingPredecessors.length; index++) {
+                if (pendingPredecessors[index] == 0) {
+                    ready.tryEmitNext(index);
+                }
+            }
+        }
+
+        // Conclusões chegam de threads diferentes; o Sink exige emissões serializadas
+        private synchronized void complete(int index) {
+            for (Integer successor : successors.get(index)) {
+                if (--pendingPredecessors[successor] == 0) {
+                    ready.tryEmitNext(successor);
+                }
+            }
+            if (++completed == pendingPredecessors.length) {
+                ready.tryEmitComplete();
+            }
+        }
+    }
+}
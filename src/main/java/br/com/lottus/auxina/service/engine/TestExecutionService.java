@@ -1,30 +1,23 @@
 package br.com.lottus.auxina.service.engine; // Exemplo de novo pacote
 
-import br.com.lottus.auxina.dto.ActuatorMetricsResponse;
-import br.com.lottus.auxina.dto.ScenarioType;
+import br.com.lottus.auxina.dto.ExecutionEngine;
 import br.com.lottus.auxina.dto.TestCaseConfigDTO;
 import br.com.lottus.auxina.dto.TestResult;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.javafaker.Faker;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.util.StringUtils;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
-import java.lang.reflect.Method;
-import java.util.Arrays;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 @Service
 public class TestExecutionService {
@@ -32,295 +25,163 @@ public class TestExecutionService {
 
 
     private static final Logger logger = LoggerFactory.getLogger(TestExecutionService.class);
-    private static final Pattern FAKER_PLACEHOLDER_PATTERN = Pattern.compile("^Faker::(\\w+)\\.(\\w+)(?:\\(([^)]*)\\))?$");
 
-    private final WebClient libraryServiceClient;
-    private final Faker faker;
+    public static final String RUN_ID_HEADER = "X-Auxina-Run-Id";
+
+    private final ScenarioModifier scenarioModifier;
     private final MeterRegistry meterRegistry;
     private final ObjectMapper objectMapper; // Injetar ObjectMapper para serialização JSON
-
-    public TestExecutionService(WebClient libraryServiceClient, Faker faker, MeterRegistry meterRegistry, ObjectMapper objectMapper) {
-        this.libraryServiceClient = libraryServiceClient;
-        this.faker = faker;
+    private final TemplateCompiler templateCompiler;
+    private final ResponseAssertionCompiler responseAssertionCompiler;
+    private final Map<ExecutionEngine, TestExecutor> executors = new EnumMap<>(ExecutionEngine.class);
+    private final VirtualThreadTestExecutor virtualThreadTestExecutor;
+
+    public TestExecutionService(ScenarioModifier scenarioModifier, MeterRegistry meterRegistry, ObjectMapper objectMapper,
+                                TemplateCompiler templateCompiler, ResponseAssertionCompiler responseAssertionCompiler,
+                                List<TestExecutor> executors, VirtualThreadTestExecutor virtualThreadTestExecutor) {
+        this.scenarioModifier = scenarioModifier;
         this.meterRegistry = meterRegistry;
         this.objectMapper = objectMapper; // Injetar
+        this.templateCompiler = templateCompiler;
+        this.responseAssertionCompiler = responseAssertionCompiler;
+        executors.forEach(executor -> this.executors.put(executor.engine(), executor));
+        this.virtualThreadTestExecutor = virtualThreadTestExecutor;
     }
 
     public Mono<TestResult> executeTest(TestCaseConfigDTO config) {
-        long startTime = System.nanoTime();
-        Timer.Sample sample = Timer.start(meterRegistry);
-
-        // Este é o objeto que será enviado como corpo da requisição (para POST/PUT)
-        Object requestBodyObject = generateRequestBody(config);
-        Map<String, String> queryParams = generateQueryParams(config);
-
-        // Serializar o requestBodyObject para String (JSON) para armazenar no TestResult
-        String requestPayloadString = null;
-        if (requestBodyObject != null) {
-            try {
-                requestPayloadString = objectMapper.writeValueAsString(requestBodyObject);
-            } catch (JsonProcessingException e) {
-                logger.error("Erro ao serializar requestBody para o teste {}: {}", config.getTestName(), e.getMessage());
-                requestPayloadString = "ERRO_AO_SERIALIZAR_REQUEST_BODY: " + e.getMessage();
-            }
-        }
-
-        WebClient.RequestBodySpec requestBodySpec;
-        WebClient.RequestHeadersSpec<?> requestHeadersSpec;
-
-        String httpMethodUpper = config.getHttpMethod().toUpperCase();
-
-        switch (httpMethodUpper) {
-            case "POST":
-                requestBodySpec = libraryServiceClient.post().uri(config.getEndpoint());
-                requestHeadersSpec = (requestBodyObject != null) ? requestBodySpec.bodyValue(requestBodyObject) : requestBodySpec;
-                break;
-            case "PUT":
-                requestBodySpec = libraryServiceClient.put().uri(config.getEndpoint());
-                requestHeadersSpec = (requestBodyObject != null) ? requestBodySpec.bodyValue(requestBodyObject) : requestBodySpec;
-                break;
-            // ... (casos DELETE, GET como antes) ...
-            case "DELETE":
-                requestHeadersSpec = libraryServiceClient.delete().uri(config.getEndpoint());
-                break;
-            case "GET":
-            default:
-                requestHeadersSpec = libraryServiceClient.get()
-                        .uri(uriBuilder -> {
-                            uriBuilder.path(config.getEndpoint());
-                            if (queryParams != null && !queryParams.isEmpty()) {
-                                queryParams.forEach(uriBuilder::queryParam);
-                            }
-                            return uriBuilder.build();
-                        });
-                break;
-        }
-
-        // Capturar o requestPayloadString final para usar no builder
-        final String finalRequestPayloadString = requestPayloadString;
+        return executeTest(config, null);
+    }
 
-        return requestHeadersSpec
-                .exchangeToMono(clientResponse -> {
-                    long durationNanos = System.nanoTime() - startTime;
-                    boolean success = clientResponse.statusCode().value() == config.getExpectedHtppStatus();
+    /**
+     * Executa o caso dentro de uma execução: variáveis são resolvidas e capturadas no {@code runContext},
+     * e o motor é o escolhido para a execução.
+     */
+    public Mono<TestResult> executeTest(TestCaseConfigDTO config, RunContext runContext) {
+        ExecutionEngine engine = runContext != null ? runContext.getEngine() : ExecutionEngine.REACTIVE;
+        return execute(prepare(config), TestRequest.UNSCHEDULED, runContext, engine);
+    }
 
-                    Timer specificTestTimer = meterRegistry.timer(config.getTestName() + ".duration", "success", String.valueOf(success));
-                    specificTestTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+    /**
+     * Resolve uma única vez o que não muda entre execuções do mesmo caso (meters, templates e asserções compilados).
+     * Execuções repetidas (carga) devem preparar o caso antes e reutilizar o resultado.
+     */
+    public PreparedTestCase prepare(TestCaseConfigDTO config) {
+        return prepare(config, true);
+    }
 
-                    String endpointDetails = config.getEndpoint();
-                    if (queryParams != null && !queryParams.isEmpty()){
-                        endpointDetails += "?" + queryParams.entrySet().stream()
-                                .map(e -> e.getKey() + "=" + e.getValue())
-                                .collect(Collectors.joining("&"));
-                    }
+    /**
+     * @param captureRequestPayload se o JSON enviado deve ser copiado para TestResult.requestPayload;
+     *                              execuções de carga desligam para evitar uma String por requisição
+     */
+    public PreparedTestCase prepare(TestCaseConfigDTO config, boolean captureRequestPayload) {
+        return prepare(config, captureRequestPayload, RequestMeters.PHASE_MEASURE);
+    }
 
-                    TestResult.TestResultBuilder resultBuilder = TestResult.builder()
-                            .testName(config.getTestName())
-                            .targetEndpoint(endpointDetails)
-                            .methodGroupKey(config.getMethodGroupKey())
-                            .success(success)
-                            .durationMillis(TimeUnit.NANOSECONDS.toMillis(durationNanos))
-                            .httpStatus(clientResponse.statusCode().value())
-                            .requestPayload(finalRequestPayloadString); // ADICIONADO AQUI
+    /** Caso usado apenas no aquecimento: timers com phase=warmup e sem cópia do payload. */
+    public PreparedTestCase prepareWarmup(TestCaseConfigDTO config) {
+        return prepare(config, false, RequestMeters.PHASE_WARMUP);
+    }
 
-                    // A lógica de buscar memória continua após liberar o corpo da RESPOSTA
-                    return clientResponse.releaseBody() // É importante liberar o corpo da RESPOSTA
-                            .then(Mono.defer(() -> getTargetServiceMemoryUsage()
-                                    .map(memoryMb -> resultBuilder.targetServiceMemoryUsedMB(memoryMb).build())
-                                    .defaultIfEmpty(resultBuilder.build())
-                            ));
-                })
-                .onErrorResume(ex -> { // Erros de comunicação
-                    long durationNanos = System.nanoTime() - startTime;
-                    logger.error("Erro de comunicação ao executar teste configurável {}: {}", config.getTestName(), ex.getMessage());
-                    boolean isExpectedNetworkError = config.getExpectedHtppStatus() == 0;
+    private PreparedTestCase prepare(TestCaseConfigDTO config, boolean captureRequestPayload, String phase) {
+        Map<String, String> queryParamsTemplate = config.getQueryParamsTemplate();
+        return new PreparedTestCase(config, new RequestMeters(meterRegistry, config, phase),
+                templateCompiler.compile(config.getRequestBodyTemplate()),
+                queryParamsTemplate == null || queryParamsTemplate.isEmpty() ? null : templateCompiler.compile(queryParamsTemplate),
+                responseAssertionCompiler.compile(config), captureRequestPayload);
+    }
 
-                    Timer specificTestTimer = meterRegistry.timer(config.getTestName() + ".duration", "success", String.valueOf(isExpectedNetworkError));
-                    specificTestTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+    public Mono<TestResult> executeTest(PreparedTestCase preparedTestCase) {
+        return executeTest(preparedTestCase, TestRequest.UNSCHEDULED);
+    }
 
-                    return Mono.just(TestResult.builder()
-                            .testName(config.getTestName())
-                            .methodGroupKey(config.getMethodGroupKey())
-                            .targetEndpoint(config.getEndpoint())
-                            .success(isExpectedNetworkError)
-                            .durationMillis(TimeUnit.NANOSECONDS.toMillis(durationNanos))
-                            .httpStatus(0)
-                            .requestPayload(finalRequestPayloadString) // ADICIONADO AQUI TAMBÉM
-                            .build());
-                })
-                .doFinally(signalType -> {
-                    sample.stop(meterRegistry.timer(config.getTestName() + ".overall.duration"));
-                    // logger.info(...);
-                });
+    /**
+     * Executa o teste com o instante planejado {@code intendedStartNanos} (base System.nanoTime(), ou
+     * {@link TestRequest#UNSCHEDULED}). A duração é medida do envio efetivo e a latência corrigida a partir do
+     * instante planejado, para não esconder os atrasos do próprio envio (agendador ou usuário virtual com ritmo).
+     */
+    public Mono<TestResult> executeTest(PreparedTestCase preparedTestCase, long intendedStartNanos) {
+        return executeTest(preparedTestCase, intendedStartNanos, ExecutionEngine.REACTIVE);
     }
 
-    // ... (todos os outros métodos: generateRequestBody, generateQueryParams, processTemplate, invokeFakerMethod, applyScenarioSpecificModifications, getTargetServiceMemoryUsage)
-    // permanecem os mesmos ...
-    private Object generateRequestBody(TestCaseConfigDTO config) {
-        if (config.getRequestBodyTemplate() == null) {
-            return null;
-        }
-        Map<String, Object> generatedBody = processTemplate(config.getRequestBodyTemplate());
-        applyScenarioSpecificModifications(generatedBody, config.getScenarioType(), config.getRequestBodyTemplate());
-        return generatedBody;
+    /** Igual a {@link #executeTest(PreparedTestCase, long)}, no motor indicado. */
+    public Mono<TestResult> executeTest(PreparedTestCase preparedTestCase, long intendedStartNanos, ExecutionEngine engine) {
+        return execute(preparedTestCase, intendedStartNanos, null, engine);
     }
 
-    private Map<String, String> generateQueryParams(TestCaseConfigDTO config) {
-        if (config.getQueryParamsTemplate() == null || config.getQueryParamsTemplate().isEmpty()) {
-            return Collections.emptyMap();
+    /**
+     * Versão bloqueante para usuários virtuais que já rodam numa virtual thread (motor VIRTUAL_THREADS):
+     * envia na própria thread, sem passar pelo Reactor.
+     */
+    public TestResult executeBlocking(PreparedTestCase preparedTestCase, long intendedStartNanos) {
+        TestRequest request = buildRequest(preparedTestCase, intendedStartNanos, null);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return virtualThreadTestExecutor.executeBlocking(request);
+        } finally {
+            sample.stop(preparedTestCase.getMeters().overall());
         }
-        Map<String, Object> processedParamsAsObjects = processTemplate(config.getQueryParamsTemplate());
-        Map<String, String> generatedParams = processedParamsAsObjects.entrySet().stream()
-                .collect(Collectors.toMap(Map.Entry::getKey, e -> String.valueOf(e.getValue())));
-
-        Map<String, Object> tempModifiableMap = new HashMap<>(generatedParams);
-        applyScenarioSpecificModifications(tempModifiableMap, config.getScenarioType(), config.getQueryParamsTemplate());
+    }
 
-        return tempModifiableMap.entrySet().stream()
-                .collect(Collectors.toMap(Map.Entry::getKey, e -> String.valueOf(e.getValue())));
+    private Mono<TestResult> execute(PreparedTestCase preparedTestCase, long intendedStartNanos, RunContext runContext,
+                                     ExecutionEngine engine) {
+        TestExecutor executor = executors.get(engine);
+        return Mono.defer(() -> {
+            TestRequest request = buildRequest(preparedTestCase, intendedStartNanos, runContext);
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return executor.execute(request)
+                    .doFinally(signalType -> sample.stop(preparedTestCase.getMeters().overall()));
+        });
     }
 
-    private Map<String, Object> processTemplate(Map<String, ?> template) {
-        Map<String, Object> result = new HashMap<>();
-        if (template == null) return result;
+    // Resolve variáveis, gera e serializa o corpo uma única vez: os mesmos bytes são enviados por qualquer motor
+    private TestRequest buildRequest(PreparedTestCase preparedTestCase, long intendedStartNanos, RunContext runContext) {
+        TestCaseConfigDTO config = preparedTestCase.getConfig();
+        // Sem execução associada (ex.: carga) as referências usam o valor padrão
+        Map<String, String> variables = runContext != null ? runContext.getVariables() : Map.of();
+        String endpoint = preparedTestCase.resolveEndpoint(variables);
 
-        for (Map.Entry<String, ?> entry : template.entrySet()) {
-            String key = entry.getKey();
-            Object value = entry.getValue();
+        // Este é o objeto que será enviado como corpo da requisição (para POST/PUT)
+        Object requestBodyObject = generateRequestBody(preparedTestCase, variables);
+        Map<String, String> queryParams = generateQueryParams(preparedTestCase, variables);
 
-            if (value instanceof String) {
-                Matcher matcher = FAKER_PLACEHOLDER_PATTERN.matcher((String) value);
-                if (matcher.matches()) {
-                    try {
-                        Object fakerValue = invokeFakerMethod(matcher.group(1), matcher.group(2), matcher.group(3));
-                        result.put(key, fakerValue);
-                    } catch (Exception e) {
-                        // logger.warn("Falha ao invocar método Faker para placeholder '{}': {}. Usando placeholder como valor literal.", value, e.getMessage());
-                        result.put(key, value);
-                    }
-                } else {
-                    result.put(key, value);
+        byte[] requestBody = null;
+        String requestPayloadString = null;
+        if (requestBodyObject != null) {
+            try {
+                requestBody = objectMapper.writeValueAsBytes(requestBodyObject);
+                if (preparedTestCase.isCaptureRequestPayload()) {
+                    requestPayloadString = new String(requestBody, StandardCharsets.UTF_8);
                 }
-            } else if (value instanceof Map) {
-                result.put(key, processTemplate((Map<String, ?>) value));
-            } else if (value instanceof java.util.List) {
-                result.put(key, ((java.util.List<?>) value).stream()
-                        .map(item -> {
-                            if (item instanceof String) {
-                                Matcher matcher = FAKER_PLACEHOLDER_PATTERN.matcher((String) item);
-                                if (matcher.matches()) {
-                                    try {
-                                        return invokeFakerMethod(matcher.group(1), matcher.group(2), matcher.group(3));
-                                    } catch (Exception e) {
-                                        // logger.warn("Falha ao invocar método Faker para placeholder em lista '{}': {}. Usando placeholder.", item, e.getMessage());
-                                        return item;
-                                    }
-                                }
-                            } else if (item instanceof Map) {
-                                return processTemplate((Map<String, ?>) item);
-                            }
-                            return item;
-                        })
-                        .collect(Collectors.toList()));
-            } else {
-                result.put(key, value);
+            } catch (JsonProcessingException e) {
+                logger.error("Erro ao serializar requestBody para o teste {}: {}", config.getTestName(), e.getMessage());
+                requestPayloadString = "ERRO_AO_SERIALIZAR_REQUEST_BODY: " + e.getMessage();
             }
         }
-        return result;
+        return new TestRequest(preparedTestCase, endpoint, queryParams, requestBody, requestPayloadString,
+                intendedStartNanos, runContext);
     }
 
-    private Object invokeFakerMethod(String categoryName, String methodName, String argsString) throws Exception {
-        Method categoryMethod = Faker.class.getMethod(categoryName.toLowerCase());
-        Object categoryInstance = categoryMethod.invoke(faker);
-
-        if (!StringUtils.hasText(argsString)) {
-            Method targetMethod = categoryInstance.getClass().getMethod(methodName);
-            return targetMethod.invoke(categoryInstance);
-        } else {
-            String[] argValuesStr = Arrays.stream(argsString.split(","))
-                    .map(String::trim)
-                    .toArray(String[]::new);
-
-            Method targetMethod = null;
-            for (Method m : categoryInstance.getClass().getMethods()) {
-                if (m.getName().equals(methodName) && m.getParameterCount() == argValuesStr.length) {
-                    targetMethod = m;
-                    break;
-                }
-            }
-
-            if (targetMethod == null) {
-                throw new NoSuchMethodException("Método " + methodName + " com " + argValuesStr.length + " argumentos não encontrado em " + categoryInstance.getClass().getName());
-            }
-
-            Object[] MappedArgumentValues = new Object[argValuesStr.length];
-            Class<?>[] paramTypes = targetMethod.getParameterTypes();
-            for (int i = 0; i < argValuesStr.length; i++) {
-                if (paramTypes[i] == int.class || paramTypes[i] == Integer.class) {
-                    MappedArgumentValues[i] = Integer.parseInt(argValuesStr[i]);
-                } else if (paramTypes[i] == long.class || paramTypes[i] == Long.class) {
-                    MappedArgumentValues[i] = Long.parseLong(argValuesStr[i]);
-                } else if (paramTypes[i] == double.class || paramTypes[i] == Double.class) {
-                    MappedArgumentValues[i] = Double.parseDouble(argValuesStr[i]);
-                } else if (paramTypes[i] == boolean.class || paramTypes[i] == Boolean.class) {
-                    MappedArgumentValues[i] = Boolean.parseBoolean(argValuesStr[i]);
-                } else {
-                    MappedArgumentValues[i] = argValuesStr[i];
-                }
-            }
-            return targetMethod.invoke(categoryInstance, MappedArgumentValues);
+    private Object generateRequestBody(PreparedTestCase preparedTestCase, Map<String, String> variables) {
+        if (preparedTestCase.getRequestBodyTemplate() == null) {
+            return null;
         }
+        TestCaseConfigDTO config = preparedTestCase.getConfig();
+        Map<String, Object> generatedBody = preparedTestCase.getRequestBodyTemplate().render(variables);
+        scenarioModifier.apply(generatedBody, config.getScenarioType(), config.getRequestBodyTemplate());
+        return generatedBody;
     }
 
-    private void applyScenarioSpecificModifications(Map<String, Object> data,
-                                                    ScenarioType scenarioType,
-                                                    Map<String, ?> originalTemplate) {
-        if (scenarioType == null || originalTemplate == null || data == null) return;
-
-        switch (scenarioType) {
-            case INVALID_INPUT_BAD_REQUEST:
-            case INVALID_INPUT_UNPROCESSABLE_ENTITY:
-                if (originalTemplate.containsKey("email") && data.containsKey("email")) {
-                    data.put("email", faker.lorem().word() + "@invalid");
-                }
-                if (originalTemplate.containsKey("age") && data.containsKey("age")) {
-                    data.put("age", -5);
-                }
-                if (originalTemplate.containsKey("nome") && data.containsKey("nome")) {
-                    data.put("nome", "");
-                }
-                if (originalTemplate.containsKey("quantidade") && data.containsKey("quantidade")) {
-                    data.put("quantidade", -1);
-                }
-                if (originalTemplate.containsKey("requiredField") && data.containsKey("requiredField")) {
-                    data.put("requiredField", null);
-                }
-                break;
-            case HAPPY_PATH:
-                break;
-            case RESOURCE_NOT_FOUND:
-                if (data.containsKey("id") && originalTemplate.containsKey("id")) {
-                    data.put("id", faker.number().randomNumber(10, true) + 999900000L);
-                }
-                break;
-            default:
-                break;
+    private Map<String, String> generateQueryParams(PreparedTestCase preparedTestCase, Map<String, String> variables) {
+        if (preparedTestCase.getQueryParamsTemplate() == null) {
+            return Collections.emptyMap();
         }
-    }
-    private Mono<Double> getTargetServiceMemoryUsage() {
-        final String memoryMetricEndpoint = "/actuator/metrics/jvm.memory.used";
-        return libraryServiceClient.get()
-                .uri(memoryMetricEndpoint)
-                .retrieve()
-                .bodyToMono(ActuatorMetricsResponse.class)
-                .map(metricResponse -> {
-                    if (metricResponse != null && metricResponse.getMeasurements() != null && !metricResponse.getMeasurements().isEmpty()) {
-                        double memoryBytes = metricResponse.getMeasurements().get(0).getValue();
-                        return memoryBytes / (1024.0 * 1024.0);
-                    }
-                    return null;
-                })
-                .onErrorResume(e -> Mono.empty());
+        TestCaseConfigDTO config = preparedTestCase.getConfig();
+        Map<String, Object> generatedParams = preparedTestCase.getQueryParamsTemplate().render(variables);
+        scenarioModifier.apply(generatedParams, config.getScenarioType(), config.getQueryParamsTemplate());
+
+        Map<String, String> queryParams = new HashMap<>((int) (generatedParams.size() / 0.75f) + 1);
+        generatedParams.forEach((key, value) -> queryParams.put(key, String.valueOf(value)));
+        return queryParams;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,17 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.ExecutionEngine;
+import br.com.lottus.auxina.dto.TestResult;
+import reactor.core.publisher.Mono;
+
+/**
+ * Motor que envia uma {@link TestRequest} ao serviço alvo. Todos os motores produzem o TestResult e registram os timers
+ * via {@link TestResultFactory}, de modo que relatórios, histórico e métricas não dependem do motor escolhido.
+ */
+public interface TestExecutor {
+
+    ExecutionEngine engine();
+
+    /** Nunca termina com erro: falhas de comunicação viram um TestResult com httpStatus 0. */
+    Mono<TestResult> execute(TestRequest request);
+}
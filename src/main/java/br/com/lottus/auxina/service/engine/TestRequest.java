@@ -0,0 +1,96 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.TestCaseConfigDTO;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Requisição de um caso já resolvida (endpoint, parâmetros e corpo serializado), pronta para qualquer {@link TestExecutor}.
+ * Montada por {@link TestExecutionService}, garantindo que os motores enviem exatamente o mesmo conteúdo.
+ */
+public final class TestRequest {
+
+    /** Instante planejado das requisições sem agenda (suítes e modelo fechado sem ritmo). */
+    public static final long UNSCHEDULED = Long.MIN_VALUE;
+
+    private final PreparedTestCase testCase;
+    private final String endpoint;
+    private final Map<String, String> queryParams;
+    private final byte[] body;
+    private final String requestPayload;
+    private final long intendedStartNanos;
+    private final RunContext runContext;
+
+    TestRequest(PreparedTestCase testCase, String endpoint, Map<String, String> queryParams, byte[] body,
+                String requestPayload, long intendedStartNanos, RunContext runContext) {
+        this.testCase = testCase;
+        this.endpoint = endpoint;
+        this.queryParams = queryParams;
+        this.body = body;
+        this.requestPayload = requestPayload;
+        this.intendedStartNanos = intendedStartNanos;
+        this.runContext = runContext;
+    }
+
+    public TestCaseConfigDTO config() {
+        return testCase.getConfig();
+    }
+
+    public RequestMeters meters() {
+        return testCase.getMeters();
+    }
+
+    ResponseAssertions assertions() {
+        return testCase.getAssertions();
+    }
+
+    public String httpMethod() {
+        return config().getHttpMethod().toUpperCase();
+    }
+
+    public String endpoint() {
+        return endpoint;
+    }
+
+    /** Vazio quando o caso não define parâmetros; só são enviados em GET. */
+    public Map<String, String> queryParams() {
+        return queryParams;
+    }
+
+    /** JSON do corpo, ou null (sem corpo, ou falha de serialização). */
+    public byte[] body() {
+        return body;
+    }
+
+    String requestPayload() {
+        return requestPayload;
+    }
+
+    /** Instante planejado do envio (System.nanoTime()), ou {@link #UNSCHEDULED}. */
+    public long intendedStartNanos() {
+        return intendedStartNanos;
+    }
+
+    public boolean isScheduled() {
+        return intendedStartNanos != UNSCHEDULED;
+    }
+
+    public String runId() {
+        return config().getRunId();
+    }
+
+    RunContext runContext() {
+        return runContext;
+    }
+
+    /** Endpoint com a query string, como exibido no TestResult. */
+    String endpointDetails() {
+        if (queryParams.isEmpty()) {
+            return endpoint;
+        }
+        return endpoint + "?" + queryParams.entrySet().stream()
+                .map(e -> e.getKey() + "=" + e.getValue())
+                .collect(Collectors.joining("&"));
+    }
+}
@@ -0,0 +1,147 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.TargetMetricsSnapshot;
+import br.com.lottus.auxina.dto.TestCaseConfigDTO;
+import br.com.lottus.auxina.dto.TestResult;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/** Monta os TestResults e registra os timers de cada requisição, da mesma forma para todos os motores. */
+@Component
+public class TestResultFactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(TestResultFactory.class);
+
+    private final TargetMetricsSampler targetMetricsSampler;
+    private final ObjectMapper objectMapper;
+
+    public TestResultFactory(TargetMetricsSampler targetMetricsSampler, ObjectMapper objectMapper) {
+        this.targetMetricsSampler = targetMetricsSampler;
+        this.objectMapper = objectMapper;
+    }
+
+    /** Se o corpo da resposta precisa ser lido (captura de variáveis); caso contrário deve ser descartado. */
+    public boolean needsResponseBody(TestRequest request, int httpStatus) {
+        TestCaseConfigDTO config = request.config();
+        return request.runContext() != null && config.getCaptures() != null && !config.getCaptures().isEmpty()
+                && httpStatus >= 200 && httpStatus < 300;
+    }
+
+    /**
+     * Inicia a verificação do corpo quando o caso declara asserções e o status é o esperado; senão null.
+     * O motor alimenta a verificação com os blocos do corpo e a entrega a {@link #fromResponse}.
+     */
+    public ResponseAssertions.Evaluation startAssertions(TestRequest request, int httpStatus) {
+        ResponseAssertions assertions = request.assertions();
+        return assertions != null && httpStatus == request.config().getExpectedHtppStatus() ? assertions.start() : null;
+    }
+
+    /**
+     * Resposta recebida. A duração é medida do envio efetivo até o fim da leitura do corpo; o tempo até o primeiro
+     * byte (status e cabeçalhos) e o tamanho do corpo vão separados no TestResult.
+     * @param assertions verificação já alimentada com todo o corpo, ou null
+     * @param responseBody lido apenas quando {@link #needsResponseBody} é verdadeiro, senão null
+     */
+    public TestResult fromResponse(TestRequest request, int httpStatus, ResponseTiming timing,
+                                   ResponseAssertions.Evaluation assertions, byte[] responseBody) {
+        long durationNanos = timing.durationNanos();
+        TestCaseConfigDTO config = request.config();
+        String assertionFailure = assertions != null ? assertions.finish() : null;
+        boolean success = httpStatus == config.getExpectedHtppStatus() && assertionFailure == null;
+        request.meters().outcome(success, false).record(durationNanos, TimeUnit.NANOSECONDS);
+        Long correctedDurationMicros = recordCorrected(request, durationNanos, timing.completedNanos());
+        long completedAtMillis = System.currentTimeMillis();
+
+        TestResult.TestResultBuilder resultBuilder = TestResult.builder()
+                .testName(config.getTestName())
+                .targetEndpoint(request.endpointDetails())
+                .methodGroupKey(config.getMethodGroupKey())
+                .timestampEpochMillis(completedAtMillis)
+                .success(success)
+                .durationMillis(TimeUnit.NANOSECONDS.toMillis(durationNanos))
+                .durationMicros(TimeUnit.NANOSECONDS.toMicros(durationNanos))
+                .correctedDurationMicros(correctedDurationMicros)
+                .timeToFirstByteMicros(TimeUnit.NANOSECONDS.toMicros(timing.timeToFirstByteNanos()))
+                .responseBytes(timing.bytesReceived())
+                .connectionPhases(timing.phases() != null ? timing.phases().toDTO(timing.sentNanos()) : null)
+                .httpStatus(httpStatus)
+                .expectedHttpStatus(config.getExpectedHtppStatus())
+                .assertionFailure(assertionFailure)
+                .requestPayload(request.requestPayload());
+
+        // Métricas do alvo vêm da amostra em segundo plano mais próxima, sem requisição extra
+        TargetMetricsSnapshot targetMetrics = targetMetricsSampler.nearest(completedAtMillis);
+        if (targetMetrics != null) {
+            resultBuilder.targetMetrics(targetMetrics)
+                    .targetServiceMemoryUsedMB(targetMetrics.getMemoryUsedMB());
+        }
+
+        if (responseBody != null) {
+            captureVariables(config, responseBody, request.runContext());
+        }
+        return resultBuilder.build();
+    }
+
+    /** Erro de comunicação (conexão recusada, timeout...): sucesso apenas se o caso espera status 0. */
+    public TestResult fromCommunicationError(TestRequest request, Throwable error, long sentNanos) {
+        long receivedNanos = System.nanoTime();
+        long durationNanos = receivedNanos - sentNanos;
+        TestCaseConfigDTO config = request.config();
+        logger.error("Erro de comunicação ao executar teste configurável {}: {}", config.getTestName(), error.getMessage());
+        boolean isExpectedNetworkError = config.getExpectedHtppStatus() == 0;
+
+        request.meters().outcome(isExpectedNetworkError, true).record(durationNanos, TimeUnit.NANOSECONDS);
+        Long correctedDurationMicros = recordCorrected(request, durationNanos, receivedNanos);
+
+        return TestResult.builder()
+                .testName(config.getTestName())
+                .methodGroupKey(config.getMethodGroupKey())
+                .targetEndpoint(request.endpoint())
+                .timestampEpochMillis(System.currentTimeMillis())
+                .success(isExpectedNetworkError)
+                .durationMillis(TimeUnit.NANOSECONDS.toMillis(durationNanos))
+                .durationMicros(TimeUnit.NANOSECONDS.toMicros(durationNanos))
+                .correctedDurationMicros(correctedDurationMicros)
+                .httpStatus(0)
+                .expectedHttpStatus(config.getExpectedHtppStatus())
+                .errorMessage(error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName())
+                .requestPayload(request.requestPayload())
+                .build();
+    }
+
+    /**
+     * Latência corrigida para omissão coordenada: medida a partir do instante planejado, somando o atraso do próprio
+     * envio (usuário virtual ou agendador represado por respostas lentas). Sem agenda é igual à duração medida.
+     * @return a latência corrigida em microssegundos, ou null quando a requisição não tem instante planejado
+     */
+    private Long recordCorrected(TestRequest request, long durationNanos, long receivedNanos) {
+        long correctedNanos = request.isScheduled()
+                ? Math.max(durationNanos, receivedNanos - request.intendedStartNanos())
+                : durationNanos;
+        request.meters().corrected().record(correctedNanos, TimeUnit.NANOSECONDS);
+        return request.isScheduled() ? TimeUnit.NANOSECONDS.toMicros(correctedNanos) : null;
+    }
+
+    /** Extrai das respostas os valores declarados em {@code captures} (nome da variável → JSON Pointer). */
+    void captureVariables(TestCaseConfigDTO config, byte[] responseBody, RunContext runContext) {
+        try {
+            JsonNode root = objectMapper.readTree(responseBody);
+            config.getCaptures().forEach((variable, pointer) -> {
+                JsonNode value = root.at(pointer);
+                if (value.isMissingNode() || value.isNull()) {
+                    logger.warn("Teste {}: '{}' não encontrado na resposta para a variável {}", config.getTestName(), pointer, variable);
+                } else {
+                    runContext.capture(variable, value.asText());
+                }
+            });
+        } catch (IOException e) {
+            logger.warn("Teste {}: resposta não é JSON, variáveis não capturadas ({})", config.getTestName(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.ExecutionEngine;
+import br.com.lottus.auxina.dto.TestResult;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.util.UriBuilder;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.http.HttpClient;
+import java.nio.ByteBuffer;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * Motor bloqueante: cada requisição ocupa uma virtual thread durante o envio (java.net.http.HttpClient síncrono).
+ * Permite escrever usuários virtuais como código sequencial comum; {@link #executeBlocking} é a chamada direta
+ * e {@link #execute} a adapta ao contrato reativo, rodando-a numa virtual thread própria.
+ */
+@Component
+public class VirtualThreadTestExecutor implements TestExecutor {
+
+    private static final int BODY_CHUNK_SIZE = 16 * 1024;
+
+    private final HttpClient libraryServiceHttpClient;
+    private final TestResultFactory testResultFactory;
+    private final DefaultUriBuilderFactory uriBuilderFactory;
+    private final String authorization;
+    private final Duration responseTimeout;
+    private final Scheduler virtualThreads;
+
+    public VirtualThreadTestExecutor(HttpClient libraryServiceHttpClient, TestResultFactory testResultFactory,
+                                     @Value("${library.service.base-url}") String libraryBaseUrl,
+                                     @Value("${library.service.auth.token}") String libraryServiceAuthToken,
+                                     @Value("${library.service.http.response-timeout:30s}") Duration responseTimeout) {
+        this.libraryServiceHttpClient = libraryServiceHttpClient;
+        this.testResultFactory = testResultFactory;
+        // Mesma expansão/codificação de URI do WebClient com baseUrl
+        this.uriBuilderFactory = new DefaultUriBuilderFactory(libraryBaseUrl);
+        this.authorization = StringUtils.hasText(libraryServiceAuthToken) ? "Bearer " + libraryServiceAuthToken : null;
+        this.responseTimeout = responseTimeout;
+        this.virtualThreads = Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor(), "auxina-virtual");
+    }
+
+    @Override
+    public ExecutionEngine engine() {
+        return ExecutionEngine.VIRTUAL_THREADS;
+    }
+
+    @Override
+    public Mono<TestResult> execute(TestRequest request) {
+        return Mono.fromCallable(() -> executeBlocking(request)).subscribeOn(virtualThreads);
+    }
+
+    /** Bloqueia a thread atual até a resposta; deve ser chamado de uma virtual thread. Nunca lança exceção. */
+    public TestResult executeBlocking(TestRequest request) {
+        long sentNanos = System.nanoTime();
+        try {
+            // Retorna ao receber status e cabeçalhos (primeiro byte), como o exchangeToMono do motor reativo
+            HttpResponse<InputStream> response = libraryServiceHttpClient.send(toHttpRequest(request),
+                    HttpResponse.BodyHandlers.ofInputStream());
+            long firstByteNanos = System.nanoTime();
+            int httpStatus = response.statusCode();
+
+            ResponseAssertions.Evaluation assertions = testResultFactory.startAssertions(request, httpStatus);
+            byte[] responseBody = null;
+            long bytesReceived;
+            try (InputStream body = response.body()) {
+                if (testResultFactory.needsResponseBody(request, httpStatus)) {
+                    responseBody = body.readAllBytes();
+                    bytesReceived = responseBody.length;
+                    if (assertions != null) {
+                        assertions.feed(ByteBuffer.wrap(responseBody));
+                    }
+                } else {
+                    // Lido em blocos e apenas contado; consumir o corpo também devolve a conexão ao pool
+                    bytesReceived = assertions != null ? consume(body, assertions) : body.transferTo(OutputStream.nullOutputStream());
+                }
+            }
+            return testResultFactory.fromResponse(request, httpStatus,
+                    new ResponseTiming(sentNanos, firstByteNanos, System.nanoTime(), bytesReceived, null), assertions, responseBody);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return testResultFactory.fromCommunicationError(request, e, sentNanos);
+        } catch (IOException | RuntimeException e) {
+            return testResultFactory.fromCommunicationError(request, e, sentNanos);
+        }
+    }
+
+    // Passa cada bloco lido às asserções, sem guardar o corpo
+    private static long consume(InputStream body, ResponseAssertions.Evaluation assertions) throws IOException {
+        byte[] chunk = new byte[BODY_CHUNK_SIZE];
+        long bytesReceived = 0;
+        int read;
+        while ((read = body.read(chunk)) != -1) {
+            assertions.feed(ByteBuffer.wrap(chunk, 0, read));
+            bytesReceived += read;
+        }
+        return bytesReceived;
+    }
+
+    private HttpRequest toHttpRequest(TestRequest request) {
+        UriBuilder uriBuilder = uriBuilderFactory.uriString(request.endpoint());
+        byte[] requestBody = request.body();
+        String method = switch (request.httpMethod()) {
+            case "POST", "PUT", "DELETE" -> request.httpMethod();
+            default -> "GET";
+        };
+        if (method.equals("GET")) {
+            request.queryParams().forEach(uriBuilder::queryParam);
+        }
+        HttpRequest.BodyPublisher bodyPublisher = requestBody != null && !method.equals("GET") && !method.equals("DELETE")
+                ? HttpRequest.BodyPublishers.ofByteArray(requestBody)
+                : HttpRequest.BodyPublishers.noBody();
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uriBuilder.build())
+                .method(method, bodyPublisher)
+                .timeout(responseTimeout)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+        if (authorization != null) {
+            builder.header(HttpHeaders.AUTHORIZATION, authorization);
+        }
+        if (request.runId() != null) {
+            builder.header(TestExecutionService.RUN_ID_HEADER, request.runId());
+        }
+        return builder.build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        virtualThreads.dispose();
+    }
+}
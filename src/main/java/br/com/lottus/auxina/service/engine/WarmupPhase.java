@@ -0,0 +1,111 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.TestResult;
+import br.com.lottus.auxina.dto.WarmupSummaryDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * Aquecimento de uma execução: consome o tráfego de aquecimento até o critério ser atingido, registrando
+ * as requisições à parte. O tráfego é cancelado assim que o critério é atingido (requisições em voo são descartadas).
+ * Criada por {@link WarmupPhaseFactory}; uma instância por execução.
+ */
+public class WarmupPhase {
+
+    static final String CRITERION_ITERATIONS = "ITERATIONS";
+    static final String CRITERION_DURATION = "DURATION";
+    static final String CRITERION_STABILITY = "STABILITY";
+
+    private final String criterion;
+    private final long targetRequests;
+    private final Duration timeLimit;
+    private final int stabilityWindow;
+    private final int stabilityWindows;
+    private final double stabilityTolerance;
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final Deque<Double> windowMedians = new ArrayDeque<>();
+    private long[] currentWindow;
+    private int currentWindowSize;
+    private long requests;
+    private long failedRequests;
+    private long startNanos;
+    private long elapsedNanos;
+    private boolean stabilized;
+
+    WarmupPhase(String criterion, long targetRequests, Duration timeLimit,
+                int stabilityWindow, int stabilityWindows, double stabilityTolerance) {
+        this.criterion = criterion;
+        this.targetRequests = targetRequests;
+        this.timeLimit = timeLimit;
+        this.stabilityWindow = stabilityWindow;
+        this.stabilityWindows = stabilityWindows;
+        this.stabilityTolerance = stabilityTolerance;
+        this.currentWindow = new long[stabilityWindow];
+    }
+
+    /** Executa o aquecimento; completa quando o critério (ou o limite de tempo) é atingido. */
+    public Mono<Void> run(Flux<TestResult> traffic) {
+        return Flux.defer(() -> {
+                    startNanos = System.nanoTime();
+                    return traffic.takeUntil(this::record).take(timeLimit);
+                })
+                .doFinally(signal -> elapsedNanos = System.nanoTime() - startNanos)
+                .then();
+    }
+
+    // Resultados chegam em sequência (onNext serializado), sem necessidade de sincronização
+    private boolean record(TestResult result) {
+        requests++;
+        if (!result.isSuccess()) {
+            failedRequests++;
+        }
+        histogram.recordMicros(result.getDurationMicros());
+        return switch (criterion) {
+            case CRITERION_ITERATIONS -> requests >= targetRequests;
+            case CRITERION_STABILITY -> recordForStability(result.getDurationMicros());
+            default -> false; // DURATION: encerrado pelo limite de tempo
+        };
+    }
+
+    /**
+     * Latências agrupadas em janelas de {@code stabilityWindow} requisições; estável quando as medianas das
+     * últimas {@code stabilityWindows} janelas ficam dentro de {@code stabilityTolerance} umas das outras.
+     */
+    private boolean recordForStability(long durationMicros) {
+        currentWindow[currentWindowSize++] = durationMicros;
+        if (currentWindowSize < stabilityWindow) {
+            return false;
+        }
+        long[] sorted = currentWindow.clone();
+        Arrays.sort(sorted);
+        windowMedians.addLast((double) sorted[sorted.length / 2]);
+        currentWindowSize = 0;
+        if (windowMedians.size() > stabilityWindows) {
+            windowMedians.removeFirst();
+        }
+        if (windowMedians.size() < stabilityWindows) {
+            return false;
+        }
+        double min = windowMedians.stream().mapToDouble(Double::doubleValue).min().orElse(0);
+        double max = windowMedians.stream().mapToDouble(Double::doubleValue).max().orElse(0);
+        stabilized = min > 0 ? (max - min) / min <= stabilityTolerance : max == 0;
+        return stabilized;
+    }
+
+    public WarmupSummaryDTO toSummary() {
+        return WarmupSummaryDTO.builder()
+                .criterion(criterion)
+                .requests(requests)
+                .failedRequests(failedRequests)
+                .elapsedMillis(elapsedNanos / 1_000_000)
+                .stabilized(CRITERION_STABILITY.equals(criterion) ? stabilized : null)
+                .latency(histogram.toDTO())
+                .build();
+    }
+}
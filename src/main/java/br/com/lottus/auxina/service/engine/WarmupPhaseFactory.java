@@ -0,0 +1,63 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.WarmupConfigDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/** Cria a fase de aquecimento de uma execução a partir da configuração pedida (ou da padrão das suítes). */
+@Component
+public class WarmupPhaseFactory {
+
+    private final WarmupConfigDTO suiteDefaults;
+    private final Duration maxDuration;
+    private final int stabilityWindow;
+    private final int stabilityWindows;
+    private final double stabilityTolerance;
+
+    public WarmupPhaseFactory(@Value("${auxina.warmup.suite.iterations:0}") int suiteIterations,
+                              @Value("${auxina.warmup.suite.duration-seconds:0}") int suiteDurationSeconds,
+                              @Value("${auxina.warmup.suite.until-stable:false}") boolean suiteUntilStable,
+                              @Value("${auxina.warmup.max-duration:60s}") Duration maxDuration,
+                              @Value("${auxina.warmup.stability.window:20}") int stabilityWindow,
+                              @Value("${auxina.warmup.stability.windows:3}") int stabilityWindows,
+                              @Value("${auxina.warmup.stability.tolerance:0.10}") double stabilityTolerance) {
+        this.suiteDefaults = WarmupConfigDTO.builder()
+                .iterations(suiteIterations > 0 ? suiteIterations : null)
+                .durationSeconds(suiteDurationSeconds > 0 ? suiteDurationSeconds : null)
+                .untilStable(suiteUntilStable)
+                .build();
+        this.maxDuration = maxDuration;
+        this.stabilityWindow = stabilityWindow;
+        this.stabilityWindows = stabilityWindows;
+        this.stabilityTolerance = stabilityTolerance;
+    }
+
+    /** Aquecimento padrão das suítes funcionais (auxina.warmup.suite.*), ou null se desligado. */
+    public WarmupPhase forSuite(int requestsPerIteration) {
+        return create(suiteDefaults, requestsPerIteration);
+    }
+
+    /**
+     * @param requestsPerIteration requisições de uma passagem completa pelos casos (multiplicado pelos usuários virtuais no modelo fechado)
+     * @return null quando a configuração não define nenhum critério
+     */
+    public WarmupPhase create(WarmupConfigDTO config, int requestsPerIteration) {
+        if (config == null) {
+            return null;
+        }
+        if (Boolean.TRUE.equals(config.getUntilStable())) {
+            return new WarmupPhase(WarmupPhase.CRITERION_STABILITY, 0, maxDuration, stabilityWindow, stabilityWindows, stabilityTolerance);
+        }
+        if (config.getDurationSeconds() != null && config.getDurationSeconds() > 0) {
+            return new WarmupPhase(WarmupPhase.CRITERION_DURATION, 0, Duration.ofSeconds(config.getDurationSeconds()),
+                    stabilityWindow, stabilityWindows, stabilityTolerance);
+        }
+        if (config.getIterations() != null && config.getIterations() > 0) {
+            return new WarmupPhase(WarmupPhase.CRITERION_ITERATIONS, (long) config.getIterations() * requestsPerIteration, maxDuration,
+                    stabilityWindow, stabilityWindows, stabilityTolerance);
+        }
+        return null;
+    }
+}
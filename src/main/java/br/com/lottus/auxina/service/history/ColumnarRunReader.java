@@ -0,0 +1,168 @@
+package br.com.lottus.auxina.service.history;
+
+import br.com.lottus.auxina.dto.ModuleTestDTO;
+import br.com.lottus.auxina.dto.TestResult;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Lê um arquivo .run mapeado em memória. Só o rodapé é decodificado na abertura; as páginas de resultados
+ * decodificam apenas os blocos que contêm as linhas pedidas (mais os dicionários dos blocos anteriores).
+ */
+class ColumnarRunReader {
+
+    private final MappedByteBuffer buffer;
+    private final short version;
+    private final byte[] summaryJson;
+    private final long[] blockOffsets;
+    private final int[] blockRows;
+
+    private ColumnarRunReader(MappedByteBuffer buffer, short version, byte[] summaryJson, long[] blockOffsets, int[] blockRows) {
+        this.buffer = buffer;
+        this.version = version;
+        this.summaryJson = summaryJson;
+        this.blockOffsets = blockOffsets;
+        this.blockRows = blockRows;
+    }
+
+    static ColumnarRunReader open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < RunFileFormat.HEADER_BYTES + RunFileFormat.TRAILER_BYTES) {
+                throw new IOException("Arquivo de histórico incompleto: " + file);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            short version = buffer.getShort(Integer.BYTES);
+            if (buffer.getInt(0) != RunFileFormat.MAGIC
+                    || (version != RunFileFormat.VERSION && version != RunFileFormat.VERSION_WITHOUT_DETAILS)) {
+                throw new IOException("Formato de histórico desconhecido: " + file);
+            }
+            int trailer = (int) (size - RunFileFormat.TRAILER_BYTES);
+            if (buffer.getInt(trailer + Long.BYTES) != RunFileFormat.MAGIC) {
+                throw new IOException("Execução não concluída (sem rodapé): " + file);
+            }
+
+            ByteBuffer footer = buffer.duplicate().position((int) buffer.getLong(trailer));
+            if (footer.get() != RunFileFormat.FOOTER_TAG) {
+                throw new IOException("Rodapé inválido: " + file);
+            }
+            byte[] summaryJson = new byte[footer.getInt()];
+            footer.get(summaryJson);
+            int blocks = footer.getInt();
+            long[] offsets = new long[blocks];
+            int[] rows = new int[blocks];
+            for (int i = 0; i < blocks; i++) offsets[i] = footer.getLong();
+            for (int i = 0; i < blocks; i++) rows[i] = footer.getInt();
+            return new ColumnarRunReader(buffer, version, summaryJson, offsets, rows);
+        }
+    }
+
+    ModuleTestDTO summary(SummaryCodec codec) throws IOException {
+        return codec.decode(summaryJson);
+    }
+
+    long totalRows() {
+        long total = 0;
+        for (int rows : blockRows) total += rows;
+        return total;
+    }
+
+    List<TestResult> read(long offset, int limit) {
+        List<TestResult> page = new ArrayList<>(Math.max(0, Math.min(limit, 1024)));
+        scan(offset, limit, page::add);
+        return page;
+    }
+
+    /** Entrega as linhas [offset, offset + limit) na ordem do arquivo, sem materializar a lista. */
+    void scan(long offset, long limit, Consumer<TestResult> consumer) {
+        List<String> dictionary = new ArrayList<>();
+        long firstRowOfBlock = 0;
+        long remaining = limit;
+        for (int block = 0; block < blockOffsets.length && remaining > 0; block++) {
+            ByteBuffer data = buffer.duplicate().position((int) blockOffsets[block]);
+            data.get(); // BLOCK_TAG
+            int rows = data.getInt();
+            int newEntries = data.getInt();
+            for (int i = 0; i < newEntries; i++) {
+                byte[] entry = new byte[Short.toUnsignedInt(data.getShort())];
+                data.get(entry);
+                dictionary.add(new String(entry, StandardCharsets.UTF_8));
+            }
+
+            long lastRowOfBlock = firstRowOfBlock + rows;
+            if (offset < lastRowOfBlock) {
+                int columns = data.position();
+                int from = (int) Math.max(0, offset - firstRowOfBlock);
+                int to = (int) Math.min(rows, from + remaining);
+                for (int row = from; row < to; row++) {
+                    consumer.accept(decodeRow(data, columns, rows, row, dictionary, version));
+                }
+                remaining -= to - from;
+            }
+            firstRowOfBlock = lastRowOfBlock;
+        }
+    }
+
+    private static TestResult decodeRow(ByteBuffer data, int columns, int rows, int row, List<String> dictionary,
+                                        short version) {
+        int durations = columns;
+        int statuses = durations + rows * Long.BYTES;
+        int successes = statuses + rows * Integer.BYTES;
+        int memories = successes + rows;
+        int testNames = memories + rows * Float.BYTES;
+        int groups = testNames + rows * Integer.BYTES;
+        int endpoints = groups + rows * Integer.BYTES;
+
+        long durationMicros = data.getLong(durations + row * Long.BYTES);
+        float memory = data.getFloat(memories + row * Float.BYTES);
+        TestResult.TestResultBuilder result = TestResult.builder()
+                .durationMicros(durationMicros)
+                .durationMillis(durationMicros / 1_000)
+                .httpStatus(data.getInt(statuses + row * Integer.BYTES))
+                .success(data.get(successes + row) == 1)
+                .targetServiceMemoryUsedMB(Float.isNaN(memory) ? null : (double) memory)
+                .testName(lookup(dictionary, data.getInt(testNames + row * Integer.BYTES)))
+                .methodGroupKey(lookup(dictionary, data.getInt(groups + row * Integer.BYTES)))
+                .targetEndpoint(lookup(dictionary, data.getInt(endpoints + row * Integer.BYTES)));
+        if (version == RunFileFormat.VERSION_WITHOUT_DETAILS) {
+            return result.build();
+        }
+
+        int timestamps = endpoints + rows * Integer.BYTES;
+        int corrected = timestamps + rows * Long.BYTES;
+        int firstBytes = corrected + rows * Long.BYTES;
+        int bytes = firstBytes + rows * Long.BYTES;
+        int expectedStatuses = bytes + rows * Long.BYTES;
+        int errorMessages = expectedStatuses + rows * Integer.BYTES;
+        int assertionFailures = errorMessages + rows * Integer.BYTES;
+
+        int expectedStatus = data.getInt(expectedStatuses + row * Integer.BYTES);
+        return result
+                .timestampEpochMillis(nullableLong(data, timestamps, row))
+                .correctedDurationMicros(nullableLong(data, corrected, row))
+                .timeToFirstByteMicros(nullableLong(data, firstBytes, row))
+                .responseBytes(nullableLong(data, bytes, row))
+                .expectedHttpStatus(expectedStatus == RunFileFormat.NULL_INT ? null : expectedStatus)
+                .errorMessage(lookup(dictionary, data.getInt(errorMessages + row * Integer.BYTES)))
+                .assertionFailure(lookup(dictionary, data.getInt(assertionFailures + row * Integer.BYTES)))
+                .build();
+    }
+
+    private static Long nullableLong(ByteBuffer data, int column, int row) {
+        long value = data.getLong(column + row * Long.BYTES);
+        return value == RunFileFormat.NULL_LONG ? null : value;
+    }
+
+    private static String lookup(List<String> dictionary, int index) {
+        return index < 0 ? null : dictionary.get(index);
+    }
+}
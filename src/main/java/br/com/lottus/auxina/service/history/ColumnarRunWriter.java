@@ -0,0 +1,283 @@
+package br.com.lottus.auxina.service.history;
+
+import br.com.lottus.auxina.dto.ModuleTestDTO;
+import br.com.lottus.auxina.dto.RunIndexEntryDTO;
+import br.com.lottus.auxina.dto.TestResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Escreve um arquivo .run em blocos colunares. Os resultados são acumulados em memória até {@code blockSize}
+ * linhas; blocos cheios são entregues ao {@code writeExecutor} (thread única), que também mantém o dicionário.
+ */
+class ColumnarRunWriter implements RunRecorder {
+
+    private static final Logger logger = LoggerFactory.getLogger(ColumnarRunWriter.class);
+
+    private final Path file;
+    private final RunIndexEntryDTO indexEntry;
+    private final int blockSize;
+    private final Executor writeExecutor;
+    private final SummaryCodec summaryCodec;
+    private final Consumer<RunIndexEntryDTO> onCompleted;
+
+    private ColumnBlock current;
+
+    // Acessados apenas pela thread de escrita
+    private FileChannel channel;
+    private final Map<String, Integer> dictionary = new HashMap<>();
+    private final List<Long> blockOffsets = new ArrayList<>();
+    private final List<Integer> blockRows = new ArrayList<>();
+    private long storedResults;
+    private boolean failed;
+
+    ColumnarRunWriter(Path file, RunIndexEntryDTO indexEntry, int blockSize, Executor writeExecutor,
+                      SummaryCodec summaryCodec, Consumer<RunIndexEntryDTO> onCompleted) {
+        this.file = file;
+        this.indexEntry = indexEntry;
+        this.blockSize = blockSize;
+        this.writeExecutor = writeExecutor;
+        this.summaryCodec = summaryCodec;
+        this.onCompleted = onCompleted;
+        this.current = new ColumnBlock(blockSize);
+        writeExecutor.execute(this::open);
+    }
+
+    @Override
+    public void record(TestResult result) {
+        ColumnBlock full = null;
+        synchronized (this) {
+            if (current == null) {
+                return; // já concluído
+            }
+            current.add(result);
+            if (current.size == blockSize) {
+                full = current;
+                current = new ColumnBlock(blockSize);
+            }
+        }
+        if (full != null) {
+            ColumnBlock block = full;
+            writeExecutor.execute(() -> writeBlock(block));
+        }
+    }
+
+    @Override
+    public Mono<Void> complete(ModuleTestDTO report) {
+        ColumnBlock last;
+        synchronized (this) {
+            last = current;
+            current = null;
+        }
+        if (last == null) {
+            return Mono.empty();
+        }
+        return Mono.fromFuture(() -> CompletableFuture.runAsync(() -> {
+                    if (last.size > 0) {
+                        writeBlock(last);
+                    }
+                    finish(report);
+                }, writeExecutor))
+                .onErrorResume(e -> {
+                    logger.error("Falha ao concluir o histórico {}: {}", file, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private void open() {
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            ByteBuffer header = ByteBuffer.allocate(RunFileFormat.HEADER_BYTES);
+            header.putInt(RunFileFormat.MAGIC).putShort(RunFileFormat.VERSION).flip();
+            writeFully(header);
+        } catch (IOException e) {
+            fail("abrir", e);
+        }
+    }
+
+    private void writeBlock(ColumnBlock block) {
+        if (failed) {
+            return;
+        }
+        try {
+            int rows = block.size;
+            int[] testNames = new int[rows];
+            int[] groups = new int[rows];
+            int[] endpoints = new int[rows];
+            int[] errorMessages = new int[rows];
+            int[] assertionFailures = new int[rows];
+            List<byte[]> newEntries = new ArrayList<>();
+            for (int i = 0; i < rows; i++) {
+                testNames[i] = intern(block.testNames[i], newEntries);
+                groups[i] = intern(block.groups[i], newEntries);
+                endpoints[i] = intern(block.endpoints[i], newEntries);
+                errorMessages[i] = intern(block.errorMessages[i], newEntries);
+                assertionFailures[i] = intern(block.assertionFailures[i], newEntries);
+            }
+
+            int dictionaryBytes = newEntries.stream().mapToInt(entry -> Short.BYTES + entry.length).sum();
+            ByteBuffer buffer = ByteBuffer.allocate(Byte.BYTES + 2 * Integer.BYTES + dictionaryBytes + rows * RunFileFormat.ROW_BYTES);
+            buffer.put(RunFileFormat.BLOCK_TAG).putInt(rows).putInt(newEntries.size());
+            for (byte[] entry : newEntries) {
+                buffer.putShort((short) entry.length).put(entry);
+            }
+            for (int i = 0; i < rows; i++) buffer.putLong(block.durationMicros[i]);
+            for (int i = 0; i < rows; i++) buffer.putInt(block.httpStatus[i]);
+            for (int i = 0; i < rows; i++) buffer.put(block.success[i]);
+            for (int i = 0; i < rows; i++) buffer.putFloat(block.memoryMB[i]);
+            for (int i = 0; i < rows; i++) buffer.putInt(testNames[i]);
+            for (int i = 0; i < rows; i++) buffer.putInt(groups[i]);
+            for (int i = 0; i < rows; i++) buffer.putInt(endpoints[i]);
+            for (int i = 0; i < rows; i++) buffer.putLong(block.timestampEpochMillis[i]);
+            for (int i = 0; i < rows; i++) buffer.putLong(block.correctedDurationMicros[i]);
+            for (int i = 0; i < rows; i++) buffer.putLong(block.timeToFirstByteMicros[i]);
+            for (int i = 0; i < rows; i++) buffer.putLong(block.responseBytes[i]);
+            for (int i = 0; i < rows; i++) buffer.putInt(block.expectedHttpStatus[i]);
+            for (int i = 0; i < rows; i++) buffer.putInt(errorMessages[i]);
+            for (int i = 0; i < rows; i++) buffer.putInt(assertionFailures[i]);
+            buffer.flip();
+
+            blockOffsets.add(channel.position());
+            blockRows.add(rows);
+            writeFully(buffer);
+            storedResults += rows;
+        } catch (IOException e) {
+            fail("gravar bloco em", e);
+        }
+    }
+
+    private void finish(ModuleTestDTO report) {
+        if (failed) {
+            return;
+        }
+        try {
+            byte[] summary = summaryCodec.encode(report);
+            int blocks = blockOffsets.size();
+            long footerOffset = channel.position();
+            ByteBuffer footer = ByteBuffer.allocate(Byte.BYTES + Integer.BYTES + summary.length + Integer.BYTES
+                    + blocks * (Long.BYTES + Integer.BYTES) + RunFileFormat.TRAILER_BYTES);
+            footer.put(RunFileFormat.FOOTER_TAG).putInt(summary.length).put(summary).putInt(blocks);
+            blockOffsets.forEach(footer::putLong);
+            blockRows.forEach(footer::putInt);
+            footer.putLong(footerOffset).putInt(RunFileFormat.MAGIC).flip();
+            writeFully(footer);
+            channel.force(false);
+            channel.close();
+
+            indexEntry.setFinishedAtEpochMillis(System.currentTimeMillis());
+            indexEntry.setTotalTests(report.getTotalTests());
+            indexEntry.setSuccessPercentage(report.getSuccessPercentage());
+            indexEntry.setP99Millis(report.getLatency() != null ? report.getLatency().getP99Millis() : null);
+            indexEntry.setStoredResults(storedResults);
+            onCompleted.accept(indexEntry);
+        } catch (IOException e) {
+            fail("concluir", e);
+        }
+    }
+
+    private int intern(String value, List<byte[]> newEntries) {
+        if (value == null) {
+            return -1;
+        }
+        Integer index = dictionary.get(value);
+        if (index == null) {
+            index = dictionary.size();
+            dictionary.put(value, index);
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            // Limite do short de tamanho; endpoints/nomes maiores que isso não ocorrem na prática
+            newEntries.add(bytes.length > Short.MAX_VALUE ? new String(bytes, 0, Short.MAX_VALUE, StandardCharsets.UTF_8).getBytes(StandardCharsets.UTF_8) : bytes);
+        }
+        return index;
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private void fail(String operation, IOException e) {
+        failed = true;
+        logger.error("Não foi possível {} o histórico {}: {}", operation, file, e.getMessage());
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException ignored) {
+            // o arquivo incompleto fica sem trailer e é ignorado na leitura
+        }
+    }
+
+    /** Linhas acumuladas antes de virar um bloco em disco. */
+    private static final class ColumnBlock {
+        private final long[] durationMicros;
+        private final int[] httpStatus;
+        private final byte[] success;
+        private final float[] memoryMB;
+        private final String[] testNames;
+        private final String[] groups;
+        private final String[] endpoints;
+        private final long[] timestampEpochMillis;
+        private final long[] correctedDurationMicros;
+        private final long[] timeToFirstByteMicros;
+        private final long[] responseBytes;
+        private final int[] expectedHttpStatus;
+        private final String[] errorMessages;
+        private final String[] assertionFailures;
+        private int size;
+
+        private ColumnBlock(int capacity) {
+            durationMicros = new long[capacity];
+            httpStatus = new int[capacity];
+            success = new byte[capacity];
+            memoryMB = new float[capacity];
+            testNames = new String[capacity];
+            groups = new String[capacity];
+            endpoints = new String[capacity];
+            timestampEpochMillis = new long[capacity];
+            correctedDurationMicros = new long[capacity];
+            timeToFirstByteMicros = new long[capacity];
+            responseBytes = new long[capacity];
+            expectedHttpStatus = new int[capacity];
+            errorMessages = new String[capacity];
+            assertionFailures = new String[capacity];
+        }
+
+        private void add(TestResult result) {
+            durationMicros[size] = result.getDurationMicros();
+            httpStatus[size] = result.getHttpStatus();
+            success[size] = (byte) (result.isSuccess() ? 1 : 0);
+            memoryMB[size] = result.getTargetServiceMemoryUsedMB() != null ? result.getTargetServiceMemoryUsedMB().floatValue() : Float.NaN;
+            testNames[size] = result.getTestName();
+            groups[size] = result.getMethodGroupKey();
+            endpoints[size] = result.getTargetEndpoint();
+            timestampEpochMillis[size] = orNull(result.getTimestampEpochMillis());
+            correctedDurationMicros[size] = orNull(result.getCorrectedDurationMicros());
+            timeToFirstByteMicros[size] = orNull(result.getTimeToFirstByteMicros());
+            responseBytes[size] = orNull(result.getResponseBytes());
+            expectedHttpStatus[size] = result.getExpectedHttpStatus() != null ? result.getExpectedHttpStatus() : RunFileFormat.NULL_INT;
+            errorMessages[size] = result.getErrorMessage();
+            assertionFailures[size] = result.getAssertionFailure();
+            size++;
+        }
+
+        private static long orNull(Long value) {
+            return value != null ? value : RunFileFormat.NULL_LONG;
+        }
+    }
+}
@@ -0,0 +1,358 @@
+package br.com.lottus.auxina.service.history;
+
+import br.com.lottus.auxina.dto.RegressionFindingDTO;
+import br.com.lottus.auxina.dto.RegressionReportDTO;
+import br.com.lottus.auxina.dto.RegressionVerdict;
+import br.com.lottus.auxina.dto.RunIndexEntryDTO;
+import br.com.lottus.auxina.dto.TestResult;
+import br.com.lottus.auxina.service.engine.LatencyHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Compara um módulo executado com um baseline do histórico: um run específico ou a mediana dos últimos N runs
+ * do mesmo módulo e modo de execução. A comparação é feita por grupo de método e por caso de teste, para
+ * p50/p95/p99, taxa de erro e memória do alvo. Uma métrica só é marcada como regressão quando a diferença é
+ * estatisticamente significativa (Mann-Whitney, bootstrap ou teste de proporções) E maior que o limite configurado,
+ * para que o ruído entre execuções não gere alarmes falsos.
+ */
+@Component
+public class RegressionAnalyzer {
+
+    private static final Logger logger = LoggerFactory.getLogger(RegressionAnalyzer.class);
+
+    private static final String SCOPE_METHOD_GROUP = "METHOD_GROUP";
+    private static final String SCOPE_TEST_CASE = "TEST_CASE";
+    private static final String MODE_RUN = "RUN";
+    private static final String MODE_ROLLING_MEDIAN = "ROLLING_MEDIAN";
+    private static final String NO_GROUP = "(sem grupo)";
+    private static final double[] TAIL_PERCENTILES = {95.0, 99.0};
+    private static final double BOOTSTRAP_CONFIDENCE = 0.95;
+
+    private final RunHistoryStore runHistoryStore;
+    private final int defaultWindow;
+    private final double significanceLevel;
+    private final double latencyThresholdPercent;
+    private final double memoryThresholdPercent;
+    private final double errorRateThresholdPoints;
+    private final int minSamples;
+    private final int maxSamples;
+    private final int bootstrapIterations;
+
+    public RegressionAnalyzer(RunHistoryStore runHistoryStore,
+                              @Value("${auxina.regression.default-window:0}") int defaultWindow,
+                              @Value("${auxina.regression.significance-level:0.01}") double significanceLevel,
+                              @Value("${auxina.regression.latency-threshold-percent:10}") double latencyThresholdPercent,
+                              @Value("${auxina.regression.memory-threshold-percent:10}") double memoryThresholdPercent,
+                              @Value("${auxina.regression.error-rate-threshold-points:1.0}") double errorRateThresholdPoints,
+                              @Value("${auxina.regression.min-samples:5}") int minSamples,
+                              @Value("${auxina.regression.max-samples:5000}") int maxSamples,
+                              @Value("${auxina.regression.bootstrap-iterations:500}") int bootstrapIterations) {
+        this.runHistoryStore = runHistoryStore;
+        this.defaultWindow = defaultWindow;
+        this.significanceLevel = significanceLevel;
+        this.latencyThresholdPercent = latencyThresholdPercent;
+        this.memoryThresholdPercent = memoryThresholdPercent;
+        this.errorRateThresholdPoints = errorRateThresholdPoints;
+        this.minSamples = minSamples;
+        this.maxSamples = maxSamples;
+        this.bootstrapIterations = bootstrapIterations;
+    }
+
+    /**
+     * Comparação ao final de uma execução, fora do event loop. Vazio quando nenhum baseline foi pedido
+     * (e não há janela padrão) ou o histórico está desligado; falhas são registradas e não afetam a execução.
+     */
+    public Mono<RegressionReportDTO> analyze(String runId, String moduleName, String baselineRunId, Integer baselineWindow) {
+        if (!runHistoryStore.isEnabled() || !requested(baselineRunId, baselineWindow)) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(() -> compare(runId, moduleName, baselineRunId, baselineWindow))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    logger.error("Falha na detecção de regressão de {} ({}): {}", moduleName, runId, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /** Comparação sob demanda de um módulo já gravado. */
+    public RegressionReportDTO compare(String runId, String moduleName, String baselineRunId, Integer baselineWindow) {
+        if (!requested(baselineRunId, baselineWindow)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Informe baselineRunId ou baselineWindow (maior que zero)");
+        }
+        RunIndexEntryDTO current = runHistoryStore.find(runId, moduleName);
+
+        List<RunIndexEntryDTO> baselineRuns;
+        String mode;
+        if (baselineRunId != null) {
+            mode = MODE_RUN;
+            baselineRuns = runHistoryStore.list(moduleName, null, null, Integer.MAX_VALUE).stream()
+                    .filter(entry -> entry.getRunId().equals(baselineRunId))
+                    .limit(1)
+                    .toList();
+        } else {
+            mode = MODE_ROLLING_MEDIAN;
+            int window = baselineWindow != null ? baselineWindow : defaultWindow;
+            baselineRuns = runHistoryStore.previousRuns(current, window);
+        }
+
+        RegressionReportDTO report = RegressionReportDTO.builder()
+                .baselineMode(mode)
+                .baselineRunIds(baselineRuns.stream().map(RunIndexEntryDTO::getRunId).toList())
+                .significanceLevel(significanceLevel)
+                .latencyThresholdPercent(latencyThresholdPercent)
+                .errorRateThresholdPoints(errorRateThresholdPoints)
+                .findings(List.of())
+                .build();
+        if (baselineRuns.isEmpty()) {
+            report.setVerdict(RegressionVerdict.NO_BASELINE);
+            return report;
+        }
+
+        Random random = new Random(runId.hashCode());
+        Map<SampleKey, Samples> currentSamples = load(current, random);
+        List<Map<SampleKey, Samples>> baselineSamples = baselineRuns.stream().map(entry -> load(entry, random)).toList();
+
+        List<RegressionFindingDTO> findings = new ArrayList<>();
+        int compared = 0;
+        int insufficient = 0;
+        for (Map.Entry<SampleKey, Samples> entry : currentSamples.entrySet()) {
+            List<Samples> perRun = baselineSamples.stream()
+                    .map(samples -> samples.get(entry.getKey()))
+                    .filter(Objects::nonNull)
+                    .toList();
+            if (perRun.isEmpty()) {
+                continue; // caso novo, sem histórico
+            }
+            for (RegressionFindingDTO finding : compareKey(entry.getKey(), perRun, entry.getValue(), random)) {
+                compared++;
+                switch (finding.getVerdict()) {
+                    case REGRESSION, IMPROVEMENT -> findings.add(finding);
+                    case INSUFFICIENT_DATA -> insufficient++;
+                    default -> {
+                    }
+                }
+            }
+        }
+
+        findings.sort(Comparator.comparing(RegressionFindingDTO::getVerdict)
+                .thenComparing(RegressionFindingDTO::getScope)
+                .thenComparing(RegressionFindingDTO::getName)
+                .thenComparing(RegressionFindingDTO::getMetric));
+        int regressions = (int) findings.stream().filter(f -> f.getVerdict() == RegressionVerdict.REGRESSION).count();
+        report.setComparedMetrics(compared);
+        report.setRegressions(regressions);
+        report.setImprovements(findings.size() - regressions);
+        report.setInsufficientData(insufficient);
+        report.setFindings(findings);
+        report.setVerdict(regressions > 0 ? RegressionVerdict.REGRESSION : RegressionVerdict.PASS);
+        if (regressions > 0) {
+            logger.warn("⚠️  {} regressões em {} ({}) em relação a {}", regressions, moduleName, runId, report.getBaselineRunIds());
+        }
+        return report;
+    }
+
+    private boolean requested(String baselineRunId, Integer baselineWindow) {
+        return baselineRunId != null || (baselineWindow != null ? baselineWindow : defaultWindow) > 0;
+    }
+
+    private List<RegressionFindingDTO> compareKey(SampleKey key, List<Samples> baselineRuns, Samples current, Random random) {
+        Samples pooled = new Samples(maxSamples, random);
+        baselineRuns.forEach(pooled::add);
+
+        List<RegressionFindingDTO> findings = new ArrayList<>();
+        double[] baselineDurations = pooled.durations.values();
+        double[] currentDurations = current.durations.values();
+        boolean enoughLatency = baselineDurations.length >= minSamples && currentDurations.length >= minSamples;
+
+        // p50: deslocamento da distribuição (Mann-Whitney)
+        RegressionFindingDTO p50 = finding(key, "p50Millis", baselineRuns, current, samples -> samples.histogram.percentileMillis(50.0));
+        if (enoughLatency) {
+            p50.setPValue(RegressionStatistics.mannWhitneyPValue(baselineDurations, currentDurations));
+            p50.setVerdict(verdict(p50, p50.getPValue() < significanceLevel, latencyThresholdPercent));
+        }
+        findings.add(p50);
+
+        // p95/p99: caudas, intervalo de confiança bootstrap da diferença
+        double[][] intervals = enoughLatency
+                ? RegressionStatistics.bootstrapPercentileDifferences(baselineDurations, currentDurations, TAIL_PERCENTILES,
+                        bootstrapIterations, BOOTSTRAP_CONFIDENCE, random)
+                : null;
+        for (int i = 0; i < TAIL_PERCENTILES.length; i++) {
+            double percentile = TAIL_PERCENTILES[i];
+            RegressionFindingDTO tail = finding(key, "p" + (int) percentile + "Millis", baselineRuns, current,
+                    samples -> samples.histogram.percentileMillis(percentile));
+            if (intervals != null) {
+                tail.setCiLower(intervals[i][0]);
+                tail.setCiUpper(intervals[i][1]);
+                boolean significant = intervals[i][0] > 0 || intervals[i][1] < 0;
+                tail.setVerdict(verdict(tail, significant, latencyThresholdPercent));
+            }
+            findings.add(tail);
+        }
+
+        // Taxa de erro (%): teste de duas proporções, limite em pontos percentuais
+        RegressionFindingDTO errorRate = finding(key, "errorRatePercent", baselineRuns, current, Samples::errorRatePercent);
+        errorRate.setBaselineSamples(pooled.total);
+        errorRate.setCurrentSamples(current.total);
+        if (pooled.total >= minSamples && current.total >= minSamples) {
+            errorRate.setPValue(RegressionStatistics.twoProportionPValue(pooled.failures, pooled.total, current.failures, current.total));
+            double points = errorRate.getCurrentValue() - errorRate.getBaselineValue();
+            boolean material = Math.abs(points) >= errorRateThresholdPoints;
+            errorRate.setVerdict(errorRate.getPValue() < significanceLevel && material
+                    ? (points > 0 ? RegressionVerdict.REGRESSION : RegressionVerdict.IMPROVEMENT)
+                    : RegressionVerdict.UNCHANGED);
+        }
+        findings.add(errorRate);
+
+        // Memória do alvo (MB), quando coletada nos dois lados
+        double[] baselineMemory = pooled.memory.values();
+        double[] currentMemory = current.memory.values();
+        if (baselineMemory.length > 0 && currentMemory.length > 0) {
+            RegressionFindingDTO memory = finding(key, "memoryMB", baselineRuns, current,
+                    samples -> RegressionStatistics.median(samples.memory.values()));
+            memory.setBaselineSamples(baselineMemory.length);
+            memory.setCurrentSamples(currentMemory.length);
+            if (baselineMemory.length >= minSamples && currentMemory.length >= minSamples) {
+                memory.setPValue(RegressionStatistics.mannWhitneyPValue(baselineMemory, currentMemory));
+                memory.setVerdict(verdict(memory, memory.getPValue() < significanceLevel, memoryThresholdPercent));
+            }
+            findings.add(memory);
+        }
+        return findings;
+    }
+
+    /** Valor do baseline = mediana do valor de cada run (igual ao próprio valor quando há um único run). */
+    private RegressionFindingDTO finding(SampleKey key, String metric, List<Samples> baselineRuns, Samples current,
+                                         ToDoubleFunction<Samples> value) {
+        double baseline = RegressionStatistics.median(baselineRuns.stream()
+                .filter(samples -> !samples.isEmptyFor(metric))
+                .mapToDouble(value)
+                .toArray());
+        double currentValue = value.applyAsDouble(current);
+        return RegressionFindingDTO.builder()
+                .scope(key.scope())
+                .name(key.name())
+                .metric(metric)
+                .baselineValue(baseline)
+                .currentValue(currentValue)
+                .changePercent(baseline != 0 ? (currentValue - baseline) / baseline * 100.0 : null)
+                .baselineSamples(baselineRuns.stream().mapToLong(samples -> samples.durations.seen).sum())
+                .currentSamples(current.durations.seen)
+                .verdict(RegressionVerdict.INSUFFICIENT_DATA)
+                .build();
+    }
+
+    private static RegressionVerdict verdict(RegressionFindingDTO finding, boolean significant, double thresholdPercent) {
+        Double change = finding.getChangePercent();
+        if (!significant || change == null || Math.abs(change) < thresholdPercent) {
+            return RegressionVerdict.UNCHANGED;
+        }
+        return change > 0 ? RegressionVerdict.REGRESSION : RegressionVerdict.IMPROVEMENT;
+    }
+
+    private Map<SampleKey, Samples> load(RunIndexEntryDTO entry, Random random) {
+        Map<SampleKey, Samples> samples = new HashMap<>();
+        runHistoryStore.scanResults(entry, result -> {
+            String group = result.getMethodGroupKey() != null ? result.getMethodGroupKey() : NO_GROUP;
+            samples.computeIfAbsent(new SampleKey(SCOPE_METHOD_GROUP, group), key -> new Samples(maxSamples, random)).add(result);
+            if (result.getTestName() != null) {
+                samples.computeIfAbsent(new SampleKey(SCOPE_TEST_CASE, result.getTestName()), key -> new Samples(maxSamples, random)).add(result);
+            }
+        });
+        return samples;
+    }
+
+    private record SampleKey(String scope, String name) {
+    }
+
+    /** Amostras de um grupo/caso num run: histograma completo para os percentis, reservatórios limitados para os testes. */
+    private static final class Samples {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final Reservoir durations;
+        private final Reservoir memory;
+        private long total;
+        private long failures;
+
+        private Samples(int capacity, Random random) {
+            this.durations = new Reservoir(capacity, random);
+            this.memory = new Reservoir(capacity, random);
+        }
+
+        private void add(TestResult result) {
+            histogram.recordMicros(result.getDurationMicros());
+            durations.add(result.getDurationMicros() / 1000.0);
+            if (result.getTargetServiceMemoryUsedMB() != null) {
+                memory.add(result.getTargetServiceMemoryUsedMB());
+            }
+            total++;
+            if (!result.isSuccess()) {
+                failures++;
+            }
+        }
+
+        private void add(Samples other) {
+            histogram.add(other.histogram);
+            for (double value : other.durations.values()) durations.add(value);
+            for (double value : other.memory.values()) memory.add(value);
+            total += other.total;
+            failures += other.failures;
+        }
+
+        private double errorRatePercent() {
+            return total > 0 ? failures * 100.0 / total : 0.0;
+        }
+
+        private boolean isEmptyFor(String metric) {
+            return "memoryMB".equals(metric) ? memory.seen == 0 : total == 0;
+        }
+    }
+
+    /** Amostragem uniforme de tamanho limitado (algoritmo R); o array cresce sob demanda até a capacidade. */
+    private static final class Reservoir {
+        private final int capacity;
+        private final Random random;
+        private double[] values = new double[16];
+        private long seen;
+
+        private Reservoir(int capacity, Random random) {
+            this.capacity = capacity;
+            this.random = random;
+        }
+
+        private void add(double value) {
+            if (seen < capacity) {
+                if (seen == values.length) {
+                    values = Arrays.copyOf(values, (int) Math.min(capacity, values.length * 2L));
+                }
+                values[(int) seen] = value;
+            } else {
+                long slot = random.nextLong(seen + 1);
+                if (slot < capacity) {
+                    values[(int) slot] = value;
+                }
+            }
+            seen++;
+        }
+
+        private double[] values() {
+            return Arrays.copyOf(values, (int) Math.min(seen, capacity));
+        }
+    }
+}
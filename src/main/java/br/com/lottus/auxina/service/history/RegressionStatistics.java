@@ -0,0 +1,155 @@
+package br.com.lottus.auxina.service.history;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Testes estatísticos usados na detecção de regressão. Todos são não paramétricos ou assintóticos,
+ * sem suposição de normalidade das latências.
+ */
+final class RegressionStatistics {
+
+    private RegressionStatistics() {
+    }
+
+    /** Mann-Whitney U bicaudal (aproximação normal com correção de empates e de continuidade). */
+    static double mannWhitneyPValue(double[] baseline, double[] current) {
+        int n1 = baseline.length;
+        int n2 = current.length;
+        int n = n1 + n2;
+        if (n1 == 0 || n2 == 0) {
+            return 1.0;
+        }
+        double[] values = new double[n];
+        boolean[] fromBaseline = new boolean[n];
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = i < n1 ? baseline[i] : current[i - n1];
+            fromBaseline[i] = i < n1;
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+
+        double rankSumBaseline = 0;
+        double tieCorrection = 0;
+        for (int start = 0; start < n; ) {
+            int end = start;
+            while (end + 1 < n && values[order[end + 1]] == values[order[start]]) {
+                end++;
+            }
+            double averageRank = (start + end) / 2.0 + 1;
+            for (int k = start; k <= end; k++) {
+                if (fromBaseline[order[k]]) {
+                    rankSumBaseline += averageRank;
+                }
+            }
+            double ties = end - start + 1;
+            tieCorrection += ties * ties * ties - ties;
+            start = end + 1;
+        }
+
+        double u = rankSumBaseline - n1 * (n1 + 1) / 2.0;
+        double mean = n1 * (double) n2 / 2.0;
+        double variance = n1 * (double) n2 / 12.0 * ((n + 1) - tieCorrection / (n * (double) (n - 1)));
+        if (variance <= 0) {
+            return 1.0; // todos os valores iguais
+        }
+        double z = Math.max(0, Math.abs(u - mean) - 0.5) / Math.sqrt(variance);
+        return Math.min(1.0, 2 * upperTail(z));
+    }
+
+    /** Teste z bicaudal para a diferença entre duas proporções (taxa de erro). */
+    static double twoProportionPValue(long baselineFailures, long baselineTotal, long currentFailures, long currentTotal) {
+        double pooled = (baselineFailures + currentFailures) / (double) (baselineTotal + currentTotal);
+        double standardError = Math.sqrt(pooled * (1 - pooled) * (1.0 / baselineTotal + 1.0 / currentTotal));
+        if (standardError == 0) {
+            return 1.0;
+        }
+        double difference = currentFailures / (double) currentTotal - baselineFailures / (double) baselineTotal;
+        return Math.min(1.0, 2 * upperTail(Math.abs(difference) / standardError));
+    }
+
+    /**
+     * Intervalos de confiança bootstrap (método percentil) da diferença {@code percentil(atual) - percentil(baseline)},
+     * um por percentil pedido, todos calculados sobre as mesmas reamostragens.
+     * @return para cada percentil, {limite inferior, limite superior}
+     */
+    static double[][] bootstrapPercentileDifferences(double[] baseline, double[] current, double[] percentiles,
+                                                     int iterations, double confidence, Random random) {
+        double[][] differences = new double[percentiles.length][iterations];
+        double[] baselineResample = new double[baseline.length];
+        double[] currentResample = new double[current.length];
+        for (int i = 0; i < iterations; i++) {
+            resample(baseline, baselineResample, random);
+            resample(current, currentResample, random);
+            for (int p = 0; p < percentiles.length; p++) {
+                differences[p][i] = percentile(currentResample, percentiles[p]) - percentile(baselineResample, percentiles[p]);
+            }
+        }
+        double tail = (1 - confidence) / 2;
+        double[][] intervals = new double[percentiles.length][];
+        for (int p = 0; p < percentiles.length; p++) {
+            Arrays.sort(differences[p]);
+            intervals[p] = new double[]{
+                    differences[p][(int) Math.floor(tail * (iterations - 1))],
+                    differences[p][(int) Math.ceil((1 - tail) * (iterations - 1))]};
+        }
+        return intervals;
+    }
+
+    /** Percentil por posição mais próxima, via quickselect (reordena o array recebido). */
+    static double percentile(double[] values, double percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * values.length) - 1;
+        return select(values, Math.max(0, Math.min(values.length - 1, index)));
+    }
+
+    static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2.0;
+    }
+
+    private static double select(double[] values, int k) {
+        int left = 0;
+        int right = values.length - 1;
+        while (left < right) {
+            double pivot = values[(left + right) >>> 1];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (values[i] < pivot) i++;
+                while (values[j] > pivot) j--;
+                if (i <= j) {
+                    double swap = values[i];
+                    values[i++] = values[j];
+                    values[j--] = swap;
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                break;
+            }
+        }
+        return values[k];
+    }
+
+    private static void resample(double[] source, double[] target, Random random) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] = source[random.nextInt(source.length)];
+        }
+    }
+
+    // P(Z > z) para a normal padrão, via erfc (Numerical Recipes, erro < 1.2e-7)
+    private static double upperTail(double z) {
+        double x = z / Math.sqrt(2);
+        double t = 1.0 / (1.0 + 0.5 * x);
+        double erfc = t * Math.exp(-x * x - 1.26551223 + t * (1.00002368 + t * (0.37409196 + t * (0.09678418
+                + t * (-0.18628806 + t * (0.27886807 + t * (-1.13520398 + t * (1.48851587
+                + t * (-0.82215223 + t * 0.17087277)))))))));
+        return erfc / 2;
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.lottus.auxina.service.history;
+
+/**
+ * Layout dos arquivos de execução (.run), todos os inteiros em big-endian:
+ * <pre>
+ * cabeçalho: int MAGIC, short VERSION
+ * bloco*:    byte BLOCK_TAG, int linhas, int novasEntradasDicionario, [short tamanho + UTF-8]*,
+ *            colunas: long[] durationMicros, int[] httpStatus, byte[] success, float[] memoryMB (NaN = nulo),
+ *                     int[] testName, int[] methodGroupKey, int[] targetEndpoint (índices no dicionário),
+ *                     a partir da versão 2: long[] timestampEpochMillis, long[] correctedDurationMicros,
+ *                     long[] timeToFirstByteMicros, long[] responseBytes (Long.MIN_VALUE = nulo),
+ *                     int[] expectedHttpStatus (Integer.MIN_VALUE = nulo), int[] errorMessage, int[] assertionFailure
+ * rodapé:    byte FOOTER_TAG, int tamanho + JSON do ModuleTestDTO (sem resultados individuais),
+ *            int blocos, long[] offsets, int[] linhas
+ * trailer:   long offsetDoRodape, int MAGIC
+ * </pre>
+ * O dicionário de strings é acumulado: cada bloco traz apenas as entradas novas. Arquivos sem trailer
+ * (execução interrompida) são ignorados; arquivos da versão 1 continuam legíveis, sem os detalhes de falha.
+ */
+final class RunFileFormat {
+
+    static final int MAGIC = 0x41555852; // "AUXR"
+    static final short VERSION = 2;
+    static final short VERSION_WITHOUT_DETAILS = 1;
+    static final byte BLOCK_TAG = 1;
+    static final byte FOOTER_TAG = 2;
+    static final int HEADER_BYTES = Integer.BYTES + Short.BYTES;
+    static final int TRAILER_BYTES = Long.BYTES + Integer.BYTES;
+    static final String FILE_EXTENSION = ".run";
+
+    // Bytes por linha nas colunas de tamanho fixo
+    static final int ROW_BYTES = Long.BYTES + Integer.BYTES + Byte.BYTES + Float.BYTES + 3 * Integer.BYTES
+            + 4 * Long.BYTES + 3 * Integer.BYTES;
+
+    // Marcadores de valor ausente nas colunas numéricas anuláveis
+    static final long NULL_LONG = Long.MIN_VALUE;
+    static final int NULL_INT = Integer.MIN_VALUE;
+
+    private RunFileFormat() {
+    }
+}
@@ -0,0 +1,199 @@
+package br.com.lottus.auxina.service.history;
+
+import br.com.lottus.auxina.dto.ModuleTestDTO;
+import br.com.lottus.auxina.dto.RunIndexEntryDTO;
+import br.com.lottus.auxina.dto.TestResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Histórico persistente das execuções. Cada módulo executado vira um arquivo .run append-only (ver {@link RunFileFormat})
+ * e, ao concluir, uma linha em {@code index.ndjson}. O índice fica em memória para as consultas; os arquivos
+ * só são abertos (mapeados) ao ler um relatório ou uma página de resultados.
+ * Toda a escrita acontece numa única thread dedicada; falhas de IO são registradas e nunca interrompem a execução.
+ */
+@Component
+public class RunHistoryStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(RunHistoryStore.class);
+    private static final String INDEX_FILE = "index.ndjson";
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int blockSize;
+    private final ObjectMapper objectMapper;
+    private final SummaryCodec summaryCodec;
+    private final ExecutorService writeExecutor;
+    private final List<RunIndexEntryDTO> index = new CopyOnWriteArrayList<>();
+
+    public RunHistoryStore(@Value("${auxina.history.enabled:true}") boolean enabled,
+                           @Value("${auxina.history.dir:./auxina-history}") Path directory,
+                           @Value("${auxina.history.block-size:4096}") int blockSize,
+                           ObjectMapper objectMapper) {
+        this.directory = directory;
+        this.blockSize = blockSize;
+        this.objectMapper = objectMapper;
+        this.summaryCodec = new SummaryCodec(objectMapper);
+        this.writeExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "auxina-history-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.enabled = enabled && initialize();
+    }
+
+    private boolean initialize() {
+        try {
+            Files.createDirectories(directory);
+            Path indexFile = directory.resolve(INDEX_FILE);
+            if (Files.exists(indexFile)) {
+                for (String line : Files.readAllLines(indexFile, StandardCharsets.UTF_8)) {
+                    if (!line.isBlank()) {
+                        index.add(objectMapper.readValue(line, RunIndexEntryDTO.class));
+                    }
+                }
+            }
+            logger.info("Histórico de execuções em {} ({} entradas)", directory.toAbsolutePath(), index.size());
+            return true;
+        } catch (IOException e) {
+            logger.error("Histórico de execuções desabilitado: não foi possível usar {}: {}", directory.toAbsolutePath(), e.getMessage());
+            return false;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        writeExecutor.shutdown();
+        writeExecutor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** Inicia a gravação de um módulo da execução; com o histórico desligado, devolve um gravador que descarta tudo. */
+    public RunRecorder open(String runId, String moduleName, String executionMode) {
+        if (!enabled) {
+            return RunRecorder.NOOP;
+        }
+        String fileName = runId + "-" + fileSafe(moduleName) + RunFileFormat.FILE_EXTENSION;
+        RunIndexEntryDTO entry = RunIndexEntryDTO.builder()
+                .runId(runId)
+                .moduleName(moduleName)
+                .executionMode(executionMode)
+                .startedAtEpochMillis(System.currentTimeMillis())
+                .fileName(fileName)
+                .build();
+        return new ColumnarRunWriter(directory.resolve(fileName), entry, blockSize, writeExecutor, summaryCodec, this::append);
+    }
+
+    /** Entradas do índice, mais recentes primeiro. {@code from}/{@code to} filtram pelo início da execução (epoch millis). */
+    public List<RunIndexEntryDTO> list(String moduleName, Long from, Long to, int limit) {
+        return index.stream()
+                .filter(entry -> moduleName == null || entry.getModuleName().equalsIgnoreCase(moduleName))
+                .filter(entry -> from == null || entry.getStartedAtEpochMillis() >= from)
+                .filter(entry -> to == null || entry.getStartedAtEpochMillis() <= to)
+                .sorted(Comparator.comparingLong(RunIndexEntryDTO::getStartedAtEpochMillis).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public List<RunIndexEntryDTO> findRun(String runId) {
+        List<RunIndexEntryDTO> modules = index.stream().filter(entry -> entry.getRunId().equals(runId)).toList();
+        if (modules.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Execução não encontrada no histórico: " + runId);
+        }
+        return modules;
+    }
+
+    /** Relatório do módulo, sem os resultados individuais (ver {@link #loadResults}). */
+    public ModuleTestDTO loadSummary(String runId, String moduleName) {
+        RunIndexEntryDTO entry = find(runId, moduleName);
+        try {
+            return ColumnarRunReader.open(directory.resolve(entry.getFileName())).summary(summaryCodec);
+        } catch (IOException e) {
+            throw unreadable(entry, e);
+        }
+    }
+
+    /** Página de resultados individuais, na ordem em que terminaram. */
+    public List<TestResult> loadResults(String runId, String moduleName, long offset, int limit) {
+        RunIndexEntryDTO entry = find(runId, moduleName);
+        try {
+            return ColumnarRunReader.open(directory.resolve(entry.getFileName())).read(offset, limit);
+        } catch (IOException e) {
+            throw unreadable(entry, e);
+        }
+    }
+
+    /** Execuções concluídas anteriores do módulo no mesmo modo, mais recentes primeiro. */
+    List<RunIndexEntryDTO> previousRuns(RunIndexEntryDTO current, int limit) {
+        return index.stream()
+                .filter(entry -> !entry.getRunId().equals(current.getRunId()))
+                .filter(entry -> entry.getModuleName().equalsIgnoreCase(current.getModuleName()))
+                .filter(entry -> Objects.equals(entry.getExecutionMode(), current.getExecutionMode()))
+                .filter(entry -> entry.getStartedAtEpochMillis() <= current.getStartedAtEpochMillis())
+                .sorted(Comparator.comparingLong(RunIndexEntryDTO::getStartedAtEpochMillis).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /** Percorre todos os resultados gravados de um módulo. */
+    void scanResults(RunIndexEntryDTO entry, Consumer<TestResult> consumer) {
+        try {
+            ColumnarRunReader.open(directory.resolve(entry.getFileName())).scan(0, Long.MAX_VALUE, consumer);
+        } catch (IOException e) {
+            throw unreadable(entry, e);
+        }
+    }
+
+    RunIndexEntryDTO find(String runId, String moduleName) {
+        return findRun(runId).stream()
+                .filter(entry -> entry.getModuleName().equalsIgnoreCase(moduleName))
+                .findFirst()
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Módulo " + moduleName + " não encontrado na execução " + runId));
+    }
+
+    // Chamado pela thread de escrita, após o rodapé do arquivo estar gravado
+    private void append(RunIndexEntryDTO entry) {
+        try {
+            String line = objectMapper.writeValueAsString(entry) + "\n";
+            Files.writeString(directory.resolve(INDEX_FILE), line, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            index.add(entry);
+        } catch (IOException e) {
+            logger.error("Não foi possível atualizar o índice do histórico: {}", e.getMessage());
+        }
+    }
+
+    private ResponseStatusException unreadable(RunIndexEntryDTO entry, IOException e) {
+        logger.error("Falha ao ler o histórico {}: {}", entry.getFileName(), e.getMessage());
+        return new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Arquivo do histórico ilegível: " + entry.getFileName());
+    }
+
+    private static String fileSafe(String value) {
+        return value.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "_");
+    }
+}
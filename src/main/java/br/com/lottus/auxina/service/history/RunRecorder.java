@@ -0,0 +1,27 @@
+package br.com.lottus.auxina.service.history;
+
+import br.com.lottus.auxina.dto.ModuleTestDTO;
+import br.com.lottus.auxina.dto.TestResult;
+import reactor.core.publisher.Mono;
+
+/** Grava os resultados de uma execução no histórico, à medida que chegam. */
+public interface RunRecorder {
+
+    /** Usado quando o histórico está desligado. */
+    RunRecorder NOOP = new RunRecorder() {
+        @Override
+        public void record(TestResult result) {
+        }
+
+        @Override
+        public Mono<Void> complete(ModuleTestDTO report) {
+            return Mono.empty();
+        }
+    };
+
+    /** Seguro para chamadas concorrentes; não bloqueia (a escrita em disco acontece em outra thread). */
+    void record(TestResult result);
+
+    /** Grava o relatório e fecha o arquivo; a execução só entra no índice depois disso. */
+    Mono<Void> complete(ModuleTestDTO report);
+}
@@ -0,0 +1,31 @@
+package br.com.lottus.auxina.service.history;
+
+import br.com.lottus.auxina.dto.ModuleTestDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+
+/** Serializa o relatório do rodapé sem os resultados individuais, que já estão nas colunas do arquivo. */
+class SummaryCodec {
+
+    private final ObjectMapper objectMapper;
+
+    SummaryCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    byte[] encode(ModuleTestDTO report) throws IOException {
+        ObjectNode tree = objectMapper.valueToTree(report);
+        JsonNode methods = tree.path("methodTestsResults");
+        for (JsonNode method : methods) {
+            ((ObjectNode) method).remove("individualTestResults");
+        }
+        return objectMapper.writeValueAsBytes(tree);
+    }
+
+    ModuleTestDTO decode(byte[] json) throws IOException {
+        return objectMapper.readValue(json, ModuleTestDTO.class);
+    }
+}
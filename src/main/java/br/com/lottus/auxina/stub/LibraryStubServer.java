@@ -0,0 +1,377 @@
+package br.com.lottus.auxina.stub;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+import reactor.netty.http.server.HttpServerRoutes;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Stub embutido do serviço da biblioteca (Reactor Netty, no mesmo processo), com as rotas usadas pelas suítes,
+ * /actuator/metrics/* e /admin/db/cleanup/all-data. Permite medir a vazão máxima e a precisão de tempo do próprio
+ * auxina sem rede nem serviço externo, e rodar as suítes em CI (perfil "stub").
+ *
+ * <p>Os recursos são CRUD em memória com as validações genéricas que os cenários de erro exercitam (campos em branco,
+ * quantidades negativas, e-mail inválido, referências inexistentes). Regras de negócio do serviço real
+ * (duplicidade, empréstimo ativo, exclusão com dependentes) não são reproduzidas, então esses casos falham contra o stub.
+ * Latência e erros vêm de {@link StubBehavior}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auxina.stub.enabled", havingValue = "true")
+public class LibraryStubServer {
+
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final List<String> REQUIRED_TEXT_FIELDS = List.of("nome", "serie");
+    private static final List<String> NON_NEGATIVE_FIELDS = List.of("quantidade", "qtdBonus", "qtdLivrosLidos", "age");
+    private static final int HISTORY_LIMIT = 7;
+    private static final int LOAN_DAYS = 14;
+
+    private static final Resource CATEGORIAS = new Resource("categorias", null, Map.of());
+    private static final Resource TURMAS = new Resource("turmas", null, Map.of());
+    private static final Resource LIVROS = new Resource("livros", null, Map.of("categoriaId", "categorias"));
+    private static final Resource ALUNOS = new Resource("alunos", "matricula", Map.of("turmaId", "turmas"));
+    private static final Resource EMPRESTIMOS = new Resource("emprestimos", null,
+            Map.of("matriculaAluno", "alunos", "fk_livro", "livros"));
+
+    private final ObjectMapper objectMapper;
+    private final StubBehavior behavior;
+    private final String host;
+    private final int port;
+    private final StubLibraryStore store = new StubLibraryStore();
+
+    private DisposableServer server;
+
+    public LibraryStubServer(ObjectMapper objectMapper, StubBehavior behavior,
+                             @Value("${auxina.stub.host:127.0.0.1}") String host,
+                             @Value("${auxina.stub.port:8089}") int port) {
+        this.objectMapper = objectMapper;
+        this.behavior = behavior;
+        this.host = host;
+        this.port = port;
+    }
+
+    @PostConstruct
+    public void start() {
+        server = HttpServer.create()
+                .host(host)
+                .port(port)
+                .route(this::routes)
+                .bindNow();
+        log.info("🧪 Stub do serviço alvo escutando em http://{}:{} ({})", host, server.port(), behavior.get());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (server != null) {
+            server.disposeNow();
+        }
+    }
+
+    /** Porta efetiva (útil com auxina.stub.port=0). */
+    public int port() {
+        return server.port();
+    }
+
+    private void routes(HttpServerRoutes routes) {
+        routes
+                // Categorias e turmas: CRUD simples
+                .post("/categorias", api(request -> create(CATEGORIAS, request, 400)))
+                .get("/categorias", api(request -> ok(array(store.list(CATEGORIAS.name(), entity -> true)))))
+                .put("/categorias/{id}", api(request -> update(CATEGORIAS, request, 400)))
+                .delete("/categorias/{id}", api(request -> delete(CATEGORIAS, request, 204)))
+                .post("/turmas", api(request -> create(TURMAS, request, 400)))
+                .get("/turmas", api(request -> ok(array(store.list(TURMAS.name(), entity -> true)))))
+                .put("/turmas/{id}", api(request -> update(TURMAS, request, 400)))
+                .delete("/turmas/{id}", api(request -> delete(TURMAS, request, 204)))
+                // Livros: listagem paginada com filtros por nome e categoria
+                .post("/livros", api(request -> create(LIVROS, request, 400)))
+                .get("/livros", api(this::searchLivros))
+                .put("/livros/{id}", api(request -> update(LIVROS, request, 400)))
+                .delete("/livros/{id}", api(request -> delete(LIVROS, request, 204)))
+                // Alunos: identificados pela matrícula (mesmo valor do id)
+                .post("/alunos/cadastrar", api(request -> create(ALUNOS, request, 400)))
+                .put("/alunos/editar/{id}", api(request -> update(ALUNOS, request, 404)))
+                .delete("/alunos/remover/{id}", api(request -> delete(ALUNOS, request, 200)))
+                .get("/alunos/turma/{id}", api(request -> ok(array(store.list(ALUNOS.name(),
+                        aluno -> aluno.path("turmaId").asText().equals(request.param("id")))))))
+                .get("/alunos/nome/{nome}", api(request -> ok(array(store.list(ALUNOS.name(),
+                        aluno -> containsIgnoringCase(aluno.path("nome").asText(), request.param("nome")))))))
+                .get("/alunos/perfil/{id}", api(this::perfilAluno))
+                .get("/alunos/{id}", api(request -> found(store.find(ALUNOS.name(), request.param("id")))))
+                // Empréstimos
+                .post("/emprestimos", api(this::createEmprestimo))
+                .get("/emprestimos", api(request -> ok(page(store.list(EMPRESTIMOS.name(), entity -> true), request))))
+                .post("/emprestimos/{id}/renovar", api(request -> changeEmprestimo(request, "ATIVO", LOAN_DAYS)))
+                .post("/emprestimos/{id}/finalizar", api(request -> changeEmprestimo(request, "FINALIZADO", 0)))
+                .get("/emprestimos/historico/aluno/{id}", api(request -> ok(array(store.list(EMPRESTIMOS.name(),
+                        emprestimo -> emprestimo.path("matriculaAluno").asText().equals(request.param("id")))))))
+                .get("/emprestimos/historico/livro/{id}", api(request -> ok(array(store.list(EMPRESTIMOS.name(),
+                        emprestimo -> emprestimo.path("fk_livro").asText().equals(request.param("id")))
+                        .stream().limit(HISTORY_LIMIT).toList()))))
+                // Infraestrutura: sem latência nem erros injetados
+                .post("/admin/db/cleanup/all-data", (request, response) -> {
+                    store.clear();
+                    return response.status(HttpResponseStatus.OK).send();
+                })
+                .get("/actuator/metrics/{metric}", (request, response) -> send(response, metric(request.param("metric"))));
+    }
+
+    // ---------------------------------------------------------------------------------
+    // Handlers
+    // ---------------------------------------------------------------------------------
+
+    private StubResponse create(Resource resource, StubRequest request, int missingReferenceStatus) {
+        StubResponse invalid = validate(resource, request.body(), missingReferenceStatus);
+        if (invalid != null) {
+            return invalid;
+        }
+        return new StubResponse(201, store.create(resource.name(), request.body(), resource.idAlias()));
+    }
+
+    private StubResponse update(Resource resource, StubRequest request, int missingReferenceStatus) {
+        if (store.find(resource.name(), request.param("id")) == null) {
+            return error(404, "Recurso não encontrado: " + resource.name() + "/" + request.param("id"));
+        }
+        StubResponse invalid = validate(resource, request.body(), missingReferenceStatus);
+        if (invalid != null) {
+            return invalid;
+        }
+        return found(store.update(resource.name(), request.param("id"), request.body()));
+    }
+
+    private StubResponse delete(Resource resource, StubRequest request, int successStatus) {
+        return store.delete(resource.name(), request.param("id"))
+                ? new StubResponse(successStatus, null)
+                : error(404, "Recurso não encontrado: " + resource.name() + "/" + request.param("id"));
+    }
+
+    private StubResponse searchLivros(StubRequest request) {
+        String valor = request.query("valor");
+        String categoriaId = request.query("categoriaId");
+        List<ObjectNode> livros = store.list(LIVROS.name(), livro ->
+                (valor == null || containsIgnoringCase(livro.path("nome").asText(), valor))
+                        && (categoriaId == null || livro.path("categoriaId").asText().equals(categoriaId)));
+        return ok(page(livros, request));
+    }
+
+    private StubResponse perfilAluno(StubRequest request) {
+        ObjectNode aluno = store.find(ALUNOS.name(), request.param("id"));
+        if (aluno == null) {
+            return error(404, "Aluno não encontrado: " + request.param("id"));
+        }
+        aluno.set("emprestimos", array(store.list(EMPRESTIMOS.name(),
+                emprestimo -> emprestimo.path("matriculaAluno").asText().equals(request.param("id")))));
+        return ok(aluno);
+    }
+
+    private StubResponse createEmprestimo(StubRequest request) {
+        StubResponse invalid = validate(EMPRESTIMOS, request.body(), 404);
+        if (invalid != null) {
+            return invalid;
+        }
+        ObjectNode body = request.body();
+        body.put("status", "ATIVO");
+        body.put("dataDevolucaoPrevista", LocalDate.now().plusDays(LOAN_DAYS).toString());
+        return new StubResponse(201, store.create(EMPRESTIMOS.name(), body, null));
+    }
+
+    private StubResponse changeEmprestimo(StubRequest request, String status, int extraDays) {
+        ObjectNode changes = objectMapper.createObjectNode().put("status", status);
+        if (extraDays > 0) {
+            changes.put("dataDevolucaoPrevista", LocalDate.now().plusDays(extraDays).toString());
+        }
+        ObjectNode updated = store.update(EMPRESTIMOS.name(), request.param("id"), changes);
+        return updated != null ? ok(updated) : error(404, "Empréstimo não encontrado: " + request.param("id"));
+    }
+
+    /** Métricas do processo do stub (o próprio auxina); hikaricp.* não existe aqui e responde 404, como no actuator. */
+    private StubResponse metric(String name) {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        Map<String, Double> measurements = switch (name) {
+            case "jvm.memory.used" -> Map.of("VALUE",
+                    (double) memory.getHeapMemoryUsage().getUsed() + memory.getNonHeapMemoryUsage().getUsed());
+            case "jvm.gc.pause" -> Map.of("TOTAL_TIME", ManagementFactory.getGarbageCollectorMXBeans().stream()
+                    .mapToLong(gc -> Math.max(gc.getCollectionTime(), 0)).sum() / 1000.0);
+            case "jvm.threads.live" -> Map.of("VALUE", (double) ManagementFactory.getThreadMXBean().getThreadCount());
+            case "process.cpu.usage" -> Map.of("VALUE", ((com.sun.management.OperatingSystemMXBean)
+                    ManagementFactory.getOperatingSystemMXBean()).getProcessCpuLoad());
+            default -> null;
+        };
+        if (measurements == null) {
+            return error(404, "Métrica não encontrada: " + name);
+        }
+        ObjectNode response = objectMapper.createObjectNode().put("name", name);
+        ArrayNode values = response.putArray("measurements");
+        measurements.forEach((statistic, value) -> values.addObject().put("statistic", statistic).put("value", value));
+        return ok(response);
+    }
+
+    // ---------------------------------------------------------------------------------
+    // Validação e respostas
+    // ---------------------------------------------------------------------------------
+
+    // Mesmos campos alterados pelos cenários de erro (ScenarioModifier) + referências a outros recursos
+    private StubResponse validate(Resource resource, ObjectNode body, int missingReferenceStatus) {
+        for (String field : REQUIRED_TEXT_FIELDS) {
+            if (body.has(field) && body.get(field).asText("").isBlank()) {
+                return error(400, "Campo obrigatório em branco: " + field);
+            }
+        }
+        for (String field : NON_NEGATIVE_FIELDS) {
+            if (body.path(field).isNumber() && body.get(field).asDouble() < 0) {
+                return error(400, "Campo não pode ser negativo: " + field);
+            }
+        }
+        if (body.has("email") && !EMAIL.matcher(body.get("email").asText("")).matches()) {
+            return error(400, "E-mail inválido");
+        }
+        if (body.has("requiredField") && body.get("requiredField").isNull()) {
+            return error(400, "Campo obrigatório ausente: requiredField");
+        }
+        for (Map.Entry<String, String> reference : resource.references().entrySet()) {
+            if (body.has(reference.getKey()) && !store.exists(reference.getValue(), body.get(reference.getKey()))) {
+                return error(missingReferenceStatus, "Referência inexistente: " + reference.getKey() + "=" + body.get(reference.getKey()).asText());
+            }
+        }
+        return null;
+    }
+
+    private ObjectNode page(List<ObjectNode> items, StubRequest request) {
+        int pagina = Math.max(0, request.intQuery("pagina", 0));
+        int tamanho = Math.max(1, request.intQuery("tamanho", 10));
+        int from = (int) Math.min((long) pagina * tamanho, items.size());
+        ObjectNode page = objectMapper.createObjectNode();
+        page.set("content", array(items.subList(from, Math.min(from + tamanho, items.size()))));
+        page.put("totalElements", items.size());
+        page.put("totalPages", (items.size() + tamanho - 1) / tamanho);
+        page.put("number", pagina);
+        page.put("size", tamanho);
+        return page;
+    }
+
+    private ArrayNode array(List<ObjectNode> items) {
+        ArrayNode array = objectMapper.createArrayNode();
+        items.forEach(array::add);
+        return array;
+    }
+
+    private StubResponse ok(JsonNode body) {
+        return new StubResponse(200, body);
+    }
+
+    private StubResponse found(ObjectNode entity) {
+        return entity != null ? ok(entity) : error(404, "Recurso não encontrado");
+    }
+
+    private StubResponse error(int status, String message) {
+        return new StubResponse(status, objectMapper.createObjectNode().put("status", status).put("erro", message));
+    }
+
+    private static boolean containsIgnoringCase(String text, String term) {
+        return text.toLowerCase(Locale.ROOT).contains(term.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Rota da API: lê o corpo, aplica os erros injetados ou o handler, e responde após a latência sorteada
+     * (contada a partir do recebimento do corpo, com o timer do Reactor, sem bloquear o event loop).
+     */
+    private BiFunction<HttpServerRequest, HttpServerResponse, Publisher<Void>> api(Function<StubRequest, StubResponse> handler) {
+        return (request, response) -> request.receive().aggregate().asString().defaultIfEmpty("")
+                .map(body -> {
+                    int injectedStatus = behavior.nextErrorStatus();
+                    if (injectedStatus != 0) {
+                        return error(injectedStatus, "Falha injetada pelo stub");
+                    }
+                    ObjectNode json;
+                    try {
+                        json = parseBody(body);
+                    } catch (JsonProcessingException e) {
+                        return error(400, "JSON inválido: " + e.getOriginalMessage());
+                    }
+                    return handler.apply(new StubRequest(request, json));
+                })
+                .flatMap(result -> {
+                    long latencyNanos = behavior.nextLatencyNanos();
+                    Mono<Void> reply = Mono.defer(() -> Mono.from(send(response, result)));
+                    return latencyNanos > 0 ? Mono.delay(Duration.ofNanos(latencyNanos)).then(reply) : reply;
+                });
+    }
+
+    private ObjectNode parseBody(String body) throws JsonProcessingException {
+        if (body.isBlank()) {
+            return objectMapper.createObjectNode();
+        }
+        JsonNode json = objectMapper.readTree(body);
+        return json instanceof ObjectNode object ? object : objectMapper.createObjectNode();
+    }
+
+    private Publisher<Void> send(HttpServerResponse response, StubResponse result) {
+        response.status(result.status());
+        if (result.body() == null) {
+            return response.send();
+        }
+        try {
+            byte[] bytes = objectMapper.writeValueAsBytes(result.body());
+            return response.header(HttpHeaderNames.CONTENT_TYPE, "application/json")
+                    .sendByteArray(Mono.just(bytes));
+        } catch (JsonProcessingException e) {
+            return response.status(HttpResponseStatus.INTERNAL_SERVER_ERROR).send();
+        }
+    }
+
+    /** Coleção e referências de um recurso: campo do corpo → coleção que precisa conter o ID informado. */
+    private record Resource(String name, String idAlias, Map<String, String> references) {
+    }
+
+    private record StubResponse(int status, JsonNode body) {
+    }
+
+    private record StubRequest(HttpServerRequest request, ObjectNode body) {
+
+        String param(String name) {
+            return request.param(name);
+        }
+
+        String query(String name) {
+            List<String> values = new QueryStringDecoder(request.uri()).parameters().get(name);
+            return values == null || values.isEmpty() ? null : values.get(0);
+        }
+
+        int intQuery(String name, int defaultValue) {
+            String value = query(name);
+            try {
+                return value != null ? Integer.parseInt(value) : defaultValue;
+            } catch (NumberFormatException e) {
+                return defaultValue;
+            }
+        }
+    }
+}
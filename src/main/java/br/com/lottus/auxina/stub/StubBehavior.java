@@ -0,0 +1,120 @@
+package br.com.lottus.auxina.stub;
+
+import br.com.lottus.auxina.dto.LatencyDistribution;
+import br.com.lottus.auxina.dto.StubBehaviorDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latência e erros injetados pelo stub. Configurado por auxina.stub.* e alterável em tempo de execução,
+ * sem reiniciar o stub; cada requisição usa uma cópia consistente da configuração vigente.
+ */
+@Component
+@ConditionalOnProperty(name = "auxina.stub.enabled", havingValue = "true")
+public class StubBehavior {
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private volatile StubBehaviorDTO current;
+
+    @Autowired
+    public StubBehavior(@Value("${auxina.stub.latency.distribution:NONE}") LatencyDistribution distribution,
+                        @Value("${auxina.stub.latency.mean:0ms}") Duration mean,
+                        @Value("${auxina.stub.latency.stddev:0ms}") Duration stddev,
+                        @Value("${auxina.stub.latency.min:0ms}") Duration min,
+                        @Value("${auxina.stub.latency.max:1s}") Duration max,
+                        @Value("${auxina.stub.error-rate:0.0}") double errorRate,
+                        @Value("${auxina.stub.error-status:500}") int errorStatus) {
+        this(StubBehaviorDTO.builder()
+                .latencyDistribution(distribution)
+                .latencyMeanMillis(mean.toNanos() / (double) NANOS_PER_MILLI)
+                .latencyStddevMillis(stddev.toNanos() / (double) NANOS_PER_MILLI)
+                .latencyMinMillis(min.toNanos() / (double) NANOS_PER_MILLI)
+                .latencyMaxMillis(max.toNanos() / (double) NANOS_PER_MILLI)
+                .errorRate(errorRate)
+                .errorStatus(errorStatus)
+                .build());
+    }
+
+    /** Comportamento fixo, para uso fora do contexto Spring (testes e benchmarks). */
+    public StubBehavior(StubBehaviorDTO behavior) {
+        this.current = validated(behavior);
+    }
+
+    public StubBehaviorDTO get() {
+        return copy(current);
+    }
+
+    public StubBehaviorDTO update(StubBehaviorDTO behavior) {
+        this.current = validated(behavior);
+        return get();
+    }
+
+    /** Latência sorteada para uma resposta, em nanossegundos (0 = responder imediatamente). */
+    long nextLatencyNanos() {
+        StubBehaviorDTO behavior = current;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double mean = behavior.getLatencyMeanMillis();
+        double stddev = behavior.getLatencyStddevMillis();
+        double millis = switch (behavior.getLatencyDistribution()) {
+            case NONE -> 0;
+            case FIXED -> mean;
+            case UNIFORM -> behavior.getLatencyMinMillis()
+                    + random.nextDouble() * (behavior.getLatencyMaxMillis() - behavior.getLatencyMinMillis());
+            case NORMAL -> mean + random.nextGaussian() * stddev;
+            case LOGNORMAL -> {
+                // Parâmetros da normal subjacente a partir da média e do desvio da latência
+                double sigmaSquared = Math.log(1 + (stddev * stddev) / (mean * mean));
+                double mu = Math.log(mean) - sigmaSquared / 2;
+                yield Math.exp(mu + Math.sqrt(sigmaSquared) * random.nextGaussian());
+            }
+            case EXPONENTIAL -> -mean * Math.log(1 - random.nextDouble());
+        };
+        double bounded = Math.min(Math.max(millis, behavior.getLatencyMinMillis()), behavior.getLatencyMaxMillis());
+        return (long) (bounded * NANOS_PER_MILLI);
+    }
+
+    /** Status de erro a devolver nesta requisição, ou 0 quando ela deve seguir normalmente. */
+    int nextErrorStatus() {
+        StubBehaviorDTO behavior = current;
+        return behavior.getErrorRate() > 0 && ThreadLocalRandom.current().nextDouble() < behavior.getErrorRate()
+                ? behavior.getErrorStatus() : 0;
+    }
+
+    private static StubBehaviorDTO validated(StubBehaviorDTO behavior) {
+        StubBehaviorDTO result = copy(behavior);
+        if (result.getLatencyDistribution() == null) {
+            result.setLatencyDistribution(LatencyDistribution.NONE);
+        }
+        if (result.getErrorStatus() == 0) {
+            result.setErrorStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+        if (result.getLatencyMeanMillis() < 0 || result.getLatencyStddevMillis() < 0 || result.getLatencyMinMillis() < 0
+                || result.getLatencyMaxMillis() < result.getLatencyMinMillis()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Latências devem ser positivas, com latencyMaxMillis >= latencyMinMillis");
+        }
+        if (result.getLatencyDistribution() == LatencyDistribution.LOGNORMAL && result.getLatencyMeanMillis() == 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "LOGNORMAL exige latencyMeanMillis maior que zero");
+        }
+        if (result.getErrorRate() < 0 || result.getErrorRate() > 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "errorRate deve estar entre 0 e 1");
+        }
+        if (result.getErrorStatus() < 100 || result.getErrorStatus() > 599) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "errorStatus deve ser um status HTTP válido");
+        }
+        return result;
+    }
+
+    private static StubBehaviorDTO copy(StubBehaviorDTO behavior) {
+        return new StubBehaviorDTO(behavior.getLatencyDistribution(), behavior.getLatencyMeanMillis(),
+                behavior.getLatencyStddevMillis(), behavior.getLatencyMinMillis(), behavior.getLatencyMaxMillis(),
+                behavior.getErrorRate(), behavior.getErrorStatus());
+    }
+}
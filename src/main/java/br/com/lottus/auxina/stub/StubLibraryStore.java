@@ -0,0 +1,91 @@
+package br.com.lottus.auxina.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Dados em memória do stub, uma coleção por recurso. Os IDs são sequenciais a partir de 1 e recomeçam na limpeza,
+ * como na base do serviço real após /admin/db/cleanup/all-data (as suítes usam 1, 2, 3... como valores padrão).
+ */
+final class StubLibraryStore {
+
+    private final Map<String, Collection> collections = new ConcurrentHashMap<>();
+
+    /** Grava uma cópia do corpo com o novo "id" (e o mesmo valor em {@code idAlias}, quando informado). */
+    ObjectNode create(String collection, ObjectNode body, String idAlias) {
+        Collection target = collection(collection);
+        long id = target.sequence.incrementAndGet();
+        ObjectNode stored = body.deepCopy();
+        stored.put("id", id);
+        if (idAlias != null) {
+            stored.put(idAlias, id);
+        }
+        target.entities.put(id, stored);
+        return stored.deepCopy();
+    }
+
+    ObjectNode find(String collection, String id) {
+        Long key = parseId(id);
+        ObjectNode entity = key == null ? null : collection(collection).entities.get(key);
+        return entity == null ? null : entity.deepCopy();
+    }
+
+    boolean exists(String collection, JsonNode id) {
+        return id != null && !id.isNull() && find(collection, id.asText()) != null;
+    }
+
+    /** Sobrescreve os campos informados; null quando o recurso não existe. */
+    ObjectNode update(String collection, String id, ObjectNode changes) {
+        Long key = parseId(id);
+        if (key == null) {
+            return null;
+        }
+        ObjectNode updated = collection(collection).entities.computeIfPresent(key, (ignored, entity) -> {
+            ObjectNode copy = entity.deepCopy();
+            copy.setAll(changes);
+            copy.put("id", key);
+            return copy;
+        });
+        return updated == null ? null : updated.deepCopy();
+    }
+
+    boolean delete(String collection, String id) {
+        Long key = parseId(id);
+        return key != null && collection(collection).entities.remove(key) != null;
+    }
+
+    List<ObjectNode> list(String collection, Predicate<ObjectNode> filter) {
+        return collection(collection).entities.values().stream()
+                .filter(filter)
+                .map(ObjectNode::deepCopy)
+                .toList();
+    }
+
+    void clear() {
+        collections.clear();
+    }
+
+    private Collection collection(String name) {
+        return collections.computeIfAbsent(name, ignored -> new Collection());
+    }
+
+    private static Long parseId(String id) {
+        try {
+            return Long.parseLong(id.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static final class Collection {
+        private final AtomicLong sequence = new AtomicLong();
+        private final ConcurrentSkipListMap<Long, ObjectNode> entities = new ConcurrentSkipListMap<>();
+    }
+}
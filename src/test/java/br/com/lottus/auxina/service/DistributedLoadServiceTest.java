@@ -0,0 +1,228 @@
+package br.com.lottus.auxina.service;
+
+import br.com.lottus.auxina.dto.ArrivalRateConfigDTO;
+import br.com.lottus.auxina.dto.DistributedLoadConfigDTO;
+import br.com.lottus.auxina.dto.GeneratorHealthDTO;
+import br.com.lottus.auxina.dto.LoadTestConfigDTO;
+import br.com.lottus.auxina.dto.ModuleTestDTO;
+import br.com.lottus.auxina.dto.TestCaseConfigDTO;
+import br.com.lottus.auxina.dto.TestResult;
+import br.com.lottus.auxina.dto.WorkerLoadRequestDTO;
+import br.com.lottus.auxina.dto.WorkerLoadResultDTO;
+import br.com.lottus.auxina.dto.WorkerShareDTO;
+import br.com.lottus.auxina.service.engine.LoadTestAccumulator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DistributedLoadServiceTest {
+
+    private static final String WORKER_A = "http://worker-a:8080";
+    private static final String WORKER_B = "http://worker-b:8080";
+    private static final String WORKER_C = "http://worker-c:8080";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<TestCaseConfigDTO> readOnlyCases = List.of(
+            TestCaseConfigDTO.builder().testName("Buscar_Todos").methodGroupKey("Buscar").httpMethod("GET").build());
+    // Pedidos recebidos e respostas de cada worker, pela origem da URL
+    private final Map<String, WorkerLoadRequestDTO> requests = new ConcurrentHashMap<>();
+    private final Map<String, WorkerLoadResultDTO> results = new ConcurrentHashMap<>();
+
+    private DistributedLoadService service;
+
+    @BeforeEach
+    void setUp() {
+        ModuleTestSuite suite = mock(ModuleTestSuite.class);
+        when(suite.getModuleName()).thenReturn("Livros");
+        LoadTestService loadTestService = mock(LoadTestService.class);
+        when(loadTestService.resolveSuite("livros")).thenReturn(suite);
+        when(loadTestService.readOnlyCases(suite)).thenReturn(readOnlyCases);
+
+        WebClient.Builder workerClient = WebClient.builder().exchangeFunction(this::respondAsWorker);
+        service = new DistributedLoadService(loadTestService, workerClient, Duration.ZERO, DataSize.ofMegabytes(1));
+    }
+
+    @Test
+    void closedModelGivesTheRemainderToTheFirstWorkersAndMergesTheirHistograms() {
+        results.put(WORKER_A, workerResult(1_000, 40, 2_000, null));
+        results.put(WORKER_B, workerResult(1_200, 30, 4_000, GeneratorHealthDTO.builder()
+                .overloaded(true).overloadConditions(List.of("CPU")).samples(10).overloadedSamples(2).overloadedResults(6).build()));
+        results.put(WORKER_C, workerResult(900, 30, 2_000, GeneratorHealthDTO.builder().samples(10).build()));
+
+        ModuleTestDTO merged = service.run("livros", DistributedLoadConfigDTO.builder()
+                .workers(List.of(WORKER_A, WORKER_B + "/", " " + WORKER_C))
+                .closedModel(LoadTestConfigDTO.builder().virtualUsers(10).durationSeconds(30).build())
+                .build()).block();
+
+        assertThat(requests.get(WORKER_A).getClosedModel().getVirtualUsers()).isEqualTo(4);
+        assertThat(requests.get(WORKER_B).getClosedModel().getVirtualUsers()).isEqualTo(3);
+        assertThat(requests.get(WORKER_C).getClosedModel().getVirtualUsers()).isEqualTo(3);
+        assertThat(requests.values()).allSatisfy(request -> {
+            assertThat(request.getClosedModel().getDurationSeconds()).isEqualTo(30);
+            assertThat(request.getStartAtEpochMillis()).isEqualTo(requests.get(WORKER_A).getStartAtEpochMillis());
+        });
+
+        assertThat(merged.getExecutionMode()).isEqualTo(LoadTestService.MODE_CLOSED_MODEL);
+        assertThat(merged.getVirtualUsers()).isEqualTo(10);
+        assertThat(merged.getTotalTests()).isEqualTo(100);
+        assertThat(merged.getSucessfulTests()).isEqualTo(100);
+        // Os histogramas são somados, não as médias: o máximo vem do worker B
+        assertThat(merged.getLatency().getCount()).isEqualTo(100);
+        assertThat(merged.getLatency().getMaxMillis()).isBetween(3.9, 4.1);
+        // Os workers começam juntos: vale a duração do mais demorado
+        assertThat(merged.getElapsedMillis()).isEqualTo(1_200);
+        assertThat(merged.getThroughputPerSecond()).isCloseTo(100 / 1.2, offset(0.01));
+        assertThat(merged.getCorrectedLatency()).isNull();
+        assertThat(merged.getEstimatedCorrectedLatency().getCount()).isGreaterThanOrEqualTo(100);
+
+        assertThat(merged.getWorkers()).extracting(WorkerShareDTO::getWorker).containsExactly(WORKER_A, WORKER_B, WORKER_C);
+        assertThat(merged.getWorkers()).extracting(WorkerShareDTO::getVirtualUsers).containsExactly(4, 3, 3);
+        assertThat(merged.getWorkers()).extracting(WorkerShareDTO::getTotalTests).containsExactly(40, 30, 30);
+
+        GeneratorHealthDTO health = merged.getGeneratorHealth();
+        assertThat(health.isOverloaded()).isTrue();
+        assertThat(health.getOverloadConditions()).containsExactly("CPU");
+        assertThat(health.getSamples()).isEqualTo(20);
+        assertThat(health.getOverloadedResults()).isEqualTo(6);
+        assertThat(health.getOverloadedResultsPercentage()).isEqualTo(6.0);
+    }
+
+    @Test
+    void openModelSplitsRatesAndRoundsMaxInFlightUp() {
+        results.put(WORKER_A, workerResult(2_000, 50, 1_000, null));
+        results.put(WORKER_B, workerResult(2_000, 50, 1_000, null));
+        results.values().forEach(result -> {
+            result.getReport().setScheduledRequests(60L);
+            result.getReport().setDroppedRequests(10L);
+        });
+
+        ModuleTestDTO merged = service.run("livros", DistributedLoadConfigDTO.builder()
+                .workers(List.of(WORKER_A, WORKER_B))
+                .openModel(ArrivalRateConfigDTO.builder()
+                        .startRatePerSecond(100).endRatePerSecond(200.0).durationSeconds(2).maxInFlight(5).build())
+                .build()).block();
+
+        assertThat(requests.values()).hasSize(2).allSatisfy(request -> {
+            ArrivalRateConfigDTO share = request.getOpenModel();
+            assertThat(share.getStartRatePerSecond()).isEqualTo(50.0);
+            assertThat(share.getEndRatePerSecond()).isEqualTo(100.0);
+            assertThat(share.getDurationSeconds()).isEqualTo(2);
+            assertThat(share.getMaxInFlight()).isEqualTo(3);
+        });
+        assertThat(merged.getExecutionMode()).isEqualTo(LoadTestService.MODE_OPEN_MODEL);
+        assertThat(merged.getTotalTests()).isEqualTo(100);
+        assertThat(merged.getTargetStartRatePerSecond()).isEqualTo(100.0);
+        assertThat(merged.getTargetEndRatePerSecond()).isEqualTo(200.0);
+        assertThat(merged.getScheduledRequests()).isEqualTo(120);
+        assertThat(merged.getDroppedRequests()).isEqualTo(20);
+        assertThat(merged.getCorrectedLatency().getCount()).isEqualTo(100);
+        assertThat(merged.getEstimatedCorrectedLatency()).isNull();
+        assertThat(merged.getGeneratorHealth()).isNull();
+    }
+
+    @Test
+    void rejectsFewerVirtualUsersThanWorkersBeforeContactingThem() {
+        DistributedLoadConfigDTO config = DistributedLoadConfigDTO.builder()
+                .workers(List.of(WORKER_A, WORKER_B, WORKER_C))
+                .closedModel(LoadTestConfigDTO.builder().virtualUsers(2).iterations(1).build())
+                .build();
+
+        assertThatThrownBy(() -> service.run("livros", config))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThat(requests).isEmpty();
+    }
+
+    @Test
+    void unreachableWorkerFailsTheRunWithBadGateway() {
+        results.put(WORKER_A, workerResult(1_000, 10, 1_000, null));
+
+        Mono<ModuleTestDTO> run = service.run("livros", DistributedLoadConfigDTO.builder()
+                .workers(List.of(WORKER_A, WORKER_B))
+                .closedModel(LoadTestConfigDTO.builder().virtualUsers(2).iterations(1).build())
+                .build());
+
+        assertThatThrownBy(run::block)
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_GATEWAY));
+    }
+
+    // Parcela de um worker: 'requests' respostas com a mesma latência, todas com sucesso
+    private WorkerLoadResultDTO workerResult(long elapsedMillis, int requests, long durationMicros, GeneratorHealthDTO health) {
+        LoadTestAccumulator accumulator = new LoadTestAccumulator(readOnlyCases, false);
+        for (int i = 0; i < requests; i++) {
+            accumulator.record(TestResult.builder().testName("Buscar_Todos").success(true).durationMicros(durationMicros).build());
+        }
+        ModuleTestDTO report = ModuleTestDTO.builder()
+                .runId("run-" + elapsedMillis)
+                .totalTests(requests)
+                .elapsedMillis(elapsedMillis)
+                .throughputPerSecond(requests / (elapsedMillis / 1000.0))
+                .generatorHealth(health)
+                .build();
+        return WorkerLoadResultDTO.builder()
+                .startedAtEpochMillis(System.currentTimeMillis())
+                .report(report)
+                .cases(accumulator.export())
+                .build();
+    }
+
+    private Mono<ClientResponse> respondAsWorker(ClientRequest request) {
+        String worker = request.url().getScheme() + "://" + request.url().getAuthority();
+        MockClientHttpRequest sent = new MockClientHttpRequest(request.method(), request.url());
+        return request.writeTo(sent, ExchangeStrategies.withDefaults())
+                .then(Mono.defer(sent::getBodyAsString))
+                .flatMap(body -> {
+                    requests.put(worker, read(body));
+                    WorkerLoadResultDTO result = results.get(worker);
+                    if (result == null) {
+                        return Mono.error(new ConnectException("Connection refused: " + worker));
+                    }
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(write(result))
+                            .build());
+                });
+    }
+
+    private WorkerLoadRequestDTO read(String body) {
+        try {
+            return objectMapper.readValue(body, WorkerLoadRequestDTO.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String write(WorkerLoadResultDTO result) {
+        try {
+            return objectMapper.writeValueAsString(result);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
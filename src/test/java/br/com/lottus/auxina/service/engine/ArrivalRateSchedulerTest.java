@@ -0,0 +1,90 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.TestCaseConfigDTO;
+import br.com.lottus.auxina.dto.TestResult;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ArrivalRateSchedulerTest {
+
+    private final List<PreparedTestCase> cases = List.of(testCase("Buscar_A"), testCase("Buscar_B"));
+
+    @Test
+    void rampArrivalsFollowTheIntegralOfTheRateAndItsInverse() {
+        // 10 → 30 req/s em 10 s: N(t) = 10·t + t²
+        ArrivalRateScheduler ramp = new ArrivalRateScheduler(10, 30, 10, 100);
+
+        assertThat(ramp.expectedArrivals(0)).isZero();
+        assertThat(ramp.expectedArrivals(5)).isCloseTo(75.0, within(1e-9));
+        assertThat(ramp.expectedArrivals(10)).isCloseTo(200.0, within(1e-9));
+        for (long arrival : new long[]{0, 1, 75, 150, 199}) {
+            assertThat(ramp.expectedArrivals(ramp.intendedOffsetSeconds(arrival))).isCloseTo(arrival, within(1e-6));
+        }
+        assertThat(ramp.intendedOffsetSeconds(75)).isCloseTo(5.0, within(1e-9));
+
+        ArrivalRateScheduler constant = new ArrivalRateScheduler(20, 20, 10, 100);
+        assertThat(constant.expectedArrivals(10)).isCloseTo(200.0, within(1e-9));
+        assertThat(constant.intendedOffsetSeconds(30)).isCloseTo(1.5, within(1e-9));
+    }
+
+    @Test
+    void schedulesExactlyTheTotalForTheDurationAtTheirIntendedStarts() {
+        ArrivalRateScheduler scheduler = new ArrivalRateScheduler(100, 300, 1, 1_000);
+        List<Long> intendedStarts = new CopyOnWriteArrayList<>();
+        List<String> dispatched = new CopyOnWriteArrayList<>();
+
+        List<TestResult> results = scheduler.run(cases, (testCase, intendedStartNanos) -> {
+            intendedStarts.add(intendedStartNanos);
+            dispatched.add(testCase.getConfig().getTestName());
+            return Mono.just(result(testCase));
+        }).collectList().block(Duration.ofSeconds(5));
+
+        // N(1) = 100 + 200/2 = 200
+        assertThat(results).hasSize(200);
+        assertThat(scheduler.getScheduledRequests()).isEqualTo(200);
+        assertThat(scheduler.getDroppedRequests()).isZero();
+        // Rodízio entre os casos
+        assertThat(dispatched.subList(0, 4)).containsExactly("Buscar_A", "Buscar_B", "Buscar_A", "Buscar_B");
+        // Instantes planejados crescentes, a última chegada perto do fim da rampa (~3,3 ms entre chegadas)
+        assertThat(intendedStarts).isSorted();
+        long spanMillis = (intendedStarts.get(199) - intendedStarts.get(0)) / 1_000_000;
+        assertThat(spanMillis).isBetween(990L, 1_000L);
+    }
+
+    @Test
+    void dropsArrivalsOnceMaxInFlightIsReached() {
+        ArrivalRateScheduler scheduler = new ArrivalRateScheduler(100, 100, 1, 2);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxObserved = new AtomicInteger();
+
+        List<TestResult> results = scheduler.run(cases, (testCase, intendedStartNanos) -> Mono.defer(() -> {
+                    maxObserved.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    // Respostas mais lentas que o intervalo entre chegadas (10 ms)
+                    return Mono.delay(Duration.ofMillis(200)).map(tick -> result(testCase));
+                }).doFinally(signal -> inFlight.decrementAndGet()))
+                .collectList().block(Duration.ofSeconds(5));
+
+        assertThat(scheduler.getScheduledRequests()).isEqualTo(100);
+        assertThat(maxObserved.get()).isEqualTo(2);
+        // Descartes não viram resultados: executadas + descartadas = agendadas
+        assertThat(results.size() + scheduler.getDroppedRequests()).isEqualTo(100);
+        assertThat(scheduler.getDroppedRequests()).isGreaterThanOrEqualTo(80);
+    }
+
+    private static PreparedTestCase testCase(String testName) {
+        TestCaseConfigDTO config = TestCaseConfigDTO.builder().testName(testName).httpMethod("GET").endpoint("/livros").build();
+        return new PreparedTestCase(config, null, null, null, null, false);
+    }
+
+    private static TestResult result(PreparedTestCase testCase) {
+        return TestResult.builder().testName(testCase.getConfig().getTestName()).success(true).build();
+    }
+}
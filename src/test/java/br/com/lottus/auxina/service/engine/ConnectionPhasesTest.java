@@ -0,0 +1,72 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.ConnectionPhasesDTO;
+import org.junit.jupiter.api.Test;
+import reactor.util.context.Context;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConnectionPhasesTest {
+
+    private static final SocketAddress TARGET = InetSocketAddress.createUnresolved("localhost", 8080);
+    // Folga para o tempo real que passa entre as chamadas do teste
+    private static final long SLACK_MICROS = 50_000;
+
+    private final ConnectionPhases phases = new ConnectionPhases();
+    private final Context context = Context.of(ConnectionPhases.CONTEXT_KEY, phases);
+
+    @Test
+    void newConnectionSplitsTheWaitBeforeWritingIntoPoolAcquireAndConnect() {
+        // Enviada há 10 ms: 3 ms de conexão e 1 ms de escrita deixam ~6 ms de espera no pool
+        long sentNanos = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(10);
+        ConnectionPhases.RECORDER.recordConnectTime(context, TARGET, Duration.ofMillis(3), "SUCCESS");
+        ConnectionPhases.RECORDER.recordDataSentTime(context, TARGET, "/livros", "GET", Duration.ofMillis(1));
+        sleep(5);
+        ConnectionPhases.RECORDER.recordDataReceivedTime(context, TARGET, "/livros", "GET", "200", Duration.ofMillis(2));
+
+        ConnectionPhasesDTO dto = phases.toDTO(sentNanos);
+
+        assertThat(dto.getConnectMicros()).isEqualTo(3_000);
+        assertThat(dto.getRequestWriteMicros()).isEqualTo(1_000);
+        assertThat(dto.getPoolAcquireMicros()).isBetween(6_000L, 6_000L + SLACK_MICROS);
+        assertThat(dto.getResponseReadMicros()).isEqualTo(2_000);
+        // Resposta começou 2 ms antes de terminar de ser lida, ~5 ms após o fim do envio
+        assertThat(dto.getServerWaitMicros()).isBetween(3_000L, 3_000L + SLACK_MICROS);
+    }
+
+    @Test
+    void reusedConnectionHasNoConnectPhase() {
+        long sentNanos = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(4);
+        ConnectionPhases.RECORDER.recordDataSentTime(context, TARGET, "/livros", "GET", Duration.ofMillis(1));
+
+        ConnectionPhasesDTO dto = phases.toDTO(sentNanos);
+
+        assertThat(dto.getConnectMicros()).isNull();
+        assertThat(dto.getPoolAcquireMicros()).isBetween(3_000L, 3_000L + SLACK_MICROS);
+        assertThat(dto.getRequestWriteMicros()).isEqualTo(1_000);
+        // Sem resposta registrada (ex.: erro de comunicação) as fases seguintes ficam ausentes
+        assertThat(dto.getServerWaitMicros()).isNull();
+        assertThat(dto.getResponseReadMicros()).isNull();
+    }
+
+    @Test
+    void nothingRecordedYieldsNoPhases() {
+        // Métricas de outras requisições (sem a chave no Context) são ignoradas
+        ConnectionPhases.RECORDER.recordDataSentTime(Context.empty(), TARGET, "/livros", "GET", Duration.ofMillis(1));
+
+        assertThat(phases.toDTO(System.nanoTime())).isNull();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
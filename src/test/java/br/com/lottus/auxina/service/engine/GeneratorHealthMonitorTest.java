@@ -0,0 +1,72 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.GeneratorHealthDTO;
+import br.com.lottus.auxina.dto.TestResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.channel.DefaultEventLoopGroup;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeneratorHealthMonitorTest {
+
+    private final DefaultEventLoopGroup eventLoops = new DefaultEventLoopGroup(2);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // CPU e GC fora de alcance: só o atraso do event loop decide
+    private final GeneratorHealthMonitor monitor = new GeneratorHealthMonitor(
+            () -> eventLoops, Duration.ofMillis(20), Duration.ofMillis(50), 2.0, 2.0);
+
+    @BeforeEach
+    void bindGauges() {
+        monitor.bindTo(meterRegistry);
+    }
+
+    @AfterEach
+    void shutdown() {
+        eventLoops.shutdownGracefully(0, 0, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void flagsResultsInFlightWhileAnEventLoopIsBlocked() {
+        GeneratorHealthMonitor.Run health = monitor.startRun();
+        TestResult beforeBlocking = result(1_000);
+        TestResult duringBlocking = result(400_000);
+
+        Flux.concat(
+                        Mono.delay(Duration.ofMillis(100)).doOnNext(tick -> health.mark(beforeBlocking)),
+                        Mono.fromRunnable(() -> eventLoops.next().execute(() -> sleep(300))),
+                        Mono.delay(Duration.ofMillis(400)).doOnNext(tick -> health.mark(duringBlocking)))
+                .transform(health::track)
+                .blockLast(Duration.ofSeconds(5));
+
+        GeneratorHealthDTO summary = health.toSummary();
+        assertThat(summary.isOverloaded()).isTrue();
+        assertThat(summary.getOverloadConditions()).containsExactly("EVENT_LOOP_LAG");
+        assertThat(summary.getMaxEventLoopLagMillis()).isGreaterThan(50.0);
+        assertThat(summary.getSamples()).isGreaterThan(summary.getOverloadedSamples()).isPositive();
+        assertThat(summary.getOverloadedResults()).isEqualTo(1);
+        assertThat(beforeBlocking.getGeneratorOverloaded()).isNull();
+        assertThat(duringBlocking.getGeneratorOverloaded()).isTrue();
+        // Sem execuções ativas os gauges voltam ao repouso
+        assertThat(meterRegistry.get(GeneratorHealthMonitor.OVERLOADED_GAUGE).gauge().value()).isZero();
+    }
+
+    private static TestResult result(long durationMicros) {
+        return TestResult.builder().testName("Sonda").durationMicros(durationMicros).build();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.LatencyPercentilesDTO;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyHistogramTest {
+
+    @Test
+    void keepsSubMillisecondResolution() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.recordMicros(i); // 1 µs .. 1 ms
+        }
+
+        LatencyPercentilesDTO latency = histogram.toDTO();
+
+        assertThat(latency.getCount()).isEqualTo(1000);
+        assertThat(latency.getP50Millis()).isCloseTo(0.5, within(0.01));
+        assertThat(latency.getP99Millis()).isCloseTo(0.99, within(0.01));
+        assertThat(latency.getMeanMillis()).isGreaterThan(0.0);
+    }
+
+    @Test
+    void mergesGroupsIntoModule() {
+        LatencyHistogram fast = new LatencyHistogram();
+        LatencyHistogram slow = new LatencyHistogram();
+        for (int i = 0; i < 90; i++) fast.recordMicros(1_000);
+        for (int i = 0; i < 10; i++) slow.recordMicros(100_000);
+
+        LatencyHistogram module = new LatencyHistogram();
+        module.add(fast);
+        module.add(slow);
+
+        assertThat(module.getTotalCount()).isEqualTo(100);
+        assertThat(module.toDTO().getP50Millis()).isCloseTo(1.0, within(0.02));
+        assertThat(module.toDTO().getMaxMillis()).isCloseTo(100.0, within(1.0));
+    }
+
+    @Test
+    void correctsStallForCoordinatedOmission() {
+        LatencyHistogram raw = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) raw.recordMicros(1_000);
+        raw.recordMicros(100_000); // uma resposta lenta represa as requisições seguintes
+
+        LatencyHistogram corrected = raw.correctedFor(1_000);
+
+        // Preenche as 99 requisições que teriam esperado 99 ms, 98 ms ... 1 ms
+        assertThat(corrected.getTotalCount()).isEqualTo(199);
+        assertThat(raw.toDTO().getP90Millis()).isCloseTo(1.0, within(0.02));
+        assertThat(corrected.toDTO().getP90Millis()).isGreaterThan(50.0);
+        assertThat(raw.correctedFor(0).getTotalCount()).isEqualTo(100);
+    }
+
+    @Test
+    void mergesEncodedHistogramsFromOtherInstances() {
+        LatencyHistogram workerA = new LatencyHistogram();
+        LatencyHistogram workerB = new LatencyHistogram();
+        for (int i = 1; i <= 500; i++) workerA.recordMicros(i * 10L);
+        for (int i = 1; i <= 500; i++) workerB.recordMicros(i * 1_000L);
+        LatencyHistogram local = new LatencyHistogram();
+        local.add(workerA);
+        local.add(workerB);
+
+        LatencyHistogram coordinator = new LatencyHistogram();
+        coordinator.addEncoded(workerA.encode());
+        coordinator.addEncoded(workerB.encode());
+
+        // Mesma distribuição que a soma local, sem perda na transferência
+        assertThat(coordinator.toDTO()).isEqualTo(local.toDTO());
+        assertThatThrownBy(() -> coordinator.addEncoded("não é um histograma")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,102 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.MethodTestDTO;
+import br.com.lottus.auxina.dto.ModuleTestDTO;
+import br.com.lottus.auxina.dto.TestResult;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ModuleResultAggregatorTest {
+
+    @Test
+    void summarizesEachGroupInKeyOrderWithCountsAndPercentiles() {
+        ModuleResultAggregator aggregator = new ModuleResultAggregator("Livros", "run-1", 1_000, 1.0);
+        for (int i = 1; i <= 100; i++) {
+            aggregator.record(result("2. Buscar", true, i * 1_000L));
+        }
+        aggregator.record(result("1. Cadastrar", true, 5_000));
+        aggregator.record(result("1. Cadastrar", false, 7_000));
+        // Sem grupo: entra nos totais do módulo, mas em nenhum resumo
+        aggregator.record(result(null, true, 1_000));
+
+        ModuleTestDTO module = aggregator.toModuleTestDTO();
+
+        assertThat(module.getModuleName()).isEqualTo("Livros");
+        assertThat(module.getRunId()).isEqualTo("run-1");
+        assertThat(module.getTotalTests()).isEqualTo(103);
+        assertThat(module.getFailedTests()).isEqualTo(1);
+        assertThat(module.getLatency().getCount()).isEqualTo(103);
+        assertThat(module.getMethodTestsResults()).extracting(MethodTestDTO::getMethodName)
+                .containsExactly("1. Cadastrar", "2. Buscar");
+
+        MethodTestDTO cadastrar = module.getMethodTestsResults().get(0);
+        assertThat(cadastrar.getTotalTests()).isEqualTo(2);
+        assertThat(cadastrar.getSuccessTests()).isEqualTo(1);
+        assertThat(cadastrar.getFailedTests()).isEqualTo(1);
+
+        MethodTestDTO buscar = module.getMethodTestsResults().get(1);
+        assertThat(buscar.getTotalTests()).isEqualTo(100);
+        assertThat(buscar.getFailedTests()).isZero();
+        assertThat(buscar.getAvarageDurationMillisInGroup()).isCloseTo(50.5, within(0.5));
+        // Histograma com 2 dígitos significativos: percentis com erro de até 1%
+        assertThat(buscar.getLatency().getP50Millis()).isCloseTo(50.0, within(0.5));
+        assertThat(buscar.getLatency().getP99Millis()).isCloseTo(99.0, within(1.0));
+        assertThat(buscar.getLatency().getMaxMillis()).isCloseTo(100.0, within(1.0));
+        assertThat(buscar.getIndividualTestResults()).hasSize(100);
+        assertThat(module.getOmittedTestResults()).isNull();
+    }
+
+    @Test
+    void capLimitsRetainedSuccessesButKeepsEveryFailure() {
+        ModuleResultAggregator aggregator = new ModuleResultAggregator("Livros", "run-1", 10, 1.0);
+        for (int i = 0; i < 20; i++) {
+            aggregator.record(result("1. Buscar", true, 1_000));
+        }
+        for (int i = 0; i < 5; i++) {
+            aggregator.record(result("1. Buscar", false, 2_000));
+        }
+
+        ModuleTestDTO module = aggregator.toModuleTestDTO();
+        MethodTestDTO buscar = module.getMethodTestsResults().get(0);
+
+        // Estatísticas usam todos os resultados, mesmo os não guardados
+        assertThat(buscar.getTotalTests()).isEqualTo(25);
+        assertThat(buscar.getIndividualTestResults()).hasSize(15);
+        assertThat(buscar.getIndividualTestResults()).filteredOn(TestResult::isSuccess).hasSize(10);
+        assertThat(buscar.getIndividualTestResults()).filteredOn(result -> !result.isSuccess()).hasSize(5);
+        assertThat(module.getOmittedTestResults()).isEqualTo(10);
+    }
+
+    @Test
+    void samplesSuccessesAtTheConfiguredRate() {
+        ModuleResultAggregator none = new ModuleResultAggregator("Livros", "run-1", 10_000, 0.0);
+        ModuleResultAggregator half = new ModuleResultAggregator("Livros", "run-1", 10_000, 0.5);
+        for (int i = 0; i < 2_000; i++) {
+            none.record(result("1. Buscar", true, 1_000));
+            half.record(result("1. Buscar", true, 1_000));
+        }
+        none.record(result("1. Buscar", false, 1_000));
+
+        MethodTestDTO unsampled = none.toModuleTestDTO().getMethodTestsResults().get(0);
+        assertThat(unsampled.getTotalTests()).isEqualTo(2_001);
+        assertThat(unsampled.getIndividualTestResults()).singleElement()
+                .satisfies(result -> assertThat(result.isSuccess()).isFalse());
+        assertThat(none.toModuleTestDTO().getOmittedTestResults()).isEqualTo(2_000);
+
+        ModuleTestDTO sampled = half.toModuleTestDTO();
+        int retained = sampled.getMethodTestsResults().get(0).getIndividualTestResults().size();
+        assertThat(retained).isBetween(800, 1_200);
+        assertThat(sampled.getOmittedTestResults()).isEqualTo(2_000L - retained);
+    }
+
+    private static TestResult result(String methodGroupKey, boolean success, long durationMicros) {
+        return TestResult.builder()
+                .testName("Caso")
+                .methodGroupKey(methodGroupKey)
+                .success(success)
+                .durationMicros(durationMicros)
+                .build();
+    }
+}
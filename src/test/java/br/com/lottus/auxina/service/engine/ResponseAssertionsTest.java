@@ -0,0 +1,68 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.TestCaseConfigDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResponseAssertionsTest {
+
+    private static final String PAGE = """
+            {"content":[{"id":1,"nome":"Dom Casmurro","disponivel":true},{"id":2,"nome":"A Revolução dos Bichos","autor":null}],
+             "totalElements":2,"number":0,"size":5}""";
+
+    private final ResponseAssertionCompiler compiler = new ResponseAssertionCompiler(new ObjectMapper(), "/code");
+
+    @Test
+    void evaluatesBodyFedOneByteAtATime() {
+        ResponseAssertions assertions = compile(
+                "size(/content) <= 5 && /content/1/nome == \"A Revolução dos Bichos\" && /content/0/disponivel == true"
+                        + " && /size == 5 && /totalElements != 3 && /content/1/autor exists", null);
+
+        assertThat(evaluate(assertions, PAGE, 1)).isNull();
+        assertThat(evaluate(assertions, PAGE, 7)).isNull();
+    }
+
+    @Test
+    void reportsFirstFailingAssertion() {
+        assertThat(evaluate(compile("size(/content) >= 3", null), PAGE, 16))
+                .isEqualTo("size(/content) >= 3: tamanho obtido 2");
+        assertThat(evaluate(compile("/content/0/nome == \"Memórias Póstumas\"", null), PAGE, 16))
+                .isEqualTo("/content/0/nome == \"Memórias Póstumas\": obtido \"Dom Casmurro\"");
+        assertThat(evaluate(compile("/content/5/id exists", null), PAGE, 16))
+                .isEqualTo("/content/5/id exists: ausente na resposta");
+        assertThat(evaluate(compile(null, "LIVRO_NAO_ENCONTRADO"), "{\"code\":\"ALUNO_NAO_ENCONTRADO\"}", 4))
+                .startsWith("código de erro /code");
+        assertThat(evaluate(compile("/id exists", null), "{\"id\":", 4))
+                .startsWith("corpo da resposta não é JSON válido");
+    }
+
+    @Test
+    void rejectsInvalidPatternsAndSkipsCasesWithoutAssertions() {
+        assertThat(compile(null, null)).isNull();
+        assertThatThrownBy(() -> compile("/content contains 1", null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> compile("/nome == Dom Casmurro", null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ResponseAssertions compile(String pattern, String errorCode) {
+        return compiler.compile(TestCaseConfigDTO.builder()
+                .testName("Asserções")
+                .expectedResponseBodyPattern(pattern)
+                .expectedErrorCode(errorCode)
+                .build());
+    }
+
+    private static String evaluate(ResponseAssertions assertions, String body, int chunkSize) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        ResponseAssertions.Evaluation evaluation = assertions.start();
+        for (int offset = 0; offset < bytes.length; offset += chunkSize) {
+            evaluation.feed(ByteBuffer.wrap(bytes, offset, Math.min(chunkSize, bytes.length - offset)));
+        }
+        return evaluation.finish();
+    }
+}
@@ -0,0 +1,91 @@
+package br.com.lottus.auxina.service.engine;
+
+import com.github.javafaker.Faker;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class TemplateCompilerTest {
+
+    private final Faker faker = spy(new Faker());
+    private final TemplateCompiler compiler = new TemplateCompiler(faker);
+
+    @Test
+    void fakerPlaceholdersAreBoundOnceWithParsedArguments() {
+        CompiledTemplate template = compiler.compile(Map.of("idade", "Faker::Number.numberBetween(18, 30)"));
+
+        for (int i = 0; i < 50; i++) {
+            Object idade = template.render().get("idade");
+            assertThat(idade).isInstanceOf(Number.class);
+            assertThat(((Number) idade).longValue()).isBetween(18L, 29L);
+        }
+        // A categoria é resolvida na compilação; renderizar só invoca o MethodHandle
+        verify(faker, times(1)).number();
+    }
+
+    @Test
+    void literalOnlyNestedValuesAreSharedAndUnmodifiable() {
+        CompiledTemplate template = compiler.compile(Map.of(
+                "tags", List.of("romance", "classico"),
+                "editora", Map.of("nome", "Globo", "cidades", List.of("Rio", "Sao Paulo")),
+                "autor", Map.of("nome", "Faker::Name.fullName")));
+
+        Map<String, Object> first = template.render();
+        Map<String, Object> second = template.render();
+
+        assertThat(second.get("tags")).isSameAs(first.get("tags")).isEqualTo(List.of("romance", "classico"));
+        assertThat(second.get("editora")).isSameAs(first.get("editora"));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> editora = (Map<String, Object>) first.get("editora");
+        assertThat(editora).containsEntry("nome", "Globo");
+        assertThatThrownBy(() -> editora.put("nome", "Outra")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> ((List<?>) editora.get("cidades")).clear()).isInstanceOf(UnsupportedOperationException.class);
+        // Com placeholder o mapa aninhado é gerado de novo a cada renderização
+        assertThat(second.get("autor")).isNotSameAs(first.get("autor"));
+        // O primeiro nível continua mutável para os cenários de erro
+        first.put("tags", null);
+        assertThat(template.render().get("tags")).isNotNull();
+    }
+
+    @Test
+    void variableReferencesUseCapturedValuesOrTheirDefault() {
+        CompiledTemplate template = compiler.compile(Map.of(
+                "livroId", "${livro.revolucao.id:1}",
+                "descricao", "Livro ${livro.revolucao.id} de ${aluno.carlos.matricula:8}"));
+
+        assertThat(template.render())
+                .containsEntry("livroId", "1")
+                .containsEntry("descricao", "Livro  de 8");
+        assertThat(template.render(Map.of("livro.revolucao.id", "41", "aluno.carlos.matricula", "17")))
+                .containsEntry("livroId", "41")
+                .containsEntry("descricao", "Livro 41 de 17");
+    }
+
+    @Test
+    void invalidPlaceholderIsResolvedToALiteralAtCompileTime() {
+        CompiledTemplate template = compiler.compile(Map.of(
+                "categoriaInexistente", "Faker::Inexistente.valor",
+                "metodoInexistente", "Faker::Name.naoExiste(3)",
+                "nome", "Faker::Name.firstName"));
+        clearInvocations(faker);
+
+        for (int i = 0; i < 3; i++) {
+            Map<String, Object> body = template.render();
+            assertThat(body)
+                    .containsEntry("categoriaInexistente", "Faker::Inexistente.valor")
+                    .containsEntry("metodoInexistente", "Faker::Name.naoExiste(3)");
+            assertThat(body.get("nome")).isInstanceOf(String.class).isNotEqualTo("Faker::Name.firstName");
+        }
+        // Nenhuma nova tentativa de resolução por requisição
+        verifyNoInteractions(faker);
+    }
+}
@@ -0,0 +1,92 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.TestCaseConfigDTO;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TestCaseSchedulerTest {
+
+    private static TestCaseConfigDTO barrier(String name) {
+        return TestCaseConfigDTO.builder().testName(name).build();
+    }
+
+    private static TestCaseConfigDTO reads(String name, String... resources) {
+        return TestCaseConfigDTO.builder().testName(name).readsResources(Set.of(resources)).build();
+    }
+
+    private static TestCaseConfigDTO writes(String name, String... resources) {
+        return TestCaseConfigDTO.builder().testName(name).writesResources(Set.of(resources)).build();
+    }
+
+    @Test
+    void ordersReadersAndWritersOfTheSameResource() {
+        List<TestCaseConfigDTO> cases = List.of(
+                writes("setup", "livros"),
+                reads("buscarA", "livros"),
+                reads("buscarB", "livros"),
+                writes("editar", "livros"),
+                reads("erroInexistente"));
+
+        List<Set<Integer>> successors = TestCaseScheduler.buildSuccessors(cases);
+
+        assertThat(successors.get(0)).containsExactlyInAnyOrder(1, 2, 3);
+        assertThat(successors.get(1)).containsExactly(3);
+        assertThat(successors.get(2)).containsExactly(3);
+        assertThat(successors.get(3)).isEmpty();
+    }
+
+    @Test
+    void unannotatedCasesRunSerially() {
+        List<TestCaseConfigDTO> cases = List.of(barrier("a"), reads("b"), reads("c"), barrier("d"));
+
+        List<Set<Integer>> successors = TestCaseScheduler.buildSuccessors(cases);
+
+        assertThat(successors.get(0)).containsExactlyInAnyOrder(1, 2, 3);
+        assertThat(successors.get(1)).containsExactly(3);
+        assertThat(successors.get(2)).containsExactly(3);
+    }
+
+    @Test
+    void waitsForTheCaseThatCapturesAReferencedVariable() {
+        List<TestCaseConfigDTO> cases = List.of(
+                TestCaseConfigDTO.builder().testName("setup").readsResources(Set.of()).captures(Map.of("livro.id", "/id")).build(),
+                reads("outro"),
+                TestCaseConfigDTO.builder().testName("editar").endpoint("/livros/${livro.id:1}").readsResources(Set.of()).build());
+
+        List<Set<Integer>> successors = TestCaseScheduler.buildSuccessors(cases);
+
+        assertThat(successors.get(0)).containsExactly(2);
+        assertThat(successors.get(1)).isEmpty();
+    }
+
+    @Test
+    void runsIndependentCasesConcurrently() {
+        TestCaseScheduler scheduler = new TestCaseScheduler(4);
+        List<TestCaseConfigDTO> cases = List.of(
+                writes("setup", "x"), reads("a", "x"), reads("b", "x"), reads("c", "x"), writes("fim", "x"));
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        List<String> order = scheduler.schedule(cases, config -> Mono.fromCallable(() -> {
+                            peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                            return config.getTestName();
+                        })
+                        .delayElement(Duration.ofMillis(50))
+                        .doOnNext(name -> inFlight.decrementAndGet()))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(order).hasSize(5);
+        assertThat(order.get(0)).isEqualTo("setup");
+        assertThat(order.get(4)).isEqualTo("fim");
+        assertThat(peak.get()).isEqualTo(3);
+    }
+}
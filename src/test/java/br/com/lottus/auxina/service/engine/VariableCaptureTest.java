@@ -0,0 +1,61 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.TestCaseConfigDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.javafaker.Faker;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VariableCaptureTest {
+
+    private final TestResultFactory resultFactory = new TestResultFactory(null, new ObjectMapper());
+    private final TemplateCompiler templateCompiler = new TemplateCompiler(new Faker());
+
+    @Test
+    void capturedValuesReplaceReferencesAndMissingOnesFallBackToDefault() {
+        RunContext runContext = RunContext.shared();
+        TestCaseConfigDTO setup = TestCaseConfigDTO.builder()
+                .testName("Setup_Aluno")
+                .captures(Map.of("aluno.carlos.matricula", "/matricula", "aluno.carlos.curso", "/curso/nome"))
+                .build();
+
+        resultFactory.captureVariables(setup, json("{\"matricula\": 42, \"curso\": null}"), runContext);
+
+        // Valor nulo na resposta não é capturado, para que o padrão do ${...} continue valendo
+        assertThat(runContext.getVariables()).containsExactly(Map.entry("aluno.carlos.matricula", "42"));
+
+        CompiledTemplate template = templateCompiler.compile(Map.of(
+                "alunoId", "${aluno.carlos.matricula:8}",
+                "livroId", "${livro.revolucao.id:1}",
+                "descricao", "Aluno ${aluno.carlos.matricula} no curso ${aluno.carlos.curso}"));
+        Map<String, Object> body = template.render(runContext.getVariables());
+
+        assertThat(body)
+                .containsEntry("alunoId", "42")
+                .containsEntry("livroId", "1")
+                .containsEntry("descricao", "Aluno 42 no curso ");
+    }
+
+    @Test
+    void nonJsonResponseCapturesNothing() {
+        RunContext runContext = RunContext.shared();
+        TestCaseConfigDTO setup = TestCaseConfigDTO.builder()
+                .testName("Setup_Livro")
+                .captures(Map.of("livro.hobbit.id", "/id"))
+                .build();
+
+        resultFactory.captureVariables(setup, json("Livro cadastrado"), runContext);
+
+        assertThat(runContext.getVariables()).isEmpty();
+        assertThat(templateCompiler.compile(Map.of("livroId", "${livro.hobbit.id:6}")).render(runContext.getVariables()))
+                .containsEntry("livroId", "6");
+    }
+
+    private static byte[] json(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,55 @@
+package br.com.lottus.auxina.service.engine;
+
+import br.com.lottus.auxina.dto.TestResult;
+import br.com.lottus.auxina.dto.WarmupConfigDTO;
+import br.com.lottus.auxina.dto.WarmupSummaryDTO;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WarmupPhaseTest {
+
+    private final WarmupPhaseFactory factory = new WarmupPhaseFactory(0, 0, false, Duration.ofSeconds(10), 10, 3, 0.10);
+
+    private static TestResult result(long micros) {
+        return TestResult.builder().success(true).durationMicros(micros).build();
+    }
+
+    @Test
+    void stopsAfterTheConfiguredIterations() {
+        WarmupPhase warmup = factory.create(WarmupConfigDTO.builder().iterations(2).build(), 5);
+        AtomicLong emitted = new AtomicLong();
+
+        warmup.run(Flux.generate(sink -> sink.next(result(1_000))).cast(TestResult.class).doOnNext(r -> emitted.incrementAndGet())).block();
+
+        assertThat(emitted.get()).isEqualTo(10);
+        assertThat(warmup.toSummary().getRequests()).isEqualTo(10);
+    }
+
+    @Test
+    void detectsWhenLatencyStabilizes() {
+        WarmupPhase warmup = factory.create(WarmupConfigDTO.builder().untilStable(true).build(), 5);
+        AtomicLong index = new AtomicLong();
+        // Latência cai de 50ms para ~1ms nas primeiras 100 requisições e depois oscila pouco
+        Flux<TestResult> traffic = Flux.<TestResult>generate(sink -> {
+            long i = index.getAndIncrement();
+            sink.next(result(i < 100 ? 50_000 - i * 490 : 1_000 + (i % 7) * 10));
+        });
+
+        warmup.run(traffic).block();
+
+        WarmupSummaryDTO summary = warmup.toSummary();
+        assertThat(summary.getStabilized()).isTrue();
+        assertThat(summary.getRequests()).isBetween(110L, 140L);
+    }
+
+    @Test
+    void noCriterionMeansNoWarmup() {
+        assertThat(factory.create(WarmupConfigDTO.builder().build(), 5)).isNull();
+        assertThat(factory.forSuite(5)).isNull();
+    }
+}
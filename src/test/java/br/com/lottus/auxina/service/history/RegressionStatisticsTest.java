@@ -0,0 +1,47 @@
+package br.com.lottus.auxina.service.history;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class RegressionStatisticsTest {
+
+    private static double[] latencies(Random random, int count, double median) {
+        double[] values = new double[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = median * Math.exp(random.nextGaussian() * 0.3);
+        }
+        return values;
+    }
+
+    @Test
+    void mannWhitneyMatchesReferenceValueWithTies() {
+        // U = 4.5, variância com correção de empates = 29.59, z = (10.5 - 0.5) / 5.44 -> p = 0.0660
+        double p = RegressionStatistics.mannWhitneyPValue(new double[]{1, 2, 3, 4, 5}, new double[]{3, 4, 5, 6, 7, 8});
+        assertThat(p).isCloseTo(0.0660, within(0.0005));
+    }
+
+    @Test
+    void noiseIsNotSignificantButARealShiftIs() {
+        Random random = new Random(42);
+        double[] baseline = latencies(random, 300, 20);
+        double[] sameDistribution = latencies(random, 300, 20);
+        double[] slower = latencies(random, 300, 26);
+
+        assertThat(RegressionStatistics.mannWhitneyPValue(baseline, sameDistribution)).isGreaterThan(0.01);
+        assertThat(RegressionStatistics.mannWhitneyPValue(baseline, slower)).isLessThan(0.001);
+
+        double[][] intervals = RegressionStatistics.bootstrapPercentileDifferences(
+                baseline, slower, new double[]{95.0}, 500, 0.95, new Random(1));
+        assertThat(intervals[0][0]).isGreaterThan(0);
+    }
+
+    @Test
+    void twoProportionTestIgnoresSmallDifferencesOnFewSamples() {
+        assertThat(RegressionStatistics.twoProportionPValue(1, 20, 2, 20)).isGreaterThan(0.05);
+        assertThat(RegressionStatistics.twoProportionPValue(10, 1000, 80, 1000)).isLessThan(0.001);
+    }
+}
@@ -0,0 +1,96 @@
+package br.com.lottus.auxina.service.history;
+
+import br.com.lottus.auxina.dto.MethodTestDTO;
+import br.com.lottus.auxina.dto.ModuleTestDTO;
+import br.com.lottus.auxina.dto.RunIndexEntryDTO;
+import br.com.lottus.auxina.dto.TestResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class RunHistoryStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private static TestResult result(int i) {
+        return TestResult.builder()
+                .testName("caso-" + (i % 3))
+                .methodGroupKey("1. Grupo")
+                .targetEndpoint(i % 2 == 0 ? "/livros/" + i : null)
+                .success(i % 5 != 0)
+                .durationMicros(1_000L + i)
+                .httpStatus(i % 5 != 0 ? 200 : 500)
+                .expectedHttpStatus(i % 7 == 0 ? null : 200)
+                .timestampEpochMillis(1_700_000_000_000L + i)
+                .correctedDurationMicros(i % 2 == 0 ? 1_500L + i : null)
+                .timeToFirstByteMicros(400L + i)
+                .responseBytes(i % 3 == 0 ? null : 64L * i)
+                .errorMessage(i == 5 ? "Connection refused" : null)
+                .assertionFailure(i % 5 == 0 && i != 5 ? "Código de erro esperado: LIVRO_NAO_ENCONTRADO" : null)
+                .targetServiceMemoryUsedMB(i % 4 == 0 ? null : 12.5)
+                .requestPayload("{\"ignorado\":true}")
+                .build();
+    }
+
+    @Test
+    void storesResultsInBlocksAndReadsPagesBackAfterRestart() {
+        RunHistoryStore store = new RunHistoryStore(true, directory, 4, new ObjectMapper());
+        RunRecorder recorder = store.open("run-1", "Livros", "FUNCTIONAL");
+        for (int i = 0; i < 10; i++) {
+            recorder.record(result(i));
+        }
+        ModuleTestDTO report = ModuleTestDTO.builder()
+                .moduleName("Livros").runId("run-1").totalTests(10).sucessfulTests(8).failedTests(2).successPercentage(80.0)
+                .methodTestsResults(List.of(MethodTestDTO.builder().methodName("1. Grupo").totalTests(10)
+                        .individualTestResults(List.of(result(1))).build()))
+                .build();
+        recorder.complete(report).block();
+
+        // Nova instância: o índice é recarregado do disco
+        RunHistoryStore reopened = new RunHistoryStore(true, directory, 4, new ObjectMapper());
+        List<RunIndexEntryDTO> entries = reopened.list("livros", null, null, 10);
+        assertThat(entries).hasSize(1);
+        assertThat(entries.get(0).getStoredResults()).isEqualTo(10);
+        assertThat(entries.get(0).getSuccessPercentage()).isEqualTo(80.0);
+
+        ModuleTestDTO summary = reopened.loadSummary("run-1", "livros");
+        assertThat(summary.getTotalTests()).isEqualTo(10);
+        assertThat(summary.getMethodTestsResults().get(0).getIndividualTestResults()).isNull();
+
+        // Página atravessando a fronteira entre o 1º e o 2º bloco
+        List<TestResult> page = reopened.loadResults("run-1", "livros", 3, 4);
+        assertThat(page).hasSize(4);
+        for (int i = 0; i < page.size(); i++) {
+            TestResult expected = result(3 + i);
+            TestResult actual = page.get(i);
+            assertThat(actual.getTestName()).isEqualTo(expected.getTestName());
+            assertThat(actual.getTargetEndpoint()).isEqualTo(expected.getTargetEndpoint());
+            assertThat(actual.isSuccess()).isEqualTo(expected.isSuccess());
+            assertThat(actual.getDurationMicros()).isEqualTo(expected.getDurationMicros());
+            assertThat(actual.getHttpStatus()).isEqualTo(expected.getHttpStatus());
+            assertThat(actual.getTargetServiceMemoryUsedMB()).isEqualTo(expected.getTargetServiceMemoryUsedMB());
+            assertThat(actual.getRequestPayload()).isNull();
+            // Detalhes de falha e tempos também sobrevivem ao armazenamento colunar
+            assertThat(actual.getExpectedHttpStatus()).isEqualTo(expected.getExpectedHttpStatus());
+            assertThat(actual.getTimestampEpochMillis()).isEqualTo(expected.getTimestampEpochMillis());
+            assertThat(actual.getCorrectedDurationMicros()).isEqualTo(expected.getCorrectedDurationMicros());
+            assertThat(actual.getTimeToFirstByteMicros()).isEqualTo(expected.getTimeToFirstByteMicros());
+            assertThat(actual.getResponseBytes()).isEqualTo(expected.getResponseBytes());
+            assertThat(actual.getErrorMessage()).isEqualTo(expected.getErrorMessage());
+            assertThat(actual.getAssertionFailure()).isEqualTo(expected.getAssertionFailure());
+        }
+        assertThat(reopened.loadResults("run-1", "livros", 8, 100)).hasSize(2);
+        assertThat(reopened.loadResults("run-1", "livros", 0, 10)).filteredOn(result -> !result.isSuccess())
+                .extracting(TestResult::getErrorMessage, TestResult::getAssertionFailure)
+                .containsExactly(
+                        tuple(null, "Código de erro esperado: LIVRO_NAO_ENCONTRADO"),
+                        tuple("Connection refused", null));
+    }
+}
@@ -0,0 +1,88 @@
+package br.com.lottus.auxina.stub;
+
+import br.com.lottus.auxina.dto.LatencyDistribution;
+import br.com.lottus.auxina.dto.StubBehaviorDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LibraryStubServerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newHttpClient();
+    private StubBehavior behavior;
+    private LibraryStubServer server;
+
+    @BeforeEach
+    void startServer() {
+        behavior = new StubBehavior(StubBehaviorDTO.builder().latencyMaxMillis(1000).build());
+        server = new LibraryStubServer(objectMapper, behavior, "127.0.0.1", 0);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop();
+    }
+
+    private HttpResponse<String> call(String method, String path, String body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.port() + path))
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body))
+                .header("Content-Type", "application/json")
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    void servesCrudWithValidationAndReferencesAndResetsIdsOnCleanup() throws Exception {
+        HttpResponse<String> categoria = call("POST", "/categorias", "{\"nome\":\"Aventura\",\"cor\":\"#fff\"}");
+        assertThat(categoria.statusCode()).isEqualTo(201);
+        assertThat(objectMapper.readTree(categoria.body()).at("/id").asLong()).isEqualTo(1);
+
+        assertThat(call("POST", "/categorias", "{\"nome\":\"\"}").statusCode()).isEqualTo(400);
+        assertThat(call("POST", "/livros", "{\"nome\":\"Livro\",\"quantidade\":2,\"categoriaId\":\"999\"}").statusCode()).isEqualTo(400);
+        assertThat(call("POST", "/livros", "{\"nome\":\"Dom Casmurro\",\"quantidade\":2,\"categoriaId\":\"1\"}").statusCode()).isEqualTo(201);
+
+        JsonNode page = objectMapper.readTree(call("GET", "/livros?valor=casmurro&pagina=0&tamanho=5", null).body());
+        assertThat(page.at("/totalElements").asInt()).isEqualTo(1);
+        assertThat(page.at("/content/0/nome").asText()).isEqualTo("Dom Casmurro");
+
+        assertThat(call("PUT", "/livros/99", "{\"nome\":\"X\"}").statusCode()).isEqualTo(404);
+        assertThat(call("DELETE", "/livros/1", null).statusCode()).isEqualTo(204);
+        assertThat(call("DELETE", "/livros/1", null).statusCode()).isEqualTo(404);
+
+        assertThat(call("POST", "/admin/db/cleanup/all-data", null).statusCode()).isEqualTo(200);
+        HttpResponse<String> afterCleanup = call("POST", "/categorias", "{\"nome\":\"Ciência\"}");
+        assertThat(objectMapper.readTree(afterCleanup.body()).at("/id").asLong()).isEqualTo(1);
+    }
+
+    @Test
+    void injectsConfiguredErrorsAndLatency() throws Exception {
+        behavior.update(StubBehaviorDTO.builder()
+                .latencyDistribution(LatencyDistribution.FIXED)
+                .latencyMeanMillis(50)
+                .latencyMaxMillis(1000)
+                .errorRate(1.0)
+                .errorStatus(503)
+                .build());
+
+        long start = System.nanoTime();
+        HttpResponse<String> response = call("GET", "/turmas", null);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(response.statusCode()).isEqualTo(503);
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(50);
+        // Actuator e limpeza ficam fora da injeção
+        assertThat(call("GET", "/actuator/metrics/jvm.threads.live", null).statusCode()).isEqualTo(200);
+    }
+}